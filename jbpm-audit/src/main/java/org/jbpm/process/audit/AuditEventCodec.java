@@ -0,0 +1,268 @@
+package org.jbpm.process.audit;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedOutputStream;
+
+/**
+ * Compact binary encoding of audit log entries (<code>ProcessInstanceLog</code>,
+ * <code>NodeInstanceLog</code>, <code>VariableInstanceLog</code>) used by asynchronous audit loggers
+ * as an alternative to XStream serialized XML. The encoding is the protobuf wire format of the messages
+ * defined in <code>org/jbpm/process/audit/auditevents.proto</code>, so it can be read by any protobuf
+ * client, and it is written and read by means of the {@link AuditMessages} classes generated from it.
+ * <br/>
+ * A batch carries the version of the encoding and any number of events, so many events
+ * can be sent as a single message. Unknown fields are skipped, batches with a newer version are rejected.
+ */
+public class AuditEventCodec {
+
+    public static final int VERSION = 1;
+
+    /**
+     * Encodes given events, as returned by {@link #encodeEvent(Object, int)}, as a single batch.
+     * Events are usually encoded as they are generated since log entries are updated by subsequent events.
+     * Encoded events are copied to the batch as they are, the result is an <code>AuditEventBatch</code> message.
+     */
+    public byte[] encodeBatch(List<byte[]> events) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            CodedOutputStream out = CodedOutputStream.newInstance(bytes);
+            out.writeInt32(AuditMessages.AuditEventBatch.VERSION_FIELD_NUMBER, VERSION);
+            for (byte[] event : events) {
+                out.writeBytes(AuditMessages.AuditEventBatch.EVENT_FIELD_NUMBER, ByteString.copyFrom(event));
+            }
+            out.flush();
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new RuntimeException("Error when encoding audit event batch", e);
+        }
+    }
+
+    public List<Entry> decodeBatch(byte[] data) {
+        AuditMessages.AuditEventBatch batch;
+        try {
+            batch = AuditMessages.AuditEventBatch.parseFrom(data);
+        } catch (IOException e) {
+            throw new RuntimeException("Error when decoding audit event batch", e);
+        }
+        if (batch.getVersion() > VERSION) {
+            throw new IllegalArgumentException("Unsupported audit event encoding version " + batch.getVersion());
+        }
+        List<Entry> entries = new ArrayList<Entry>(batch.getEventCount());
+        for (AuditMessages.AuditEvent event : batch.getEventList()) {
+            entries.add(decodeEvent(event));
+        }
+        return entries;
+    }
+
+    /**
+     * Encodes a single event without the batch envelope.
+     */
+    public byte[] encodeEvent(Object log, int eventType) {
+        AuditMessages.AuditEvent.Builder _event = AuditMessages.AuditEvent.newBuilder()
+                .setEventType(eventType);
+        if (log instanceof ProcessInstanceLog) {
+            _event.setProcessInstanceLog(writeProcessInstanceLog((ProcessInstanceLog) log));
+        } else if (log instanceof NodeInstanceLog) {
+            _event.setNodeInstanceLog(writeNodeInstanceLog((NodeInstanceLog) log));
+        } else if (log instanceof VariableInstanceLog) {
+            _event.setVariableInstanceLog(writeVariableInstanceLog((VariableInstanceLog) log));
+        } else {
+            throw new IllegalArgumentException("Unsupported audit event " + log);
+        }
+        return _event.build().toByteArray();
+    }
+
+    public Entry decodeEvent(byte[] data) {
+        try {
+            return decodeEvent(AuditMessages.AuditEvent.parseFrom(data));
+        } catch (IOException e) {
+            throw new RuntimeException("Error when decoding audit event", e);
+        }
+    }
+
+    private Entry decodeEvent(AuditMessages.AuditEvent _event) {
+        int eventType = _event.hasEventType() ? _event.getEventType() : -1;
+        Object log;
+        if (_event.hasProcessInstanceLog()) {
+            log = readProcessInstanceLog(_event.getProcessInstanceLog());
+        } else if (_event.hasNodeInstanceLog()) {
+            log = readNodeInstanceLog(_event.getNodeInstanceLog());
+        } else if (_event.hasVariableInstanceLog()) {
+            log = readVariableInstanceLog(_event.getVariableInstanceLog());
+        } else {
+            throw new IllegalArgumentException("Audit event without log entry, event type " + eventType);
+        }
+        return new Entry(log, eventType);
+    }
+
+    private AuditMessages.ProcessInstanceLog writeProcessInstanceLog(ProcessInstanceLog log) {
+        AuditMessages.ProcessInstanceLog.Builder _log = AuditMessages.ProcessInstanceLog.newBuilder()
+                .setProcessInstanceId(log.getProcessInstanceId());
+        if (log.getProcessId() != null) {
+            _log.setProcessId(log.getProcessId());
+        }
+        if (log.getStart() != null) {
+            _log.setStart(log.getStart().getTime());
+        }
+        if (log.getEnd() != null) {
+            _log.setEnd(log.getEnd().getTime());
+        }
+        if (log.getStatus() != null) {
+            _log.setStatus(log.getStatus());
+        }
+        if (log.getParentProcessInstanceId() != null) {
+            _log.setParentProcessInstanceId(log.getParentProcessInstanceId());
+        }
+        if (log.getOutcome() != null) {
+            _log.setOutcome(log.getOutcome());
+        }
+        if (log.getDuration() != null) {
+            _log.setDuration(log.getDuration());
+        }
+        if (log.getIdentity() != null) {
+            _log.setIdentity(log.getIdentity());
+        }
+        if (log.getProcessVersion() != null) {
+            _log.setProcessVersion(log.getProcessVersion());
+        }
+        if (log.getProcessName() != null) {
+            _log.setProcessName(log.getProcessName());
+        }
+        if (log.getExternalId() != null) {
+            _log.setExternalId(log.getExternalId());
+        }
+        return _log.build();
+    }
+
+    private ProcessInstanceLog readProcessInstanceLog(AuditMessages.ProcessInstanceLog _log) {
+        ProcessInstanceLog log = new ProcessInstanceLog(_log.getProcessInstanceId(),
+                _log.hasProcessId() ? _log.getProcessId() : null);
+        log.setStart(_log.hasStart() ? new Date(_log.getStart()) : null);
+        log.setEnd(_log.hasEnd() ? new Date(_log.getEnd()) : null);
+        if (_log.hasStatus()) {
+            log.setStatus(_log.getStatus());
+        }
+        if (_log.hasParentProcessInstanceId()) {
+            log.setParentProcessInstanceId(_log.getParentProcessInstanceId());
+        }
+        log.setOutcome(_log.hasOutcome() ? _log.getOutcome() : null);
+        log.setDuration(_log.hasDuration() ? _log.getDuration() : null);
+        log.setIdentity(_log.hasIdentity() ? _log.getIdentity() : null);
+        log.setProcessVersion(_log.hasProcessVersion() ? _log.getProcessVersion() : null);
+        log.setProcessName(_log.hasProcessName() ? _log.getProcessName() : null);
+        log.setExternalId(_log.hasExternalId() ? _log.getExternalId() : null);
+        return log;
+    }
+
+    private AuditMessages.NodeInstanceLog writeNodeInstanceLog(NodeInstanceLog log) {
+        AuditMessages.NodeInstanceLog.Builder _log = AuditMessages.NodeInstanceLog.newBuilder()
+                .setProcessInstanceId(log.getProcessInstanceId())
+                .setType(log.getType());
+        if (log.getProcessId() != null) {
+            _log.setProcessId(log.getProcessId());
+        }
+        if (log.getDate() != null) {
+            _log.setDate(log.getDate().getTime());
+        }
+        if (log.getNodeInstanceId() != null) {
+            _log.setNodeInstanceId(log.getNodeInstanceId());
+        }
+        if (log.getNodeId() != null) {
+            _log.setNodeId(log.getNodeId());
+        }
+        if (log.getNodeName() != null) {
+            _log.setNodeName(log.getNodeName());
+        }
+        if (log.getNodeType() != null) {
+            _log.setNodeType(log.getNodeType());
+        }
+        if (log.getWorkItemId() != null) {
+            _log.setWorkItemId(log.getWorkItemId());
+        }
+        if (log.getConnection() != null) {
+            _log.setConnection(log.getConnection());
+        }
+        if (log.getExternalId() != null) {
+            _log.setExternalId(log.getExternalId());
+        }
+        return _log.build();
+    }
+
+    private NodeInstanceLog readNodeInstanceLog(AuditMessages.NodeInstanceLog _log) {
+        NodeInstanceLog log = new NodeInstanceLog(_log.getType(), _log.getProcessInstanceId(),
+                _log.hasProcessId() ? _log.getProcessId() : null,
+                _log.hasNodeInstanceId() ? _log.getNodeInstanceId() : null,
+                _log.hasNodeId() ? _log.getNodeId() : null,
+                _log.hasNodeName() ? _log.getNodeName() : null);
+        log.setDate(_log.hasDate() ? new Date(_log.getDate()) : null);
+        log.setNodeType(_log.hasNodeType() ? _log.getNodeType() : null);
+        log.setWorkItemId(_log.hasWorkItemId() ? _log.getWorkItemId() : null);
+        log.setConnection(_log.hasConnection() ? _log.getConnection() : null);
+        log.setExternalId(_log.hasExternalId() ? _log.getExternalId() : null);
+        return log;
+    }
+
+    private AuditMessages.VariableInstanceLog writeVariableInstanceLog(VariableInstanceLog log) {
+        AuditMessages.VariableInstanceLog.Builder _log = AuditMessages.VariableInstanceLog.newBuilder()
+                .setProcessInstanceId(log.getProcessInstanceId());
+        if (log.getProcessId() != null) {
+            _log.setProcessId(log.getProcessId());
+        }
+        if (log.getDate() != null) {
+            _log.setDate(log.getDate().getTime());
+        }
+        if (log.getVariableInstanceId() != null) {
+            _log.setVariableInstanceId(log.getVariableInstanceId());
+        }
+        if (log.getVariableId() != null) {
+            _log.setVariableId(log.getVariableId());
+        }
+        if (log.getValue() != null) {
+            _log.setValue(log.getValue());
+        }
+        if (log.getOldValue() != null) {
+            _log.setOldValue(log.getOldValue());
+        }
+        if (log.getExternalId() != null) {
+            _log.setExternalId(log.getExternalId());
+        }
+        return _log.build();
+    }
+
+    private VariableInstanceLog readVariableInstanceLog(AuditMessages.VariableInstanceLog _log) {
+        VariableInstanceLog log = new VariableInstanceLog(_log.getProcessInstanceId(),
+                _log.hasProcessId() ? _log.getProcessId() : null,
+                _log.hasVariableInstanceId() ? _log.getVariableInstanceId() : null,
+                _log.hasVariableId() ? _log.getVariableId() : null,
+                _log.hasValue() ? _log.getValue() : null,
+                _log.hasOldValue() ? _log.getOldValue() : null);
+        log.setDate(_log.hasDate() ? new Date(_log.getDate()) : null);
+        log.setExternalId(_log.hasExternalId() ? _log.getExternalId() : null);
+        return log;
+    }
+
+    public static class Entry {
+
+        private final Object log;
+        private final int eventType;
+
+        public Entry(Object log, int eventType) {
+            this.log = log;
+            this.eventType = eventType;
+        }
+
+        public Object getLog() {
+            return log;
+        }
+
+        public int getEventType() {
+            return eventType;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package org.jbpm.process.audit;
+
+import java.util.List;
+
+import javax.persistence.EntityManager;
+
+/**
+ * Stores audit log entries produced by asynchronous audit loggers (JMS or journal based).
+ * Such loggers send every change of a log entry as a separate event, so the events that
+ * complete an existing entry (work item id of a node instance, completion of a process instance)
+ * are applied to the already stored entry, while all other events are persisted as new entries.
+ */
+public class AuditEventStore {
+
+    private AuditEventStore() {
+
+    }
+
+    @SuppressWarnings("unchecked")
+    public static void store(EntityManager em, Object event, int eventType) {
+        switch (eventType) {
+        case AbstractAuditLogger.AFTER_NODE_ENTER_EVENT_TYPE:
+            NodeInstanceLog nodeAfterEnterEvent = (NodeInstanceLog) event;
+            if (nodeAfterEnterEvent.getWorkItemId() != null) {
+                List<NodeInstanceLog> result = em.createQuery(
+                        "from NodeInstanceLog as log where log.nodeInstanceId = :nodeId and log.type = 0")
+                        .setParameter("nodeId", nodeAfterEnterEvent.getNodeInstanceId()).getResultList();
+
+                if (result != null && result.size() != 0) {
+                    NodeInstanceLog log = result.get(result.size() - 1);
+                    log.setWorkItemId(nodeAfterEnterEvent.getWorkItemId());
+
+                    em.merge(log);
+                }
+            }
+            break;
+
+        case AbstractAuditLogger.AFTER_COMPLETE_EVENT_TYPE:
+            ProcessInstanceLog processCompletedEvent = (ProcessInstanceLog) event;
+            List<ProcessInstanceLog> result = em.createQuery(
+                    "from ProcessInstanceLog as log where log.processInstanceId = :piId and log.end is null")
+                    .setParameter("piId", processCompletedEvent.getProcessInstanceId()).getResultList();
+
+            if (result != null && result.size() != 0) {
+                ProcessInstanceLog log = result.get(result.size() - 1);
+                log.setOutcome(processCompletedEvent.getOutcome());
+                log.setStatus(processCompletedEvent.getStatus());
+                log.setEnd(processCompletedEvent.getEnd());
+                log.setDuration(processCompletedEvent.getDuration());
+
+                em.merge(log);
+            }
+            break;
+        default:
+            em.persist(event);
+            break;
+        }
+    }
+}
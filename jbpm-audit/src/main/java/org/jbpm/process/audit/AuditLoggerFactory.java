@@ -9,6 +9,8 @@ import javax.naming.NamingException;
 import javax.persistence.EntityManagerFactory;
 
 import org.jbpm.process.audit.jms.AsyncAuditLogProducer;
+import org.jbpm.process.audit.journal.AuditJournal;
+import org.jbpm.process.audit.journal.JournalAuditLogProducer;
 import org.kie.api.runtime.Environment;
 import org.kie.api.runtime.KieSession;
 
@@ -17,16 +19,22 @@ import org.kie.api.runtime.KieSession;
  * <ul>
  *  <li>JPA - synchronous logger that is bound to the engine transaction and 
  *  persists audit events as part of runtime engine transaction</li>
+ *  <li>JPA_BUFFERED - synchronous logger that is bound to the engine transaction but
+ *  collects audit events and persists them together right before the transaction completes</li>
  *  <li>JMS - asynchronous logger that can be configured to place messages on the queue
  *  either with respect to active transaction (only after transaction is committed) or 
  *  place them directly as they are generated</li>
+ *  <li>JOURNAL - asynchronous logger that appends audit events to a local memory mapped journal
+ *  from which they are stored by a background receiver, no message broker is required</li>
  * </ul>
  */
 public class AuditLoggerFactory {
 
     public enum Type {
         JPA,
-        JMS
+        JPA_BUFFERED,
+        JMS,
+        JOURNAL
     }
     
     /**
@@ -36,6 +44,9 @@ public class AuditLoggerFactory {
      * <bold>JPA</bold>
      * No properties are supported
      * 
+     * <bold>JPA_BUFFERED</bold>
+     * No properties are supported
+     * 
      * <bold>JMS</bold>
      * <ul>
      * <li>jbpm.audit.jms.transacted - determines if JMS session is transacted or not - default true - type Boolean</li>
@@ -44,6 +55,11 @@ public class AuditLoggerFactory {
      * <li>jbpm.audit.jms.connection.factory.jndi - JNDI name of the connection factory to look up - type String</li>
      * <li>jbpm.audit.jms.queue.jndi - JNDI name of the queue to look up - type String</li>
      * </ul>
+     * 
+     * <bold>JOURNAL</bold>
+     * <ul>
+     * <li>jbpm.audit.journal - journal to append audit events to - type org.jbpm.process.audit.journal.AuditJournal</li>
+     * </ul>
      * @param type - type of the AuditLoger to create (JPA or JMS)
      * @param ksession - ksession that the logger will be attached to
      * @param properties - optional properties for the type of logger to initialize it
@@ -55,6 +71,9 @@ public class AuditLoggerFactory {
             case JPA:
                 logger = new JPAWorkingMemoryDbLogger(ksession);
                 break;
+            case JPA_BUFFERED:
+                logger = new BufferedJPAWorkingMemoryDbLogger(ksession);
+                break;
             case JMS:
                 boolean transacted = true;
                 if (properties.containsKey("jbpm.audit.jms.transacted")) {
@@ -86,6 +105,9 @@ public class AuditLoggerFactory {
                     throw new RuntimeException("Error when looking up ConnectionFactory/Queue", e);
                 }
                 break;
+            case JOURNAL:
+                logger = new JournalAuditLogProducer(ksession, (AuditJournal) properties.get("jbpm.audit.journal"));
+                break;
             default:
                 break;
         }
@@ -115,6 +137,18 @@ public class AuditLoggerFactory {
         return new JPAWorkingMemoryDbLogger(env);
     }
     
+    /**
+     * Creates new instance of JPA audit logger that persists all audit events of a transaction
+     * together, right before the transaction completes
+     * NOTE: this will build the logger but it is not registered directly on a session: once received, 
+     * it will need to be registered as an event listener
+     * @param env Environment instance to be used
+     * @return new instance of buffered JPA audit logger
+     */
+    public static AbstractAuditLogger newBufferedJPAInstance(Environment env) {
+        return new BufferedJPAWorkingMemoryDbLogger(env);
+    }
+    
     /**
      * Creates new instance of JMS audit logger based on given parameters.
      * Supported parameters are as follows:
@@ -184,4 +218,18 @@ public class AuditLoggerFactory {
         return logger;
     }
     
+    /**
+     * Creates new instance of journal based audit logger appending events to given journal.
+     * NOTE: this will build the logger but it is not registered directly on a session: once received, 
+     * it will need to be registered as an event listener
+     * @param journal journal to append audit events to
+     * @return new instance of journal audit logger
+     */
+    public static AbstractAuditLogger newJournalInstance(AuditJournal journal) {
+        JournalAuditLogProducer logger = new JournalAuditLogProducer();
+        logger.setJournal(journal);
+        
+        return logger;
+    }
+    
 }
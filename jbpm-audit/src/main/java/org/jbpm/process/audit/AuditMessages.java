@@ -0,0 +1,6823 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: org/jbpm/process/audit/auditevents.proto
+
+package org.jbpm.process.audit;
+
+public final class AuditMessages {
+  private AuditMessages() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+  }
+  public interface AuditEventBatchOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // optional int32 version = 1;
+    /**
+     * <code>optional int32 version = 1;</code>
+     */
+    boolean hasVersion();
+    /**
+     * <code>optional int32 version = 1;</code>
+     */
+    int getVersion();
+
+    // repeated .org.jbpm.process.audit.AuditEvent event = 2;
+    /**
+     * <code>repeated .org.jbpm.process.audit.AuditEvent event = 2;</code>
+     */
+    java.util.List<org.jbpm.process.audit.AuditMessages.AuditEvent> 
+        getEventList();
+    /**
+     * <code>repeated .org.jbpm.process.audit.AuditEvent event = 2;</code>
+     */
+    org.jbpm.process.audit.AuditMessages.AuditEvent getEvent(int index);
+    /**
+     * <code>repeated .org.jbpm.process.audit.AuditEvent event = 2;</code>
+     */
+    int getEventCount();
+    /**
+     * <code>repeated .org.jbpm.process.audit.AuditEvent event = 2;</code>
+     */
+    java.util.List<? extends org.jbpm.process.audit.AuditMessages.AuditEventOrBuilder> 
+        getEventOrBuilderList();
+    /**
+     * <code>repeated .org.jbpm.process.audit.AuditEvent event = 2;</code>
+     */
+    org.jbpm.process.audit.AuditMessages.AuditEventOrBuilder getEventOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code org.jbpm.process.audit.AuditEventBatch}
+   */
+  public static final class AuditEventBatch extends
+      com.google.protobuf.GeneratedMessage
+      implements AuditEventBatchOrBuilder {
+    // Use AuditEventBatch.newBuilder() to construct.
+    private AuditEventBatch(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private AuditEventBatch(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final AuditEventBatch defaultInstance;
+    public static AuditEventBatch getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public AuditEventBatch getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private AuditEventBatch(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              bitField0_ |= 0x00000001;
+              version_ = input.readInt32();
+              break;
+            }
+            case 18: {
+              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+                event_ = new java.util.ArrayList<org.jbpm.process.audit.AuditMessages.AuditEvent>();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              event_.add(input.readMessage(org.jbpm.process.audit.AuditMessages.AuditEvent.PARSER, extensionRegistry));
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+          event_ = java.util.Collections.unmodifiableList(event_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.jbpm.process.audit.AuditMessages.internal_static_org_jbpm_process_audit_AuditEventBatch_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.jbpm.process.audit.AuditMessages.internal_static_org_jbpm_process_audit_AuditEventBatch_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.jbpm.process.audit.AuditMessages.AuditEventBatch.class, org.jbpm.process.audit.AuditMessages.AuditEventBatch.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<AuditEventBatch> PARSER =
+        new com.google.protobuf.AbstractParser<AuditEventBatch>() {
+      public AuditEventBatch parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new AuditEventBatch(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<AuditEventBatch> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    // optional int32 version = 1;
+    public static final int VERSION_FIELD_NUMBER = 1;
+    private int version_;
+    /**
+     * <code>optional int32 version = 1;</code>
+     */
+    public boolean hasVersion() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional int32 version = 1;</code>
+     */
+    public int getVersion() {
+      return version_;
+    }
+
+    // repeated .org.jbpm.process.audit.AuditEvent event = 2;
+    public static final int EVENT_FIELD_NUMBER = 2;
+    private java.util.List<org.jbpm.process.audit.AuditMessages.AuditEvent> event_;
+    /**
+     * <code>repeated .org.jbpm.process.audit.AuditEvent event = 2;</code>
+     */
+    public java.util.List<org.jbpm.process.audit.AuditMessages.AuditEvent> getEventList() {
+      return event_;
+    }
+    /**
+     * <code>repeated .org.jbpm.process.audit.AuditEvent event = 2;</code>
+     */
+    public java.util.List<? extends org.jbpm.process.audit.AuditMessages.AuditEventOrBuilder> 
+        getEventOrBuilderList() {
+      return event_;
+    }
+    /**
+     * <code>repeated .org.jbpm.process.audit.AuditEvent event = 2;</code>
+     */
+    public int getEventCount() {
+      return event_.size();
+    }
+    /**
+     * <code>repeated .org.jbpm.process.audit.AuditEvent event = 2;</code>
+     */
+    public org.jbpm.process.audit.AuditMessages.AuditEvent getEvent(int index) {
+      return event_.get(index);
+    }
+    /**
+     * <code>repeated .org.jbpm.process.audit.AuditEvent event = 2;</code>
+     */
+    public org.jbpm.process.audit.AuditMessages.AuditEventOrBuilder getEventOrBuilder(
+        int index) {
+      return event_.get(index);
+    }
+
+    private void initFields() {
+      version_ = 0;
+      event_ = java.util.Collections.emptyList();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeInt32(1, version_);
+      }
+      for (int i = 0; i < event_.size(); i++) {
+        output.writeMessage(2, event_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, version_);
+      }
+      for (int i = 0; i < event_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, event_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static org.jbpm.process.audit.AuditMessages.AuditEventBatch parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.jbpm.process.audit.AuditMessages.AuditEventBatch parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.jbpm.process.audit.AuditMessages.AuditEventBatch parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.jbpm.process.audit.AuditMessages.AuditEventBatch parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.jbpm.process.audit.AuditMessages.AuditEventBatch parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.jbpm.process.audit.AuditMessages.AuditEventBatch parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static org.jbpm.process.audit.AuditMessages.AuditEventBatch parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static org.jbpm.process.audit.AuditMessages.AuditEventBatch parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static org.jbpm.process.audit.AuditMessages.AuditEventBatch parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.jbpm.process.audit.AuditMessages.AuditEventBatch parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(org.jbpm.process.audit.AuditMessages.AuditEventBatch prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code org.jbpm.process.audit.AuditEventBatch}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements org.jbpm.process.audit.AuditMessages.AuditEventBatchOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.jbpm.process.audit.AuditMessages.internal_static_org_jbpm_process_audit_AuditEventBatch_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.jbpm.process.audit.AuditMessages.internal_static_org_jbpm_process_audit_AuditEventBatch_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.jbpm.process.audit.AuditMessages.AuditEventBatch.class, org.jbpm.process.audit.AuditMessages.AuditEventBatch.Builder.class);
+      }
+
+      // Construct using org.jbpm.process.audit.AuditMessages.AuditEventBatch.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getEventFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        version_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        if (eventBuilder_ == null) {
+          event_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+        } else {
+          eventBuilder_.clear();
+        }
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.jbpm.process.audit.AuditMessages.internal_static_org_jbpm_process_audit_AuditEventBatch_descriptor;
+      }
+
+      public org.jbpm.process.audit.AuditMessages.AuditEventBatch getDefaultInstanceForType() {
+        return org.jbpm.process.audit.AuditMessages.AuditEventBatch.getDefaultInstance();
+      }
+
+      public org.jbpm.process.audit.AuditMessages.AuditEventBatch build() {
+        org.jbpm.process.audit.AuditMessages.AuditEventBatch result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public org.jbpm.process.audit.AuditMessages.AuditEventBatch buildPartial() {
+        org.jbpm.process.audit.AuditMessages.AuditEventBatch result = new org.jbpm.process.audit.AuditMessages.AuditEventBatch(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.version_ = version_;
+        if (eventBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) == 0x00000002)) {
+            event_ = java.util.Collections.unmodifiableList(event_);
+            bitField0_ = (bitField0_ & ~0x00000002);
+          }
+          result.event_ = event_;
+        } else {
+          result.event_ = eventBuilder_.build();
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.jbpm.process.audit.AuditMessages.AuditEventBatch) {
+          return mergeFrom((org.jbpm.process.audit.AuditMessages.AuditEventBatch)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.jbpm.process.audit.AuditMessages.AuditEventBatch other) {
+        if (other == org.jbpm.process.audit.AuditMessages.AuditEventBatch.getDefaultInstance()) return this;
+        if (other.hasVersion()) {
+          setVersion(other.getVersion());
+        }
+        if (eventBuilder_ == null) {
+          if (!other.event_.isEmpty()) {
+            if (event_.isEmpty()) {
+              event_ = other.event_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+            } else {
+              ensureEventIsMutable();
+              event_.addAll(other.event_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.event_.isEmpty()) {
+            if (eventBuilder_.isEmpty()) {
+              eventBuilder_.dispose();
+              eventBuilder_ = null;
+              event_ = other.event_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+              eventBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getEventFieldBuilder() : null;
+            } else {
+              eventBuilder_.addAllMessages(other.event_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.jbpm.process.audit.AuditMessages.AuditEventBatch parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.jbpm.process.audit.AuditMessages.AuditEventBatch) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // optional int32 version = 1;
+      private int version_ ;
+      /**
+       * <code>optional int32 version = 1;</code>
+       */
+      public boolean hasVersion() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional int32 version = 1;</code>
+       */
+      public int getVersion() {
+        return version_;
+      }
+      /**
+       * <code>optional int32 version = 1;</code>
+       */
+      public Builder setVersion(int value) {
+        bitField0_ |= 0x00000001;
+        version_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 version = 1;</code>
+       */
+      public Builder clearVersion() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        version_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // repeated .org.jbpm.process.audit.AuditEvent event = 2;
+      private java.util.List<org.jbpm.process.audit.AuditMessages.AuditEvent> event_ =
+        java.util.Collections.emptyList();
+      private void ensureEventIsMutable() {
+        if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+          event_ = new java.util.ArrayList<org.jbpm.process.audit.AuditMessages.AuditEvent>(event_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.jbpm.process.audit.AuditMessages.AuditEvent, org.jbpm.process.audit.AuditMessages.AuditEvent.Builder, org.jbpm.process.audit.AuditMessages.AuditEventOrBuilder> eventBuilder_;
+
+      /**
+       * <code>repeated .org.jbpm.process.audit.AuditEvent event = 2;</code>
+       */
+      public java.util.List<org.jbpm.process.audit.AuditMessages.AuditEvent> getEventList() {
+        if (eventBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(event_);
+        } else {
+          return eventBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .org.jbpm.process.audit.AuditEvent event = 2;</code>
+       */
+      public int getEventCount() {
+        if (eventBuilder_ == null) {
+          return event_.size();
+        } else {
+          return eventBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .org.jbpm.process.audit.AuditEvent event = 2;</code>
+       */
+      public org.jbpm.process.audit.AuditMessages.AuditEvent getEvent(int index) {
+        if (eventBuilder_ == null) {
+          return event_.get(index);
+        } else {
+          return eventBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .org.jbpm.process.audit.AuditEvent event = 2;</code>
+       */
+      public Builder setEvent(
+          int index, org.jbpm.process.audit.AuditMessages.AuditEvent value) {
+        if (eventBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEventIsMutable();
+          event_.set(index, value);
+          onChanged();
+        } else {
+          eventBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.jbpm.process.audit.AuditEvent event = 2;</code>
+       */
+      public Builder setEvent(
+          int index, org.jbpm.process.audit.AuditMessages.AuditEvent.Builder builderForValue) {
+        if (eventBuilder_ == null) {
+          ensureEventIsMutable();
+          event_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          eventBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.jbpm.process.audit.AuditEvent event = 2;</code>
+       */
+      public Builder addEvent(org.jbpm.process.audit.AuditMessages.AuditEvent value) {
+        if (eventBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEventIsMutable();
+          event_.add(value);
+          onChanged();
+        } else {
+          eventBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.jbpm.process.audit.AuditEvent event = 2;</code>
+       */
+      public Builder addEvent(
+          int index, org.jbpm.process.audit.AuditMessages.AuditEvent value) {
+        if (eventBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEventIsMutable();
+          event_.add(index, value);
+          onChanged();
+        } else {
+          eventBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.jbpm.process.audit.AuditEvent event = 2;</code>
+       */
+      public Builder addEvent(
+          org.jbpm.process.audit.AuditMessages.AuditEvent.Builder builderForValue) {
+        if (eventBuilder_ == null) {
+          ensureEventIsMutable();
+          event_.add(builderForValue.build());
+          onChanged();
+        } else {
+          eventBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.jbpm.process.audit.AuditEvent event = 2;</code>
+       */
+      public Builder addEvent(
+          int index, org.jbpm.process.audit.AuditMessages.AuditEvent.Builder builderForValue) {
+        if (eventBuilder_ == null) {
+          ensureEventIsMutable();
+          event_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          eventBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.jbpm.process.audit.AuditEvent event = 2;</code>
+       */
+      public Builder addAllEvent(
+          java.lang.Iterable<? extends org.jbpm.process.audit.AuditMessages.AuditEvent> values) {
+        if (eventBuilder_ == null) {
+          ensureEventIsMutable();
+          super.addAll(values, event_);
+          onChanged();
+        } else {
+          eventBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.jbpm.process.audit.AuditEvent event = 2;</code>
+       */
+      public Builder clearEvent() {
+        if (eventBuilder_ == null) {
+          event_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+          onChanged();
+        } else {
+          eventBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.jbpm.process.audit.AuditEvent event = 2;</code>
+       */
+      public Builder removeEvent(int index) {
+        if (eventBuilder_ == null) {
+          ensureEventIsMutable();
+          event_.remove(index);
+          onChanged();
+        } else {
+          eventBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.jbpm.process.audit.AuditEvent event = 2;</code>
+       */
+      public org.jbpm.process.audit.AuditMessages.AuditEvent.Builder getEventBuilder(
+          int index) {
+        return getEventFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .org.jbpm.process.audit.AuditEvent event = 2;</code>
+       */
+      public org.jbpm.process.audit.AuditMessages.AuditEventOrBuilder getEventOrBuilder(
+          int index) {
+        if (eventBuilder_ == null) {
+          return event_.get(index);  } else {
+          return eventBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .org.jbpm.process.audit.AuditEvent event = 2;</code>
+       */
+      public java.util.List<? extends org.jbpm.process.audit.AuditMessages.AuditEventOrBuilder> 
+           getEventOrBuilderList() {
+        if (eventBuilder_ != null) {
+          return eventBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(event_);
+        }
+      }
+      /**
+       * <code>repeated .org.jbpm.process.audit.AuditEvent event = 2;</code>
+       */
+      public org.jbpm.process.audit.AuditMessages.AuditEvent.Builder addEventBuilder() {
+        return getEventFieldBuilder().addBuilder(
+            org.jbpm.process.audit.AuditMessages.AuditEvent.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .org.jbpm.process.audit.AuditEvent event = 2;</code>
+       */
+      public org.jbpm.process.audit.AuditMessages.AuditEvent.Builder addEventBuilder(
+          int index) {
+        return getEventFieldBuilder().addBuilder(
+            index, org.jbpm.process.audit.AuditMessages.AuditEvent.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .org.jbpm.process.audit.AuditEvent event = 2;</code>
+       */
+      public java.util.List<org.jbpm.process.audit.AuditMessages.AuditEvent.Builder> 
+           getEventBuilderList() {
+        return getEventFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.jbpm.process.audit.AuditMessages.AuditEvent, org.jbpm.process.audit.AuditMessages.AuditEvent.Builder, org.jbpm.process.audit.AuditMessages.AuditEventOrBuilder> 
+          getEventFieldBuilder() {
+        if (eventBuilder_ == null) {
+          eventBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              org.jbpm.process.audit.AuditMessages.AuditEvent, org.jbpm.process.audit.AuditMessages.AuditEvent.Builder, org.jbpm.process.audit.AuditMessages.AuditEventOrBuilder>(
+                  event_,
+                  ((bitField0_ & 0x00000002) == 0x00000002),
+                  getParentForChildren(),
+                  isClean());
+          event_ = null;
+        }
+        return eventBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:org.jbpm.process.audit.AuditEventBatch)
+    }
+
+    static {
+      defaultInstance = new AuditEventBatch(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:org.jbpm.process.audit.AuditEventBatch)
+  }
+
+  public interface AuditEventOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // optional int32 event_type = 1;
+    /**
+     * <code>optional int32 event_type = 1;</code>
+     *
+     * <pre>
+     * one of the *_EVENT_TYPE constants of AbstractAuditLogger
+     * </pre>
+     */
+    boolean hasEventType();
+    /**
+     * <code>optional int32 event_type = 1;</code>
+     *
+     * <pre>
+     * one of the *_EVENT_TYPE constants of AbstractAuditLogger
+     * </pre>
+     */
+    int getEventType();
+
+    // optional .org.jbpm.process.audit.ProcessInstanceLog process_instance_log = 2;
+    /**
+     * <code>optional .org.jbpm.process.audit.ProcessInstanceLog process_instance_log = 2;</code>
+     *
+     * <pre>
+     * exactly one of the following is set
+     * </pre>
+     */
+    boolean hasProcessInstanceLog();
+    /**
+     * <code>optional .org.jbpm.process.audit.ProcessInstanceLog process_instance_log = 2;</code>
+     *
+     * <pre>
+     * exactly one of the following is set
+     * </pre>
+     */
+    org.jbpm.process.audit.AuditMessages.ProcessInstanceLog getProcessInstanceLog();
+    /**
+     * <code>optional .org.jbpm.process.audit.ProcessInstanceLog process_instance_log = 2;</code>
+     *
+     * <pre>
+     * exactly one of the following is set
+     * </pre>
+     */
+    org.jbpm.process.audit.AuditMessages.ProcessInstanceLogOrBuilder getProcessInstanceLogOrBuilder();
+
+    // optional .org.jbpm.process.audit.NodeInstanceLog node_instance_log = 3;
+    /**
+     * <code>optional .org.jbpm.process.audit.NodeInstanceLog node_instance_log = 3;</code>
+     */
+    boolean hasNodeInstanceLog();
+    /**
+     * <code>optional .org.jbpm.process.audit.NodeInstanceLog node_instance_log = 3;</code>
+     */
+    org.jbpm.process.audit.AuditMessages.NodeInstanceLog getNodeInstanceLog();
+    /**
+     * <code>optional .org.jbpm.process.audit.NodeInstanceLog node_instance_log = 3;</code>
+     */
+    org.jbpm.process.audit.AuditMessages.NodeInstanceLogOrBuilder getNodeInstanceLogOrBuilder();
+
+    // optional .org.jbpm.process.audit.VariableInstanceLog variable_instance_log = 4;
+    /**
+     * <code>optional .org.jbpm.process.audit.VariableInstanceLog variable_instance_log = 4;</code>
+     */
+    boolean hasVariableInstanceLog();
+    /**
+     * <code>optional .org.jbpm.process.audit.VariableInstanceLog variable_instance_log = 4;</code>
+     */
+    org.jbpm.process.audit.AuditMessages.VariableInstanceLog getVariableInstanceLog();
+    /**
+     * <code>optional .org.jbpm.process.audit.VariableInstanceLog variable_instance_log = 4;</code>
+     */
+    org.jbpm.process.audit.AuditMessages.VariableInstanceLogOrBuilder getVariableInstanceLogOrBuilder();
+  }
+  /**
+   * Protobuf type {@code org.jbpm.process.audit.AuditEvent}
+   */
+  public static final class AuditEvent extends
+      com.google.protobuf.GeneratedMessage
+      implements AuditEventOrBuilder {
+    // Use AuditEvent.newBuilder() to construct.
+    private AuditEvent(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private AuditEvent(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final AuditEvent defaultInstance;
+    public static AuditEvent getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public AuditEvent getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private AuditEvent(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              bitField0_ |= 0x00000001;
+              eventType_ = input.readInt32();
+              break;
+            }
+            case 18: {
+              org.jbpm.process.audit.AuditMessages.ProcessInstanceLog.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000002) == 0x00000002)) {
+                subBuilder = processInstanceLog_.toBuilder();
+              }
+              processInstanceLog_ = input.readMessage(org.jbpm.process.audit.AuditMessages.ProcessInstanceLog.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(processInstanceLog_);
+                processInstanceLog_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000002;
+              break;
+            }
+            case 26: {
+              org.jbpm.process.audit.AuditMessages.NodeInstanceLog.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000004) == 0x00000004)) {
+                subBuilder = nodeInstanceLog_.toBuilder();
+              }
+              nodeInstanceLog_ = input.readMessage(org.jbpm.process.audit.AuditMessages.NodeInstanceLog.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(nodeInstanceLog_);
+                nodeInstanceLog_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000004;
+              break;
+            }
+            case 34: {
+              org.jbpm.process.audit.AuditMessages.VariableInstanceLog.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000008) == 0x00000008)) {
+                subBuilder = variableInstanceLog_.toBuilder();
+              }
+              variableInstanceLog_ = input.readMessage(org.jbpm.process.audit.AuditMessages.VariableInstanceLog.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(variableInstanceLog_);
+                variableInstanceLog_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000008;
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.jbpm.process.audit.AuditMessages.internal_static_org_jbpm_process_audit_AuditEvent_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.jbpm.process.audit.AuditMessages.internal_static_org_jbpm_process_audit_AuditEvent_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.jbpm.process.audit.AuditMessages.AuditEvent.class, org.jbpm.process.audit.AuditMessages.AuditEvent.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<AuditEvent> PARSER =
+        new com.google.protobuf.AbstractParser<AuditEvent>() {
+      public AuditEvent parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new AuditEvent(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<AuditEvent> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    // optional int32 event_type = 1;
+    public static final int EVENT_TYPE_FIELD_NUMBER = 1;
+    private int eventType_;
+    /**
+     * <code>optional int32 event_type = 1;</code>
+     *
+     * <pre>
+     * one of the *_EVENT_TYPE constants of AbstractAuditLogger
+     * </pre>
+     */
+    public boolean hasEventType() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional int32 event_type = 1;</code>
+     *
+     * <pre>
+     * one of the *_EVENT_TYPE constants of AbstractAuditLogger
+     * </pre>
+     */
+    public int getEventType() {
+      return eventType_;
+    }
+
+    // optional .org.jbpm.process.audit.ProcessInstanceLog process_instance_log = 2;
+    public static final int PROCESS_INSTANCE_LOG_FIELD_NUMBER = 2;
+    private org.jbpm.process.audit.AuditMessages.ProcessInstanceLog processInstanceLog_;
+    /**
+     * <code>optional .org.jbpm.process.audit.ProcessInstanceLog process_instance_log = 2;</code>
+     *
+     * <pre>
+     * exactly one of the following is set
+     * </pre>
+     */
+    public boolean hasProcessInstanceLog() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional .org.jbpm.process.audit.ProcessInstanceLog process_instance_log = 2;</code>
+     *
+     * <pre>
+     * exactly one of the following is set
+     * </pre>
+     */
+    public org.jbpm.process.audit.AuditMessages.ProcessInstanceLog getProcessInstanceLog() {
+      return processInstanceLog_;
+    }
+    /**
+     * <code>optional .org.jbpm.process.audit.ProcessInstanceLog process_instance_log = 2;</code>
+     *
+     * <pre>
+     * exactly one of the following is set
+     * </pre>
+     */
+    public org.jbpm.process.audit.AuditMessages.ProcessInstanceLogOrBuilder getProcessInstanceLogOrBuilder() {
+      return processInstanceLog_;
+    }
+
+    // optional .org.jbpm.process.audit.NodeInstanceLog node_instance_log = 3;
+    public static final int NODE_INSTANCE_LOG_FIELD_NUMBER = 3;
+    private org.jbpm.process.audit.AuditMessages.NodeInstanceLog nodeInstanceLog_;
+    /**
+     * <code>optional .org.jbpm.process.audit.NodeInstanceLog node_instance_log = 3;</code>
+     */
+    public boolean hasNodeInstanceLog() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>optional .org.jbpm.process.audit.NodeInstanceLog node_instance_log = 3;</code>
+     */
+    public org.jbpm.process.audit.AuditMessages.NodeInstanceLog getNodeInstanceLog() {
+      return nodeInstanceLog_;
+    }
+    /**
+     * <code>optional .org.jbpm.process.audit.NodeInstanceLog node_instance_log = 3;</code>
+     */
+    public org.jbpm.process.audit.AuditMessages.NodeInstanceLogOrBuilder getNodeInstanceLogOrBuilder() {
+      return nodeInstanceLog_;
+    }
+
+    // optional .org.jbpm.process.audit.VariableInstanceLog variable_instance_log = 4;
+    public static final int VARIABLE_INSTANCE_LOG_FIELD_NUMBER = 4;
+    private org.jbpm.process.audit.AuditMessages.VariableInstanceLog variableInstanceLog_;
+    /**
+     * <code>optional .org.jbpm.process.audit.VariableInstanceLog variable_instance_log = 4;</code>
+     */
+    public boolean hasVariableInstanceLog() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    /**
+     * <code>optional .org.jbpm.process.audit.VariableInstanceLog variable_instance_log = 4;</code>
+     */
+    public org.jbpm.process.audit.AuditMessages.VariableInstanceLog getVariableInstanceLog() {
+      return variableInstanceLog_;
+    }
+    /**
+     * <code>optional .org.jbpm.process.audit.VariableInstanceLog variable_instance_log = 4;</code>
+     */
+    public org.jbpm.process.audit.AuditMessages.VariableInstanceLogOrBuilder getVariableInstanceLogOrBuilder() {
+      return variableInstanceLog_;
+    }
+
+    private void initFields() {
+      eventType_ = 0;
+      processInstanceLog_ = org.jbpm.process.audit.AuditMessages.ProcessInstanceLog.getDefaultInstance();
+      nodeInstanceLog_ = org.jbpm.process.audit.AuditMessages.NodeInstanceLog.getDefaultInstance();
+      variableInstanceLog_ = org.jbpm.process.audit.AuditMessages.VariableInstanceLog.getDefaultInstance();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeInt32(1, eventType_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeMessage(2, processInstanceLog_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeMessage(3, nodeInstanceLog_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeMessage(4, variableInstanceLog_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, eventType_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, processInstanceLog_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, nodeInstanceLog_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, variableInstanceLog_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static org.jbpm.process.audit.AuditMessages.AuditEvent parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.jbpm.process.audit.AuditMessages.AuditEvent parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.jbpm.process.audit.AuditMessages.AuditEvent parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.jbpm.process.audit.AuditMessages.AuditEvent parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.jbpm.process.audit.AuditMessages.AuditEvent parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.jbpm.process.audit.AuditMessages.AuditEvent parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static org.jbpm.process.audit.AuditMessages.AuditEvent parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static org.jbpm.process.audit.AuditMessages.AuditEvent parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static org.jbpm.process.audit.AuditMessages.AuditEvent parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.jbpm.process.audit.AuditMessages.AuditEvent parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(org.jbpm.process.audit.AuditMessages.AuditEvent prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code org.jbpm.process.audit.AuditEvent}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements org.jbpm.process.audit.AuditMessages.AuditEventOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.jbpm.process.audit.AuditMessages.internal_static_org_jbpm_process_audit_AuditEvent_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.jbpm.process.audit.AuditMessages.internal_static_org_jbpm_process_audit_AuditEvent_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.jbpm.process.audit.AuditMessages.AuditEvent.class, org.jbpm.process.audit.AuditMessages.AuditEvent.Builder.class);
+      }
+
+      // Construct using org.jbpm.process.audit.AuditMessages.AuditEvent.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getProcessInstanceLogFieldBuilder();
+          getNodeInstanceLogFieldBuilder();
+          getVariableInstanceLogFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        eventType_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        if (processInstanceLogBuilder_ == null) {
+          processInstanceLog_ = org.jbpm.process.audit.AuditMessages.ProcessInstanceLog.getDefaultInstance();
+        } else {
+          processInstanceLogBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000002);
+        if (nodeInstanceLogBuilder_ == null) {
+          nodeInstanceLog_ = org.jbpm.process.audit.AuditMessages.NodeInstanceLog.getDefaultInstance();
+        } else {
+          nodeInstanceLogBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000004);
+        if (variableInstanceLogBuilder_ == null) {
+          variableInstanceLog_ = org.jbpm.process.audit.AuditMessages.VariableInstanceLog.getDefaultInstance();
+        } else {
+          variableInstanceLogBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000008);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.jbpm.process.audit.AuditMessages.internal_static_org_jbpm_process_audit_AuditEvent_descriptor;
+      }
+
+      public org.jbpm.process.audit.AuditMessages.AuditEvent getDefaultInstanceForType() {
+        return org.jbpm.process.audit.AuditMessages.AuditEvent.getDefaultInstance();
+      }
+
+      public org.jbpm.process.audit.AuditMessages.AuditEvent build() {
+        org.jbpm.process.audit.AuditMessages.AuditEvent result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public org.jbpm.process.audit.AuditMessages.AuditEvent buildPartial() {
+        org.jbpm.process.audit.AuditMessages.AuditEvent result = new org.jbpm.process.audit.AuditMessages.AuditEvent(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.eventType_ = eventType_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        if (processInstanceLogBuilder_ == null) {
+          result.processInstanceLog_ = processInstanceLog_;
+        } else {
+          result.processInstanceLog_ = processInstanceLogBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        if (nodeInstanceLogBuilder_ == null) {
+          result.nodeInstanceLog_ = nodeInstanceLog_;
+        } else {
+          result.nodeInstanceLog_ = nodeInstanceLogBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        if (variableInstanceLogBuilder_ == null) {
+          result.variableInstanceLog_ = variableInstanceLog_;
+        } else {
+          result.variableInstanceLog_ = variableInstanceLogBuilder_.build();
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.jbpm.process.audit.AuditMessages.AuditEvent) {
+          return mergeFrom((org.jbpm.process.audit.AuditMessages.AuditEvent)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.jbpm.process.audit.AuditMessages.AuditEvent other) {
+        if (other == org.jbpm.process.audit.AuditMessages.AuditEvent.getDefaultInstance()) return this;
+        if (other.hasEventType()) {
+          setEventType(other.getEventType());
+        }
+        if (other.hasProcessInstanceLog()) {
+          mergeProcessInstanceLog(other.getProcessInstanceLog());
+        }
+        if (other.hasNodeInstanceLog()) {
+          mergeNodeInstanceLog(other.getNodeInstanceLog());
+        }
+        if (other.hasVariableInstanceLog()) {
+          mergeVariableInstanceLog(other.getVariableInstanceLog());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.jbpm.process.audit.AuditMessages.AuditEvent parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.jbpm.process.audit.AuditMessages.AuditEvent) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // optional int32 event_type = 1;
+      private int eventType_ ;
+      /**
+       * <code>optional int32 event_type = 1;</code>
+       *
+       * <pre>
+       * one of the *_EVENT_TYPE constants of AbstractAuditLogger
+       * </pre>
+       */
+      public boolean hasEventType() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional int32 event_type = 1;</code>
+       *
+       * <pre>
+       * one of the *_EVENT_TYPE constants of AbstractAuditLogger
+       * </pre>
+       */
+      public int getEventType() {
+        return eventType_;
+      }
+      /**
+       * <code>optional int32 event_type = 1;</code>
+       *
+       * <pre>
+       * one of the *_EVENT_TYPE constants of AbstractAuditLogger
+       * </pre>
+       */
+      public Builder setEventType(int value) {
+        bitField0_ |= 0x00000001;
+        eventType_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 event_type = 1;</code>
+       *
+       * <pre>
+       * one of the *_EVENT_TYPE constants of AbstractAuditLogger
+       * </pre>
+       */
+      public Builder clearEventType() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        eventType_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // optional .org.jbpm.process.audit.ProcessInstanceLog process_instance_log = 2;
+      private org.jbpm.process.audit.AuditMessages.ProcessInstanceLog processInstanceLog_ = org.jbpm.process.audit.AuditMessages.ProcessInstanceLog.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          org.jbpm.process.audit.AuditMessages.ProcessInstanceLog, org.jbpm.process.audit.AuditMessages.ProcessInstanceLog.Builder, org.jbpm.process.audit.AuditMessages.ProcessInstanceLogOrBuilder> processInstanceLogBuilder_;
+      /**
+       * <code>optional .org.jbpm.process.audit.ProcessInstanceLog process_instance_log = 2;</code>
+       *
+       * <pre>
+       * exactly one of the following is set
+       * </pre>
+       */
+      public boolean hasProcessInstanceLog() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional .org.jbpm.process.audit.ProcessInstanceLog process_instance_log = 2;</code>
+       *
+       * <pre>
+       * exactly one of the following is set
+       * </pre>
+       */
+      public org.jbpm.process.audit.AuditMessages.ProcessInstanceLog getProcessInstanceLog() {
+        if (processInstanceLogBuilder_ == null) {
+          return processInstanceLog_;
+        } else {
+          return processInstanceLogBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .org.jbpm.process.audit.ProcessInstanceLog process_instance_log = 2;</code>
+       *
+       * <pre>
+       * exactly one of the following is set
+       * </pre>
+       */
+      public Builder setProcessInstanceLog(org.jbpm.process.audit.AuditMessages.ProcessInstanceLog value) {
+        if (processInstanceLogBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          processInstanceLog_ = value;
+          onChanged();
+        } else {
+          processInstanceLogBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000002;
+        return this;
+      }
+      /**
+       * <code>optional .org.jbpm.process.audit.ProcessInstanceLog process_instance_log = 2;</code>
+       *
+       * <pre>
+       * exactly one of the following is set
+       * </pre>
+       */
+      public Builder setProcessInstanceLog(
+          org.jbpm.process.audit.AuditMessages.ProcessInstanceLog.Builder builderForValue) {
+        if (processInstanceLogBuilder_ == null) {
+          processInstanceLog_ = builderForValue.build();
+          onChanged();
+        } else {
+          processInstanceLogBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000002;
+        return this;
+      }
+      /**
+       * <code>optional .org.jbpm.process.audit.ProcessInstanceLog process_instance_log = 2;</code>
+       *
+       * <pre>
+       * exactly one of the following is set
+       * </pre>
+       */
+      public Builder mergeProcessInstanceLog(org.jbpm.process.audit.AuditMessages.ProcessInstanceLog value) {
+        if (processInstanceLogBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) == 0x00000002) &&
+              processInstanceLog_ != org.jbpm.process.audit.AuditMessages.ProcessInstanceLog.getDefaultInstance()) {
+            processInstanceLog_ =
+              org.jbpm.process.audit.AuditMessages.ProcessInstanceLog.newBuilder(processInstanceLog_).mergeFrom(value).buildPartial();
+          } else {
+            processInstanceLog_ = value;
+          }
+          onChanged();
+        } else {
+          processInstanceLogBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000002;
+        return this;
+      }
+      /**
+       * <code>optional .org.jbpm.process.audit.ProcessInstanceLog process_instance_log = 2;</code>
+       *
+       * <pre>
+       * exactly one of the following is set
+       * </pre>
+       */
+      public Builder clearProcessInstanceLog() {
+        if (processInstanceLogBuilder_ == null) {
+          processInstanceLog_ = org.jbpm.process.audit.AuditMessages.ProcessInstanceLog.getDefaultInstance();
+          onChanged();
+        } else {
+          processInstanceLogBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+      /**
+       * <code>optional .org.jbpm.process.audit.ProcessInstanceLog process_instance_log = 2;</code>
+       *
+       * <pre>
+       * exactly one of the following is set
+       * </pre>
+       */
+      public org.jbpm.process.audit.AuditMessages.ProcessInstanceLog.Builder getProcessInstanceLogBuilder() {
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return getProcessInstanceLogFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .org.jbpm.process.audit.ProcessInstanceLog process_instance_log = 2;</code>
+       *
+       * <pre>
+       * exactly one of the following is set
+       * </pre>
+       */
+      public org.jbpm.process.audit.AuditMessages.ProcessInstanceLogOrBuilder getProcessInstanceLogOrBuilder() {
+        if (processInstanceLogBuilder_ != null) {
+          return processInstanceLogBuilder_.getMessageOrBuilder();
+        } else {
+          return processInstanceLog_;
+        }
+      }
+      /**
+       * <code>optional .org.jbpm.process.audit.ProcessInstanceLog process_instance_log = 2;</code>
+       *
+       * <pre>
+       * exactly one of the following is set
+       * </pre>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          org.jbpm.process.audit.AuditMessages.ProcessInstanceLog, org.jbpm.process.audit.AuditMessages.ProcessInstanceLog.Builder, org.jbpm.process.audit.AuditMessages.ProcessInstanceLogOrBuilder> 
+          getProcessInstanceLogFieldBuilder() {
+        if (processInstanceLogBuilder_ == null) {
+          processInstanceLogBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.jbpm.process.audit.AuditMessages.ProcessInstanceLog, org.jbpm.process.audit.AuditMessages.ProcessInstanceLog.Builder, org.jbpm.process.audit.AuditMessages.ProcessInstanceLogOrBuilder>(
+                  processInstanceLog_,
+                  getParentForChildren(),
+                  isClean());
+          processInstanceLog_ = null;
+        }
+        return processInstanceLogBuilder_;
+      }
+
+      // optional .org.jbpm.process.audit.NodeInstanceLog node_instance_log = 3;
+      private org.jbpm.process.audit.AuditMessages.NodeInstanceLog nodeInstanceLog_ = org.jbpm.process.audit.AuditMessages.NodeInstanceLog.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          org.jbpm.process.audit.AuditMessages.NodeInstanceLog, org.jbpm.process.audit.AuditMessages.NodeInstanceLog.Builder, org.jbpm.process.audit.AuditMessages.NodeInstanceLogOrBuilder> nodeInstanceLogBuilder_;
+      /**
+       * <code>optional .org.jbpm.process.audit.NodeInstanceLog node_instance_log = 3;</code>
+       */
+      public boolean hasNodeInstanceLog() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional .org.jbpm.process.audit.NodeInstanceLog node_instance_log = 3;</code>
+       */
+      public org.jbpm.process.audit.AuditMessages.NodeInstanceLog getNodeInstanceLog() {
+        if (nodeInstanceLogBuilder_ == null) {
+          return nodeInstanceLog_;
+        } else {
+          return nodeInstanceLogBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .org.jbpm.process.audit.NodeInstanceLog node_instance_log = 3;</code>
+       */
+      public Builder setNodeInstanceLog(org.jbpm.process.audit.AuditMessages.NodeInstanceLog value) {
+        if (nodeInstanceLogBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          nodeInstanceLog_ = value;
+          onChanged();
+        } else {
+          nodeInstanceLogBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000004;
+        return this;
+      }
+      /**
+       * <code>optional .org.jbpm.process.audit.NodeInstanceLog node_instance_log = 3;</code>
+       */
+      public Builder setNodeInstanceLog(
+          org.jbpm.process.audit.AuditMessages.NodeInstanceLog.Builder builderForValue) {
+        if (nodeInstanceLogBuilder_ == null) {
+          nodeInstanceLog_ = builderForValue.build();
+          onChanged();
+        } else {
+          nodeInstanceLogBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000004;
+        return this;
+      }
+      /**
+       * <code>optional .org.jbpm.process.audit.NodeInstanceLog node_instance_log = 3;</code>
+       */
+      public Builder mergeNodeInstanceLog(org.jbpm.process.audit.AuditMessages.NodeInstanceLog value) {
+        if (nodeInstanceLogBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) == 0x00000004) &&
+              nodeInstanceLog_ != org.jbpm.process.audit.AuditMessages.NodeInstanceLog.getDefaultInstance()) {
+            nodeInstanceLog_ =
+              org.jbpm.process.audit.AuditMessages.NodeInstanceLog.newBuilder(nodeInstanceLog_).mergeFrom(value).buildPartial();
+          } else {
+            nodeInstanceLog_ = value;
+          }
+          onChanged();
+        } else {
+          nodeInstanceLogBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000004;
+        return this;
+      }
+      /**
+       * <code>optional .org.jbpm.process.audit.NodeInstanceLog node_instance_log = 3;</code>
+       */
+      public Builder clearNodeInstanceLog() {
+        if (nodeInstanceLogBuilder_ == null) {
+          nodeInstanceLog_ = org.jbpm.process.audit.AuditMessages.NodeInstanceLog.getDefaultInstance();
+          onChanged();
+        } else {
+          nodeInstanceLogBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000004);
+        return this;
+      }
+      /**
+       * <code>optional .org.jbpm.process.audit.NodeInstanceLog node_instance_log = 3;</code>
+       */
+      public org.jbpm.process.audit.AuditMessages.NodeInstanceLog.Builder getNodeInstanceLogBuilder() {
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return getNodeInstanceLogFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .org.jbpm.process.audit.NodeInstanceLog node_instance_log = 3;</code>
+       */
+      public org.jbpm.process.audit.AuditMessages.NodeInstanceLogOrBuilder getNodeInstanceLogOrBuilder() {
+        if (nodeInstanceLogBuilder_ != null) {
+          return nodeInstanceLogBuilder_.getMessageOrBuilder();
+        } else {
+          return nodeInstanceLog_;
+        }
+      }
+      /**
+       * <code>optional .org.jbpm.process.audit.NodeInstanceLog node_instance_log = 3;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          org.jbpm.process.audit.AuditMessages.NodeInstanceLog, org.jbpm.process.audit.AuditMessages.NodeInstanceLog.Builder, org.jbpm.process.audit.AuditMessages.NodeInstanceLogOrBuilder> 
+          getNodeInstanceLogFieldBuilder() {
+        if (nodeInstanceLogBuilder_ == null) {
+          nodeInstanceLogBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.jbpm.process.audit.AuditMessages.NodeInstanceLog, org.jbpm.process.audit.AuditMessages.NodeInstanceLog.Builder, org.jbpm.process.audit.AuditMessages.NodeInstanceLogOrBuilder>(
+                  nodeInstanceLog_,
+                  getParentForChildren(),
+                  isClean());
+          nodeInstanceLog_ = null;
+        }
+        return nodeInstanceLogBuilder_;
+      }
+
+      // optional .org.jbpm.process.audit.VariableInstanceLog variable_instance_log = 4;
+      private org.jbpm.process.audit.AuditMessages.VariableInstanceLog variableInstanceLog_ = org.jbpm.process.audit.AuditMessages.VariableInstanceLog.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          org.jbpm.process.audit.AuditMessages.VariableInstanceLog, org.jbpm.process.audit.AuditMessages.VariableInstanceLog.Builder, org.jbpm.process.audit.AuditMessages.VariableInstanceLogOrBuilder> variableInstanceLogBuilder_;
+      /**
+       * <code>optional .org.jbpm.process.audit.VariableInstanceLog variable_instance_log = 4;</code>
+       */
+      public boolean hasVariableInstanceLog() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>optional .org.jbpm.process.audit.VariableInstanceLog variable_instance_log = 4;</code>
+       */
+      public org.jbpm.process.audit.AuditMessages.VariableInstanceLog getVariableInstanceLog() {
+        if (variableInstanceLogBuilder_ == null) {
+          return variableInstanceLog_;
+        } else {
+          return variableInstanceLogBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .org.jbpm.process.audit.VariableInstanceLog variable_instance_log = 4;</code>
+       */
+      public Builder setVariableInstanceLog(org.jbpm.process.audit.AuditMessages.VariableInstanceLog value) {
+        if (variableInstanceLogBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          variableInstanceLog_ = value;
+          onChanged();
+        } else {
+          variableInstanceLogBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000008;
+        return this;
+      }
+      /**
+       * <code>optional .org.jbpm.process.audit.VariableInstanceLog variable_instance_log = 4;</code>
+       */
+      public Builder setVariableInstanceLog(
+          org.jbpm.process.audit.AuditMessages.VariableInstanceLog.Builder builderForValue) {
+        if (variableInstanceLogBuilder_ == null) {
+          variableInstanceLog_ = builderForValue.build();
+          onChanged();
+        } else {
+          variableInstanceLogBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000008;
+        return this;
+      }
+      /**
+       * <code>optional .org.jbpm.process.audit.VariableInstanceLog variable_instance_log = 4;</code>
+       */
+      public Builder mergeVariableInstanceLog(org.jbpm.process.audit.AuditMessages.VariableInstanceLog value) {
+        if (variableInstanceLogBuilder_ == null) {
+          if (((bitField0_ & 0x00000008) == 0x00000008) &&
+              variableInstanceLog_ != org.jbpm.process.audit.AuditMessages.VariableInstanceLog.getDefaultInstance()) {
+            variableInstanceLog_ =
+              org.jbpm.process.audit.AuditMessages.VariableInstanceLog.newBuilder(variableInstanceLog_).mergeFrom(value).buildPartial();
+          } else {
+            variableInstanceLog_ = value;
+          }
+          onChanged();
+        } else {
+          variableInstanceLogBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000008;
+        return this;
+      }
+      /**
+       * <code>optional .org.jbpm.process.audit.VariableInstanceLog variable_instance_log = 4;</code>
+       */
+      public Builder clearVariableInstanceLog() {
+        if (variableInstanceLogBuilder_ == null) {
+          variableInstanceLog_ = org.jbpm.process.audit.AuditMessages.VariableInstanceLog.getDefaultInstance();
+          onChanged();
+        } else {
+          variableInstanceLogBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000008);
+        return this;
+      }
+      /**
+       * <code>optional .org.jbpm.process.audit.VariableInstanceLog variable_instance_log = 4;</code>
+       */
+      public org.jbpm.process.audit.AuditMessages.VariableInstanceLog.Builder getVariableInstanceLogBuilder() {
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return getVariableInstanceLogFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .org.jbpm.process.audit.VariableInstanceLog variable_instance_log = 4;</code>
+       */
+      public org.jbpm.process.audit.AuditMessages.VariableInstanceLogOrBuilder getVariableInstanceLogOrBuilder() {
+        if (variableInstanceLogBuilder_ != null) {
+          return variableInstanceLogBuilder_.getMessageOrBuilder();
+        } else {
+          return variableInstanceLog_;
+        }
+      }
+      /**
+       * <code>optional .org.jbpm.process.audit.VariableInstanceLog variable_instance_log = 4;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          org.jbpm.process.audit.AuditMessages.VariableInstanceLog, org.jbpm.process.audit.AuditMessages.VariableInstanceLog.Builder, org.jbpm.process.audit.AuditMessages.VariableInstanceLogOrBuilder> 
+          getVariableInstanceLogFieldBuilder() {
+        if (variableInstanceLogBuilder_ == null) {
+          variableInstanceLogBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.jbpm.process.audit.AuditMessages.VariableInstanceLog, org.jbpm.process.audit.AuditMessages.VariableInstanceLog.Builder, org.jbpm.process.audit.AuditMessages.VariableInstanceLogOrBuilder>(
+                  variableInstanceLog_,
+                  getParentForChildren(),
+                  isClean());
+          variableInstanceLog_ = null;
+        }
+        return variableInstanceLogBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:org.jbpm.process.audit.AuditEvent)
+    }
+
+    static {
+      defaultInstance = new AuditEvent(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:org.jbpm.process.audit.AuditEvent)
+  }
+
+  public interface ProcessInstanceLogOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // optional int64 process_instance_id = 1;
+    /**
+     * <code>optional int64 process_instance_id = 1;</code>
+     */
+    boolean hasProcessInstanceId();
+    /**
+     * <code>optional int64 process_instance_id = 1;</code>
+     */
+    long getProcessInstanceId();
+
+    // optional string process_id = 2;
+    /**
+     * <code>optional string process_id = 2;</code>
+     */
+    boolean hasProcessId();
+    /**
+     * <code>optional string process_id = 2;</code>
+     */
+    java.lang.String getProcessId();
+    /**
+     * <code>optional string process_id = 2;</code>
+     */
+    com.google.protobuf.ByteString
+        getProcessIdBytes();
+
+    // optional int64 start = 3;
+    /**
+     * <code>optional int64 start = 3;</code>
+     */
+    boolean hasStart();
+    /**
+     * <code>optional int64 start = 3;</code>
+     */
+    long getStart();
+
+    // optional int64 end = 4;
+    /**
+     * <code>optional int64 end = 4;</code>
+     */
+    boolean hasEnd();
+    /**
+     * <code>optional int64 end = 4;</code>
+     */
+    long getEnd();
+
+    // optional int32 status = 5;
+    /**
+     * <code>optional int32 status = 5;</code>
+     */
+    boolean hasStatus();
+    /**
+     * <code>optional int32 status = 5;</code>
+     */
+    int getStatus();
+
+    // optional int64 parent_process_instance_id = 6;
+    /**
+     * <code>optional int64 parent_process_instance_id = 6;</code>
+     */
+    boolean hasParentProcessInstanceId();
+    /**
+     * <code>optional int64 parent_process_instance_id = 6;</code>
+     */
+    long getParentProcessInstanceId();
+
+    // optional string outcome = 7;
+    /**
+     * <code>optional string outcome = 7;</code>
+     */
+    boolean hasOutcome();
+    /**
+     * <code>optional string outcome = 7;</code>
+     */
+    java.lang.String getOutcome();
+    /**
+     * <code>optional string outcome = 7;</code>
+     */
+    com.google.protobuf.ByteString
+        getOutcomeBytes();
+
+    // optional int64 duration = 8;
+    /**
+     * <code>optional int64 duration = 8;</code>
+     */
+    boolean hasDuration();
+    /**
+     * <code>optional int64 duration = 8;</code>
+     */
+    long getDuration();
+
+    // optional string identity = 9;
+    /**
+     * <code>optional string identity = 9;</code>
+     */
+    boolean hasIdentity();
+    /**
+     * <code>optional string identity = 9;</code>
+     */
+    java.lang.String getIdentity();
+    /**
+     * <code>optional string identity = 9;</code>
+     */
+    com.google.protobuf.ByteString
+        getIdentityBytes();
+
+    // optional string process_version = 10;
+    /**
+     * <code>optional string process_version = 10;</code>
+     */
+    boolean hasProcessVersion();
+    /**
+     * <code>optional string process_version = 10;</code>
+     */
+    java.lang.String getProcessVersion();
+    /**
+     * <code>optional string process_version = 10;</code>
+     */
+    com.google.protobuf.ByteString
+        getProcessVersionBytes();
+
+    // optional string process_name = 11;
+    /**
+     * <code>optional string process_name = 11;</code>
+     */
+    boolean hasProcessName();
+    /**
+     * <code>optional string process_name = 11;</code>
+     */
+    java.lang.String getProcessName();
+    /**
+     * <code>optional string process_name = 11;</code>
+     */
+    com.google.protobuf.ByteString
+        getProcessNameBytes();
+
+    // optional string external_id = 12;
+    /**
+     * <code>optional string external_id = 12;</code>
+     */
+    boolean hasExternalId();
+    /**
+     * <code>optional string external_id = 12;</code>
+     */
+    java.lang.String getExternalId();
+    /**
+     * <code>optional string external_id = 12;</code>
+     */
+    com.google.protobuf.ByteString
+        getExternalIdBytes();
+  }
+  /**
+   * Protobuf type {@code org.jbpm.process.audit.ProcessInstanceLog}
+   */
+  public static final class ProcessInstanceLog extends
+      com.google.protobuf.GeneratedMessage
+      implements ProcessInstanceLogOrBuilder {
+    // Use ProcessInstanceLog.newBuilder() to construct.
+    private ProcessInstanceLog(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private ProcessInstanceLog(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final ProcessInstanceLog defaultInstance;
+    public static ProcessInstanceLog getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public ProcessInstanceLog getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private ProcessInstanceLog(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              bitField0_ |= 0x00000001;
+              processInstanceId_ = input.readInt64();
+              break;
+            }
+            case 18: {
+              bitField0_ |= 0x00000002;
+              processId_ = input.readBytes();
+              break;
+            }
+            case 24: {
+              bitField0_ |= 0x00000004;
+              start_ = input.readInt64();
+              break;
+            }
+            case 32: {
+              bitField0_ |= 0x00000008;
+              end_ = input.readInt64();
+              break;
+            }
+            case 40: {
+              bitField0_ |= 0x00000010;
+              status_ = input.readInt32();
+              break;
+            }
+            case 48: {
+              bitField0_ |= 0x00000020;
+              parentProcessInstanceId_ = input.readInt64();
+              break;
+            }
+            case 58: {
+              bitField0_ |= 0x00000040;
+              outcome_ = input.readBytes();
+              break;
+            }
+            case 64: {
+              bitField0_ |= 0x00000080;
+              duration_ = input.readInt64();
+              break;
+            }
+            case 74: {
+              bitField0_ |= 0x00000100;
+              identity_ = input.readBytes();
+              break;
+            }
+            case 82: {
+              bitField0_ |= 0x00000200;
+              processVersion_ = input.readBytes();
+              break;
+            }
+            case 90: {
+              bitField0_ |= 0x00000400;
+              processName_ = input.readBytes();
+              break;
+            }
+            case 98: {
+              bitField0_ |= 0x00000800;
+              externalId_ = input.readBytes();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.jbpm.process.audit.AuditMessages.internal_static_org_jbpm_process_audit_ProcessInstanceLog_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.jbpm.process.audit.AuditMessages.internal_static_org_jbpm_process_audit_ProcessInstanceLog_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.jbpm.process.audit.AuditMessages.ProcessInstanceLog.class, org.jbpm.process.audit.AuditMessages.ProcessInstanceLog.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<ProcessInstanceLog> PARSER =
+        new com.google.protobuf.AbstractParser<ProcessInstanceLog>() {
+      public ProcessInstanceLog parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new ProcessInstanceLog(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ProcessInstanceLog> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    // optional int64 process_instance_id = 1;
+    public static final int PROCESS_INSTANCE_ID_FIELD_NUMBER = 1;
+    private long processInstanceId_;
+    /**
+     * <code>optional int64 process_instance_id = 1;</code>
+     */
+    public boolean hasProcessInstanceId() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional int64 process_instance_id = 1;</code>
+     */
+    public long getProcessInstanceId() {
+      return processInstanceId_;
+    }
+
+    // optional string process_id = 2;
+    public static final int PROCESS_ID_FIELD_NUMBER = 2;
+    private java.lang.Object processId_;
+    /**
+     * <code>optional string process_id = 2;</code>
+     */
+    public boolean hasProcessId() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional string process_id = 2;</code>
+     */
+    public java.lang.String getProcessId() {
+      java.lang.Object ref = processId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          processId_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string process_id = 2;</code>
+     */
+    public com.google.protobuf.ByteString
+        getProcessIdBytes() {
+      java.lang.Object ref = processId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        processId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // optional int64 start = 3;
+    public static final int START_FIELD_NUMBER = 3;
+    private long start_;
+    /**
+     * <code>optional int64 start = 3;</code>
+     */
+    public boolean hasStart() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>optional int64 start = 3;</code>
+     */
+    public long getStart() {
+      return start_;
+    }
+
+    // optional int64 end = 4;
+    public static final int END_FIELD_NUMBER = 4;
+    private long end_;
+    /**
+     * <code>optional int64 end = 4;</code>
+     */
+    public boolean hasEnd() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    /**
+     * <code>optional int64 end = 4;</code>
+     */
+    public long getEnd() {
+      return end_;
+    }
+
+    // optional int32 status = 5;
+    public static final int STATUS_FIELD_NUMBER = 5;
+    private int status_;
+    /**
+     * <code>optional int32 status = 5;</code>
+     */
+    public boolean hasStatus() {
+      return ((bitField0_ & 0x00000010) == 0x00000010);
+    }
+    /**
+     * <code>optional int32 status = 5;</code>
+     */
+    public int getStatus() {
+      return status_;
+    }
+
+    // optional int64 parent_process_instance_id = 6;
+    public static final int PARENT_PROCESS_INSTANCE_ID_FIELD_NUMBER = 6;
+    private long parentProcessInstanceId_;
+    /**
+     * <code>optional int64 parent_process_instance_id = 6;</code>
+     */
+    public boolean hasParentProcessInstanceId() {
+      return ((bitField0_ & 0x00000020) == 0x00000020);
+    }
+    /**
+     * <code>optional int64 parent_process_instance_id = 6;</code>
+     */
+    public long getParentProcessInstanceId() {
+      return parentProcessInstanceId_;
+    }
+
+    // optional string outcome = 7;
+    public static final int OUTCOME_FIELD_NUMBER = 7;
+    private java.lang.Object outcome_;
+    /**
+     * <code>optional string outcome = 7;</code>
+     */
+    public boolean hasOutcome() {
+      return ((bitField0_ & 0x00000040) == 0x00000040);
+    }
+    /**
+     * <code>optional string outcome = 7;</code>
+     */
+    public java.lang.String getOutcome() {
+      java.lang.Object ref = outcome_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          outcome_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string outcome = 7;</code>
+     */
+    public com.google.protobuf.ByteString
+        getOutcomeBytes() {
+      java.lang.Object ref = outcome_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        outcome_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // optional int64 duration = 8;
+    public static final int DURATION_FIELD_NUMBER = 8;
+    private long duration_;
+    /**
+     * <code>optional int64 duration = 8;</code>
+     */
+    public boolean hasDuration() {
+      return ((bitField0_ & 0x00000080) == 0x00000080);
+    }
+    /**
+     * <code>optional int64 duration = 8;</code>
+     */
+    public long getDuration() {
+      return duration_;
+    }
+
+    // optional string identity = 9;
+    public static final int IDENTITY_FIELD_NUMBER = 9;
+    private java.lang.Object identity_;
+    /**
+     * <code>optional string identity = 9;</code>
+     */
+    public boolean hasIdentity() {
+      return ((bitField0_ & 0x00000100) == 0x00000100);
+    }
+    /**
+     * <code>optional string identity = 9;</code>
+     */
+    public java.lang.String getIdentity() {
+      java.lang.Object ref = identity_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          identity_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string identity = 9;</code>
+     */
+    public com.google.protobuf.ByteString
+        getIdentityBytes() {
+      java.lang.Object ref = identity_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        identity_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // optional string process_version = 10;
+    public static final int PROCESS_VERSION_FIELD_NUMBER = 10;
+    private java.lang.Object processVersion_;
+    /**
+     * <code>optional string process_version = 10;</code>
+     */
+    public boolean hasProcessVersion() {
+      return ((bitField0_ & 0x00000200) == 0x00000200);
+    }
+    /**
+     * <code>optional string process_version = 10;</code>
+     */
+    public java.lang.String getProcessVersion() {
+      java.lang.Object ref = processVersion_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          processVersion_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string process_version = 10;</code>
+     */
+    public com.google.protobuf.ByteString
+        getProcessVersionBytes() {
+      java.lang.Object ref = processVersion_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        processVersion_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // optional string process_name = 11;
+    public static final int PROCESS_NAME_FIELD_NUMBER = 11;
+    private java.lang.Object processName_;
+    /**
+     * <code>optional string process_name = 11;</code>
+     */
+    public boolean hasProcessName() {
+      return ((bitField0_ & 0x00000400) == 0x00000400);
+    }
+    /**
+     * <code>optional string process_name = 11;</code>
+     */
+    public java.lang.String getProcessName() {
+      java.lang.Object ref = processName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          processName_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string process_name = 11;</code>
+     */
+    public com.google.protobuf.ByteString
+        getProcessNameBytes() {
+      java.lang.Object ref = processName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        processName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // optional string external_id = 12;
+    public static final int EXTERNAL_ID_FIELD_NUMBER = 12;
+    private java.lang.Object externalId_;
+    /**
+     * <code>optional string external_id = 12;</code>
+     */
+    public boolean hasExternalId() {
+      return ((bitField0_ & 0x00000800) == 0x00000800);
+    }
+    /**
+     * <code>optional string external_id = 12;</code>
+     */
+    public java.lang.String getExternalId() {
+      java.lang.Object ref = externalId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          externalId_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string external_id = 12;</code>
+     */
+    public com.google.protobuf.ByteString
+        getExternalIdBytes() {
+      java.lang.Object ref = externalId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        externalId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private void initFields() {
+      processInstanceId_ = 0L;
+      processId_ = "";
+      start_ = 0L;
+      end_ = 0L;
+      status_ = 0;
+      parentProcessInstanceId_ = 0L;
+      outcome_ = "";
+      duration_ = 0L;
+      identity_ = "";
+      processVersion_ = "";
+      processName_ = "";
+      externalId_ = "";
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeInt64(1, processInstanceId_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBytes(2, getProcessIdBytes());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeInt64(3, start_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeInt64(4, end_);
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        output.writeInt32(5, status_);
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        output.writeInt64(6, parentProcessInstanceId_);
+      }
+      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+        output.writeBytes(7, getOutcomeBytes());
+      }
+      if (((bitField0_ & 0x00000080) == 0x00000080)) {
+        output.writeInt64(8, duration_);
+      }
+      if (((bitField0_ & 0x00000100) == 0x00000100)) {
+        output.writeBytes(9, getIdentityBytes());
+      }
+      if (((bitField0_ & 0x00000200) == 0x00000200)) {
+        output.writeBytes(10, getProcessVersionBytes());
+      }
+      if (((bitField0_ & 0x00000400) == 0x00000400)) {
+        output.writeBytes(11, getProcessNameBytes());
+      }
+      if (((bitField0_ & 0x00000800) == 0x00000800)) {
+        output.writeBytes(12, getExternalIdBytes());
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(1, processInstanceId_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, getProcessIdBytes());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(3, start_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(4, end_);
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(5, status_);
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(6, parentProcessInstanceId_);
+      }
+      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(7, getOutcomeBytes());
+      }
+      if (((bitField0_ & 0x00000080) == 0x00000080)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(8, duration_);
+      }
+      if (((bitField0_ & 0x00000100) == 0x00000100)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(9, getIdentityBytes());
+      }
+      if (((bitField0_ & 0x00000200) == 0x00000200)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(10, getProcessVersionBytes());
+      }
+      if (((bitField0_ & 0x00000400) == 0x00000400)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(11, getProcessNameBytes());
+      }
+      if (((bitField0_ & 0x00000800) == 0x00000800)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(12, getExternalIdBytes());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static org.jbpm.process.audit.AuditMessages.ProcessInstanceLog parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.jbpm.process.audit.AuditMessages.ProcessInstanceLog parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.jbpm.process.audit.AuditMessages.ProcessInstanceLog parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.jbpm.process.audit.AuditMessages.ProcessInstanceLog parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.jbpm.process.audit.AuditMessages.ProcessInstanceLog parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.jbpm.process.audit.AuditMessages.ProcessInstanceLog parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static org.jbpm.process.audit.AuditMessages.ProcessInstanceLog parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static org.jbpm.process.audit.AuditMessages.ProcessInstanceLog parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static org.jbpm.process.audit.AuditMessages.ProcessInstanceLog parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.jbpm.process.audit.AuditMessages.ProcessInstanceLog parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(org.jbpm.process.audit.AuditMessages.ProcessInstanceLog prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code org.jbpm.process.audit.ProcessInstanceLog}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements org.jbpm.process.audit.AuditMessages.ProcessInstanceLogOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.jbpm.process.audit.AuditMessages.internal_static_org_jbpm_process_audit_ProcessInstanceLog_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.jbpm.process.audit.AuditMessages.internal_static_org_jbpm_process_audit_ProcessInstanceLog_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.jbpm.process.audit.AuditMessages.ProcessInstanceLog.class, org.jbpm.process.audit.AuditMessages.ProcessInstanceLog.Builder.class);
+      }
+
+      // Construct using org.jbpm.process.audit.AuditMessages.ProcessInstanceLog.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        processInstanceId_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        processId_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
+        start_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        end_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000008);
+        status_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000010);
+        parentProcessInstanceId_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000020);
+        outcome_ = "";
+        bitField0_ = (bitField0_ & ~0x00000040);
+        duration_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000080);
+        identity_ = "";
+        bitField0_ = (bitField0_ & ~0x00000100);
+        processVersion_ = "";
+        bitField0_ = (bitField0_ & ~0x00000200);
+        processName_ = "";
+        bitField0_ = (bitField0_ & ~0x00000400);
+        externalId_ = "";
+        bitField0_ = (bitField0_ & ~0x00000800);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.jbpm.process.audit.AuditMessages.internal_static_org_jbpm_process_audit_ProcessInstanceLog_descriptor;
+      }
+
+      public org.jbpm.process.audit.AuditMessages.ProcessInstanceLog getDefaultInstanceForType() {
+        return org.jbpm.process.audit.AuditMessages.ProcessInstanceLog.getDefaultInstance();
+      }
+
+      public org.jbpm.process.audit.AuditMessages.ProcessInstanceLog build() {
+        org.jbpm.process.audit.AuditMessages.ProcessInstanceLog result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public org.jbpm.process.audit.AuditMessages.ProcessInstanceLog buildPartial() {
+        org.jbpm.process.audit.AuditMessages.ProcessInstanceLog result = new org.jbpm.process.audit.AuditMessages.ProcessInstanceLog(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.processInstanceId_ = processInstanceId_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.processId_ = processId_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.start_ = start_;
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        result.end_ = end_;
+        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+          to_bitField0_ |= 0x00000010;
+        }
+        result.status_ = status_;
+        if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
+          to_bitField0_ |= 0x00000020;
+        }
+        result.parentProcessInstanceId_ = parentProcessInstanceId_;
+        if (((from_bitField0_ & 0x00000040) == 0x00000040)) {
+          to_bitField0_ |= 0x00000040;
+        }
+        result.outcome_ = outcome_;
+        if (((from_bitField0_ & 0x00000080) == 0x00000080)) {
+          to_bitField0_ |= 0x00000080;
+        }
+        result.duration_ = duration_;
+        if (((from_bitField0_ & 0x00000100) == 0x00000100)) {
+          to_bitField0_ |= 0x00000100;
+        }
+        result.identity_ = identity_;
+        if (((from_bitField0_ & 0x00000200) == 0x00000200)) {
+          to_bitField0_ |= 0x00000200;
+        }
+        result.processVersion_ = processVersion_;
+        if (((from_bitField0_ & 0x00000400) == 0x00000400)) {
+          to_bitField0_ |= 0x00000400;
+        }
+        result.processName_ = processName_;
+        if (((from_bitField0_ & 0x00000800) == 0x00000800)) {
+          to_bitField0_ |= 0x00000800;
+        }
+        result.externalId_ = externalId_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.jbpm.process.audit.AuditMessages.ProcessInstanceLog) {
+          return mergeFrom((org.jbpm.process.audit.AuditMessages.ProcessInstanceLog)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.jbpm.process.audit.AuditMessages.ProcessInstanceLog other) {
+        if (other == org.jbpm.process.audit.AuditMessages.ProcessInstanceLog.getDefaultInstance()) return this;
+        if (other.hasProcessInstanceId()) {
+          setProcessInstanceId(other.getProcessInstanceId());
+        }
+        if (other.hasProcessId()) {
+          bitField0_ |= 0x00000002;
+          processId_ = other.processId_;
+          onChanged();
+        }
+        if (other.hasStart()) {
+          setStart(other.getStart());
+        }
+        if (other.hasEnd()) {
+          setEnd(other.getEnd());
+        }
+        if (other.hasStatus()) {
+          setStatus(other.getStatus());
+        }
+        if (other.hasParentProcessInstanceId()) {
+          setParentProcessInstanceId(other.getParentProcessInstanceId());
+        }
+        if (other.hasOutcome()) {
+          bitField0_ |= 0x00000040;
+          outcome_ = other.outcome_;
+          onChanged();
+        }
+        if (other.hasDuration()) {
+          setDuration(other.getDuration());
+        }
+        if (other.hasIdentity()) {
+          bitField0_ |= 0x00000100;
+          identity_ = other.identity_;
+          onChanged();
+        }
+        if (other.hasProcessVersion()) {
+          bitField0_ |= 0x00000200;
+          processVersion_ = other.processVersion_;
+          onChanged();
+        }
+        if (other.hasProcessName()) {
+          bitField0_ |= 0x00000400;
+          processName_ = other.processName_;
+          onChanged();
+        }
+        if (other.hasExternalId()) {
+          bitField0_ |= 0x00000800;
+          externalId_ = other.externalId_;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.jbpm.process.audit.AuditMessages.ProcessInstanceLog parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.jbpm.process.audit.AuditMessages.ProcessInstanceLog) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // optional int64 process_instance_id = 1;
+      private long processInstanceId_ ;
+      /**
+       * <code>optional int64 process_instance_id = 1;</code>
+       */
+      public boolean hasProcessInstanceId() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional int64 process_instance_id = 1;</code>
+       */
+      public long getProcessInstanceId() {
+        return processInstanceId_;
+      }
+      /**
+       * <code>optional int64 process_instance_id = 1;</code>
+       */
+      public Builder setProcessInstanceId(long value) {
+        bitField0_ |= 0x00000001;
+        processInstanceId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 process_instance_id = 1;</code>
+       */
+      public Builder clearProcessInstanceId() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        processInstanceId_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // optional string process_id = 2;
+      private java.lang.Object processId_ = "";
+      /**
+       * <code>optional string process_id = 2;</code>
+       */
+      public boolean hasProcessId() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional string process_id = 2;</code>
+       */
+      public java.lang.String getProcessId() {
+        java.lang.Object ref = processId_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          processId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string process_id = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getProcessIdBytes() {
+        java.lang.Object ref = processId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          processId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string process_id = 2;</code>
+       */
+      public Builder setProcessId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        processId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string process_id = 2;</code>
+       */
+      public Builder clearProcessId() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        processId_ = getDefaultInstance().getProcessId();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string process_id = 2;</code>
+       */
+      public Builder setProcessIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        processId_ = value;
+        onChanged();
+        return this;
+      }
+
+      // optional int64 start = 3;
+      private long start_ ;
+      /**
+       * <code>optional int64 start = 3;</code>
+       */
+      public boolean hasStart() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional int64 start = 3;</code>
+       */
+      public long getStart() {
+        return start_;
+      }
+      /**
+       * <code>optional int64 start = 3;</code>
+       */
+      public Builder setStart(long value) {
+        bitField0_ |= 0x00000004;
+        start_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 start = 3;</code>
+       */
+      public Builder clearStart() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        start_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // optional int64 end = 4;
+      private long end_ ;
+      /**
+       * <code>optional int64 end = 4;</code>
+       */
+      public boolean hasEnd() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>optional int64 end = 4;</code>
+       */
+      public long getEnd() {
+        return end_;
+      }
+      /**
+       * <code>optional int64 end = 4;</code>
+       */
+      public Builder setEnd(long value) {
+        bitField0_ |= 0x00000008;
+        end_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 end = 4;</code>
+       */
+      public Builder clearEnd() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        end_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // optional int32 status = 5;
+      private int status_ ;
+      /**
+       * <code>optional int32 status = 5;</code>
+       */
+      public boolean hasStatus() {
+        return ((bitField0_ & 0x00000010) == 0x00000010);
+      }
+      /**
+       * <code>optional int32 status = 5;</code>
+       */
+      public int getStatus() {
+        return status_;
+      }
+      /**
+       * <code>optional int32 status = 5;</code>
+       */
+      public Builder setStatus(int value) {
+        bitField0_ |= 0x00000010;
+        status_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 status = 5;</code>
+       */
+      public Builder clearStatus() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        status_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // optional int64 parent_process_instance_id = 6;
+      private long parentProcessInstanceId_ ;
+      /**
+       * <code>optional int64 parent_process_instance_id = 6;</code>
+       */
+      public boolean hasParentProcessInstanceId() {
+        return ((bitField0_ & 0x00000020) == 0x00000020);
+      }
+      /**
+       * <code>optional int64 parent_process_instance_id = 6;</code>
+       */
+      public long getParentProcessInstanceId() {
+        return parentProcessInstanceId_;
+      }
+      /**
+       * <code>optional int64 parent_process_instance_id = 6;</code>
+       */
+      public Builder setParentProcessInstanceId(long value) {
+        bitField0_ |= 0x00000020;
+        parentProcessInstanceId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 parent_process_instance_id = 6;</code>
+       */
+      public Builder clearParentProcessInstanceId() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        parentProcessInstanceId_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // optional string outcome = 7;
+      private java.lang.Object outcome_ = "";
+      /**
+       * <code>optional string outcome = 7;</code>
+       */
+      public boolean hasOutcome() {
+        return ((bitField0_ & 0x00000040) == 0x00000040);
+      }
+      /**
+       * <code>optional string outcome = 7;</code>
+       */
+      public java.lang.String getOutcome() {
+        java.lang.Object ref = outcome_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          outcome_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string outcome = 7;</code>
+       */
+      public com.google.protobuf.ByteString
+          getOutcomeBytes() {
+        java.lang.Object ref = outcome_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          outcome_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string outcome = 7;</code>
+       */
+      public Builder setOutcome(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000040;
+        outcome_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string outcome = 7;</code>
+       */
+      public Builder clearOutcome() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        outcome_ = getDefaultInstance().getOutcome();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string outcome = 7;</code>
+       */
+      public Builder setOutcomeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000040;
+        outcome_ = value;
+        onChanged();
+        return this;
+      }
+
+      // optional int64 duration = 8;
+      private long duration_ ;
+      /**
+       * <code>optional int64 duration = 8;</code>
+       */
+      public boolean hasDuration() {
+        return ((bitField0_ & 0x00000080) == 0x00000080);
+      }
+      /**
+       * <code>optional int64 duration = 8;</code>
+       */
+      public long getDuration() {
+        return duration_;
+      }
+      /**
+       * <code>optional int64 duration = 8;</code>
+       */
+      public Builder setDuration(long value) {
+        bitField0_ |= 0x00000080;
+        duration_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 duration = 8;</code>
+       */
+      public Builder clearDuration() {
+        bitField0_ = (bitField0_ & ~0x00000080);
+        duration_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // optional string identity = 9;
+      private java.lang.Object identity_ = "";
+      /**
+       * <code>optional string identity = 9;</code>
+       */
+      public boolean hasIdentity() {
+        return ((bitField0_ & 0x00000100) == 0x00000100);
+      }
+      /**
+       * <code>optional string identity = 9;</code>
+       */
+      public java.lang.String getIdentity() {
+        java.lang.Object ref = identity_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          identity_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string identity = 9;</code>
+       */
+      public com.google.protobuf.ByteString
+          getIdentityBytes() {
+        java.lang.Object ref = identity_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          identity_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string identity = 9;</code>
+       */
+      public Builder setIdentity(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000100;
+        identity_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string identity = 9;</code>
+       */
+      public Builder clearIdentity() {
+        bitField0_ = (bitField0_ & ~0x00000100);
+        identity_ = getDefaultInstance().getIdentity();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string identity = 9;</code>
+       */
+      public Builder setIdentityBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000100;
+        identity_ = value;
+        onChanged();
+        return this;
+      }
+
+      // optional string process_version = 10;
+      private java.lang.Object processVersion_ = "";
+      /**
+       * <code>optional string process_version = 10;</code>
+       */
+      public boolean hasProcessVersion() {
+        return ((bitField0_ & 0x00000200) == 0x00000200);
+      }
+      /**
+       * <code>optional string process_version = 10;</code>
+       */
+      public java.lang.String getProcessVersion() {
+        java.lang.Object ref = processVersion_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          processVersion_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string process_version = 10;</code>
+       */
+      public com.google.protobuf.ByteString
+          getProcessVersionBytes() {
+        java.lang.Object ref = processVersion_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          processVersion_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string process_version = 10;</code>
+       */
+      public Builder setProcessVersion(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000200;
+        processVersion_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string process_version = 10;</code>
+       */
+      public Builder clearProcessVersion() {
+        bitField0_ = (bitField0_ & ~0x00000200);
+        processVersion_ = getDefaultInstance().getProcessVersion();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string process_version = 10;</code>
+       */
+      public Builder setProcessVersionBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000200;
+        processVersion_ = value;
+        onChanged();
+        return this;
+      }
+
+      // optional string process_name = 11;
+      private java.lang.Object processName_ = "";
+      /**
+       * <code>optional string process_name = 11;</code>
+       */
+      public boolean hasProcessName() {
+        return ((bitField0_ & 0x00000400) == 0x00000400);
+      }
+      /**
+       * <code>optional string process_name = 11;</code>
+       */
+      public java.lang.String getProcessName() {
+        java.lang.Object ref = processName_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          processName_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string process_name = 11;</code>
+       */
+      public com.google.protobuf.ByteString
+          getProcessNameBytes() {
+        java.lang.Object ref = processName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          processName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string process_name = 11;</code>
+       */
+      public Builder setProcessName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000400;
+        processName_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string process_name = 11;</code>
+       */
+      public Builder clearProcessName() {
+        bitField0_ = (bitField0_ & ~0x00000400);
+        processName_ = getDefaultInstance().getProcessName();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string process_name = 11;</code>
+       */
+      public Builder setProcessNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000400;
+        processName_ = value;
+        onChanged();
+        return this;
+      }
+
+      // optional string external_id = 12;
+      private java.lang.Object externalId_ = "";
+      /**
+       * <code>optional string external_id = 12;</code>
+       */
+      public boolean hasExternalId() {
+        return ((bitField0_ & 0x00000800) == 0x00000800);
+      }
+      /**
+       * <code>optional string external_id = 12;</code>
+       */
+      public java.lang.String getExternalId() {
+        java.lang.Object ref = externalId_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          externalId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string external_id = 12;</code>
+       */
+      public com.google.protobuf.ByteString
+          getExternalIdBytes() {
+        java.lang.Object ref = externalId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          externalId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string external_id = 12;</code>
+       */
+      public Builder setExternalId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000800;
+        externalId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string external_id = 12;</code>
+       */
+      public Builder clearExternalId() {
+        bitField0_ = (bitField0_ & ~0x00000800);
+        externalId_ = getDefaultInstance().getExternalId();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string external_id = 12;</code>
+       */
+      public Builder setExternalIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000800;
+        externalId_ = value;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:org.jbpm.process.audit.ProcessInstanceLog)
+    }
+
+    static {
+      defaultInstance = new ProcessInstanceLog(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:org.jbpm.process.audit.ProcessInstanceLog)
+  }
+
+  public interface NodeInstanceLogOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // optional int64 process_instance_id = 1;
+    /**
+     * <code>optional int64 process_instance_id = 1;</code>
+     */
+    boolean hasProcessInstanceId();
+    /**
+     * <code>optional int64 process_instance_id = 1;</code>
+     */
+    long getProcessInstanceId();
+
+    // optional string process_id = 2;
+    /**
+     * <code>optional string process_id = 2;</code>
+     */
+    boolean hasProcessId();
+    /**
+     * <code>optional string process_id = 2;</code>
+     */
+    java.lang.String getProcessId();
+    /**
+     * <code>optional string process_id = 2;</code>
+     */
+    com.google.protobuf.ByteString
+        getProcessIdBytes();
+
+    // optional int64 date = 3;
+    /**
+     * <code>optional int64 date = 3;</code>
+     */
+    boolean hasDate();
+    /**
+     * <code>optional int64 date = 3;</code>
+     */
+    long getDate();
+
+    // optional int32 type = 4;
+    /**
+     * <code>optional int32 type = 4;</code>
+     */
+    boolean hasType();
+    /**
+     * <code>optional int32 type = 4;</code>
+     */
+    int getType();
+
+    // optional string node_instance_id = 5;
+    /**
+     * <code>optional string node_instance_id = 5;</code>
+     */
+    boolean hasNodeInstanceId();
+    /**
+     * <code>optional string node_instance_id = 5;</code>
+     */
+    java.lang.String getNodeInstanceId();
+    /**
+     * <code>optional string node_instance_id = 5;</code>
+     */
+    com.google.protobuf.ByteString
+        getNodeInstanceIdBytes();
+
+    // optional string node_id = 6;
+    /**
+     * <code>optional string node_id = 6;</code>
+     */
+    boolean hasNodeId();
+    /**
+     * <code>optional string node_id = 6;</code>
+     */
+    java.lang.String getNodeId();
+    /**
+     * <code>optional string node_id = 6;</code>
+     */
+    com.google.protobuf.ByteString
+        getNodeIdBytes();
+
+    // optional string node_name = 7;
+    /**
+     * <code>optional string node_name = 7;</code>
+     */
+    boolean hasNodeName();
+    /**
+     * <code>optional string node_name = 7;</code>
+     */
+    java.lang.String getNodeName();
+    /**
+     * <code>optional string node_name = 7;</code>
+     */
+    com.google.protobuf.ByteString
+        getNodeNameBytes();
+
+    // optional string node_type = 8;
+    /**
+     * <code>optional string node_type = 8;</code>
+     */
+    boolean hasNodeType();
+    /**
+     * <code>optional string node_type = 8;</code>
+     */
+    java.lang.String getNodeType();
+    /**
+     * <code>optional string node_type = 8;</code>
+     */
+    com.google.protobuf.ByteString
+        getNodeTypeBytes();
+
+    // optional int64 work_item_id = 9;
+    /**
+     * <code>optional int64 work_item_id = 9;</code>
+     */
+    boolean hasWorkItemId();
+    /**
+     * <code>optional int64 work_item_id = 9;</code>
+     */
+    long getWorkItemId();
+
+    // optional string connection = 10;
+    /**
+     * <code>optional string connection = 10;</code>
+     */
+    boolean hasConnection();
+    /**
+     * <code>optional string connection = 10;</code>
+     */
+    java.lang.String getConnection();
+    /**
+     * <code>optional string connection = 10;</code>
+     */
+    com.google.protobuf.ByteString
+        getConnectionBytes();
+
+    // optional string external_id = 11;
+    /**
+     * <code>optional string external_id = 11;</code>
+     */
+    boolean hasExternalId();
+    /**
+     * <code>optional string external_id = 11;</code>
+     */
+    java.lang.String getExternalId();
+    /**
+     * <code>optional string external_id = 11;</code>
+     */
+    com.google.protobuf.ByteString
+        getExternalIdBytes();
+  }
+  /**
+   * Protobuf type {@code org.jbpm.process.audit.NodeInstanceLog}
+   */
+  public static final class NodeInstanceLog extends
+      com.google.protobuf.GeneratedMessage
+      implements NodeInstanceLogOrBuilder {
+    // Use NodeInstanceLog.newBuilder() to construct.
+    private NodeInstanceLog(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private NodeInstanceLog(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final NodeInstanceLog defaultInstance;
+    public static NodeInstanceLog getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public NodeInstanceLog getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private NodeInstanceLog(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              bitField0_ |= 0x00000001;
+              processInstanceId_ = input.readInt64();
+              break;
+            }
+            case 18: {
+              bitField0_ |= 0x00000002;
+              processId_ = input.readBytes();
+              break;
+            }
+            case 24: {
+              bitField0_ |= 0x00000004;
+              date_ = input.readInt64();
+              break;
+            }
+            case 32: {
+              bitField0_ |= 0x00000008;
+              type_ = input.readInt32();
+              break;
+            }
+            case 42: {
+              bitField0_ |= 0x00000010;
+              nodeInstanceId_ = input.readBytes();
+              break;
+            }
+            case 50: {
+              bitField0_ |= 0x00000020;
+              nodeId_ = input.readBytes();
+              break;
+            }
+            case 58: {
+              bitField0_ |= 0x00000040;
+              nodeName_ = input.readBytes();
+              break;
+            }
+            case 66: {
+              bitField0_ |= 0x00000080;
+              nodeType_ = input.readBytes();
+              break;
+            }
+            case 72: {
+              bitField0_ |= 0x00000100;
+              workItemId_ = input.readInt64();
+              break;
+            }
+            case 82: {
+              bitField0_ |= 0x00000200;
+              connection_ = input.readBytes();
+              break;
+            }
+            case 90: {
+              bitField0_ |= 0x00000400;
+              externalId_ = input.readBytes();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.jbpm.process.audit.AuditMessages.internal_static_org_jbpm_process_audit_NodeInstanceLog_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.jbpm.process.audit.AuditMessages.internal_static_org_jbpm_process_audit_NodeInstanceLog_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.jbpm.process.audit.AuditMessages.NodeInstanceLog.class, org.jbpm.process.audit.AuditMessages.NodeInstanceLog.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<NodeInstanceLog> PARSER =
+        new com.google.protobuf.AbstractParser<NodeInstanceLog>() {
+      public NodeInstanceLog parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new NodeInstanceLog(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<NodeInstanceLog> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    // optional int64 process_instance_id = 1;
+    public static final int PROCESS_INSTANCE_ID_FIELD_NUMBER = 1;
+    private long processInstanceId_;
+    /**
+     * <code>optional int64 process_instance_id = 1;</code>
+     */
+    public boolean hasProcessInstanceId() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional int64 process_instance_id = 1;</code>
+     */
+    public long getProcessInstanceId() {
+      return processInstanceId_;
+    }
+
+    // optional string process_id = 2;
+    public static final int PROCESS_ID_FIELD_NUMBER = 2;
+    private java.lang.Object processId_;
+    /**
+     * <code>optional string process_id = 2;</code>
+     */
+    public boolean hasProcessId() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional string process_id = 2;</code>
+     */
+    public java.lang.String getProcessId() {
+      java.lang.Object ref = processId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          processId_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string process_id = 2;</code>
+     */
+    public com.google.protobuf.ByteString
+        getProcessIdBytes() {
+      java.lang.Object ref = processId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        processId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // optional int64 date = 3;
+    public static final int DATE_FIELD_NUMBER = 3;
+    private long date_;
+    /**
+     * <code>optional int64 date = 3;</code>
+     */
+    public boolean hasDate() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>optional int64 date = 3;</code>
+     */
+    public long getDate() {
+      return date_;
+    }
+
+    // optional int32 type = 4;
+    public static final int TYPE_FIELD_NUMBER = 4;
+    private int type_;
+    /**
+     * <code>optional int32 type = 4;</code>
+     */
+    public boolean hasType() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    /**
+     * <code>optional int32 type = 4;</code>
+     */
+    public int getType() {
+      return type_;
+    }
+
+    // optional string node_instance_id = 5;
+    public static final int NODE_INSTANCE_ID_FIELD_NUMBER = 5;
+    private java.lang.Object nodeInstanceId_;
+    /**
+     * <code>optional string node_instance_id = 5;</code>
+     */
+    public boolean hasNodeInstanceId() {
+      return ((bitField0_ & 0x00000010) == 0x00000010);
+    }
+    /**
+     * <code>optional string node_instance_id = 5;</code>
+     */
+    public java.lang.String getNodeInstanceId() {
+      java.lang.Object ref = nodeInstanceId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          nodeInstanceId_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string node_instance_id = 5;</code>
+     */
+    public com.google.protobuf.ByteString
+        getNodeInstanceIdBytes() {
+      java.lang.Object ref = nodeInstanceId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        nodeInstanceId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // optional string node_id = 6;
+    public static final int NODE_ID_FIELD_NUMBER = 6;
+    private java.lang.Object nodeId_;
+    /**
+     * <code>optional string node_id = 6;</code>
+     */
+    public boolean hasNodeId() {
+      return ((bitField0_ & 0x00000020) == 0x00000020);
+    }
+    /**
+     * <code>optional string node_id = 6;</code>
+     */
+    public java.lang.String getNodeId() {
+      java.lang.Object ref = nodeId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          nodeId_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string node_id = 6;</code>
+     */
+    public com.google.protobuf.ByteString
+        getNodeIdBytes() {
+      java.lang.Object ref = nodeId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        nodeId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // optional string node_name = 7;
+    public static final int NODE_NAME_FIELD_NUMBER = 7;
+    private java.lang.Object nodeName_;
+    /**
+     * <code>optional string node_name = 7;</code>
+     */
+    public boolean hasNodeName() {
+      return ((bitField0_ & 0x00000040) == 0x00000040);
+    }
+    /**
+     * <code>optional string node_name = 7;</code>
+     */
+    public java.lang.String getNodeName() {
+      java.lang.Object ref = nodeName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          nodeName_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string node_name = 7;</code>
+     */
+    public com.google.protobuf.ByteString
+        getNodeNameBytes() {
+      java.lang.Object ref = nodeName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        nodeName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // optional string node_type = 8;
+    public static final int NODE_TYPE_FIELD_NUMBER = 8;
+    private java.lang.Object nodeType_;
+    /**
+     * <code>optional string node_type = 8;</code>
+     */
+    public boolean hasNodeType() {
+      return ((bitField0_ & 0x00000080) == 0x00000080);
+    }
+    /**
+     * <code>optional string node_type = 8;</code>
+     */
+    public java.lang.String getNodeType() {
+      java.lang.Object ref = nodeType_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          nodeType_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string node_type = 8;</code>
+     */
+    public com.google.protobuf.ByteString
+        getNodeTypeBytes() {
+      java.lang.Object ref = nodeType_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        nodeType_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // optional int64 work_item_id = 9;
+    public static final int WORK_ITEM_ID_FIELD_NUMBER = 9;
+    private long workItemId_;
+    /**
+     * <code>optional int64 work_item_id = 9;</code>
+     */
+    public boolean hasWorkItemId() {
+      return ((bitField0_ & 0x00000100) == 0x00000100);
+    }
+    /**
+     * <code>optional int64 work_item_id = 9;</code>
+     */
+    public long getWorkItemId() {
+      return workItemId_;
+    }
+
+    // optional string connection = 10;
+    public static final int CONNECTION_FIELD_NUMBER = 10;
+    private java.lang.Object connection_;
+    /**
+     * <code>optional string connection = 10;</code>
+     */
+    public boolean hasConnection() {
+      return ((bitField0_ & 0x00000200) == 0x00000200);
+    }
+    /**
+     * <code>optional string connection = 10;</code>
+     */
+    public java.lang.String getConnection() {
+      java.lang.Object ref = connection_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          connection_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string connection = 10;</code>
+     */
+    public com.google.protobuf.ByteString
+        getConnectionBytes() {
+      java.lang.Object ref = connection_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        connection_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // optional string external_id = 11;
+    public static final int EXTERNAL_ID_FIELD_NUMBER = 11;
+    private java.lang.Object externalId_;
+    /**
+     * <code>optional string external_id = 11;</code>
+     */
+    public boolean hasExternalId() {
+      return ((bitField0_ & 0x00000400) == 0x00000400);
+    }
+    /**
+     * <code>optional string external_id = 11;</code>
+     */
+    public java.lang.String getExternalId() {
+      java.lang.Object ref = externalId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          externalId_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string external_id = 11;</code>
+     */
+    public com.google.protobuf.ByteString
+        getExternalIdBytes() {
+      java.lang.Object ref = externalId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        externalId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private void initFields() {
+      processInstanceId_ = 0L;
+      processId_ = "";
+      date_ = 0L;
+      type_ = 0;
+      nodeInstanceId_ = "";
+      nodeId_ = "";
+      nodeName_ = "";
+      nodeType_ = "";
+      workItemId_ = 0L;
+      connection_ = "";
+      externalId_ = "";
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeInt64(1, processInstanceId_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBytes(2, getProcessIdBytes());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeInt64(3, date_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeInt32(4, type_);
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        output.writeBytes(5, getNodeInstanceIdBytes());
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        output.writeBytes(6, getNodeIdBytes());
+      }
+      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+        output.writeBytes(7, getNodeNameBytes());
+      }
+      if (((bitField0_ & 0x00000080) == 0x00000080)) {
+        output.writeBytes(8, getNodeTypeBytes());
+      }
+      if (((bitField0_ & 0x00000100) == 0x00000100)) {
+        output.writeInt64(9, workItemId_);
+      }
+      if (((bitField0_ & 0x00000200) == 0x00000200)) {
+        output.writeBytes(10, getConnectionBytes());
+      }
+      if (((bitField0_ & 0x00000400) == 0x00000400)) {
+        output.writeBytes(11, getExternalIdBytes());
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(1, processInstanceId_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, getProcessIdBytes());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(3, date_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(4, type_);
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(5, getNodeInstanceIdBytes());
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(6, getNodeIdBytes());
+      }
+      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(7, getNodeNameBytes());
+      }
+      if (((bitField0_ & 0x00000080) == 0x00000080)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(8, getNodeTypeBytes());
+      }
+      if (((bitField0_ & 0x00000100) == 0x00000100)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(9, workItemId_);
+      }
+      if (((bitField0_ & 0x00000200) == 0x00000200)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(10, getConnectionBytes());
+      }
+      if (((bitField0_ & 0x00000400) == 0x00000400)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(11, getExternalIdBytes());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static org.jbpm.process.audit.AuditMessages.NodeInstanceLog parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.jbpm.process.audit.AuditMessages.NodeInstanceLog parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.jbpm.process.audit.AuditMessages.NodeInstanceLog parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.jbpm.process.audit.AuditMessages.NodeInstanceLog parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.jbpm.process.audit.AuditMessages.NodeInstanceLog parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.jbpm.process.audit.AuditMessages.NodeInstanceLog parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static org.jbpm.process.audit.AuditMessages.NodeInstanceLog parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static org.jbpm.process.audit.AuditMessages.NodeInstanceLog parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static org.jbpm.process.audit.AuditMessages.NodeInstanceLog parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.jbpm.process.audit.AuditMessages.NodeInstanceLog parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(org.jbpm.process.audit.AuditMessages.NodeInstanceLog prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code org.jbpm.process.audit.NodeInstanceLog}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements org.jbpm.process.audit.AuditMessages.NodeInstanceLogOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.jbpm.process.audit.AuditMessages.internal_static_org_jbpm_process_audit_NodeInstanceLog_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.jbpm.process.audit.AuditMessages.internal_static_org_jbpm_process_audit_NodeInstanceLog_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.jbpm.process.audit.AuditMessages.NodeInstanceLog.class, org.jbpm.process.audit.AuditMessages.NodeInstanceLog.Builder.class);
+      }
+
+      // Construct using org.jbpm.process.audit.AuditMessages.NodeInstanceLog.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        processInstanceId_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        processId_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
+        date_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        type_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000008);
+        nodeInstanceId_ = "";
+        bitField0_ = (bitField0_ & ~0x00000010);
+        nodeId_ = "";
+        bitField0_ = (bitField0_ & ~0x00000020);
+        nodeName_ = "";
+        bitField0_ = (bitField0_ & ~0x00000040);
+        nodeType_ = "";
+        bitField0_ = (bitField0_ & ~0x00000080);
+        workItemId_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000100);
+        connection_ = "";
+        bitField0_ = (bitField0_ & ~0x00000200);
+        externalId_ = "";
+        bitField0_ = (bitField0_ & ~0x00000400);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.jbpm.process.audit.AuditMessages.internal_static_org_jbpm_process_audit_NodeInstanceLog_descriptor;
+      }
+
+      public org.jbpm.process.audit.AuditMessages.NodeInstanceLog getDefaultInstanceForType() {
+        return org.jbpm.process.audit.AuditMessages.NodeInstanceLog.getDefaultInstance();
+      }
+
+      public org.jbpm.process.audit.AuditMessages.NodeInstanceLog build() {
+        org.jbpm.process.audit.AuditMessages.NodeInstanceLog result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public org.jbpm.process.audit.AuditMessages.NodeInstanceLog buildPartial() {
+        org.jbpm.process.audit.AuditMessages.NodeInstanceLog result = new org.jbpm.process.audit.AuditMessages.NodeInstanceLog(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.processInstanceId_ = processInstanceId_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.processId_ = processId_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.date_ = date_;
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        result.type_ = type_;
+        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+          to_bitField0_ |= 0x00000010;
+        }
+        result.nodeInstanceId_ = nodeInstanceId_;
+        if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
+          to_bitField0_ |= 0x00000020;
+        }
+        result.nodeId_ = nodeId_;
+        if (((from_bitField0_ & 0x00000040) == 0x00000040)) {
+          to_bitField0_ |= 0x00000040;
+        }
+        result.nodeName_ = nodeName_;
+        if (((from_bitField0_ & 0x00000080) == 0x00000080)) {
+          to_bitField0_ |= 0x00000080;
+        }
+        result.nodeType_ = nodeType_;
+        if (((from_bitField0_ & 0x00000100) == 0x00000100)) {
+          to_bitField0_ |= 0x00000100;
+        }
+        result.workItemId_ = workItemId_;
+        if (((from_bitField0_ & 0x00000200) == 0x00000200)) {
+          to_bitField0_ |= 0x00000200;
+        }
+        result.connection_ = connection_;
+        if (((from_bitField0_ & 0x00000400) == 0x00000400)) {
+          to_bitField0_ |= 0x00000400;
+        }
+        result.externalId_ = externalId_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.jbpm.process.audit.AuditMessages.NodeInstanceLog) {
+          return mergeFrom((org.jbpm.process.audit.AuditMessages.NodeInstanceLog)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.jbpm.process.audit.AuditMessages.NodeInstanceLog other) {
+        if (other == org.jbpm.process.audit.AuditMessages.NodeInstanceLog.getDefaultInstance()) return this;
+        if (other.hasProcessInstanceId()) {
+          setProcessInstanceId(other.getProcessInstanceId());
+        }
+        if (other.hasProcessId()) {
+          bitField0_ |= 0x00000002;
+          processId_ = other.processId_;
+          onChanged();
+        }
+        if (other.hasDate()) {
+          setDate(other.getDate());
+        }
+        if (other.hasType()) {
+          setType(other.getType());
+        }
+        if (other.hasNodeInstanceId()) {
+          bitField0_ |= 0x00000010;
+          nodeInstanceId_ = other.nodeInstanceId_;
+          onChanged();
+        }
+        if (other.hasNodeId()) {
+          bitField0_ |= 0x00000020;
+          nodeId_ = other.nodeId_;
+          onChanged();
+        }
+        if (other.hasNodeName()) {
+          bitField0_ |= 0x00000040;
+          nodeName_ = other.nodeName_;
+          onChanged();
+        }
+        if (other.hasNodeType()) {
+          bitField0_ |= 0x00000080;
+          nodeType_ = other.nodeType_;
+          onChanged();
+        }
+        if (other.hasWorkItemId()) {
+          setWorkItemId(other.getWorkItemId());
+        }
+        if (other.hasConnection()) {
+          bitField0_ |= 0x00000200;
+          connection_ = other.connection_;
+          onChanged();
+        }
+        if (other.hasExternalId()) {
+          bitField0_ |= 0x00000400;
+          externalId_ = other.externalId_;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.jbpm.process.audit.AuditMessages.NodeInstanceLog parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.jbpm.process.audit.AuditMessages.NodeInstanceLog) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // optional int64 process_instance_id = 1;
+      private long processInstanceId_ ;
+      /**
+       * <code>optional int64 process_instance_id = 1;</code>
+       */
+      public boolean hasProcessInstanceId() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional int64 process_instance_id = 1;</code>
+       */
+      public long getProcessInstanceId() {
+        return processInstanceId_;
+      }
+      /**
+       * <code>optional int64 process_instance_id = 1;</code>
+       */
+      public Builder setProcessInstanceId(long value) {
+        bitField0_ |= 0x00000001;
+        processInstanceId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 process_instance_id = 1;</code>
+       */
+      public Builder clearProcessInstanceId() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        processInstanceId_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // optional string process_id = 2;
+      private java.lang.Object processId_ = "";
+      /**
+       * <code>optional string process_id = 2;</code>
+       */
+      public boolean hasProcessId() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional string process_id = 2;</code>
+       */
+      public java.lang.String getProcessId() {
+        java.lang.Object ref = processId_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          processId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string process_id = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getProcessIdBytes() {
+        java.lang.Object ref = processId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          processId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string process_id = 2;</code>
+       */
+      public Builder setProcessId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        processId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string process_id = 2;</code>
+       */
+      public Builder clearProcessId() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        processId_ = getDefaultInstance().getProcessId();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string process_id = 2;</code>
+       */
+      public Builder setProcessIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        processId_ = value;
+        onChanged();
+        return this;
+      }
+
+      // optional int64 date = 3;
+      private long date_ ;
+      /**
+       * <code>optional int64 date = 3;</code>
+       */
+      public boolean hasDate() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional int64 date = 3;</code>
+       */
+      public long getDate() {
+        return date_;
+      }
+      /**
+       * <code>optional int64 date = 3;</code>
+       */
+      public Builder setDate(long value) {
+        bitField0_ |= 0x00000004;
+        date_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 date = 3;</code>
+       */
+      public Builder clearDate() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        date_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // optional int32 type = 4;
+      private int type_ ;
+      /**
+       * <code>optional int32 type = 4;</code>
+       */
+      public boolean hasType() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>optional int32 type = 4;</code>
+       */
+      public int getType() {
+        return type_;
+      }
+      /**
+       * <code>optional int32 type = 4;</code>
+       */
+      public Builder setType(int value) {
+        bitField0_ |= 0x00000008;
+        type_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 type = 4;</code>
+       */
+      public Builder clearType() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        type_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // optional string node_instance_id = 5;
+      private java.lang.Object nodeInstanceId_ = "";
+      /**
+       * <code>optional string node_instance_id = 5;</code>
+       */
+      public boolean hasNodeInstanceId() {
+        return ((bitField0_ & 0x00000010) == 0x00000010);
+      }
+      /**
+       * <code>optional string node_instance_id = 5;</code>
+       */
+      public java.lang.String getNodeInstanceId() {
+        java.lang.Object ref = nodeInstanceId_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          nodeInstanceId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string node_instance_id = 5;</code>
+       */
+      public com.google.protobuf.ByteString
+          getNodeInstanceIdBytes() {
+        java.lang.Object ref = nodeInstanceId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          nodeInstanceId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string node_instance_id = 5;</code>
+       */
+      public Builder setNodeInstanceId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000010;
+        nodeInstanceId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string node_instance_id = 5;</code>
+       */
+      public Builder clearNodeInstanceId() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        nodeInstanceId_ = getDefaultInstance().getNodeInstanceId();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string node_instance_id = 5;</code>
+       */
+      public Builder setNodeInstanceIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000010;
+        nodeInstanceId_ = value;
+        onChanged();
+        return this;
+      }
+
+      // optional string node_id = 6;
+      private java.lang.Object nodeId_ = "";
+      /**
+       * <code>optional string node_id = 6;</code>
+       */
+      public boolean hasNodeId() {
+        return ((bitField0_ & 0x00000020) == 0x00000020);
+      }
+      /**
+       * <code>optional string node_id = 6;</code>
+       */
+      public java.lang.String getNodeId() {
+        java.lang.Object ref = nodeId_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          nodeId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string node_id = 6;</code>
+       */
+      public com.google.protobuf.ByteString
+          getNodeIdBytes() {
+        java.lang.Object ref = nodeId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          nodeId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string node_id = 6;</code>
+       */
+      public Builder setNodeId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000020;
+        nodeId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string node_id = 6;</code>
+       */
+      public Builder clearNodeId() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        nodeId_ = getDefaultInstance().getNodeId();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string node_id = 6;</code>
+       */
+      public Builder setNodeIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000020;
+        nodeId_ = value;
+        onChanged();
+        return this;
+      }
+
+      // optional string node_name = 7;
+      private java.lang.Object nodeName_ = "";
+      /**
+       * <code>optional string node_name = 7;</code>
+       */
+      public boolean hasNodeName() {
+        return ((bitField0_ & 0x00000040) == 0x00000040);
+      }
+      /**
+       * <code>optional string node_name = 7;</code>
+       */
+      public java.lang.String getNodeName() {
+        java.lang.Object ref = nodeName_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          nodeName_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string node_name = 7;</code>
+       */
+      public com.google.protobuf.ByteString
+          getNodeNameBytes() {
+        java.lang.Object ref = nodeName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          nodeName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string node_name = 7;</code>
+       */
+      public Builder setNodeName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000040;
+        nodeName_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string node_name = 7;</code>
+       */
+      public Builder clearNodeName() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        nodeName_ = getDefaultInstance().getNodeName();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string node_name = 7;</code>
+       */
+      public Builder setNodeNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000040;
+        nodeName_ = value;
+        onChanged();
+        return this;
+      }
+
+      // optional string node_type = 8;
+      private java.lang.Object nodeType_ = "";
+      /**
+       * <code>optional string node_type = 8;</code>
+       */
+      public boolean hasNodeType() {
+        return ((bitField0_ & 0x00000080) == 0x00000080);
+      }
+      /**
+       * <code>optional string node_type = 8;</code>
+       */
+      public java.lang.String getNodeType() {
+        java.lang.Object ref = nodeType_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          nodeType_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string node_type = 8;</code>
+       */
+      public com.google.protobuf.ByteString
+          getNodeTypeBytes() {
+        java.lang.Object ref = nodeType_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          nodeType_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string node_type = 8;</code>
+       */
+      public Builder setNodeType(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000080;
+        nodeType_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string node_type = 8;</code>
+       */
+      public Builder clearNodeType() {
+        bitField0_ = (bitField0_ & ~0x00000080);
+        nodeType_ = getDefaultInstance().getNodeType();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string node_type = 8;</code>
+       */
+      public Builder setNodeTypeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000080;
+        nodeType_ = value;
+        onChanged();
+        return this;
+      }
+
+      // optional int64 work_item_id = 9;
+      private long workItemId_ ;
+      /**
+       * <code>optional int64 work_item_id = 9;</code>
+       */
+      public boolean hasWorkItemId() {
+        return ((bitField0_ & 0x00000100) == 0x00000100);
+      }
+      /**
+       * <code>optional int64 work_item_id = 9;</code>
+       */
+      public long getWorkItemId() {
+        return workItemId_;
+      }
+      /**
+       * <code>optional int64 work_item_id = 9;</code>
+       */
+      public Builder setWorkItemId(long value) {
+        bitField0_ |= 0x00000100;
+        workItemId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 work_item_id = 9;</code>
+       */
+      public Builder clearWorkItemId() {
+        bitField0_ = (bitField0_ & ~0x00000100);
+        workItemId_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // optional string connection = 10;
+      private java.lang.Object connection_ = "";
+      /**
+       * <code>optional string connection = 10;</code>
+       */
+      public boolean hasConnection() {
+        return ((bitField0_ & 0x00000200) == 0x00000200);
+      }
+      /**
+       * <code>optional string connection = 10;</code>
+       */
+      public java.lang.String getConnection() {
+        java.lang.Object ref = connection_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          connection_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string connection = 10;</code>
+       */
+      public com.google.protobuf.ByteString
+          getConnectionBytes() {
+        java.lang.Object ref = connection_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          connection_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string connection = 10;</code>
+       */
+      public Builder setConnection(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000200;
+        connection_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string connection = 10;</code>
+       */
+      public Builder clearConnection() {
+        bitField0_ = (bitField0_ & ~0x00000200);
+        connection_ = getDefaultInstance().getConnection();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string connection = 10;</code>
+       */
+      public Builder setConnectionBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000200;
+        connection_ = value;
+        onChanged();
+        return this;
+      }
+
+      // optional string external_id = 11;
+      private java.lang.Object externalId_ = "";
+      /**
+       * <code>optional string external_id = 11;</code>
+       */
+      public boolean hasExternalId() {
+        return ((bitField0_ & 0x00000400) == 0x00000400);
+      }
+      /**
+       * <code>optional string external_id = 11;</code>
+       */
+      public java.lang.String getExternalId() {
+        java.lang.Object ref = externalId_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          externalId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string external_id = 11;</code>
+       */
+      public com.google.protobuf.ByteString
+          getExternalIdBytes() {
+        java.lang.Object ref = externalId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          externalId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string external_id = 11;</code>
+       */
+      public Builder setExternalId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000400;
+        externalId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string external_id = 11;</code>
+       */
+      public Builder clearExternalId() {
+        bitField0_ = (bitField0_ & ~0x00000400);
+        externalId_ = getDefaultInstance().getExternalId();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string external_id = 11;</code>
+       */
+      public Builder setExternalIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000400;
+        externalId_ = value;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:org.jbpm.process.audit.NodeInstanceLog)
+    }
+
+    static {
+      defaultInstance = new NodeInstanceLog(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:org.jbpm.process.audit.NodeInstanceLog)
+  }
+
+  public interface VariableInstanceLogOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // optional int64 process_instance_id = 1;
+    /**
+     * <code>optional int64 process_instance_id = 1;</code>
+     */
+    boolean hasProcessInstanceId();
+    /**
+     * <code>optional int64 process_instance_id = 1;</code>
+     */
+    long getProcessInstanceId();
+
+    // optional string process_id = 2;
+    /**
+     * <code>optional string process_id = 2;</code>
+     */
+    boolean hasProcessId();
+    /**
+     * <code>optional string process_id = 2;</code>
+     */
+    java.lang.String getProcessId();
+    /**
+     * <code>optional string process_id = 2;</code>
+     */
+    com.google.protobuf.ByteString
+        getProcessIdBytes();
+
+    // optional int64 date = 3;
+    /**
+     * <code>optional int64 date = 3;</code>
+     */
+    boolean hasDate();
+    /**
+     * <code>optional int64 date = 3;</code>
+     */
+    long getDate();
+
+    // optional string variable_instance_id = 4;
+    /**
+     * <code>optional string variable_instance_id = 4;</code>
+     */
+    boolean hasVariableInstanceId();
+    /**
+     * <code>optional string variable_instance_id = 4;</code>
+     */
+    java.lang.String getVariableInstanceId();
+    /**
+     * <code>optional string variable_instance_id = 4;</code>
+     */
+    com.google.protobuf.ByteString
+        getVariableInstanceIdBytes();
+
+    // optional string variable_id = 5;
+    /**
+     * <code>optional string variable_id = 5;</code>
+     */
+    boolean hasVariableId();
+    /**
+     * <code>optional string variable_id = 5;</code>
+     */
+    java.lang.String getVariableId();
+    /**
+     * <code>optional string variable_id = 5;</code>
+     */
+    com.google.protobuf.ByteString
+        getVariableIdBytes();
+
+    // optional string value = 6;
+    /**
+     * <code>optional string value = 6;</code>
+     */
+    boolean hasValue();
+    /**
+     * <code>optional string value = 6;</code>
+     */
+    java.lang.String getValue();
+    /**
+     * <code>optional string value = 6;</code>
+     */
+    com.google.protobuf.ByteString
+        getValueBytes();
+
+    // optional string old_value = 7;
+    /**
+     * <code>optional string old_value = 7;</code>
+     */
+    boolean hasOldValue();
+    /**
+     * <code>optional string old_value = 7;</code>
+     */
+    java.lang.String getOldValue();
+    /**
+     * <code>optional string old_value = 7;</code>
+     */
+    com.google.protobuf.ByteString
+        getOldValueBytes();
+
+    // optional string external_id = 8;
+    /**
+     * <code>optional string external_id = 8;</code>
+     */
+    boolean hasExternalId();
+    /**
+     * <code>optional string external_id = 8;</code>
+     */
+    java.lang.String getExternalId();
+    /**
+     * <code>optional string external_id = 8;</code>
+     */
+    com.google.protobuf.ByteString
+        getExternalIdBytes();
+  }
+  /**
+   * Protobuf type {@code org.jbpm.process.audit.VariableInstanceLog}
+   */
+  public static final class VariableInstanceLog extends
+      com.google.protobuf.GeneratedMessage
+      implements VariableInstanceLogOrBuilder {
+    // Use VariableInstanceLog.newBuilder() to construct.
+    private VariableInstanceLog(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private VariableInstanceLog(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final VariableInstanceLog defaultInstance;
+    public static VariableInstanceLog getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public VariableInstanceLog getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private VariableInstanceLog(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              bitField0_ |= 0x00000001;
+              processInstanceId_ = input.readInt64();
+              break;
+            }
+            case 18: {
+              bitField0_ |= 0x00000002;
+              processId_ = input.readBytes();
+              break;
+            }
+            case 24: {
+              bitField0_ |= 0x00000004;
+              date_ = input.readInt64();
+              break;
+            }
+            case 34: {
+              bitField0_ |= 0x00000008;
+              variableInstanceId_ = input.readBytes();
+              break;
+            }
+            case 42: {
+              bitField0_ |= 0x00000010;
+              variableId_ = input.readBytes();
+              break;
+            }
+            case 50: {
+              bitField0_ |= 0x00000020;
+              value_ = input.readBytes();
+              break;
+            }
+            case 58: {
+              bitField0_ |= 0x00000040;
+              oldValue_ = input.readBytes();
+              break;
+            }
+            case 66: {
+              bitField0_ |= 0x00000080;
+              externalId_ = input.readBytes();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.jbpm.process.audit.AuditMessages.internal_static_org_jbpm_process_audit_VariableInstanceLog_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.jbpm.process.audit.AuditMessages.internal_static_org_jbpm_process_audit_VariableInstanceLog_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.jbpm.process.audit.AuditMessages.VariableInstanceLog.class, org.jbpm.process.audit.AuditMessages.VariableInstanceLog.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<VariableInstanceLog> PARSER =
+        new com.google.protobuf.AbstractParser<VariableInstanceLog>() {
+      public VariableInstanceLog parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new VariableInstanceLog(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<VariableInstanceLog> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    // optional int64 process_instance_id = 1;
+    public static final int PROCESS_INSTANCE_ID_FIELD_NUMBER = 1;
+    private long processInstanceId_;
+    /**
+     * <code>optional int64 process_instance_id = 1;</code>
+     */
+    public boolean hasProcessInstanceId() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional int64 process_instance_id = 1;</code>
+     */
+    public long getProcessInstanceId() {
+      return processInstanceId_;
+    }
+
+    // optional string process_id = 2;
+    public static final int PROCESS_ID_FIELD_NUMBER = 2;
+    private java.lang.Object processId_;
+    /**
+     * <code>optional string process_id = 2;</code>
+     */
+    public boolean hasProcessId() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional string process_id = 2;</code>
+     */
+    public java.lang.String getProcessId() {
+      java.lang.Object ref = processId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          processId_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string process_id = 2;</code>
+     */
+    public com.google.protobuf.ByteString
+        getProcessIdBytes() {
+      java.lang.Object ref = processId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        processId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // optional int64 date = 3;
+    public static final int DATE_FIELD_NUMBER = 3;
+    private long date_;
+    /**
+     * <code>optional int64 date = 3;</code>
+     */
+    public boolean hasDate() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>optional int64 date = 3;</code>
+     */
+    public long getDate() {
+      return date_;
+    }
+
+    // optional string variable_instance_id = 4;
+    public static final int VARIABLE_INSTANCE_ID_FIELD_NUMBER = 4;
+    private java.lang.Object variableInstanceId_;
+    /**
+     * <code>optional string variable_instance_id = 4;</code>
+     */
+    public boolean hasVariableInstanceId() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    /**
+     * <code>optional string variable_instance_id = 4;</code>
+     */
+    public java.lang.String getVariableInstanceId() {
+      java.lang.Object ref = variableInstanceId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          variableInstanceId_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string variable_instance_id = 4;</code>
+     */
+    public com.google.protobuf.ByteString
+        getVariableInstanceIdBytes() {
+      java.lang.Object ref = variableInstanceId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        variableInstanceId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // optional string variable_id = 5;
+    public static final int VARIABLE_ID_FIELD_NUMBER = 5;
+    private java.lang.Object variableId_;
+    /**
+     * <code>optional string variable_id = 5;</code>
+     */
+    public boolean hasVariableId() {
+      return ((bitField0_ & 0x00000010) == 0x00000010);
+    }
+    /**
+     * <code>optional string variable_id = 5;</code>
+     */
+    public java.lang.String getVariableId() {
+      java.lang.Object ref = variableId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          variableId_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string variable_id = 5;</code>
+     */
+    public com.google.protobuf.ByteString
+        getVariableIdBytes() {
+      java.lang.Object ref = variableId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        variableId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // optional string value = 6;
+    public static final int VALUE_FIELD_NUMBER = 6;
+    private java.lang.Object value_;
+    /**
+     * <code>optional string value = 6;</code>
+     */
+    public boolean hasValue() {
+      return ((bitField0_ & 0x00000020) == 0x00000020);
+    }
+    /**
+     * <code>optional string value = 6;</code>
+     */
+    public java.lang.String getValue() {
+      java.lang.Object ref = value_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          value_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string value = 6;</code>
+     */
+    public com.google.protobuf.ByteString
+        getValueBytes() {
+      java.lang.Object ref = value_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        value_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // optional string old_value = 7;
+    public static final int OLD_VALUE_FIELD_NUMBER = 7;
+    private java.lang.Object oldValue_;
+    /**
+     * <code>optional string old_value = 7;</code>
+     */
+    public boolean hasOldValue() {
+      return ((bitField0_ & 0x00000040) == 0x00000040);
+    }
+    /**
+     * <code>optional string old_value = 7;</code>
+     */
+    public java.lang.String getOldValue() {
+      java.lang.Object ref = oldValue_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          oldValue_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string old_value = 7;</code>
+     */
+    public com.google.protobuf.ByteString
+        getOldValueBytes() {
+      java.lang.Object ref = oldValue_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        oldValue_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // optional string external_id = 8;
+    public static final int EXTERNAL_ID_FIELD_NUMBER = 8;
+    private java.lang.Object externalId_;
+    /**
+     * <code>optional string external_id = 8;</code>
+     */
+    public boolean hasExternalId() {
+      return ((bitField0_ & 0x00000080) == 0x00000080);
+    }
+    /**
+     * <code>optional string external_id = 8;</code>
+     */
+    public java.lang.String getExternalId() {
+      java.lang.Object ref = externalId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          externalId_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string external_id = 8;</code>
+     */
+    public com.google.protobuf.ByteString
+        getExternalIdBytes() {
+      java.lang.Object ref = externalId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        externalId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private void initFields() {
+      processInstanceId_ = 0L;
+      processId_ = "";
+      date_ = 0L;
+      variableInstanceId_ = "";
+      variableId_ = "";
+      value_ = "";
+      oldValue_ = "";
+      externalId_ = "";
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeInt64(1, processInstanceId_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBytes(2, getProcessIdBytes());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeInt64(3, date_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeBytes(4, getVariableInstanceIdBytes());
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        output.writeBytes(5, getVariableIdBytes());
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        output.writeBytes(6, getValueBytes());
+      }
+      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+        output.writeBytes(7, getOldValueBytes());
+      }
+      if (((bitField0_ & 0x00000080) == 0x00000080)) {
+        output.writeBytes(8, getExternalIdBytes());
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(1, processInstanceId_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, getProcessIdBytes());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(3, date_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(4, getVariableInstanceIdBytes());
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(5, getVariableIdBytes());
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(6, getValueBytes());
+      }
+      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(7, getOldValueBytes());
+      }
+      if (((bitField0_ & 0x00000080) == 0x00000080)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(8, getExternalIdBytes());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static org.jbpm.process.audit.AuditMessages.VariableInstanceLog parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.jbpm.process.audit.AuditMessages.VariableInstanceLog parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.jbpm.process.audit.AuditMessages.VariableInstanceLog parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.jbpm.process.audit.AuditMessages.VariableInstanceLog parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.jbpm.process.audit.AuditMessages.VariableInstanceLog parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.jbpm.process.audit.AuditMessages.VariableInstanceLog parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static org.jbpm.process.audit.AuditMessages.VariableInstanceLog parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static org.jbpm.process.audit.AuditMessages.VariableInstanceLog parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static org.jbpm.process.audit.AuditMessages.VariableInstanceLog parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.jbpm.process.audit.AuditMessages.VariableInstanceLog parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(org.jbpm.process.audit.AuditMessages.VariableInstanceLog prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code org.jbpm.process.audit.VariableInstanceLog}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements org.jbpm.process.audit.AuditMessages.VariableInstanceLogOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.jbpm.process.audit.AuditMessages.internal_static_org_jbpm_process_audit_VariableInstanceLog_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.jbpm.process.audit.AuditMessages.internal_static_org_jbpm_process_audit_VariableInstanceLog_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.jbpm.process.audit.AuditMessages.VariableInstanceLog.class, org.jbpm.process.audit.AuditMessages.VariableInstanceLog.Builder.class);
+      }
+
+      // Construct using org.jbpm.process.audit.AuditMessages.VariableInstanceLog.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        processInstanceId_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        processId_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
+        date_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        variableInstanceId_ = "";
+        bitField0_ = (bitField0_ & ~0x00000008);
+        variableId_ = "";
+        bitField0_ = (bitField0_ & ~0x00000010);
+        value_ = "";
+        bitField0_ = (bitField0_ & ~0x00000020);
+        oldValue_ = "";
+        bitField0_ = (bitField0_ & ~0x00000040);
+        externalId_ = "";
+        bitField0_ = (bitField0_ & ~0x00000080);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.jbpm.process.audit.AuditMessages.internal_static_org_jbpm_process_audit_VariableInstanceLog_descriptor;
+      }
+
+      public org.jbpm.process.audit.AuditMessages.VariableInstanceLog getDefaultInstanceForType() {
+        return org.jbpm.process.audit.AuditMessages.VariableInstanceLog.getDefaultInstance();
+      }
+
+      public org.jbpm.process.audit.AuditMessages.VariableInstanceLog build() {
+        org.jbpm.process.audit.AuditMessages.VariableInstanceLog result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public org.jbpm.process.audit.AuditMessages.VariableInstanceLog buildPartial() {
+        org.jbpm.process.audit.AuditMessages.VariableInstanceLog result = new org.jbpm.process.audit.AuditMessages.VariableInstanceLog(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.processInstanceId_ = processInstanceId_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.processId_ = processId_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.date_ = date_;
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        result.variableInstanceId_ = variableInstanceId_;
+        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+          to_bitField0_ |= 0x00000010;
+        }
+        result.variableId_ = variableId_;
+        if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
+          to_bitField0_ |= 0x00000020;
+        }
+        result.value_ = value_;
+        if (((from_bitField0_ & 0x00000040) == 0x00000040)) {
+          to_bitField0_ |= 0x00000040;
+        }
+        result.oldValue_ = oldValue_;
+        if (((from_bitField0_ & 0x00000080) == 0x00000080)) {
+          to_bitField0_ |= 0x00000080;
+        }
+        result.externalId_ = externalId_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.jbpm.process.audit.AuditMessages.VariableInstanceLog) {
+          return mergeFrom((org.jbpm.process.audit.AuditMessages.VariableInstanceLog)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.jbpm.process.audit.AuditMessages.VariableInstanceLog other) {
+        if (other == org.jbpm.process.audit.AuditMessages.VariableInstanceLog.getDefaultInstance()) return this;
+        if (other.hasProcessInstanceId()) {
+          setProcessInstanceId(other.getProcessInstanceId());
+        }
+        if (other.hasProcessId()) {
+          bitField0_ |= 0x00000002;
+          processId_ = other.processId_;
+          onChanged();
+        }
+        if (other.hasDate()) {
+          setDate(other.getDate());
+        }
+        if (other.hasVariableInstanceId()) {
+          bitField0_ |= 0x00000008;
+          variableInstanceId_ = other.variableInstanceId_;
+          onChanged();
+        }
+        if (other.hasVariableId()) {
+          bitField0_ |= 0x00000010;
+          variableId_ = other.variableId_;
+          onChanged();
+        }
+        if (other.hasValue()) {
+          bitField0_ |= 0x00000020;
+          value_ = other.value_;
+          onChanged();
+        }
+        if (other.hasOldValue()) {
+          bitField0_ |= 0x00000040;
+          oldValue_ = other.oldValue_;
+          onChanged();
+        }
+        if (other.hasExternalId()) {
+          bitField0_ |= 0x00000080;
+          externalId_ = other.externalId_;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.jbpm.process.audit.AuditMessages.VariableInstanceLog parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.jbpm.process.audit.AuditMessages.VariableInstanceLog) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // optional int64 process_instance_id = 1;
+      private long processInstanceId_ ;
+      /**
+       * <code>optional int64 process_instance_id = 1;</code>
+       */
+      public boolean hasProcessInstanceId() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional int64 process_instance_id = 1;</code>
+       */
+      public long getProcessInstanceId() {
+        return processInstanceId_;
+      }
+      /**
+       * <code>optional int64 process_instance_id = 1;</code>
+       */
+      public Builder setProcessInstanceId(long value) {
+        bitField0_ |= 0x00000001;
+        processInstanceId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 process_instance_id = 1;</code>
+       */
+      public Builder clearProcessInstanceId() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        processInstanceId_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // optional string process_id = 2;
+      private java.lang.Object processId_ = "";
+      /**
+       * <code>optional string process_id = 2;</code>
+       */
+      public boolean hasProcessId() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional string process_id = 2;</code>
+       */
+      public java.lang.String getProcessId() {
+        java.lang.Object ref = processId_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          processId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string process_id = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getProcessIdBytes() {
+        java.lang.Object ref = processId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          processId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string process_id = 2;</code>
+       */
+      public Builder setProcessId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        processId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string process_id = 2;</code>
+       */
+      public Builder clearProcessId() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        processId_ = getDefaultInstance().getProcessId();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string process_id = 2;</code>
+       */
+      public Builder setProcessIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        processId_ = value;
+        onChanged();
+        return this;
+      }
+
+      // optional int64 date = 3;
+      private long date_ ;
+      /**
+       * <code>optional int64 date = 3;</code>
+       */
+      public boolean hasDate() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional int64 date = 3;</code>
+       */
+      public long getDate() {
+        return date_;
+      }
+      /**
+       * <code>optional int64 date = 3;</code>
+       */
+      public Builder setDate(long value) {
+        bitField0_ |= 0x00000004;
+        date_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 date = 3;</code>
+       */
+      public Builder clearDate() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        date_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // optional string variable_instance_id = 4;
+      private java.lang.Object variableInstanceId_ = "";
+      /**
+       * <code>optional string variable_instance_id = 4;</code>
+       */
+      public boolean hasVariableInstanceId() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>optional string variable_instance_id = 4;</code>
+       */
+      public java.lang.String getVariableInstanceId() {
+        java.lang.Object ref = variableInstanceId_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          variableInstanceId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string variable_instance_id = 4;</code>
+       */
+      public com.google.protobuf.ByteString
+          getVariableInstanceIdBytes() {
+        java.lang.Object ref = variableInstanceId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          variableInstanceId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string variable_instance_id = 4;</code>
+       */
+      public Builder setVariableInstanceId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000008;
+        variableInstanceId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string variable_instance_id = 4;</code>
+       */
+      public Builder clearVariableInstanceId() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        variableInstanceId_ = getDefaultInstance().getVariableInstanceId();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string variable_instance_id = 4;</code>
+       */
+      public Builder setVariableInstanceIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000008;
+        variableInstanceId_ = value;
+        onChanged();
+        return this;
+      }
+
+      // optional string variable_id = 5;
+      private java.lang.Object variableId_ = "";
+      /**
+       * <code>optional string variable_id = 5;</code>
+       */
+      public boolean hasVariableId() {
+        return ((bitField0_ & 0x00000010) == 0x00000010);
+      }
+      /**
+       * <code>optional string variable_id = 5;</code>
+       */
+      public java.lang.String getVariableId() {
+        java.lang.Object ref = variableId_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          variableId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string variable_id = 5;</code>
+       */
+      public com.google.protobuf.ByteString
+          getVariableIdBytes() {
+        java.lang.Object ref = variableId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          variableId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string variable_id = 5;</code>
+       */
+      public Builder setVariableId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000010;
+        variableId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string variable_id = 5;</code>
+       */
+      public Builder clearVariableId() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        variableId_ = getDefaultInstance().getVariableId();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string variable_id = 5;</code>
+       */
+      public Builder setVariableIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000010;
+        variableId_ = value;
+        onChanged();
+        return this;
+      }
+
+      // optional string value = 6;
+      private java.lang.Object value_ = "";
+      /**
+       * <code>optional string value = 6;</code>
+       */
+      public boolean hasValue() {
+        return ((bitField0_ & 0x00000020) == 0x00000020);
+      }
+      /**
+       * <code>optional string value = 6;</code>
+       */
+      public java.lang.String getValue() {
+        java.lang.Object ref = value_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          value_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string value = 6;</code>
+       */
+      public com.google.protobuf.ByteString
+          getValueBytes() {
+        java.lang.Object ref = value_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          value_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string value = 6;</code>
+       */
+      public Builder setValue(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000020;
+        value_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string value = 6;</code>
+       */
+      public Builder clearValue() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        value_ = getDefaultInstance().getValue();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string value = 6;</code>
+       */
+      public Builder setValueBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000020;
+        value_ = value;
+        onChanged();
+        return this;
+      }
+
+      // optional string old_value = 7;
+      private java.lang.Object oldValue_ = "";
+      /**
+       * <code>optional string old_value = 7;</code>
+       */
+      public boolean hasOldValue() {
+        return ((bitField0_ & 0x00000040) == 0x00000040);
+      }
+      /**
+       * <code>optional string old_value = 7;</code>
+       */
+      public java.lang.String getOldValue() {
+        java.lang.Object ref = oldValue_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          oldValue_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string old_value = 7;</code>
+       */
+      public com.google.protobuf.ByteString
+          getOldValueBytes() {
+        java.lang.Object ref = oldValue_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          oldValue_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string old_value = 7;</code>
+       */
+      public Builder setOldValue(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000040;
+        oldValue_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string old_value = 7;</code>
+       */
+      public Builder clearOldValue() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        oldValue_ = getDefaultInstance().getOldValue();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string old_value = 7;</code>
+       */
+      public Builder setOldValueBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000040;
+        oldValue_ = value;
+        onChanged();
+        return this;
+      }
+
+      // optional string external_id = 8;
+      private java.lang.Object externalId_ = "";
+      /**
+       * <code>optional string external_id = 8;</code>
+       */
+      public boolean hasExternalId() {
+        return ((bitField0_ & 0x00000080) == 0x00000080);
+      }
+      /**
+       * <code>optional string external_id = 8;</code>
+       */
+      public java.lang.String getExternalId() {
+        java.lang.Object ref = externalId_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          externalId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string external_id = 8;</code>
+       */
+      public com.google.protobuf.ByteString
+          getExternalIdBytes() {
+        java.lang.Object ref = externalId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          externalId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string external_id = 8;</code>
+       */
+      public Builder setExternalId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000080;
+        externalId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string external_id = 8;</code>
+       */
+      public Builder clearExternalId() {
+        bitField0_ = (bitField0_ & ~0x00000080);
+        externalId_ = getDefaultInstance().getExternalId();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string external_id = 8;</code>
+       */
+      public Builder setExternalIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000080;
+        externalId_ = value;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:org.jbpm.process.audit.VariableInstanceLog)
+    }
+
+    static {
+      defaultInstance = new VariableInstanceLog(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:org.jbpm.process.audit.VariableInstanceLog)
+  }
+
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_jbpm_process_audit_AuditEventBatch_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_org_jbpm_process_audit_AuditEventBatch_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_jbpm_process_audit_AuditEvent_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_org_jbpm_process_audit_AuditEvent_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_jbpm_process_audit_ProcessInstanceLog_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_org_jbpm_process_audit_ProcessInstanceLog_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_jbpm_process_audit_NodeInstanceLog_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_org_jbpm_process_audit_NodeInstanceLog_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_jbpm_process_audit_VariableInstanceLog_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_org_jbpm_process_audit_VariableInstanceLog_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n(org/jbpm/process/audit/auditevents.pro" +
+      "to\022\026org.jbpm.process.audit\"U\n\017AuditEvent" +
+      "Batch\022\017\n\007version\030\001 \001(\005\0221\n\005event\030\002 \003(\0132\"." +
+      "org.jbpm.process.audit.AuditEvent\"\372\001\n\nAu" +
+      "ditEvent\022\022\n\nevent_type\030\001 \001(\005\022H\n\024process_" +
+      "instance_log\030\002 \001(\0132*.org.jbpm.process.au" +
+      "dit.ProcessInstanceLog\022B\n\021node_instance_" +
+      "log\030\003 \001(\0132\'.org.jbpm.process.audit.NodeI" +
+      "nstanceLog\022J\n\025variable_instance_log\030\004 \001(" +
+      "\0132+.org.jbpm.process.audit.VariableInsta",
+      "nceLog\"\216\002\n\022ProcessInstanceLog\022\033\n\023process" +
+      "_instance_id\030\001 \001(\003\022\022\n\nprocess_id\030\002 \001(\t\022\r" +
+      "\n\005start\030\003 \001(\003\022\013\n\003end\030\004 \001(\003\022\016\n\006status\030\005 \001" +
+      "(\005\022\"\n\032parent_process_instance_id\030\006 \001(\003\022\017" +
+      "\n\007outcome\030\007 \001(\t\022\020\n\010duration\030\010 \001(\003\022\020\n\010ide" +
+      "ntity\030\t \001(\t\022\027\n\017process_version\030\n \001(\t\022\024\n\014" +
+      "process_name\030\013 \001(\t\022\023\n\013external_id\030\014 \001(\t\"" +
+      "\356\001\n\017NodeInstanceLog\022\033\n\023process_instance_" +
+      "id\030\001 \001(\003\022\022\n\nprocess_id\030\002 \001(\t\022\014\n\004date\030\003 \001" +
+      "(\003\022\014\n\004type\030\004 \001(\005\022\030\n\020node_instance_id\030\005 \001",
+      "(\t\022\017\n\007node_id\030\006 \001(\t\022\021\n\tnode_name\030\007 \001(\t\022\021" +
+      "\n\tnode_type\030\010 \001(\t\022\024\n\014work_item_id\030\t \001(\003\022" +
+      "\022\n\nconnection\030\n \001(\t\022\023\n\013external_id\030\013 \001(\t" +
+      "\"\276\001\n\023VariableInstanceLog\022\033\n\023process_inst" +
+      "ance_id\030\001 \001(\003\022\022\n\nprocess_id\030\002 \001(\t\022\014\n\004dat" +
+      "e\030\003 \001(\003\022\034\n\024variable_instance_id\030\004 \001(\t\022\023\n" +
+      "\013variable_id\030\005 \001(\t\022\r\n\005value\030\006 \001(\t\022\021\n\told" +
+      "_value\030\007 \001(\t\022\023\n\013external_id\030\010 \001(\tB\'\n\026org" +
+      ".jbpm.process.auditB\rAuditMessages"
+    };
+    com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
+      new com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner() {
+        public com.google.protobuf.ExtensionRegistry assignDescriptors(
+            com.google.protobuf.Descriptors.FileDescriptor root) {
+          descriptor = root;
+          internal_static_org_jbpm_process_audit_AuditEventBatch_descriptor =
+            getDescriptor().getMessageTypes().get(0);
+          internal_static_org_jbpm_process_audit_AuditEventBatch_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_org_jbpm_process_audit_AuditEventBatch_descriptor,
+              new java.lang.String[] { "Version", "Event", });
+          internal_static_org_jbpm_process_audit_AuditEvent_descriptor =
+            getDescriptor().getMessageTypes().get(1);
+          internal_static_org_jbpm_process_audit_AuditEvent_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_org_jbpm_process_audit_AuditEvent_descriptor,
+              new java.lang.String[] { "EventType", "ProcessInstanceLog", "NodeInstanceLog", "VariableInstanceLog", });
+          internal_static_org_jbpm_process_audit_ProcessInstanceLog_descriptor =
+            getDescriptor().getMessageTypes().get(2);
+          internal_static_org_jbpm_process_audit_ProcessInstanceLog_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_org_jbpm_process_audit_ProcessInstanceLog_descriptor,
+              new java.lang.String[] { "ProcessInstanceId", "ProcessId", "Start", "End", "Status", "ParentProcessInstanceId", "Outcome", "Duration", "Identity", "ProcessVersion", "ProcessName", "ExternalId", });
+          internal_static_org_jbpm_process_audit_NodeInstanceLog_descriptor =
+            getDescriptor().getMessageTypes().get(3);
+          internal_static_org_jbpm_process_audit_NodeInstanceLog_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_org_jbpm_process_audit_NodeInstanceLog_descriptor,
+              new java.lang.String[] { "ProcessInstanceId", "ProcessId", "Date", "Type", "NodeInstanceId", "NodeId", "NodeName", "NodeType", "WorkItemId", "Connection", "ExternalId", });
+          internal_static_org_jbpm_process_audit_VariableInstanceLog_descriptor =
+            getDescriptor().getMessageTypes().get(4);
+          internal_static_org_jbpm_process_audit_VariableInstanceLog_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_org_jbpm_process_audit_VariableInstanceLog_descriptor,
+              new java.lang.String[] { "ProcessInstanceId", "ProcessId", "Date", "VariableInstanceId", "VariableId", "Value", "OldValue", "ExternalId", });
+          return null;
+        }
+      };
+    com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+        }, assigner);
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
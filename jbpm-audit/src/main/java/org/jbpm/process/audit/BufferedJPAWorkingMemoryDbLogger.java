@@ -0,0 +1,249 @@
+/**
+ * Copyright 2010 JBoss Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.process.audit;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+
+import org.drools.persistence.OrderedTransactionSynchronization;
+import org.drools.persistence.TransactionManager;
+import org.drools.persistence.TransactionManagerHelper;
+import org.jbpm.process.instance.impl.ProcessInstanceImpl;
+import org.kie.api.event.KieRuntimeEvent;
+import org.kie.api.event.process.ProcessCompletedEvent;
+import org.kie.api.runtime.Environment;
+import org.kie.api.runtime.EnvironmentName;
+import org.kie.api.runtime.KieSession;
+
+/**
+ * JPA audit logger that does not persist every audit event as it is generated, but collects
+ * the log entries of the running transaction and persists them all at once, right before the
+ * transaction completes. Combined with JDBC batching (e.g. <code>hibernate.jdbc.batch_size</code>
+ * and <code>hibernate.order_inserts</code>) this results in a handful of batched insert
+ * statements per transaction instead of one statement per event.
+ * </p>
+ * As log entries are only persisted at the end of the transaction, updates to them (work item
+ * id of a node instance, completion of a process instance started in the same transaction)
+ * are applied to the buffered entity and do not result in additional statements.
+ * </p>
+ * Completions of process instances started in an earlier transaction are buffered as well. At the
+ * end of the transaction the start dates of all their open log entries are read with a single query
+ * (needed for the duration) and every entry is completed with a bulk update by its id, instead of
+ * loading and merging the entries one by one.
+ * </p>
+ * When no transaction manager is available or no transaction is active, log entries are
+ * persisted immediately, like {@link JPAWorkingMemoryDbLogger} does.
+ */
+public class BufferedJPAWorkingMemoryDbLogger extends JPAWorkingMemoryDbLogger {
+
+    private final ThreadLocal<AuditLogBuffer> buffers = new ThreadLocal<AuditLogBuffer>();
+
+    private static final int MAX_IN_LIST_SIZE = 500;
+
+    public BufferedJPAWorkingMemoryDbLogger() {
+        // default constructor when this is used with a persistent KieSession
+    }
+
+    public BufferedJPAWorkingMemoryDbLogger(KieSession session) {
+        super(session);
+    }
+
+    public BufferedJPAWorkingMemoryDbLogger(EntityManagerFactory emf) {
+        super(emf);
+    }
+
+    public BufferedJPAWorkingMemoryDbLogger(EntityManagerFactory emf, Environment env) {
+        super(emf, env);
+    }
+
+    public BufferedJPAWorkingMemoryDbLogger(Environment env) {
+        super(env);
+    }
+
+    @Override
+    public void afterProcessCompleted(ProcessCompletedEvent event) {
+        AuditLogBuffer buffer = buffers.get();
+        Object log = ((ProcessInstanceImpl) event.getProcessInstance()).getMetaData().get("ProcessInstanceLog");
+        if (buffer != null && log != null && buffer.contains(log)) {
+            // not persisted yet, so completing the buffered entity is enough
+            builder.buildEvent(event, log);
+            return;
+        }
+        if (log == null) {
+            // started in an earlier transaction, the stored entry is completed when this one ends
+            buffer = getBuffer(event.getKieRuntime().getEnvironment());
+            if (buffer != null) {
+                buffer.addCompletion((ProcessInstanceLog) builder.buildEvent(event, null));
+                return;
+            }
+        }
+        super.afterProcessCompleted(event);
+    }
+
+    @Override
+    protected void persist(Object entity, KieRuntimeEvent event) {
+        AuditLogBuffer buffer = getBuffer(event.getKieRuntime().getEnvironment());
+        if (buffer == null) {
+            super.persist(entity, event);
+            return;
+        }
+        buffer.add(entity);
+    }
+
+    /**
+     * @return buffer of the running transaction, <code>null</code> if there is no active transaction
+     */
+    private AuditLogBuffer getBuffer(Environment env) {
+        AuditLogBuffer buffer = buffers.get();
+        if (buffer == null) {
+            TransactionManager tm = env == null ? null : (TransactionManager) env.get(EnvironmentName.TRANSACTION_MANAGER);
+            if (tm == null || tm.getStatus() != TransactionManager.STATUS_ACTIVE) {
+                return null;
+            }
+            buffer = new AuditLogBuffer(env);
+            buffers.set(buffer);
+            TransactionManagerHelper.registerTransactionSyncInContainer(tm, new AuditLogBufferSynchronization(buffer));
+        }
+        return buffer;
+    }
+
+    /**
+     * Persists all buffered log entries with a single entity manager and flushes them,
+     * so that the inserts are sent together.
+     */
+    protected void flush(AuditLogBuffer buffer) {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        EntityManager em = getEntityManager(buffer.getEnvironment());
+        Object tx = joinTransaction(em);
+        for (Object entity : buffer.getEntities()) {
+            em.persist(entity);
+        }
+        if (!buffer.getCompletions().isEmpty()) {
+            complete(em, buffer.getCompletions());
+        }
+        em.flush();
+        leaveTransaction(em, tx);
+    }
+
+    /**
+     * Completes the open log entries of the given process instances, keyed by process instance id,
+     * with bulk updates by log id.
+     */
+    @SuppressWarnings("unchecked")
+    protected void complete(EntityManager em, Map<Long, ProcessInstanceLog> completions) {
+        List<Long> processInstanceIds = new ArrayList<Long>(completions.keySet());
+        // keep the IN list below the limits imposed by some databases
+        for (int i = 0; i < processInstanceIds.size(); i += MAX_IN_LIST_SIZE) {
+            List<Object[]> openLogs = em.createQuery(
+                    "select log.id, log.processInstanceId, log.start from ProcessInstanceLog as log "
+                    + "where log.processInstanceId in (:piIds) and log.end is null")
+                    .setParameter("piIds", processInstanceIds.subList(i, Math.min(i + MAX_IN_LIST_SIZE, processInstanceIds.size())))
+                    .getResultList();
+            for (Object[] openLog : openLogs) {
+                ProcessInstanceLog completion = completions.get(openLog[1]);
+                Date start = (Date) openLog[2];
+                em.createQuery("update ProcessInstanceLog as log set log.status = :status, log.end = :end, "
+                        + "log.duration = :duration, log.outcome = :outcome where log.id = :id")
+                        .setParameter("status", completion.getStatus())
+                        .setParameter("end", completion.getEnd())
+                        .setParameter("duration", start == null ? null : completion.getEnd().getTime() - start.getTime())
+                        .setParameter("outcome", completion.getOutcome())
+                        .setParameter("id", openLog[0])
+                        .executeUpdate();
+            }
+        }
+    }
+
+    protected static class AuditLogBuffer {
+
+        private final Environment environment;
+        private final List<Object> entities = new ArrayList<Object>();
+        private final Map<Object, Boolean> index = new IdentityHashMap<Object, Boolean>();
+        private final Map<Long, ProcessInstanceLog> completions = new LinkedHashMap<Long, ProcessInstanceLog>();
+
+        public AuditLogBuffer(Environment environment) {
+            this.environment = environment;
+        }
+
+        public void add(Object entity) {
+            if (index.put(entity, Boolean.TRUE) == null) {
+                entities.add(entity);
+            }
+        }
+
+        public boolean contains(Object entity) {
+            return index.containsKey(entity);
+        }
+
+        /**
+         * Adds the completion of a process instance whose log entry was stored by an earlier transaction.
+         */
+        public void addCompletion(ProcessInstanceLog completion) {
+            completions.put(completion.getProcessInstanceId(), completion);
+        }
+
+        public boolean isEmpty() {
+            return entities.isEmpty() && completions.isEmpty();
+        }
+
+        public List<Object> getEntities() {
+            return entities;
+        }
+
+        public Map<Long, ProcessInstanceLog> getCompletions() {
+            return completions;
+        }
+
+        public Environment getEnvironment() {
+            return environment;
+        }
+    }
+
+    private class AuditLogBufferSynchronization extends OrderedTransactionSynchronization {
+
+        private final AuditLogBuffer buffer;
+
+        public AuditLogBufferSynchronization(AuditLogBuffer buffer) {
+            super(5, "AuditLogBuffer-" + System.identityHashCode(buffer));
+            this.buffer = buffer;
+        }
+
+        @Override
+        public void beforeCompletion() {
+            try {
+                flush(buffer);
+            } finally {
+                buffers.remove();
+            }
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            // make sure the buffer does not leak into the next transaction after a rollback
+            buffers.remove();
+        }
+    }
+}
@@ -16,6 +16,7 @@
 
 package org.jbpm.process.audit;
 
+import java.util.Date;
 import java.util.List;
 
 import javax.persistence.EntityManager;
@@ -54,6 +55,8 @@ public class JPAAuditLogService implements AuditLogService {
 
     private static final Logger logger = LoggerFactory.getLogger(JPAAuditLogService.class);
     
+    private static final int DEFAULT_PURGE_CHUNK_SIZE = 1000;
+    
     private PersistenceStrategy persistenceStrategy;
     
     private String persistenceUnitName = "org.jbpm.persistence.jpa";
@@ -295,24 +298,72 @@ public class JPAAuditLogService implements AuditLogService {
      * @see org.jbpm.process.audit.AuditLogService#clear()
      */
     @Override
-    @SuppressWarnings("unchecked")
     public void clear() {
         EntityManager em = getEntityManager();
         Object newTx = joinTransaction(em);
         
-        List<ProcessInstanceLog> processInstances = em.createQuery("FROM ProcessInstanceLog").getResultList();
-        for (ProcessInstanceLog processInstance: processInstances) {
-            em.remove(processInstance);
+        em.createQuery("DELETE FROM ProcessInstanceLog").executeUpdate();
+        em.createQuery("DELETE FROM NodeInstanceLog").executeUpdate();
+        em.createQuery("DELETE FROM VariableInstanceLog").executeUpdate();
+        closeEntityManager(em, newTx);
+    }
+
+    /**
+     * Deletes process, node and variable instance logs of all process instances that ended before given date.
+     * @see #purgeProcessInstanceLogs(Date, List, int)
+     */
+    public int purgeProcessInstanceLogs(Date endedBefore) {
+        return purgeProcessInstanceLogs(endedBefore, null, DEFAULT_PURGE_CHUNK_SIZE);
+    }
+
+    /**
+     * Deletes process, node and variable instance logs of all process instances that ended before given date
+     * and, if <code>statuses</code> is not empty, are in one of the given states (e.g. only aborted ones).
+     * </p>
+     * Logs are deleted by means of bulk deletes, <code>chunkSize</code> process instances at a time, each chunk
+     * in its own transaction to bound the size of the transactions. When there is already a running transaction
+     * all chunks are deleted as part of it.
+     * @return number of process instances whose logs were deleted
+     */
+    @SuppressWarnings("unchecked")
+    public int purgeProcessInstanceLogs(Date endedBefore, List<Integer> statuses, int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
         }
-        List<NodeInstanceLog> nodeInstances = em.createQuery("FROM NodeInstanceLog").getResultList();
-        for (NodeInstanceLog nodeInstance: nodeInstances) {
-            em.remove(nodeInstance);
+        boolean filterByStatus = statuses != null && !statuses.isEmpty();
+        String queryString = "SELECT p.processInstanceId FROM ProcessInstanceLog p WHERE p.end < :endedBefore";
+        if (filterByStatus) {
+            queryString += " AND p.status IN (:statuses)";
         }
-        List<VariableInstanceLog> variableInstances = em.createQuery("FROM VariableInstanceLog").getResultList();
-        for (VariableInstanceLog variableInstance: variableInstances) {
-            em.remove(variableInstance);
-        }           
-        closeEntityManager(em, newTx);
+        int purged = 0;
+        List<Long> processInstanceIds;
+        do {
+            EntityManager em = getEntityManager();
+            Object newTx = joinTransaction(em);
+            try {
+                Query query = em.createQuery(queryString)
+                        .setParameter("endedBefore", endedBefore)
+                        .setMaxResults(chunkSize);
+                if (filterByStatus) {
+                    query.setParameter("statuses", statuses);
+                }
+                processInstanceIds = query.getResultList();
+                if (!processInstanceIds.isEmpty()) {
+                    em.createQuery("DELETE FROM NodeInstanceLog n WHERE n.processInstanceId IN (:processInstanceIds)")
+                        .setParameter("processInstanceIds", processInstanceIds).executeUpdate();
+                    em.createQuery("DELETE FROM VariableInstanceLog v WHERE v.processInstanceId IN (:processInstanceIds)")
+                        .setParameter("processInstanceIds", processInstanceIds).executeUpdate();
+                    em.createQuery("DELETE FROM ProcessInstanceLog p WHERE p.processInstanceId IN (:processInstanceIds)")
+                        .setParameter("processInstanceIds", processInstanceIds).executeUpdate();
+                    purged += processInstanceIds.size();
+                }
+            } finally {
+                closeEntityManager(em, newTx);
+            }
+            logger.debug("Purged logs of {} process instances that ended before {}", purged, endedBefore);
+        } while (processInstanceIds.size() == chunkSize);
+        
+        return purged;
     }
 
     /* (non-Javadoc)
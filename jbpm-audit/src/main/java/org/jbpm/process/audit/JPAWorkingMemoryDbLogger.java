@@ -190,7 +190,7 @@ public class JPAWorkingMemoryDbLogger extends AbstractAuditLogger {
      * This method also makes sure that the entity manager used for persisting the entity, joins the existing JTA transaction. 
      * @param entity An entity to be persisted.
      */
-    private void persist(Object entity, KieRuntimeEvent event) { 
+    protected void persist(Object entity, KieRuntimeEvent event) { 
         EntityManager em = getEntityManager(event);
         Object tx = joinTransaction(em);
         em.persist(entity);
@@ -200,8 +200,14 @@ public class JPAWorkingMemoryDbLogger extends AbstractAuditLogger {
     /**
      * This method creates a entity manager. 
      */
-    private EntityManager getEntityManager(KieRuntimeEvent event) {
-        Environment env = event.getKieRuntime().getEnvironment();
+    protected EntityManager getEntityManager(KieRuntimeEvent event) {
+        return getEntityManager(event.getKieRuntime().getEnvironment());
+    }
+
+    /**
+     * This method creates a entity manager for the given environment. 
+     */
+    protected EntityManager getEntityManager(Environment env) {
     
         /**
          * It's important to set the sharedEM flag with _every_ operation
@@ -237,7 +243,7 @@ public class JPAWorkingMemoryDbLogger extends AbstractAuditLogger {
      * @throws SystemException 
      * @throws Exception if something goes wrong. 
      */
-    private Object joinTransaction(EntityManager em) {
+    protected Object joinTransaction(EntityManager em) {
         boolean newTx = false;
         UserTransaction ut = null;
 
@@ -286,7 +292,7 @@ public class JPAWorkingMemoryDbLogger extends AbstractAuditLogger {
      * @param em The entity manager.
      * @param ut The (user) transaction.
      */
-    private void leaveTransaction(EntityManager em, Object transaction) {
+    protected void leaveTransaction(EntityManager em, Object transaction) {
         if( isJTA ) { 
             try { 
                 if( transaction != null ) { 
@@ -1,23 +1,36 @@
 package org.jbpm.process.audit.jms;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javax.jms.BytesMessage;
 import javax.jms.Connection;
 import javax.jms.ConnectionFactory;
 import javax.jms.JMSException;
+import javax.jms.Message;
 import javax.jms.MessageProducer;
 import javax.jms.Queue;
 import javax.jms.Session;
 import javax.jms.TextMessage;
 
+import org.drools.persistence.OrderedTransactionSynchronization;
+import org.drools.persistence.TransactionManager;
+import org.drools.persistence.TransactionManagerHelper;
 import org.jbpm.process.audit.AbstractAuditLogger;
+import org.jbpm.process.audit.AuditEventCodec;
 import org.jbpm.process.audit.NodeInstanceLog;
 import org.jbpm.process.audit.ProcessInstanceLog;
 import org.jbpm.process.audit.VariableInstanceLog;
 import org.jbpm.workflow.instance.impl.NodeInstanceImpl;
+import org.kie.api.event.KieRuntimeEvent;
 import org.kie.api.event.process.ProcessCompletedEvent;
 import org.kie.api.event.process.ProcessNodeLeftEvent;
 import org.kie.api.event.process.ProcessNodeTriggeredEvent;
 import org.kie.api.event.process.ProcessStartedEvent;
 import org.kie.api.event.process.ProcessVariableChangedEvent;
+import org.kie.api.runtime.Environment;
+import org.kie.api.runtime.EnvironmentName;
 import org.kie.api.runtime.KieSession;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -41,6 +54,11 @@ import com.thoughtworks.xstream.XStream;
  *  <li>use content based routing in more advanced scenarios</li>
  * </ul>
  * 
+ * Alternatively, when <code>binary</code> is enabled, it sends BytesMessages with the events encoded
+ * by <code>AuditEventCodec</code>. All events of an engine transaction are then sent as a single message
+ * right before the transaction completes, events generated outside of a transaction are sent one by one.
+ * Such messages carry the number of events in the <code>EventCount</code> property.
+ * 
  * Default receiver is <code>AsyncAuditLogReceiver</code> class
  */
 public class AsyncAuditLogProducer extends AbstractAuditLogger {
@@ -50,6 +68,10 @@ public class AsyncAuditLogProducer extends AbstractAuditLogger {
     private ConnectionFactory connectionFactory;    
     private Queue queue;
     private boolean transacted = true;
+    private boolean binary = false;
+
+    private final AuditEventCodec codec = new AuditEventCodec();
+    private final ThreadLocal<List<byte[]>> pendingEvents = new ThreadLocal<List<byte[]>>();
 
     public AsyncAuditLogProducer() {
         
@@ -80,33 +102,33 @@ public class AsyncAuditLogProducer extends AbstractAuditLogger {
     @Override
     public void beforeNodeTriggered(ProcessNodeTriggeredEvent event) {
         NodeInstanceLog log = (NodeInstanceLog) builder.buildEvent(event);
-        sendMessage(log, BEFORE_NODE_ENTER_EVENT_TYPE);
+        sendMessage(log, BEFORE_NODE_ENTER_EVENT_TYPE, event);
         ((NodeInstanceImpl) event.getNodeInstance()).getMetaData().put("NodeInstanceLog", log);
     }
 
     @Override
     public void afterNodeLeft(ProcessNodeLeftEvent event) {
         NodeInstanceLog log = (NodeInstanceLog) builder.buildEvent(event, null);
-        sendMessage(log, AFTER_NODE_LEFT_EVENT_TYPE);   
+        sendMessage(log, AFTER_NODE_LEFT_EVENT_TYPE, event);   
     }
 
     @Override
     public void afterVariableChanged(ProcessVariableChangedEvent event) {
         VariableInstanceLog log = (VariableInstanceLog) builder.buildEvent(event);
-        sendMessage(log, AFTER_VAR_CHANGE_EVENT_TYPE);   
+        sendMessage(log, AFTER_VAR_CHANGE_EVENT_TYPE, event);   
     }
 
     @Override
     public void beforeProcessStarted(ProcessStartedEvent event) {
         ProcessInstanceLog log = (ProcessInstanceLog) builder.buildEvent(event);
-        sendMessage(log, BEFORE_START_EVENT_TYPE);
+        sendMessage(log, BEFORE_START_EVENT_TYPE, event);
         
     }
 
     @Override
     public void afterProcessCompleted(ProcessCompletedEvent event) {
         ProcessInstanceLog log = (ProcessInstanceLog) builder.buildEvent(event, null);
-        sendMessage(log, AFTER_COMPLETE_EVENT_TYPE);
+        sendMessage(log, AFTER_COMPLETE_EVENT_TYPE, event);
     }
     
     @Override
@@ -115,7 +137,7 @@ public class AsyncAuditLogProducer extends AbstractAuditLogger {
     	NodeInstanceLog log = (NodeInstanceLog) ((NodeInstanceImpl) event.getNodeInstance()).getMetaData().get("NodeInstanceLog");
     	NodeInstanceLog logUpdated = (NodeInstanceLog) builder.buildEvent(event, log);
     	if (logUpdated != null) {
-    		sendMessage(log, AFTER_NODE_ENTER_EVENT_TYPE);
+    		sendMessage(log, AFTER_NODE_ENTER_EVENT_TYPE, event);
     	}
     }
 
@@ -137,7 +159,64 @@ public class AsyncAuditLogProducer extends AbstractAuditLogger {
     public void beforeProcessCompleted(ProcessCompletedEvent event) {
     }
     
-    protected void sendMessage(Object messageContent, Integer eventType) {
+    protected void sendMessage(Object messageContent, Integer eventType, KieRuntimeEvent event) {
+        if (!binary) {
+            sendMessage(messageContent, eventType);
+            return;
+        }
+        // encode right away, the log entry might still be changed by subsequent events
+        byte[] encodedEvent = codec.encodeEvent(messageContent, eventType);
+        List<byte[]> events = pendingEvents.get();
+        if (events == null) {
+            Environment env = event.getKieRuntime().getEnvironment();
+            TransactionManager tm = env == null ? null : (TransactionManager) env.get(EnvironmentName.TRANSACTION_MANAGER);
+            if (tm == null || tm.getStatus() != TransactionManager.STATUS_ACTIVE) {
+                sendBatchMessage(Collections.singletonList(encodedEvent), eventType);
+                return;
+            }
+            events = new ArrayList<byte[]>();
+            pendingEvents.set(events);
+            TransactionManagerHelper.registerTransactionSyncInContainer(tm, new BatchMessageTransactionSynchronization(events));
+        }
+        events.add(encodedEvent);
+    }
+
+    protected void sendMessage(final Object messageContent, final Integer eventType) {
+        send(new MessageBuilder() {
+            @Override
+            public Message build(Session queueSession) throws JMSException {
+                XStream xstream = new XStream();
+                String eventXml = xstream.toXML(messageContent);
+                TextMessage message = queueSession.createTextMessage(eventXml);
+                message.setIntProperty("EventType", eventType);
+                return message;
+            }
+        });
+    }
+
+    /**
+     * Sends given events, encoded by <code>AuditEventCodec</code>, as a single <code>BytesMessage</code>.
+     * The <code>EventType</code> property is only set when given, that is when all events are of the same type.
+     */
+    protected void sendBatchMessage(final List<byte[]> events, final Integer eventType) {
+        if (events.isEmpty()) {
+            return;
+        }
+        send(new MessageBuilder() {
+            @Override
+            public Message build(Session queueSession) throws JMSException {
+                BytesMessage message = queueSession.createBytesMessage();
+                message.writeBytes(codec.encodeBatch(events));
+                message.setIntProperty("EventCount", events.size());
+                if (eventType != null) {
+                    message.setIntProperty("EventType", eventType);
+                }
+                return message;
+            }
+        });
+    }
+
+    private void send(MessageBuilder messageBuilder) {
         if (connectionFactory == null && queue == null) {
             throw new IllegalStateException("ConnectionFactory and Queue cannot be null");
         }
@@ -148,10 +227,7 @@ public class AsyncAuditLogProducer extends AbstractAuditLogger {
             queueConnection = connectionFactory.createConnection();
             queueSession = queueConnection.createSession(transacted, Session.AUTO_ACKNOWLEDGE);
            
-            XStream xstream = new XStream();
-            String eventXml = xstream.toXML(messageContent);
-            TextMessage message = queueSession.createTextMessage(eventXml);
-            message.setIntProperty("EventType", eventType);
+            Message message = messageBuilder.build(queueSession);
             producer = queueSession.createProducer(queue);            
             producer.send(message);
         } catch (Exception e) {
@@ -191,5 +267,46 @@ public class AsyncAuditLogProducer extends AbstractAuditLogger {
         this.transacted = transacted;
     }
 
+    public boolean isBinary() {
+        return binary;
+    }
+
+    /**
+     * Enables compact binary encoding of the events, see <code>AuditEventCodec</code>.
+     */
+    public void setBinary(boolean binary) {
+        this.binary = binary;
+    }
+
+    private interface MessageBuilder {
+
+        Message build(Session queueSession) throws JMSException;
+    }
+
+    private class BatchMessageTransactionSynchronization extends OrderedTransactionSynchronization {
+
+        private final List<byte[]> events;
+
+        public BatchMessageTransactionSynchronization(List<byte[]> events) {
+            super(5, "AsyncAuditLogProducer-" + System.identityHashCode(events));
+            this.events = events;
+        }
+
+        @Override
+        public void beforeCompletion() {
+            // sent as part of the transaction so it is delivered only if the transaction commits
+            try {
+                sendBatchMessage(events, null);
+            } finally {
+                pendingEvents.remove();
+            }
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            pendingEvents.remove();
+        }
+    }
+
 
 }
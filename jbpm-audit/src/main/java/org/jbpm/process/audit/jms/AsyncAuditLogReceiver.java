@@ -1,7 +1,6 @@
 package org.jbpm.process.audit.jms;
 
-import java.util.List;
-
+import javax.jms.BytesMessage;
 import javax.jms.JMSException;
 import javax.jms.Message;
 import javax.jms.MessageListener;
@@ -9,9 +8,8 @@ import javax.jms.TextMessage;
 import javax.persistence.EntityManager;
 import javax.persistence.EntityManagerFactory;
 
-import org.jbpm.process.audit.AbstractAuditLogger;
-import org.jbpm.process.audit.NodeInstanceLog;
-import org.jbpm.process.audit.ProcessInstanceLog;
+import org.jbpm.process.audit.AuditEventCodec;
+import org.jbpm.process.audit.AuditEventStore;
 
 import com.thoughtworks.xstream.XStream;
 
@@ -23,6 +21,8 @@ import com.thoughtworks.xstream.XStream;
  * Thus it shares the same message format that is TextMessage with 
  * Xstream serialized *Log classes (ProcessInstanceLog,
  * NodeInstanceLog, VaraiableInstanceLog) as content.
+ * BytesMessages with batches of events encoded by <code>AuditEventCodec</code>
+ * (see binary mode of the producer) are supported as well.
  * 
  * by default it uses entity manager factory and creates entity manager for each message
  * although it provides getEntityManager method that can be overloaded by extensions to supply 
@@ -38,12 +38,12 @@ import com.thoughtworks.xstream.XStream;
 public class AsyncAuditLogReceiver implements MessageListener {
     
     private EntityManagerFactory entityManagerFactory;
+    private final AuditEventCodec codec = new AuditEventCodec();
     
     public AsyncAuditLogReceiver(EntityManagerFactory entityManagerFactory) {
         this.entityManagerFactory = entityManagerFactory;
     }
     
-    @SuppressWarnings("unchecked")
     @Override
     public void onMessage(Message message) {
         if (message instanceof TextMessage) {
@@ -55,50 +55,27 @@ public class AsyncAuditLogReceiver implements MessageListener {
                 XStream xstram = new XStream();
                 Object event = xstram.fromXML(messageContent);
                 
-                switch (eventType) {
-                case AbstractAuditLogger.AFTER_NODE_ENTER_EVENT_TYPE:
-                    NodeInstanceLog nodeAfterEnterEvent = (NodeInstanceLog) event;
-                    if (nodeAfterEnterEvent.getWorkItemId() != null) {
-                    List<NodeInstanceLog> result = em.createQuery(
-                            "from NodeInstanceLog as log where log.nodeInstanceId = :nodeId and log.type = 0")
-                            .setParameter("nodeId", nodeAfterEnterEvent.getNodeInstanceId()).getResultList();
-                            
-                            if (result != null && result.size() != 0) {
-                            	NodeInstanceLog log = result.get(result.size() - 1);
-                               log.setWorkItemId(nodeAfterEnterEvent.getWorkItemId());
-                               
-                               
-                               em.merge(log);   
-                           }
-                    }
-                    break;
-                
-                case AbstractAuditLogger.AFTER_COMPLETE_EVENT_TYPE:
-                    ProcessInstanceLog processCompletedEvent = (ProcessInstanceLog) event;
-                    List<ProcessInstanceLog> result = em.createQuery(
-                            "from ProcessInstanceLog as log where log.processInstanceId = :piId and log.end is null")
-                            .setParameter("piId", processCompletedEvent.getProcessInstanceId()).getResultList();
-                            
-                            if (result != null && result.size() != 0) {
-                               ProcessInstanceLog log = result.get(result.size() - 1);
-                               log.setOutcome(processCompletedEvent.getOutcome());
-                               log.setStatus(processCompletedEvent.getStatus());
-                               log.setEnd(processCompletedEvent.getEnd());
-                               log.setDuration(processCompletedEvent.getDuration());
-                               
-                               em.merge(log);   
-                           }
-                    break;
-                default:
-                    em.persist(event);
-                    break;
-                }
+                AuditEventStore.store(em, event, eventType);
                 em.flush();
                 em.close();
             } catch (JMSException e) {
                 e.printStackTrace();
                 throw new RuntimeException("Exception when receiving audit event event", e);
             }
+        } else if (message instanceof BytesMessage) {
+            EntityManager em = getEntityManager();
+            BytesMessage bytesMessage = (BytesMessage) message;
+            try {
+                byte[] data = new byte[(int) bytesMessage.getBodyLength()];
+                bytesMessage.readBytes(data);
+                for (AuditEventCodec.Entry entry : codec.decodeBatch(data)) {
+                    AuditEventStore.store(em, entry.getLog(), entry.getEventType());
+                }
+                em.flush();
+                em.close();
+            } catch (JMSException e) {
+                throw new RuntimeException("Exception when receiving audit event batch", e);
+            }
         }
 
     }
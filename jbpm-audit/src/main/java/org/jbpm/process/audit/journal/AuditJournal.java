@@ -0,0 +1,455 @@
+package org.jbpm.process.audit.journal;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Local, append only journal of audit events backed by a memory mapped file.
+ * Producers append encoded audit events, a single consumer reads them in batches and
+ * commits the batch once its events have been stored, which releases the space they occupied.
+ * <br/>
+ * File layout:
+ * <ul>
+ *  <li>header - generation (int) and read position (int) of the journal</li>
+ *  <li>records - length of the payload (int), generation (int), event type (int), CRC32 of the payload (int)
+ *  followed by the payload itself</li>
+ * </ul>
+ * The records form a ring buffer: when a record does not fit at the end of the file, a wrap record
+ * (length -1) is written, unless there is no room left for a record header, and writing continues
+ * at the beginning of the file with the next generation. Every pass over the file uses its own
+ * generation, so records left over from previous passes are never mistaken for pending ones.
+ * Space is released as soon as a batch is committed, the reader does not have to catch up with the writer.
+ * <br/>
+ * On start the journal replays all valid records found after the read position, following at most
+ * one wrap, which means events that were appended but not yet stored before a crash are delivered again.
+ * Delivery is at least once - a batch stored just before a crash but not committed to the journal
+ * is delivered again.
+ * <br/>
+ * When the journal is full, producers are blocked until the consumer has released enough space, which
+ * provides backpressure towards the engine in case the audit data store cannot keep up.
+ */
+public class AuditJournal {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditJournal.class);
+
+    public static final int DEFAULT_CAPACITY = 64 * 1024 * 1024;
+
+    private static final int HEADER_SIZE = 8;
+    private static final int RECORD_HEADER_SIZE = 16;
+    private static final int WRAP = -1;
+
+    private final File file;
+    private final int capacity;
+    private final boolean forceOnAppend;
+
+    private final RandomAccessFile randomAccessFile;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+
+    private int readGeneration;
+    private int readPosition;
+    private int writeGeneration;
+    private int writePosition;
+    private volatile boolean closed = false;
+
+    public AuditJournal(File file) throws IOException {
+        this(file, DEFAULT_CAPACITY, false);
+    }
+
+    /**
+     * @param file - journal file, created if it does not exist yet
+     * @param capacity - size of the journal file in bytes
+     * @param forceOnAppend - if true every append is forced to the storage device, otherwise
+     * appended events survive a crash of the JVM but not of the operating system
+     */
+    public AuditJournal(File file, int capacity, boolean forceOnAppend) throws IOException {
+        if (capacity <= HEADER_SIZE + RECORD_HEADER_SIZE) {
+            throw new IllegalArgumentException("Audit journal capacity too small: " + capacity);
+        }
+        this.file = file;
+        this.forceOnAppend = forceOnAppend;
+        this.randomAccessFile = new RandomAccessFile(file, "rw");
+        // an existing journal keeps its size so that its records can be recovered
+        long length = randomAccessFile.length();
+        this.capacity = length > 0 ? (int) length : capacity;
+        this.channel = randomAccessFile.getChannel();
+        this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, this.capacity);
+        recover();
+    }
+
+    private void recover() {
+        readGeneration = buffer.getInt(0);
+        readPosition = buffer.getInt(4);
+        if (readGeneration <= 0 || readPosition < HEADER_SIZE || readPosition > capacity) {
+            readGeneration = 1;
+            readPosition = HEADER_SIZE;
+            writeHeader();
+        }
+        int position = readPosition;
+        int generation = readGeneration;
+        int pending = 0;
+        while (true) {
+            if (generation == readGeneration && isWrap(position, generation)) {
+                position = HEADER_SIZE;
+                generation++;
+            } else if (isValidRecord(position, generation)) {
+                position += RECORD_HEADER_SIZE + buffer.getInt(position);
+                pending++;
+            } else {
+                break;
+            }
+        }
+        writeGeneration = generation;
+        writePosition = position;
+        skipWrap();
+        if (pending > 0) {
+            logger.info("Audit journal {} recovered {} pending audit events", file, pending);
+        }
+    }
+
+    /**
+     * Whether the pass of given generation ends at given position.
+     */
+    private boolean isWrap(int position, int generation) {
+        if (position + RECORD_HEADER_SIZE > capacity) {
+            return true;
+        }
+        return buffer.getInt(position) == WRAP && buffer.getInt(position + 4) == generation;
+    }
+
+    private boolean isValidRecord(int position, int generation) {
+        if (position + RECORD_HEADER_SIZE > capacity) {
+            return false;
+        }
+        int length = buffer.getInt(position);
+        if (length <= 0 || position + RECORD_HEADER_SIZE + length > capacity) {
+            return false;
+        }
+        if (buffer.getInt(position + 4) != generation) {
+            return false;
+        }
+        byte[] payload = new byte[length];
+        readBytes(position + RECORD_HEADER_SIZE, payload);
+        return buffer.getInt(position + 12) == checksum(payload);
+    }
+
+    /**
+     * Appends given event to the journal, waiting at most <code>timeout</code> milliseconds
+     * for free space when the journal is full.
+     */
+    public void append(int eventType, byte[] payload, long timeout) {
+        int required = RECORD_HEADER_SIZE + payload.length;
+        if (required > capacity - HEADER_SIZE) {
+            throw new IllegalArgumentException("Audit event of " + payload.length + " bytes exceeds journal capacity");
+        }
+        lock.lock();
+        try {
+            long nanos = TimeUnit.MILLISECONDS.toNanos(timeout);
+            while (!fits(required)) {
+                checkOpen();
+                if (isEmpty()) {
+                    // free space is split between the end and the beginning of the file
+                    reset();
+                    continue;
+                }
+                if (nanos <= 0) {
+                    throw new IllegalStateException("Audit journal " + file + " is full");
+                }
+                nanos = notFull.awaitNanos(nanos);
+            }
+            checkOpen();
+            if (writePosition + required > capacity) {
+                wrap();
+                skipWrap();
+            }
+            // payload and checksum are written before the length so a partially written record is never valid
+            writeBytes(writePosition + RECORD_HEADER_SIZE, payload);
+            buffer.putInt(writePosition + 12, checksum(payload));
+            buffer.putInt(writePosition + 8, eventType);
+            buffer.putInt(writePosition + 4, writeGeneration);
+            buffer.putInt(writePosition, payload.length);
+            writePosition += required;
+            if (writePosition + RECORD_HEADER_SIZE > capacity) {
+                // no room for another record header, the pass ends here
+                writePosition = HEADER_SIZE;
+                writeGeneration++;
+            }
+            skipWrap();
+            if (forceOnAppend) {
+                buffer.force();
+            }
+            notEmpty.signal();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for free space in audit journal " + file, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Reads at most <code>maxEvents</code> pending events, waiting at most <code>timeout</code>
+     * milliseconds for an event to be appended when there is none. Events are returned again by
+     * subsequent reads until the returned batch is committed.
+     */
+    public Batch read(int maxEvents, long timeout) throws InterruptedException {
+        lock.lock();
+        try {
+            long nanos = TimeUnit.MILLISECONDS.toNanos(timeout);
+            while (isEmpty()) {
+                if (closed || nanos <= 0) {
+                    return new Batch(Collections.<Entry>emptyList(), readPosition, readGeneration, readPosition, readGeneration);
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            List<Entry> entries = new ArrayList<Entry>();
+            int position = readPosition;
+            int generation = readGeneration;
+            while (entries.size() < maxEvents && !(position == writePosition && generation == writeGeneration)) {
+                if (isWrap(position, generation)) {
+                    position = HEADER_SIZE;
+                    generation++;
+                    continue;
+                }
+                int length = buffer.getInt(position);
+                byte[] payload = new byte[length];
+                readBytes(position + RECORD_HEADER_SIZE, payload);
+                entries.add(new Entry(buffer.getInt(position + 8), payload));
+                position += RECORD_HEADER_SIZE + length;
+            }
+            return new Batch(entries, readPosition, readGeneration, position, generation);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Marks all events of the given batch as stored so that they are not delivered again.
+     */
+    public void commit(Batch batch) {
+        if (batch.getEntries().isEmpty()) {
+            return;
+        }
+        lock.lock();
+        try {
+            if (batch.startGeneration != readGeneration || batch.startPosition != readPosition) {
+                throw new IllegalStateException("Audit journal batch is no longer valid");
+            }
+            readPosition = batch.endPosition;
+            readGeneration = batch.endGeneration;
+            writeHeader();
+            skipWrap();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getPendingBytes() {
+        lock.lock();
+        try {
+            if (readGeneration == writeGeneration) {
+                return writePosition - readPosition;
+            }
+            return capacity - readPosition + writePosition - HEADER_SIZE;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Waits at most <code>timeout</code> milliseconds until the journal has at least <code>bytes</code>
+     * bytes of free space, including the record headers of the events to append.
+     * As other producers might take the space in the meantime, this does not guarantee
+     * that appending the events will not block.
+     * @return false if there is still not enough free space after the timeout
+     */
+    public boolean awaitFreeSpace(int bytes, long timeout) throws InterruptedException {
+        lock.lock();
+        try {
+            long nanos = TimeUnit.MILLISECONDS.toNanos(timeout);
+            while (capacity - HEADER_SIZE - getPendingBytes() < bytes) {
+                if (closed || nanos <= 0) {
+                    return false;
+                }
+                nanos = notFull.awaitNanos(nanos);
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the number of bytes an event with given payload occupies in the journal
+     */
+    public static int getRecordSize(byte[] payload) {
+        return RECORD_HEADER_SIZE + payload.length;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public File getFile() {
+        return file;
+    }
+
+    public void close() {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            buffer.force();
+            notEmpty.signalAll();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            channel.close();
+            randomAccessFile.close();
+        } catch (IOException e) {
+            logger.warn("Error when closing audit journal {}", file, e);
+        }
+    }
+
+    private boolean isEmpty() {
+        return readPosition == writePosition && readGeneration == writeGeneration;
+    }
+
+    private boolean fits(int required) {
+        if (readGeneration == writeGeneration) {
+            // the writer is ahead of the reader on the same pass, it can use the end of the file
+            // or wrap around and use the beginning of the file up to the read position
+            return writePosition + required <= capacity || HEADER_SIZE + required <= readPosition;
+        }
+        return writePosition + required <= readPosition;
+    }
+
+    /**
+     * Moves the reader to the next pass when it reached the end of the current one, so that
+     * it never waits at the end of the file while the writer is already on the next pass.
+     * The header is updated as well, as the writer is about to overwrite the end of the previous pass.
+     */
+    private void skipWrap() {
+        if (!isEmpty() && isWrap(readPosition, readGeneration)) {
+            readPosition = HEADER_SIZE;
+            readGeneration++;
+            writeHeader();
+        }
+    }
+
+    private void wrap() {
+        if (writePosition + RECORD_HEADER_SIZE <= capacity) {
+            buffer.putInt(writePosition + 4, writeGeneration);
+            buffer.putInt(writePosition, WRAP);
+        }
+        writePosition = HEADER_SIZE;
+        writeGeneration++;
+    }
+
+    private void reset() {
+        readGeneration = writeGeneration + 1;
+        writeGeneration = readGeneration;
+        readPosition = HEADER_SIZE;
+        writePosition = HEADER_SIZE;
+        writeHeader();
+    }
+
+    private void writeHeader() {
+        buffer.putInt(0, readGeneration);
+        buffer.putInt(4, readPosition);
+        if (forceOnAppend) {
+            buffer.force();
+        }
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("Audit journal " + file + " is closed");
+        }
+    }
+
+    private void readBytes(int position, byte[] target) {
+        ByteBuffer view = buffer.duplicate();
+        view.position(position);
+        view.get(target);
+    }
+
+    private void writeBytes(int position, byte[] source) {
+        ByteBuffer view = buffer.duplicate();
+        view.position(position);
+        view.put(source);
+    }
+
+    private static int checksum(byte[] payload) {
+        CRC32 crc = new CRC32();
+        crc.update(payload, 0, payload.length);
+        return (int) crc.getValue();
+    }
+
+    public static class Entry {
+
+        private final int eventType;
+        private final byte[] payload;
+
+        public Entry(int eventType, byte[] payload) {
+            this.eventType = eventType;
+            this.payload = payload;
+        }
+
+        public int getEventType() {
+            return eventType;
+        }
+
+        public byte[] getPayload() {
+            return payload;
+        }
+    }
+
+    public static class Batch {
+
+        private final List<Entry> entries;
+        private final int startPosition;
+        private final int startGeneration;
+        private final int endPosition;
+        private final int endGeneration;
+
+        private Batch(List<Entry> entries, int startPosition, int startGeneration, int endPosition, int endGeneration) {
+            this.entries = entries;
+            this.startPosition = startPosition;
+            this.startGeneration = startGeneration;
+            this.endPosition = endPosition;
+            this.endGeneration = endGeneration;
+        }
+
+        public List<Entry> getEntries() {
+            return entries;
+        }
+
+        public boolean isEmpty() {
+            return entries.isEmpty();
+        }
+    }
+}
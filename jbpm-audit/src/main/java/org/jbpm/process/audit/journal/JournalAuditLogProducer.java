@@ -0,0 +1,218 @@
+package org.jbpm.process.audit.journal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.drools.persistence.OrderedTransactionSynchronization;
+import org.drools.persistence.TransactionManager;
+import org.drools.persistence.TransactionManagerHelper;
+import org.jbpm.process.audit.AbstractAuditLogger;
+import org.jbpm.process.audit.AuditEventCodec;
+import org.jbpm.process.audit.NodeInstanceLog;
+import org.jbpm.process.audit.ProcessInstanceLog;
+import org.jbpm.process.audit.VariableInstanceLog;
+import org.jbpm.workflow.instance.impl.NodeInstanceImpl;
+import org.kie.api.event.KieRuntimeEvent;
+import org.kie.api.event.process.ProcessCompletedEvent;
+import org.kie.api.event.process.ProcessNodeLeftEvent;
+import org.kie.api.event.process.ProcessNodeTriggeredEvent;
+import org.kie.api.event.process.ProcessStartedEvent;
+import org.kie.api.event.process.ProcessVariableChangedEvent;
+import org.kie.api.runtime.Environment;
+import org.kie.api.runtime.EnvironmentName;
+import org.kie.api.runtime.KieSession;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Asynchronous log producer that appends audit log events to a local {@link AuditJournal}
+ * instead of a JMS queue, so no message broker is required. Events are drained from the journal
+ * and stored in the audit tables by {@link JournalAuditLogReceiver} on a background thread.
+ * <br/>
+ * When the engine runs within a transaction, the events of that transaction are appended to
+ * the journal only once it has been committed, so events of rolled back transactions are never stored.
+ * Without a transaction events are appended as they are generated.
+ * <br/>
+ * Appending blocks when the journal is full, at most for <code>org.jbpm.audit.journal.append.timeout</code>
+ * milliseconds (30 seconds by default).
+ * <br/>
+ * Free space for the events of a transaction is awaited before the transaction completes, so when the
+ * journal stays full the transaction is rolled back instead of losing its audit events. As other
+ * transactions might take that space in the meantime, appending after commit can still time out -
+ * the transaction cannot be rolled back at that point anymore, so its events are dropped and reported
+ * as an error in the log.
+ */
+public class JournalAuditLogProducer extends AbstractAuditLogger {
+
+    private static final Logger logger = LoggerFactory.getLogger(JournalAuditLogProducer.class);
+
+    private static final long APPEND_TIMEOUT = Long.parseLong(System.getProperty("org.jbpm.audit.journal.append.timeout", "30000"));
+
+    private final ThreadLocal<List<PendingEvent>> pendingEvents = new ThreadLocal<List<PendingEvent>>();
+
+    private final AuditEventCodec codec = new AuditEventCodec();
+
+    private AuditJournal journal;
+
+    public JournalAuditLogProducer() {
+
+    }
+
+    public JournalAuditLogProducer(KieSession session, AuditJournal journal) {
+        super(session);
+        this.journal = journal;
+        session.addEventListener(this);
+    }
+
+    public AuditJournal getJournal() {
+        return journal;
+    }
+
+    public void setJournal(AuditJournal journal) {
+        this.journal = journal;
+    }
+
+    @Override
+    public void beforeNodeTriggered(ProcessNodeTriggeredEvent event) {
+        NodeInstanceLog log = (NodeInstanceLog) builder.buildEvent(event);
+        append(log, BEFORE_NODE_ENTER_EVENT_TYPE, event);
+        ((NodeInstanceImpl) event.getNodeInstance()).getMetaData().put("NodeInstanceLog", log);
+    }
+
+    @Override
+    public void afterNodeLeft(ProcessNodeLeftEvent event) {
+        NodeInstanceLog log = (NodeInstanceLog) builder.buildEvent(event, null);
+        append(log, AFTER_NODE_LEFT_EVENT_TYPE, event);
+    }
+
+    @Override
+    public void afterVariableChanged(ProcessVariableChangedEvent event) {
+        VariableInstanceLog log = (VariableInstanceLog) builder.buildEvent(event);
+        append(log, AFTER_VAR_CHANGE_EVENT_TYPE, event);
+    }
+
+    @Override
+    public void beforeProcessStarted(ProcessStartedEvent event) {
+        ProcessInstanceLog log = (ProcessInstanceLog) builder.buildEvent(event);
+        append(log, BEFORE_START_EVENT_TYPE, event);
+    }
+
+    @Override
+    public void afterProcessCompleted(ProcessCompletedEvent event) {
+        ProcessInstanceLog log = (ProcessInstanceLog) builder.buildEvent(event, null);
+        append(log, AFTER_COMPLETE_EVENT_TYPE, event);
+    }
+
+    @Override
+    public void afterNodeTriggered(ProcessNodeTriggeredEvent event) {
+        // trigger this to record some of the data (like work item id) after activity was triggered
+        NodeInstanceLog log = (NodeInstanceLog) ((NodeInstanceImpl) event.getNodeInstance()).getMetaData().get("NodeInstanceLog");
+        NodeInstanceLog logUpdated = (NodeInstanceLog) builder.buildEvent(event, log);
+        if (logUpdated != null) {
+            append(log, AFTER_NODE_ENTER_EVENT_TYPE, event);
+        }
+    }
+
+    @Override
+    public void beforeNodeLeft(ProcessNodeLeftEvent event) {
+
+    }
+
+    @Override
+    public void beforeVariableChanged(ProcessVariableChangedEvent event) {
+
+    }
+
+    @Override
+    public void afterProcessStarted(ProcessStartedEvent event) {
+
+    }
+
+    @Override
+    public void beforeProcessCompleted(ProcessCompletedEvent event) {
+
+    }
+
+    protected void append(Object log, int eventType, KieRuntimeEvent event) {
+        if (journal == null) {
+            throw new IllegalStateException("AuditJournal cannot be null");
+        }
+        // encode right away, the log entry might still be changed by subsequent events
+        PendingEvent pendingEvent = new PendingEvent(eventType, encode(log, eventType));
+
+        List<PendingEvent> events = pendingEvents.get();
+        if (events == null) {
+            Environment env = event.getKieRuntime().getEnvironment();
+            TransactionManager tm = env == null ? null : (TransactionManager) env.get(EnvironmentName.TRANSACTION_MANAGER);
+            if (tm == null || tm.getStatus() != TransactionManager.STATUS_ACTIVE) {
+                journal.append(pendingEvent.eventType, pendingEvent.payload, APPEND_TIMEOUT);
+                return;
+            }
+            events = new ArrayList<PendingEvent>();
+            pendingEvents.set(events);
+            TransactionManagerHelper.registerTransactionSyncInContainer(tm, new JournalTransactionSynchronization(events));
+        }
+        events.add(pendingEvent);
+    }
+
+    protected byte[] encode(Object log, int eventType) {
+        return codec.encodeEvent(log, eventType);
+    }
+
+    private static class PendingEvent {
+
+        private final int eventType;
+        private final byte[] payload;
+
+        private PendingEvent(int eventType, byte[] payload) {
+            this.eventType = eventType;
+            this.payload = payload;
+        }
+    }
+
+    private class JournalTransactionSynchronization extends OrderedTransactionSynchronization {
+
+        private final List<PendingEvent> events;
+
+        public JournalTransactionSynchronization(List<PendingEvent> events) {
+            super(5, "JournalAuditLogProducer-" + System.identityHashCode(events));
+            this.events = events;
+        }
+
+        @Override
+        public void beforeCompletion() {
+            int required = 0;
+            for (PendingEvent pendingEvent : events) {
+                required += AuditJournal.getRecordSize(pendingEvent.payload);
+            }
+            boolean available;
+            try {
+                available = journal.awaitFreeSpace(required, APPEND_TIMEOUT);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                available = false;
+            }
+            if (!available) {
+                throw new IllegalStateException("Audit journal " + journal.getFile() + " has no space for "
+                        + events.size() + " audit events of the transaction");
+            }
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            pendingEvents.remove();
+            if (status == TransactionManager.STATUS_COMMITTED) {
+                int appended = 0;
+                try {
+                    for (PendingEvent pendingEvent : events) {
+                        journal.append(pendingEvent.eventType, pendingEvent.payload, APPEND_TIMEOUT);
+                        appended++;
+                    }
+                } catch (IllegalStateException e) {
+                    // the transaction is already committed, failing here would not roll it back
+                    logger.error("Dropped {} audit events of a committed transaction", events.size() - appended, e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,260 @@
+package org.jbpm.process.audit.journal;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientException;
+import java.util.List;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.transaction.UserTransaction;
+
+import org.jbpm.process.audit.AuditEventCodec;
+import org.jbpm.process.audit.AuditEventStore;
+import org.jbpm.process.audit.strategy.PersistenceStrategy;
+import org.jbpm.process.audit.strategy.StandaloneLocalStrategy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Drains audit events from an {@link AuditJournal} and stores them in the audit tables.
+ * This is the second part of the journal based asynchronous audit support
+ * (producer is provided by <code>JournalAuditLogProducer</code> class).
+ * <br/>
+ * Events are read in batches of at most <code>org.jbpm.audit.journal.batch.size</code> events
+ * (100 by default) and every batch is stored in a single transaction, after which it is committed
+ * to the journal. When storing a batch fails because the data base is not available (no transaction
+ * could be started, connection errors and other transient SQL errors) it is retried after
+ * <code>org.jbpm.audit.journal.retry.delay</code> milliseconds (5 seconds by default) so no events are lost.
+ * <br/>
+ * When storing a batch fails for any other reason, its events are stored one at a time, each in its own
+ * transaction. An event that cannot be stored on its own (it cannot be decoded, violates a constraint etc.)
+ * is moved to the dead letter file - journal file name with <code>.dead</code> suffix - and removed from the
+ * journal, so that a single bad event does not block the journal and, once it is full, the engine.
+ * The dead letter file holds for every event its type (int), the length of its payload (int) and the payload
+ * itself, other dead letter stores can be provided by overriding {@link #deadLetter(AuditJournal.Entry, Exception)}.
+ * <br/>
+ * By default a resource local transaction of given entity manager factory is used, other
+ * transaction handling can be provided by means of <code>PersistenceStrategy</code>.
+ */
+public class JournalAuditLogReceiver implements Runnable {
+
+    private static final Logger logger = LoggerFactory.getLogger(JournalAuditLogReceiver.class);
+
+    private static final int BATCH_SIZE = Integer.parseInt(System.getProperty("org.jbpm.audit.journal.batch.size", "100"));
+    private static final long RETRY_DELAY = Long.parseLong(System.getProperty("org.jbpm.audit.journal.retry.delay", "5000"));
+    private static final long POLL_TIMEOUT = 1000;
+
+    private final AuditEventCodec codec = new AuditEventCodec();
+    private final AuditJournal journal;
+    private final PersistenceStrategy persistenceStrategy;
+
+    private volatile boolean active = false;
+    private Thread thread;
+
+    public JournalAuditLogReceiver(AuditJournal journal, EntityManagerFactory entityManagerFactory) {
+        this(journal, new StandaloneLocalStrategy(entityManagerFactory));
+    }
+
+    public JournalAuditLogReceiver(AuditJournal journal, PersistenceStrategy persistenceStrategy) {
+        this.journal = journal;
+        this.persistenceStrategy = persistenceStrategy;
+    }
+
+    public synchronized void start() {
+        if (active) {
+            return;
+        }
+        active = true;
+        thread = new Thread(this, "jbpm-audit-journal-" + journal.getFile().getName());
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Stops the background thread, pending events stay in the journal and are delivered
+     * once a receiver is started again.
+     */
+    public synchronized void stop() {
+        active = false;
+        if (thread != null) {
+            thread.interrupt();
+            try {
+                thread.join(POLL_TIMEOUT * 5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            thread = null;
+        }
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    @Override
+    public void run() {
+        while (active) {
+            try {
+                drain();
+            } catch (InterruptedException e) {
+                // stopped
+                break;
+            } catch (Exception e) {
+                logger.error("Error when storing audit events from journal {}, retrying in {} ms",
+                        journal.getFile(), RETRY_DELAY, e);
+                try {
+                    Thread.sleep(RETRY_DELAY);
+                } catch (InterruptedException ie) {
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Stores one batch of pending events, waiting for events to be appended if there are none.
+     * @return number of events removed from the journal, either stored or moved to the dead letter store
+     */
+    public int drain() throws InterruptedException {
+        AuditJournal.Batch batch = journal.read(BATCH_SIZE, POLL_TIMEOUT);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        try {
+            store(batch.getEntries());
+        } catch (RuntimeException e) {
+            if (isTransient(e)) {
+                throw e;
+            }
+            logger.warn("Error when storing batch of {} audit events from journal {}, storing them one at a time",
+                    batch.getEntries().size(), journal.getFile(), e);
+            return drainOneByOne(batch.getEntries().size());
+        }
+        journal.commit(batch);
+        return batch.getEntries().size();
+    }
+
+    private int drainOneByOne(int count) throws InterruptedException {
+        int drained = 0;
+        while (drained < count) {
+            AuditJournal.Batch batch = journal.read(1, 0);
+            if (batch.isEmpty()) {
+                break;
+            }
+            AuditJournal.Entry entry = batch.getEntries().get(0);
+            try {
+                store(batch.getEntries());
+            } catch (RuntimeException e) {
+                if (isTransient(e)) {
+                    throw e;
+                }
+                deadLetter(entry, e);
+            }
+            journal.commit(batch);
+            drained++;
+        }
+        return drained;
+    }
+
+    private void store(List<AuditJournal.Entry> entries) {
+        EntityManager em;
+        Object tx;
+        try {
+            em = persistenceStrategy.getEntityManager();
+            tx = persistenceStrategy.joinTransaction(em);
+        } catch (RuntimeException e) {
+            throw new TransientStoreException(e);
+        }
+        try {
+            for (AuditJournal.Entry entry : entries) {
+                AuditEventStore.store(em, decode(entry.getPayload()), entry.getEventType());
+            }
+            em.flush();
+        } catch (RuntimeException e) {
+            rollback(em, tx);
+            throw e;
+        }
+        persistenceStrategy.leaveTransaction(em, tx);
+    }
+
+    /**
+     * Whether given failure is caused by the data base not being available rather than by the stored events.
+     */
+    protected boolean isTransient(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TransientStoreException
+                    || cause instanceof SQLTransientException
+                    || cause instanceof SQLRecoverableException) {
+                return true;
+            }
+            if (cause instanceof SQLException) {
+                // SQL state class 08 - connection exception
+                String sqlState = ((SQLException) cause).getSQLState();
+                if (sqlState != null && sqlState.startsWith("08")) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Moves an event that cannot be stored to the dead letter file so that it can be analyzed
+     * and stored manually later on.
+     */
+    protected void deadLetter(AuditJournal.Entry entry, Exception cause) {
+        File deadLetterFile = new File(journal.getFile().getPath() + ".dead");
+        logger.error("Audit event of type {} from journal {} cannot be stored, moving it to {}",
+                entry.getEventType(), journal.getFile(), deadLetterFile, cause);
+        DataOutputStream out = null;
+        try {
+            out = new DataOutputStream(new FileOutputStream(deadLetterFile, true));
+            out.writeInt(entry.getEventType());
+            out.writeInt(entry.getPayload().length);
+            out.write(entry.getPayload());
+            out.flush();
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to write audit event to dead letter file " + deadLetterFile, e);
+        } finally {
+            if (out != null) {
+                try {
+                    out.close();
+                } catch (IOException e) {
+                    logger.warn("Error when closing dead letter file {}", deadLetterFile, e);
+                }
+            }
+        }
+    }
+
+    private void rollback(EntityManager em, Object tx) {
+        try {
+            if (tx instanceof UserTransaction) {
+                ((UserTransaction) tx).rollback();
+            } else if (em.getTransaction().isActive()) {
+                em.getTransaction().rollback();
+            }
+        } catch (Exception e) {
+            logger.warn("Error when rolling back audit journal transaction", e);
+        } finally {
+            em.close();
+        }
+    }
+
+    protected Object decode(byte[] payload) {
+        return codec.decodeEvent(payload).getLog();
+    }
+
+    private static class TransientStoreException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        TransientStoreException(Throwable cause) {
+            super("Unable to start audit journal transaction", cause);
+        }
+    }
+}
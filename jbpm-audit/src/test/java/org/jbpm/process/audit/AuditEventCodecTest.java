@@ -0,0 +1,144 @@
+package org.jbpm.process.audit;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.Test;
+
+public class AuditEventCodecTest {
+
+    private AuditEventCodec codec = new AuditEventCodec();
+
+    @Test
+    public void testProcessInstanceLog() {
+        ProcessInstanceLog log = new ProcessInstanceLog(10, "org.jbpm.test");
+        log.setEnd(new Date());
+        log.setStatus(2);
+        log.setParentProcessInstanceId(5);
+        log.setOutcome("outcome");
+        log.setDuration(100l);
+        log.setIdentity("john");
+        log.setProcessVersion("1.0");
+        log.setProcessName("Test");
+        log.setExternalId("deployment");
+
+        AuditEventCodec.Entry entry = codec.decodeEvent(codec.encodeEvent(log, AbstractAuditLogger.AFTER_COMPLETE_EVENT_TYPE));
+        assertEquals(AbstractAuditLogger.AFTER_COMPLETE_EVENT_TYPE, entry.getEventType());
+        ProcessInstanceLog decoded = (ProcessInstanceLog) entry.getLog();
+        assertEquals(log.getProcessInstanceId(), decoded.getProcessInstanceId());
+        assertEquals(log.getProcessId(), decoded.getProcessId());
+        assertEquals(log.getStart(), decoded.getStart());
+        assertEquals(log.getEnd(), decoded.getEnd());
+        assertEquals(log.getStatus(), decoded.getStatus());
+        assertEquals(log.getParentProcessInstanceId(), decoded.getParentProcessInstanceId());
+        assertEquals(log.getOutcome(), decoded.getOutcome());
+        assertEquals(log.getDuration(), decoded.getDuration());
+        assertEquals(log.getIdentity(), decoded.getIdentity());
+        assertEquals(log.getProcessVersion(), decoded.getProcessVersion());
+        assertEquals(log.getProcessName(), decoded.getProcessName());
+        assertEquals(log.getExternalId(), decoded.getExternalId());
+    }
+
+    @Test
+    public void testNodeInstanceLog() {
+        NodeInstanceLog log = new NodeInstanceLog(NodeInstanceLog.TYPE_ENTER, 10, "org.jbpm.test", "1", "2", "Task");
+        log.setNodeType("HumanTaskNode");
+        log.setWorkItemId(7l);
+        log.setConnection("_1-_2");
+
+        NodeInstanceLog decoded = (NodeInstanceLog) codec.decodeEvent(
+                codec.encodeEvent(log, AbstractAuditLogger.BEFORE_NODE_ENTER_EVENT_TYPE)).getLog();
+        assertEquals(log.getType(), decoded.getType());
+        assertEquals(log.getProcessInstanceId(), decoded.getProcessInstanceId());
+        assertEquals(log.getDate(), decoded.getDate());
+        assertEquals(log.getNodeInstanceId(), decoded.getNodeInstanceId());
+        assertEquals(log.getNodeId(), decoded.getNodeId());
+        assertEquals(log.getNodeName(), decoded.getNodeName());
+        assertEquals(log.getNodeType(), decoded.getNodeType());
+        assertEquals(log.getWorkItemId(), decoded.getWorkItemId());
+        assertEquals(log.getConnection(), decoded.getConnection());
+        assertNull(decoded.getExternalId());
+    }
+
+    @Test
+    public void testBatch() {
+        List<byte[]> events = new ArrayList<byte[]>();
+        events.add(codec.encodeEvent(new ProcessInstanceLog(1, "org.jbpm.test"), AbstractAuditLogger.BEFORE_START_EVENT_TYPE));
+        events.add(codec.encodeEvent(new VariableInstanceLog(1, "org.jbpm.test", "var", "var", "new", null),
+                AbstractAuditLogger.AFTER_VAR_CHANGE_EVENT_TYPE));
+
+        List<AuditEventCodec.Entry> entries = codec.decodeBatch(codec.encodeBatch(events));
+        assertEquals(2, entries.size());
+        assertTrue(entries.get(0).getLog() instanceof ProcessInstanceLog);
+        VariableInstanceLog variableLog = (VariableInstanceLog) entries.get(1).getLog();
+        assertEquals(AbstractAuditLogger.AFTER_VAR_CHANGE_EVENT_TYPE, entries.get(1).getEventType());
+        assertEquals("new", variableLog.getValue());
+        assertNull(variableLog.getOldValue());
+    }
+
+    @Test
+    public void testEncodedEventMatchesProtoDefinition() throws Exception {
+        NodeInstanceLog log = new NodeInstanceLog(NodeInstanceLog.TYPE_EXIT, 10, "org.jbpm.test", "1", "2", "Task");
+        log.setWorkItemId(7l);
+
+        AuditMessages.AuditEvent event = AuditMessages.AuditEvent.parseFrom(
+                codec.encodeEvent(log, AbstractAuditLogger.AFTER_NODE_LEFT_EVENT_TYPE));
+        assertEquals(AbstractAuditLogger.AFTER_NODE_LEFT_EVENT_TYPE, event.getEventType());
+        assertFalse(event.hasProcessInstanceLog());
+        AuditMessages.NodeInstanceLog _log = event.getNodeInstanceLog();
+        assertEquals(NodeInstanceLog.TYPE_EXIT, _log.getType());
+        assertEquals(10, _log.getProcessInstanceId());
+        assertEquals("org.jbpm.test", _log.getProcessId());
+        assertEquals(log.getDate().getTime(), _log.getDate());
+        assertEquals("1", _log.getNodeInstanceId());
+        assertEquals("2", _log.getNodeId());
+        assertEquals("Task", _log.getNodeName());
+        assertEquals(7, _log.getWorkItemId());
+        assertFalse(_log.hasNodeType());
+        assertFalse(_log.hasExternalId());
+        assertTrue(event.getUnknownFields().asMap().isEmpty());
+
+        List<byte[]> events = new ArrayList<byte[]>();
+        events.add(event.toByteArray());
+        AuditMessages.AuditEventBatch batch = AuditMessages.AuditEventBatch.parseFrom(codec.encodeBatch(events));
+        assertEquals(AuditEventCodec.VERSION, batch.getVersion());
+        assertEquals(event, batch.getEvent(0));
+    }
+
+    @Test
+    public void testDecodeBatchBuiltFromProtoDefinition() {
+        AuditMessages.AuditEventBatch batch = AuditMessages.AuditEventBatch.newBuilder()
+                .setVersion(AuditEventCodec.VERSION)
+                .addEvent(AuditMessages.AuditEvent.newBuilder()
+                        .setEventType(AbstractAuditLogger.AFTER_VAR_CHANGE_EVENT_TYPE)
+                        .setVariableInstanceLog(AuditMessages.VariableInstanceLog.newBuilder()
+                                .setProcessInstanceId(3)
+                                .setProcessId("org.jbpm.test")
+                                .setDate(1000)
+                                .setVariableId("var")
+                                .setValue("new")))
+                .build();
+
+        List<AuditEventCodec.Entry> entries = codec.decodeBatch(batch.toByteArray());
+        assertEquals(1, entries.size());
+        assertEquals(AbstractAuditLogger.AFTER_VAR_CHANGE_EVENT_TYPE, entries.get(0).getEventType());
+        VariableInstanceLog log = (VariableInstanceLog) entries.get(0).getLog();
+        assertEquals(3, log.getProcessInstanceId().longValue());
+        assertEquals("org.jbpm.test", log.getProcessId());
+        assertEquals(new Date(1000), log.getDate());
+        assertEquals("var", log.getVariableId());
+        assertNull(log.getVariableInstanceId());
+        assertEquals("new", log.getValue());
+        assertNull(log.getOldValue());
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void testNewerVersionRejected() {
+        codec.decodeBatch(AuditMessages.AuditEventBatch.newBuilder()
+                .setVersion(AuditEventCodec.VERSION + 1)
+                .build().toByteArray());
+    }
+}
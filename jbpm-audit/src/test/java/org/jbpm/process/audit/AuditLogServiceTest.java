@@ -17,17 +17,23 @@
 package org.jbpm.process.audit;
 
 import static org.jbpm.persistence.util.PersistenceUtil.*;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.Arrays;
+import java.util.Date;
 import java.util.HashMap;
 
 import org.jbpm.process.audit.AuditLoggerFactory.Type;
+import org.jbpm.process.instance.impl.demo.SystemOutWorkItemHandler;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.kie.api.runtime.Environment;
 import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.process.ProcessInstance;
 import org.kie.internal.KnowledgeBase;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -111,4 +117,29 @@ public class AuditLogServiceTest extends AbstractAuditLogServiceTest {
     	runTestLoggerWithCustomVariableLogLength(session, auditLogService);
     }
 
+    @Test
+    public void testPurgeProcessInstanceLogs() throws Exception {
+        session.getWorkItemManager().registerWorkItemHandler("Human Task", new SystemOutWorkItemHandler());
+        auditLogService.clear();
+        
+        long processInstanceId = session.startProcess("com.sample.ruleflow").getId();
+        session.startProcess("com.sample.ruleflow");
+        session.startProcess("com.sample.ruleflow");
+        assertEquals(3, auditLogService.findProcessInstances("com.sample.ruleflow").size());
+        assertFalse(auditLogService.findNodeInstances(processInstanceId).isEmpty());
+        
+        JPAAuditLogService jpaAuditLogService = (JPAAuditLogService) auditLogService;
+        // nothing ended that long ago
+        assertEquals(0, jpaAuditLogService.purgeProcessInstanceLogs(new Date(System.currentTimeMillis() - 60000)));
+        // none of them were aborted
+        Date endedBefore = new Date(System.currentTimeMillis() + 1000);
+        assertEquals(0, jpaAuditLogService.purgeProcessInstanceLogs(endedBefore, Arrays.asList(ProcessInstance.STATE_ABORTED), 2));
+        assertEquals(3, auditLogService.findProcessInstances("com.sample.ruleflow").size());
+        
+        assertEquals(3, jpaAuditLogService.purgeProcessInstanceLogs(endedBefore, Arrays.asList(ProcessInstance.STATE_COMPLETED), 2));
+        assertTrue(auditLogService.findProcessInstances("com.sample.ruleflow").isEmpty());
+        assertTrue(auditLogService.findNodeInstances(processInstanceId).isEmpty());
+        assertTrue(auditLogService.findVariableInstances(processInstanceId).isEmpty());
+    }
+
 }
@@ -0,0 +1,90 @@
+/**
+ * Copyright 2010 JBoss Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.process.audit;
+
+import static org.jbpm.persistence.util.PersistenceUtil.createEnvironment;
+import static org.jbpm.process.audit.AbstractAuditLogServiceTest.createKieSession;
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.drools.core.impl.KnowledgeBaseImpl;
+import org.jbpm.process.instance.impl.demo.SystemOutWorkItemHandler;
+import org.junit.Test;
+import org.kie.api.KieBase;
+import org.kie.api.runtime.Environment;
+import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.process.ProcessInstance;
+import org.kie.api.runtime.process.WorkItem;
+import org.kie.api.runtime.process.WorkItemHandler;
+import org.kie.api.runtime.process.WorkItemManager;
+import org.kie.internal.KnowledgeBase;
+
+/**
+ * This class tests the following classes: 
+ * <ul>
+ * <li>BufferedJPAWorkingMemoryDbLogger</li>
+ * </ul>
+ */
+public class BufferedWorkingMemoryDbLoggerWithPersistentSessionTest extends AbstractWorkingMemoryDbLoggerTest {
+
+    private KieSession ksession = null;
+    
+    @Override
+    public ProcessInstance startProcess(String processName) {
+        if( ksession == null ) { 
+            KieBase kbase = createKnowledgeBase();
+            
+            Environment env = createEnvironment(context);
+            ksession = createKieSession(kbase, env);
+            
+            new BufferedJPAWorkingMemoryDbLogger(ksession);
+            ksession.getWorkItemManager().registerWorkItemHandler("Human Task", new SystemOutWorkItemHandler());
+        }
+        return ksession.startProcess(processName);
+    }
+
+    @Test
+    public void testCompletionInLaterTransaction() throws Exception {
+        KieSession ksession = createKieSession(createKnowledgeBase(), createEnvironment(context));
+        new BufferedJPAWorkingMemoryDbLogger(ksession);
+        final List<Long> workItemIds = new ArrayList<Long>();
+        ksession.getWorkItemManager().registerWorkItemHandler("Human Task", new WorkItemHandler() {
+            public void executeWorkItem(WorkItem workItem, WorkItemManager manager) {
+                workItemIds.add(workItem.getId());
+            }
+            public void abortWorkItem(WorkItem workItem, WorkItemManager manager) {
+            }
+        });
+
+        long processInstanceId = ksession.startProcess("com.sample.ruleflow").getId();
+        ProcessInstanceLog processInstance = logService.findProcessInstance(processInstanceId);
+        assertNull(processInstance.getEnd());
+
+        // completed by another command, so the log entry is no longer known to the process instance
+        ksession.getWorkItemManager().completeWorkItem(workItemIds.get(0), null);
+        processInstance = logService.findProcessInstance(processInstanceId);
+        assertEquals(ProcessInstance.STATE_COMPLETED, processInstance.getStatus().intValue());
+        assertNotNull(processInstance.getEnd());
+        assertNotNull(processInstance.getDuration());
+        assertTrue(processInstance.getDuration() >= 0);
+        assertEquals(1, logService.findProcessInstances("com.sample.ruleflow").size());
+        ksession.dispose();
+    }
+
+}
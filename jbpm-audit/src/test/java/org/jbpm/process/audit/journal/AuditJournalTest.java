@@ -0,0 +1,159 @@
+package org.jbpm.process.audit.journal;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class AuditJournalTest {
+
+    private File file;
+    private AuditJournal journal;
+
+    @Before
+    public void setUp() throws Exception {
+        file = File.createTempFile("audit", ".journal");
+        file.delete();
+        journal = new AuditJournal(file, 1024, false);
+    }
+
+    @After
+    public void tearDown() {
+        journal.close();
+        file.delete();
+    }
+
+    @Test
+    public void testAppendReadAndCommit() throws Exception {
+        journal.append(0, "first".getBytes(), 0);
+        journal.append(4, "second".getBytes(), 0);
+
+        AuditJournal.Batch batch = journal.read(10, 0);
+        assertEquals(2, batch.getEntries().size());
+        assertEquals(0, batch.getEntries().get(0).getEventType());
+        assertEquals("first", new String(batch.getEntries().get(0).getPayload()));
+        assertEquals(4, batch.getEntries().get(1).getEventType());
+        assertEquals("second", new String(batch.getEntries().get(1).getPayload()));
+
+        // not committed yet, so delivered again
+        assertEquals(2, journal.read(10, 0).getEntries().size());
+
+        journal.commit(batch);
+        assertTrue(journal.read(10, 0).isEmpty());
+        assertEquals(0, journal.getPendingBytes());
+    }
+
+    @Test
+    public void testReadInBatches() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            journal.append(i, ("event" + i).getBytes(), 0);
+        }
+        AuditJournal.Batch batch = journal.read(3, 0);
+        assertEquals(3, batch.getEntries().size());
+        journal.commit(batch);
+
+        batch = journal.read(3, 0);
+        assertEquals(2, batch.getEntries().size());
+        assertEquals("event3", new String(batch.getEntries().get(0).getPayload()));
+        journal.commit(batch);
+        assertTrue(journal.read(3, 0).isEmpty());
+    }
+
+    @Test
+    public void testReplayAfterRestart() throws Exception {
+        journal.append(0, "stored".getBytes(), 0);
+        journal.commit(journal.read(10, 0));
+        journal.append(0, "pending1".getBytes(), 0);
+        journal.append(0, "pending2".getBytes(), 0);
+        journal.close();
+
+        journal = new AuditJournal(file, 1024, false);
+        AuditJournal.Batch batch = journal.read(10, 0);
+        assertEquals(2, batch.getEntries().size());
+        assertEquals("pending1", new String(batch.getEntries().get(0).getPayload()));
+        assertEquals("pending2", new String(batch.getEntries().get(1).getPayload()));
+    }
+
+    @Test
+    public void testNoReplayOfDrainedEvents() throws Exception {
+        journal.append(0, "first".getBytes(), 0);
+        journal.append(0, "second".getBytes(), 0);
+        journal.commit(journal.read(10, 0));
+        journal.close();
+
+        journal = new AuditJournal(file, 1024, false);
+        assertTrue(journal.read(10, 0).isEmpty());
+    }
+
+    @Test
+    public void testFullJournal() throws Exception {
+        byte[] payload = new byte[200];
+        int appended = 0;
+        try {
+            while (appended < 10) {
+                journal.append(0, payload, 10);
+                appended++;
+            }
+            fail("Journal should be full");
+        } catch (IllegalStateException e) {
+            // expected
+        }
+        assertTrue(appended > 0);
+
+        journal.commit(journal.read(100, 0));
+        // drained journal starts over from the beginning
+        journal.append(0, payload, 0);
+        assertEquals(1, journal.read(100, 0).getEntries().size());
+    }
+
+    @Test
+    public void testWrapAround() throws Exception {
+        byte[] payload = new byte[200];
+        for (int i = 0; i < 4; i++) {
+            journal.append(i, payload, 0);
+        }
+        // release the first two events only, the writer continues at the beginning of the file
+        journal.commit(journal.read(2, 0));
+        journal.append(4, payload, 0);
+        journal.append(5, payload, 0);
+
+        AuditJournal.Batch batch = journal.read(100, 0);
+        assertEquals(4, batch.getEntries().size());
+        for (int i = 0; i < 4; i++) {
+            assertEquals(i + 2, batch.getEntries().get(i).getEventType());
+        }
+        journal.commit(batch);
+        assertEquals(0, journal.getPendingBytes());
+    }
+
+    @Test
+    public void testReplayAfterRestartWithWrapAround() throws Exception {
+        byte[] payload = new byte[200];
+        for (int i = 0; i < 4; i++) {
+            journal.append(i, payload, 0);
+        }
+        journal.commit(journal.read(3, 0));
+        journal.append(4, payload, 0);
+        journal.close();
+
+        journal = new AuditJournal(file, 1024, false);
+        AuditJournal.Batch batch = journal.read(100, 0);
+        assertEquals(2, batch.getEntries().size());
+        assertEquals(3, batch.getEntries().get(0).getEventType());
+        assertEquals(4, batch.getEntries().get(1).getEventType());
+    }
+
+    @Test
+    public void testAwaitFreeSpace() throws Exception {
+        byte[] payload = new byte[200];
+        for (int i = 0; i < 4; i++) {
+            journal.append(i, payload, 0);
+        }
+        assertFalse(journal.awaitFreeSpace(2 * AuditJournal.getRecordSize(payload), 10));
+        journal.commit(journal.read(1, 0));
+        assertTrue(journal.awaitFreeSpace(AuditJournal.getRecordSize(payload), 0));
+    }
+}
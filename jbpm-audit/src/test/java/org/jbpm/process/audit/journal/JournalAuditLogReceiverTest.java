@@ -0,0 +1,179 @@
+package org.jbpm.process.audit.journal;
+
+import static org.jbpm.persistence.util.PersistenceUtil.*;
+import static org.jbpm.process.audit.AbstractAuditLogServiceTest.*;
+import static org.junit.Assert.*;
+
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.util.HashMap;
+import java.util.List;
+
+import javax.naming.InitialContext;
+import javax.persistence.EntityManagerFactory;
+import javax.transaction.UserTransaction;
+
+import org.jbpm.process.audit.AbstractAuditLogger;
+import org.jbpm.process.audit.AuditEventCodec;
+import org.jbpm.process.audit.AuditLogService;
+import org.jbpm.process.audit.JPAAuditLogService;
+import org.jbpm.process.audit.NodeInstanceLog;
+import org.jbpm.process.audit.ProcessInstanceLog;
+import org.jbpm.process.audit.strategy.StandaloneJtaStrategy;
+import org.jbpm.process.instance.impl.demo.SystemOutWorkItemHandler;
+import org.jbpm.test.util.AbstractBaseTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.api.runtime.Environment;
+import org.kie.api.runtime.EnvironmentName;
+import org.kie.api.runtime.KieSession;
+
+public class JournalAuditLogReceiverTest extends AbstractBaseTest {
+
+    private static final String PROCESS_ID = "com.sample.ruleflow";
+
+    private HashMap<String, Object> context;
+    private Environment env;
+    private File file;
+    private AuditJournal journal;
+    private KieSession session;
+    private JournalAuditLogReceiver receiver;
+
+    @Before
+    public void setUp() throws Exception {
+        context = setupWithPoolingDataSource(JBPM_PERSISTENCE_UNIT_NAME);
+        env = createEnvironment(context);
+        session = createKieSession(createKnowledgeBase(), env);
+        session.getWorkItemManager().registerWorkItemHandler("Human Task", new SystemOutWorkItemHandler());
+
+        file = File.createTempFile("audit", ".journal");
+        file.delete();
+        journal = new AuditJournal(file, 64 * 1024, false);
+        new JournalAuditLogProducer(session, journal);
+
+        EntityManagerFactory emf = (EntityManagerFactory) env.get(EnvironmentName.ENTITY_MANAGER_FACTORY);
+        receiver = new JournalAuditLogReceiver(journal, new StandaloneJtaStrategy(emf));
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        session.dispose();
+        journal.close();
+        file.delete();
+        new File(file.getPath() + ".dead").delete();
+        cleanUp(context);
+    }
+
+    @Test
+    public void testDrainCommittedEvents() throws Exception {
+        long processInstanceId = session.startProcess(PROCESS_ID).getId();
+        assertTrue(journal.getPendingBytes() > 0);
+
+        int stored = 0;
+        int drained;
+        while ((drained = receiver.drain()) > 0) {
+            stored += drained;
+        }
+        assertEquals(11, stored);
+        assertEquals(0, journal.getPendingBytes());
+
+        AuditLogService logService = new JPAAuditLogService(env);
+        List<ProcessInstanceLog> processInstances = logService.findProcessInstances(PROCESS_ID);
+        assertEquals(1, processInstances.size());
+        assertNotNull(processInstances.get(0).getEnd());
+        List<NodeInstanceLog> nodeInstances = logService.findNodeInstances(processInstanceId);
+        assertEquals(6, nodeInstances.size());
+        logService.clear();
+        logService.dispose();
+    }
+
+    @Test
+    public void testNoEventsOfRolledBackTransaction() throws Exception {
+        UserTransaction ut = InitialContext.doLookup("java:comp/UserTransaction");
+        ut.begin();
+        session.startProcess(PROCESS_ID);
+        ut.rollback();
+
+        assertEquals(0, journal.getPendingBytes());
+        assertEquals(0, receiver.drain());
+
+        AuditLogService logService = new JPAAuditLogService(env);
+        assertTrue(logService.findProcessInstances(PROCESS_ID).isEmpty());
+        logService.dispose();
+    }
+
+    @Test
+    public void testEventsDeliveredAgainAfterRestart() throws Exception {
+        session.startProcess(PROCESS_ID);
+        int pendingBytes = journal.getPendingBytes();
+        journal.close();
+
+        journal = new AuditJournal(file, 64 * 1024, false);
+        assertEquals(pendingBytes, journal.getPendingBytes());
+        EntityManagerFactory emf = (EntityManagerFactory) env.get(EnvironmentName.ENTITY_MANAGER_FACTORY);
+        receiver = new JournalAuditLogReceiver(journal, new StandaloneJtaStrategy(emf));
+        while (receiver.drain() > 0) {
+            // drain all recovered events
+        }
+
+        AuditLogService logService = new JPAAuditLogService(env);
+        assertEquals(1, logService.findProcessInstances(PROCESS_ID).size());
+        logService.clear();
+        logService.dispose();
+    }
+
+    @Test
+    public void testBadEventsMovedToDeadLetterFile() throws Exception {
+        AuditEventCodec codec = new AuditEventCodec();
+        StringBuilder tooLong = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            tooLong.append('x');
+        }
+        journal.append(AbstractAuditLogger.BEFORE_NODE_ENTER_EVENT_TYPE, codec.encodeEvent(
+                new NodeInstanceLog(NodeInstanceLog.TYPE_ENTER, 1, PROCESS_ID, "1", "1", "good"),
+                AbstractAuditLogger.BEFORE_NODE_ENTER_EVENT_TYPE), 0);
+        // violates the length of the node name column
+        journal.append(AbstractAuditLogger.BEFORE_NODE_ENTER_EVENT_TYPE, codec.encodeEvent(
+                new NodeInstanceLog(NodeInstanceLog.TYPE_ENTER, 1, PROCESS_ID, "2", "2", tooLong.toString()),
+                AbstractAuditLogger.BEFORE_NODE_ENTER_EVENT_TYPE), 0);
+        // cannot be decoded
+        journal.append(AbstractAuditLogger.BEFORE_NODE_ENTER_EVENT_TYPE, new byte[] { 1, 2, 3 }, 0);
+        journal.append(AbstractAuditLogger.BEFORE_NODE_ENTER_EVENT_TYPE, codec.encodeEvent(
+                new NodeInstanceLog(NodeInstanceLog.TYPE_ENTER, 1, PROCESS_ID, "3", "3", "good"),
+                AbstractAuditLogger.BEFORE_NODE_ENTER_EVENT_TYPE), 0);
+
+        assertEquals(4, receiver.drain());
+        assertEquals(0, journal.getPendingBytes());
+
+        AuditLogService logService = new JPAAuditLogService(env);
+        List<NodeInstanceLog> nodeInstances = logService.findNodeInstances(1);
+        assertEquals(2, nodeInstances.size());
+        for (NodeInstanceLog nodeInstance : nodeInstances) {
+            assertEquals("good", nodeInstance.getNodeName());
+        }
+        logService.clear();
+        logService.dispose();
+
+        // events following the bad ones are still delivered
+        journal.append(AbstractAuditLogger.BEFORE_NODE_ENTER_EVENT_TYPE, codec.encodeEvent(
+                new NodeInstanceLog(NodeInstanceLog.TYPE_ENTER, 2, PROCESS_ID, "4", "4", "good"),
+                AbstractAuditLogger.BEFORE_NODE_ENTER_EVENT_TYPE), 0);
+        assertEquals(1, receiver.drain());
+
+        DataInputStream in = new DataInputStream(new FileInputStream(file.getPath() + ".dead"));
+        try {
+            assertEquals(AbstractAuditLogger.BEFORE_NODE_ENTER_EVENT_TYPE, in.readInt());
+            byte[] payload = new byte[in.readInt()];
+            in.readFully(payload);
+            assertEquals(tooLong.toString(), ((NodeInstanceLog) codec.decodeEvent(payload).getLog()).getNodeName());
+            assertEquals(AbstractAuditLogger.BEFORE_NODE_ENTER_EVENT_TYPE, in.readInt());
+            assertEquals(3, in.readInt());
+            in.readFully(new byte[3]);
+            assertEquals(-1, in.read());
+        } finally {
+            in.close();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2014 JBoss by Red Hat.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jbpm.benchmarks;
+
+import org.kie.api.KieBase;
+import org.kie.api.KieServices;
+import org.kie.api.builder.KieBuilder;
+import org.kie.api.builder.KieFileSystem;
+import org.kie.api.builder.Message.Level;
+import org.kie.api.runtime.KieSession;
+import org.kie.internal.io.ResourceFactory;
+
+/**
+ * Builds the knowledge base of the benchmark processes (see <code>src/main/resources</code>)
+ * and in-memory sessions on top of it.
+ */
+public final class BenchmarkSupport {
+
+    public static final String SEQUENCE_PROCESS = "benchmark-Sequence.bpmn2";
+    public static final String SIGNAL_PROCESS = "benchmark-Signal.bpmn2";
+    public static final String GATEWAYS_PROCESS = "benchmark-Gateways.bpmn2";
+    public static final String FOR_EACH_PROCESS = "benchmark-ForEach.bpmn2";
+
+    private BenchmarkSupport() {
+    }
+
+    public static KieBase createKieBase(String... processes) {
+        KieServices ks = KieServices.Factory.get();
+        KieFileSystem kfs = ks.newKieFileSystem();
+        for (String process : processes) {
+            kfs.write(ResourceFactory.newClassPathResource(process));
+        }
+        KieBuilder kieBuilder = ks.newKieBuilder(kfs).buildAll();
+        if (kieBuilder.getResults().hasMessages(Level.ERROR)) {
+            throw new IllegalStateException("Could not build benchmark processes: "
+                    + kieBuilder.getResults().getMessages(Level.ERROR));
+        }
+        return ks.newKieContainer(ks.getRepository().getDefaultReleaseId()).getKieBase();
+    }
+
+    public static KieSession createKieSession(String... processes) {
+        return createKieBase(processes).newKieSession();
+    }
+
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2014 JBoss by Red Hat.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jbpm.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.process.ProcessInstance;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Runs a process through an exclusive, a parallel and an inclusive split and join,
+ * so constraint evaluation and join bookkeeping dominate.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class GatewayBenchmark {
+
+    @Param({"5", "50"})
+    private int x;
+
+    private KieSession ksession;
+    private Map<String, Object> parameters;
+
+    @Setup
+    public void setup() {
+        ksession = BenchmarkSupport.createKieSession(BenchmarkSupport.GATEWAYS_PROCESS);
+        parameters = new HashMap<String, Object>();
+        parameters.put("x", x);
+    }
+
+    @TearDown
+    public void tearDown() {
+        ksession.dispose();
+    }
+
+    @Benchmark
+    public ProcessInstance gateways() {
+        return ksession.startProcess("org.jbpm.benchmarks.Gateways", parameters);
+    }
+
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2014 JBoss by Red Hat.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jbpm.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.drools.core.impl.InternalKnowledgeBase;
+import org.drools.core.impl.StatefulKnowledgeSessionImpl;
+import org.drools.core.marshalling.impl.MarshallerReaderContext;
+import org.drools.core.marshalling.impl.MarshallerWriteContext;
+import org.drools.core.marshalling.impl.PersisterHelper;
+import org.drools.core.marshalling.impl.ProtobufMarshaller;
+import org.jbpm.marshalling.impl.JBPMMessages;
+import org.jbpm.marshalling.impl.ProcessInstanceMarshaller;
+import org.jbpm.marshalling.impl.ProcessMarshallerRegistry;
+import org.jbpm.process.instance.impl.ProcessInstanceImpl;
+import org.jbpm.workflow.instance.impl.WorkflowProcessInstanceImpl;
+import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.process.ProcessInstance;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Writes and reads an active process instance with the protobuf process instance marshaller,
+ * the same way <code>ProcessInstanceInfo</code> stores and loads process instances.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MarshallingBenchmark {
+
+    @Param({"1", "100"})
+    private int variableSize;
+
+    private KieSession ksession;
+    private ProcessInstance processInstance;
+    private byte[] marshalled;
+
+    @Setup
+    public void setup() throws IOException {
+        ksession = BenchmarkSupport.createKieSession(BenchmarkSupport.SIGNAL_PROCESS);
+        StringBuilder value = new StringBuilder();
+        for (int i = 0; i < variableSize; i++) {
+            value.append("value").append(i);
+        }
+        Map<String, Object> parameters = new HashMap<String, Object>();
+        parameters.put("x", value.toString());
+        processInstance = ksession.startProcess("org.jbpm.benchmarks.Signal", parameters);
+        marshalled = write();
+    }
+
+    @TearDown
+    public void tearDown() {
+        ksession.dispose();
+    }
+
+    @Benchmark
+    public byte[] write() throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        MarshallerWriteContext context = new MarshallerWriteContext(baos, null, null, null, null,
+                ksession.getEnvironment());
+        String processType = ((ProcessInstanceImpl) processInstance).getProcess().getType();
+        context.stream.writeUTF(processType);
+        ProcessInstanceMarshaller marshaller = ProcessMarshallerRegistry.INSTANCE.getMarshaller(processType);
+        Object result = marshaller.writeProcessInstance(context, processInstance);
+        PersisterHelper.writeToStreamWithHeader(context, (JBPMMessages.ProcessInstance) result);
+        context.close();
+        return baos.toByteArray();
+    }
+
+    @Benchmark
+    public ProcessInstance read() throws IOException {
+        MarshallerReaderContext context = new MarshallerReaderContext(new ByteArrayInputStream(marshalled),
+                (InternalKnowledgeBase) ksession.getKieBase(), null, null, ProtobufMarshaller.TIMER_READERS,
+                ksession.getEnvironment());
+        ProcessInstanceMarshaller marshaller = ProcessMarshallerRegistry.INSTANCE.getMarshaller(context.stream.readUTF());
+        context.wm = ((StatefulKnowledgeSessionImpl) ksession).getInternalWorkingMemory();
+        ProcessInstance result = marshaller.readProcessInstance(context);
+        // do not leave the event listeners of the read copy registered on the session
+        ((WorkflowProcessInstanceImpl) result).disconnect();
+        context.close();
+        return result;
+    }
+
+}
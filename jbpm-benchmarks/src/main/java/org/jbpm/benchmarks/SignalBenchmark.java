@@ -0,0 +1,66 @@
+/*
+ * Copyright 2014 JBoss by Red Hat.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jbpm.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.process.ProcessInstance;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Starts a process that waits for a signal and signals it, both to the process instance
+ * only and through the session (which dispatches to all listening process instances).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SignalBenchmark {
+
+    private KieSession ksession;
+
+    @Setup
+    public void setup() {
+        ksession = BenchmarkSupport.createKieSession(BenchmarkSupport.SIGNAL_PROCESS);
+    }
+
+    @TearDown
+    public void tearDown() {
+        ksession.dispose();
+    }
+
+    @Benchmark
+    public ProcessInstance signalProcessInstance() {
+        ProcessInstance processInstance = ksession.startProcess("org.jbpm.benchmarks.Signal");
+        ksession.signalEvent("go", "value", processInstance.getId());
+        return processInstance;
+    }
+
+    @Benchmark
+    public ProcessInstance signalSession() {
+        ProcessInstance processInstance = ksession.startProcess("org.jbpm.benchmarks.Signal");
+        ksession.signalEvent("go", "value");
+        return processInstance;
+    }
+
+}
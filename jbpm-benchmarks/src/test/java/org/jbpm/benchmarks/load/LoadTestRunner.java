@@ -0,0 +1,156 @@
+/*
+ * Copyright 2014 JBoss by Red Hat.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jbpm.benchmarks.load;
+
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs an operation a fixed number of times from a number of threads and measures the throughput
+ * and the latency of every single run. Warm up runs are executed the same way but not measured.
+ */
+public class LoadTestRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadTestRunner.class);
+
+    public interface Operation {
+
+        /**
+         * @param iteration - sequence number of this run, unique across all threads
+         */
+        void execute(int iteration) throws Exception;
+
+    }
+
+    private final int threads;
+    private final int warmupIterations;
+    private final int iterations;
+
+    public LoadTestRunner(int threads, int warmupIterations, int iterations) {
+        this.threads = threads;
+        this.warmupIterations = warmupIterations;
+        this.iterations = iterations;
+    }
+
+    public Result run(String name, Operation operation) throws Exception {
+        if (warmupIterations > 0) {
+            execute(operation, warmupIterations, 0);
+        }
+        Result result = execute(operation, iterations, warmupIterations);
+        result.name = name;
+        logger.info("{}", result);
+        return result;
+    }
+
+    private Result execute(final Operation operation, final int count, final int firstIteration) throws Exception {
+        final long[] latencies = new long[count];
+        final AtomicInteger next = new AtomicInteger();
+        final AtomicInteger errors = new AtomicInteger();
+        final CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        try {
+            Future<?>[] workers = new Future<?>[threads];
+            for (int i = 0; i < threads; i++) {
+                workers[i] = executorService.submit(new Callable<Void>() {
+                    public Void call() throws Exception {
+                        start.await();
+                        int index;
+                        while ((index = next.getAndIncrement()) < count) {
+                            long started = System.nanoTime();
+                            try {
+                                operation.execute(firstIteration + index);
+                            } catch (Throwable e) {
+                                if (errors.getAndIncrement() == 0) {
+                                    logger.warn("Operation failed, only the first failure is logged", e);
+                                }
+                            }
+                            latencies[index] = System.nanoTime() - started;
+                        }
+                        return null;
+                    }
+                });
+            }
+            long started = System.nanoTime();
+            start.countDown();
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+            long elapsed = System.nanoTime() - started;
+            Arrays.sort(latencies);
+            return new Result(threads, latencies, errors.get(), elapsed);
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    public static class Result {
+
+        private String name;
+        private final int threads;
+        private final long[] sortedLatencies;
+        private final int errors;
+        private final long elapsedNanos;
+
+        private Result(int threads, long[] sortedLatencies, int errors, long elapsedNanos) {
+            this.threads = threads;
+            this.sortedLatencies = sortedLatencies;
+            this.errors = errors;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public int getOperations() {
+            return sortedLatencies.length;
+        }
+
+        public int getErrors() {
+            return errors;
+        }
+
+        public double getOperationsPerSecond() {
+            return sortedLatencies.length / (elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1));
+        }
+
+        /**
+         * @param percentile - between 0 and 100
+         * @return latency in milliseconds that the given percentage of operations did not exceed
+         */
+        public double getLatencyPercentile(double percentile) {
+            if (sortedLatencies.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile / 100 * sortedLatencies.length) - 1;
+            index = Math.min(Math.max(index, 0), sortedLatencies.length - 1);
+            return sortedLatencies[index] / (double) TimeUnit.MILLISECONDS.toNanos(1);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s: %d operations on %d threads, %d errors, %.1f ops/sec, latency ms p50=%.2f p90=%.2f p99=%.2f max=%.2f",
+                    name, getOperations(), threads, errors, getOperationsPerSecond(),
+                    getLatencyPercentile(50), getLatencyPercentile(90), getLatencyPercentile(99), getLatencyPercentile(100));
+        }
+    }
+
+}
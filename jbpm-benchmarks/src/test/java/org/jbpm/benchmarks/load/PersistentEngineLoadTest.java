@@ -0,0 +1,242 @@
+/*
+ * Copyright 2014 JBoss by Red Hat.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jbpm.benchmarks.load;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.Persistence;
+
+import org.jbpm.executor.ExecutorServiceFactory;
+import org.jbpm.executor.impl.wih.AsyncWorkItemHandler;
+import org.jbpm.process.audit.JPAAuditLogService;
+import org.jbpm.runtime.manager.impl.DefaultRegisterableItemsFactory;
+import org.jbpm.services.task.identity.JBossUserGroupCallbackImpl;
+import org.jbpm.test.JbpmJUnitBaseTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+import org.kie.api.io.ResourceType;
+import org.kie.api.runtime.manager.Context;
+import org.kie.api.runtime.manager.RuntimeEngine;
+import org.kie.api.runtime.manager.RuntimeEnvironmentBuilder;
+import org.kie.api.runtime.manager.RuntimeManager;
+import org.kie.api.runtime.process.ProcessInstance;
+import org.kie.api.runtime.process.WorkItemHandler;
+import org.kie.api.task.TaskService;
+import org.kie.internal.executor.api.ExecutorService;
+import org.kie.internal.io.ResourceFactory;
+import org.kie.internal.runtime.manager.context.EmptyContext;
+import org.kie.internal.runtime.manager.context.ProcessInstanceIdContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import bitronix.tm.resource.jdbc.PoolingDataSource;
+
+/**
+ * Load test of the persistent engine: drives a <code>RuntimeManager</code> of each strategy backed by
+ * an in-memory H2 database from a number of threads and reports throughput and latency percentiles of
+ * starting processes, completing human tasks and running asynchronous work items through the executor.
+ * <br/>
+ * Skipped by default, run it with
+ * <code>mvn test -Dbenchmarks -DskipLoadTests=false -pl jbpm-benchmarks</code>
+ * and configure it with following system properties:
+ * <ul>
+ *  <li>jbpm.load.threads - number of concurrent threads - 4 by default</li>
+ *  <li>jbpm.load.iterations - number of measured operations per scenario - 500 by default</li>
+ *  <li>jbpm.load.warmup - number of operations executed before measuring - 50 by default</li>
+ *  <li>jbpm.load.timeout - seconds to wait for the executor to complete all async work items - 300 by default</li>
+ * </ul>
+ */
+@RunWith(Parameterized.class)
+public class PersistentEngineLoadTest extends JbpmJUnitBaseTestCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(PersistentEngineLoadTest.class);
+
+    private static final int THREADS = Integer.parseInt(System.getProperty("jbpm.load.threads", "4"));
+    private static final int ITERATIONS = Integer.parseInt(System.getProperty("jbpm.load.iterations", "500"));
+    private static final int WARMUP = Integer.parseInt(System.getProperty("jbpm.load.warmup", "50"));
+    private static final long TIMEOUT = Long.parseLong(System.getProperty("jbpm.load.timeout", "300"));
+
+    private final Strategy strategy;
+    private final LoadTestRunner runner = new LoadTestRunner(THREADS, WARMUP, ITERATIONS);
+
+    private EntityManagerFactory executorEmf;
+    private ExecutorService executorService;
+
+    @Parameters
+    public static Collection<Object[]> strategies() {
+        return Arrays.asList(new Object[][] {
+                { Strategy.SINGLETON },
+                { Strategy.REQUEST },
+                { Strategy.PROCESS_INSTANCE }
+        });
+    }
+
+    public PersistentEngineLoadTest(Strategy strategy) {
+        super(true, true);
+        this.strategy = strategy;
+    }
+
+    @Before
+    public void setupExecutor() {
+        System.setProperty("org.kie.executor.timeunit", "MILLISECONDS");
+        executorEmf = Persistence.createEntityManagerFactory("org.jbpm.executor");
+        executorService = ExecutorServiceFactory.newExecutorService(executorEmf);
+        executorService.setThreadPoolSize(THREADS);
+        executorService.setInterval(100);
+        executorService.init();
+    }
+
+    @After
+    public void destroyExecutor() {
+        System.clearProperty("org.kie.executor.timeunit");
+        if (executorService != null) {
+            executorService.destroy();
+            ExecutorServiceFactory.resetExecutorService(executorService);
+        }
+        if (executorEmf != null) {
+            executorEmf.close();
+        }
+    }
+
+    @Override
+    protected PoolingDataSource setupPoolingDataSource() {
+        PoolingDataSource pds = super.setupPoolingDataSource();
+        // every thread holds a connection for the whole transaction, plus the executor callbacks
+        pds.setMaxPoolSize(2 * THREADS + 5);
+        return pds;
+    }
+
+    @Test
+    public void testStartProcess() throws Exception {
+        final RuntimeManager manager = createLoadRuntimeManager("benchmark-Sequence.bpmn2");
+
+        LoadTestRunner.Result result = runner.run(strategy + " start process", new LoadTestRunner.Operation() {
+            public void execute(int iteration) {
+                RuntimeEngine engine = manager.getRuntimeEngine(newContext());
+                try {
+                    ProcessInstance processInstance = engine.getKieSession().startProcess("org.jbpm.benchmarks.Sequence");
+                    assertEquals(ProcessInstance.STATE_COMPLETED, processInstance.getState());
+                } finally {
+                    manager.disposeRuntimeEngine(engine);
+                }
+            }
+        });
+        assertEquals(0, result.getErrors());
+    }
+
+    @Test
+    public void testHumanTask() throws Exception {
+        final RuntimeManager manager = createLoadRuntimeManager("load-HumanTask.bpmn2");
+
+        LoadTestRunner.Result result = runner.run(strategy + " start process and complete task", new LoadTestRunner.Operation() {
+            public void execute(int iteration) {
+                long processInstanceId;
+                RuntimeEngine engine = manager.getRuntimeEngine(newContext());
+                try {
+                    processInstanceId = engine.getKieSession().startProcess("org.jbpm.benchmarks.load.HumanTask").getId();
+                } finally {
+                    manager.disposeRuntimeEngine(engine);
+                }
+
+                engine = manager.getRuntimeEngine(newContext(processInstanceId));
+                try {
+                    TaskService taskService = engine.getTaskService();
+                    List<Long> taskIds = taskService.getTasksByProcessInstanceId(processInstanceId);
+                    assertEquals(1, taskIds.size());
+                    taskService.start(taskIds.get(0), "john");
+                    taskService.complete(taskIds.get(0), "john", null);
+                    assertNull(engine.getKieSession().getProcessInstance(processInstanceId));
+                } finally {
+                    manager.disposeRuntimeEngine(engine);
+                }
+            }
+        });
+        assertEquals(0, result.getErrors());
+    }
+
+    @Test
+    public void testAsyncWorkItem() throws Exception {
+        final RuntimeManager manager = createLoadRuntimeManager("load-Async.bpmn2");
+        long started = System.currentTimeMillis();
+
+        LoadTestRunner.Result result = runner.run(strategy + " start process with async work item", new LoadTestRunner.Operation() {
+            public void execute(int iteration) {
+                RuntimeEngine engine = manager.getRuntimeEngine(newContext());
+                try {
+                    engine.getKieSession().startProcess("org.jbpm.benchmarks.load.Async");
+                } finally {
+                    manager.disposeRuntimeEngine(engine);
+                }
+            }
+        });
+        assertEquals(0, result.getErrors());
+
+        // the executor completes the work items in the background, measure until all process instances completed
+        JPAAuditLogService auditLogService = new JPAAuditLogService(getEmf());
+        long deadline = System.currentTimeMillis() + TIMEOUT * 1000;
+        while (!auditLogService.findActiveProcessInstances("org.jbpm.benchmarks.load.Async").isEmpty()) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("Executor did not complete all async work items within " + TIMEOUT + " seconds");
+            }
+            Thread.sleep(100);
+        }
+        long elapsed = System.currentTimeMillis() - started;
+        logger.info("{} async work items: {} process instances completed end to end, {} ops/sec", strategy,
+                WARMUP + ITERATIONS, String.format("%.1f", (WARMUP + ITERATIONS) * 1000.0 / elapsed));
+    }
+
+    private RuntimeManager createLoadRuntimeManager(String process) {
+        RuntimeEnvironmentBuilder builder = RuntimeEnvironmentBuilder.Factory.get()
+                .newDefaultBuilder()
+                .entityManagerFactory(getEmf())
+                .userGroupCallback(new JBossUserGroupCallbackImpl("classpath:/usergroups.properties"))
+                .addAsset(ResourceFactory.newClassPathResource(process), ResourceType.BPMN2)
+                .registerableItemsFactory(new DefaultRegisterableItemsFactory() {
+
+                    @Override
+                    public Map<String, WorkItemHandler> getWorkItemHandlers(RuntimeEngine runtime) {
+                        Map<String, WorkItemHandler> handlers = super.getWorkItemHandlers(runtime);
+                        handlers.put("async", new AsyncWorkItemHandler(executorService, "org.jbpm.executor.commands.PrintOutCommand"));
+                        return handlers;
+                    }
+
+                });
+        return createRuntimeManager(strategy, null, builder.get(), null);
+    }
+
+    private Context<?> newContext() {
+        if (strategy == Strategy.PROCESS_INSTANCE) {
+            return ProcessInstanceIdContext.get();
+        }
+        return EmptyContext.get();
+    }
+
+    private Context<?> newContext(long processInstanceId) {
+        if (strategy == Strategy.PROCESS_INSTANCE) {
+            return ProcessInstanceIdContext.get(processInstanceId);
+        }
+        return EmptyContext.get();
+    }
+
+}
@@ -211,6 +211,7 @@ public class TaskHandler extends AbstractNodeHandler {
 				forEachNode.setId(node.getId());
 				String uniqueId = (String) node.getMetaData().get("UniqueId");
 				forEachNode.setMetaData("UniqueId", uniqueId);
+				forEachNode.setParallel("true".equals(String.valueOf(node.getMetaData().get("customParallel"))));
 				node.setMetaData("UniqueId", uniqueId + ":" + uniqueIdGen++);
 				node.setMetaData("hidden", true);
 				forEachNode.addNode(node);
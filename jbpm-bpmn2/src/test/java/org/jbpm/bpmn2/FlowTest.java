@@ -19,6 +19,7 @@ import java.io.ByteArrayInputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -31,7 +32,9 @@ import org.drools.core.command.impl.KnowledgeCommandContext;
 import org.jbpm.bpmn2.objects.TestWorkItemHandler;
 import org.jbpm.process.core.context.variable.VariableScope;
 import org.jbpm.process.instance.context.variable.VariableScopeInstance;
+import org.jbpm.process.instance.impl.ConcurrentWorkItemHandler;
 import org.jbpm.process.instance.impl.demo.SystemOutWorkItemHandler;
+import org.jbpm.workflow.instance.WorkflowRuntimeException;
 import org.jbpm.workflow.instance.impl.NodeInstanceImpl;
 import org.jbpm.workflow.instance.impl.WorkflowProcessInstanceImpl;
 import org.jbpm.workflow.instance.node.CompositeContextNodeInstance;
@@ -1247,6 +1250,75 @@ public class FlowTest extends JbpmBpmn2TestCase {
 
     }
 
+    @Test
+    public void testMultiInstanceLoopCharacteristicsTaskParallel() throws Exception {
+        KieBase kbase = createKnowledgeBaseWithoutDumper("BPMN2-MultiInstanceLoopCharacteristicsTaskParallel.bpmn2");
+        ksession = createKnowledgeSession(kbase);
+        final List<String> threads = Collections.synchronizedList(new ArrayList<String>());
+        ConcurrentWorkItemHandler handler = new ConcurrentWorkItemHandler(new SystemOutWorkItemHandler() {
+            public void executeWorkItem(WorkItem workItem, WorkItemManager manager) {
+                threads.add(Thread.currentThread().getName());
+                super.executeWorkItem(workItem, manager);
+            }
+        }, 2);
+        final List<String> downstreamThreads = new ArrayList<String>();
+        ksession.getWorkItemManager().registerWorkItemHandler("Service", handler);
+        ksession.getWorkItemManager().registerWorkItemHandler("Downstream", new SystemOutWorkItemHandler() {
+            public void executeWorkItem(WorkItem workItem, WorkItemManager manager) {
+                downstreamThreads.add(Thread.currentThread().getName());
+                super.executeWorkItem(workItem, manager);
+            }
+        });
+        Map<String, Object> params = new HashMap<String, Object>();
+        params.put("list", Arrays.asList("First Item", "Second Item", "Third Item"));
+        try {
+            ProcessInstance processInstance = ksession.startProcess(
+                    "MultiInstanceLoopCharacteristicsTaskParallel", params);
+            assertProcessInstanceCompleted(processInstance);
+        } finally {
+            handler.dispose();
+        }
+        assertEquals(3, threads.size());
+        assertFalse(threads.contains(Thread.currentThread().getName()));
+        // the work item after the multi instance task is not dispatched to the pool
+        assertEquals(Arrays.asList(Thread.currentThread().getName()), downstreamThreads);
+    }
+
+    @Test
+    public void testMultiInstanceLoopCharacteristicsTaskParallelWithFailingHandler() throws Exception {
+        KieBase kbase = createKnowledgeBaseWithoutDumper("BPMN2-MultiInstanceLoopCharacteristicsTaskParallel.bpmn2");
+        ksession = createKnowledgeSession(kbase);
+        ConcurrentWorkItemHandler handler = new ConcurrentWorkItemHandler(new SystemOutWorkItemHandler() {
+            public void executeWorkItem(WorkItem workItem, WorkItemManager manager) {
+                if ("Second Item".equals(workItem.getParameter("Item"))) {
+                    throw new IllegalStateException("Failing on purpose");
+                }
+                super.executeWorkItem(workItem, manager);
+            }
+        }, 2);
+        TestWorkItemHandler downstream = new TestWorkItemHandler();
+        ksession.getWorkItemManager().registerWorkItemHandler("Service", handler);
+        ksession.getWorkItemManager().registerWorkItemHandler("Downstream", downstream);
+        Map<String, Object> params = new HashMap<String, Object>();
+        params.put("list", Arrays.asList("First Item", "Second Item", "Third Item"));
+        try {
+            ksession.startProcess("MultiInstanceLoopCharacteristicsTaskParallel", params);
+            fail("Process should fail as one of the work items failed");
+        } catch (Exception e) {
+            // the failure is handled by the work item node, as if the handler had run on this thread
+            Throwable cause = e;
+            while (cause != null && !(cause instanceof WorkflowRuntimeException)) {
+                cause = cause.getCause();
+            }
+            assertNotNull(cause);
+            assertTrue(cause.getCause() instanceof IllegalStateException);
+            assertEquals("Failing on purpose", cause.getCause().getMessage());
+        } finally {
+            handler.dispose();
+        }
+        assertNull(downstream.getWorkItem());
+    }
+
     @Test
     public void testMultipleInOutgoingSequenceFlows() throws Exception {
         System.setProperty("jbpm.enable.multi.con", "true");
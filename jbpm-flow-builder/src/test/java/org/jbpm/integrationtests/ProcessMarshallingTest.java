@@ -2,10 +2,15 @@ package org.jbpm.integrationtests;
 
 import static org.jbpm.integrationtests.JbpmSerializationHelper.getSerialisedStatefulKnowledgeSession;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.io.StringReader;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -14,16 +19,21 @@ import java.util.Map;
 
 import org.jbpm.integrationtests.handler.TestWorkItemHandler;
 import org.jbpm.integrationtests.test.Person;
+import org.jbpm.marshalling.impl.ProtobufRuleFlowProcessInstanceMarshaller;
 import org.jbpm.process.core.context.variable.VariableScope;
 import org.jbpm.process.instance.ProcessInstance;
 import org.jbpm.process.instance.context.variable.VariableScopeInstance;
 import org.jbpm.test.util.AbstractBaseTest;
 import org.junit.Test;
+import org.kie.api.event.process.DefaultProcessEventListener;
+import org.kie.api.event.process.ProcessVariableChangedEvent;
 import org.kie.api.io.ResourceType;
 import org.kie.api.marshalling.Marshaller;
+import org.kie.api.marshalling.ObjectMarshallingStrategy;
 import org.kie.api.runtime.process.WorkItem;
 import org.kie.api.runtime.process.WorkItemHandler;
 import org.kie.api.runtime.process.WorkItemManager;
+import org.kie.api.runtime.process.WorkflowProcessInstance;
 import org.kie.internal.builder.KnowledgeBuilder;
 import org.kie.internal.builder.KnowledgeBuilderFactory;
 import org.kie.internal.definition.KnowledgePackage;
@@ -164,6 +174,98 @@ public class ProcessMarshallingTest extends AbstractBaseTest {
         assertEquals(0, session.getProcessInstances().size());
     }
     
+    @Test
+    public void testMarshallingProcessInstanceWithLazyVariables() throws Exception {
+        String process = 
+    		"<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
+    		"<process xmlns=\"http://drools.org/drools-5.0/process\"\n" +
+    		"    xmlns:xs=\"http://www.w3.org/2001/XMLSchema-instance\"\n" +
+    		"    xs:schemaLocation=\"http://drools.org/drools-5.0/process drools-processes-5.0.xsd\"\n" +
+    		"    type=\"RuleFlow\" name=\"ruleflow\" id=\"org.test.ruleflow\" package-name=\"org.test\" >\n" +
+    		"  <header>\n" +
+    		"    <variables>\n" +
+    		"      <variable name=\"myVariable\" >\n" +
+    		"        <type name=\"org.drools.core.process.core.datatype.impl.type.StringDataType\" />\n" +
+    		"      </variable>\n" +
+    		"      <variable name=\"otherVariable\" >\n" +
+    		"        <type name=\"org.drools.core.process.core.datatype.impl.type.StringDataType\" />\n" +
+    		"      </variable>\n" +
+    		"    </variables>\n" +
+    		"  </header>\n" +
+    		"  <nodes>\n" +
+    		"    <start id=\"1\" name=\"Start\" />\n" +
+    		"    <workItem id=\"2\" name=\"Email\" >\n" +
+    		"      <work name=\"Email\" />\n" +
+    		"    </workItem>\n" +
+    		"    <end id=\"3\" name=\"End\" />\n" +
+    		"  </nodes>\n" +
+    		"  <connections>\n" +
+    		"    <connection from=\"1\" to=\"2\"/>\n" +
+			"    <connection from=\"2\" to=\"3\"/>\n" +
+			"  </connections>\n" +
+			"</process>";
+        KnowledgeBuilder kbuilder = KnowledgeBuilderFactory.newKnowledgeBuilder();
+        kbuilder.add( ResourceFactory.newReaderResource( new StringReader( process ) ), ResourceType.DRF );
+        StatefulKnowledgeSession session = createKieSession(kbuilder.getKnowledgePackages().toArray(new KnowledgePackage[0]));
+
+        TestWorkItemHandler handler = new TestWorkItemHandler();
+        session.getWorkItemManager().registerWorkItemHandler("Email", handler);
+        Map<String, Object> variables = new HashMap<String, Object>();
+        variables.put("myVariable", "ThisIsMyValue");
+        variables.put("otherVariable", "ThisIsOtherValue");
+        session.startProcess("org.test.ruleflow", variables);
+
+        boolean lazyVariables = ProtobufRuleFlowProcessInstanceMarshaller.INSTANCE.isLazyVariables();
+        ProtobufRuleFlowProcessInstanceMarshaller.INSTANCE.setLazyVariables(true);
+        try {
+            // variables of custom strategies are unmarshalled right away, the strategy may need the stream
+            session = getSerialisedStatefulKnowledgeSession(session, new ObjectMarshallingStrategy[] {
+                new StringMarshallingStrategy(), MarshallerFactory.newSerializeMarshallingStrategy() }, true);
+            WorkflowProcessInstance processInstance = (WorkflowProcessInstance) session.getProcessInstances().iterator().next();
+            VariableScopeInstance variableScopeInstance = (VariableScopeInstance)
+                ((ProcessInstance) processInstance).getContextInstance(VariableScope.VARIABLE_SCOPE);
+            assertNull(variableScopeInstance.getUnchangedEncodedVariable("myVariable"));
+            assertEquals("ThisIsMyValue", variableScopeInstance.getVariable("myVariable"));
+
+            // only variables of strategies known to unmarshal from the bytes alone are restored lazily,
+            // the reader context is closed once the session is read, values are decoded after that
+            ObjectMarshallingStrategy[] strategies = new ObjectMarshallingStrategy[] {
+                MarshallerFactory.newSerializeMarshallingStrategy() };
+            session = getSerialisedStatefulKnowledgeSession(session, strategies, true);
+            processInstance = (WorkflowProcessInstance) session.getProcessInstances().iterator().next();
+            variableScopeInstance = (VariableScopeInstance)
+                ((ProcessInstance) processInstance).getContextInstance(VariableScope.VARIABLE_SCOPE);
+            assertNotNull(variableScopeInstance.getUnchangedEncodedVariable("myVariable"));
+            assertNotNull(variableScopeInstance.getUnchangedEncodedVariable("otherVariable"));
+
+            assertEquals("ThisIsMyValue", variableScopeInstance.getVariable("myVariable"));
+            // unchanged immutable value is still written as it was read
+            assertNotNull(variableScopeInstance.getUnchangedEncodedVariable("myVariable"));
+
+            final List<Object> oldValues = new ArrayList<Object>();
+            session.addEventListener(new DefaultProcessEventListener() {
+                public void afterVariableChanged(ProcessVariableChangedEvent event) {
+                    oldValues.add(event.getOldValue());
+                }
+            });
+            // old value of a variable that was not decoded yet is reported and null is a change
+            processInstance.setVariable("otherVariable", null);
+            assertEquals(1, oldValues.size());
+            assertEquals("ThisIsOtherValue", oldValues.get(0));
+            assertNull(variableScopeInstance.getUnchangedEncodedVariable("otherVariable"));
+
+            session = getSerialisedStatefulKnowledgeSession(session, strategies, true);
+            processInstance = (WorkflowProcessInstance) session.getProcessInstances().iterator().next();
+            assertEquals("ThisIsMyValue", processInstance.getVariable("myVariable"));
+            assertNull(processInstance.getVariable("otherVariable"));
+        } finally {
+            ProtobufRuleFlowProcessInstanceMarshaller.INSTANCE.setLazyVariables(lazyVariables);
+        }
+
+        session.getWorkItemManager().completeWorkItem(handler.getWorkItem().getId(), null);
+        assertEquals(0, session.getProcessInstances().size());
+    }
+    
     @Test
     public void testMarshallingWithHumanTaskAndRule() throws Exception {
         String process1 = 
@@ -655,4 +757,32 @@ public class ProcessMarshallingTest extends AbstractBaseTest {
         
         assertEquals(0, session.getProcessInstances().size());
     }
+
+    private static class StringMarshallingStrategy implements ObjectMarshallingStrategy {
+
+        public boolean accept(Object object) {
+            return object instanceof String;
+        }
+
+        public void write(ObjectOutputStream os, Object object) throws IOException {
+            os.writeUTF((String) object);
+        }
+
+        public Object read(ObjectInputStream os) throws IOException, ClassNotFoundException {
+            return os.readUTF();
+        }
+
+        public byte[] marshal(Context context, ObjectOutputStream os, Object object) throws IOException {
+            return ((String) object).getBytes("UTF-8");
+        }
+
+        public Object unmarshal(Context context, ObjectInputStream is, byte[] object, ClassLoader classloader) throws IOException, ClassNotFoundException {
+            return new String(object, "UTF-8");
+        }
+
+        public Context createContext() {
+            return null;
+        }
+    }
+
 }
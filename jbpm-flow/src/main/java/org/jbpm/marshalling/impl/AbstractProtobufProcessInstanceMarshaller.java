@@ -42,6 +42,7 @@ import org.jbpm.process.core.context.variable.VariableScope;
 import org.jbpm.process.instance.ContextInstance;
 import org.jbpm.process.instance.context.exclusive.ExclusiveGroupInstance;
 import org.jbpm.process.instance.context.swimlane.SwimlaneContextInstance;
+import org.jbpm.process.instance.context.variable.EncodedVariable;
 import org.jbpm.process.instance.context.variable.VariableScopeInstance;
 import org.jbpm.workflow.instance.impl.NodeInstanceImpl;
 import org.jbpm.workflow.instance.impl.WorkflowProcessInstanceImpl;
@@ -63,6 +64,27 @@ public abstract class AbstractProtobufProcessInstanceMarshaller
         implements
         ProcessInstanceMarshaller {
 
+    /**
+     * When enabled, variables are restored in their encoded form and unmarshalled on first access,
+     * and variables that were not changed are written back without marshalling them again.
+     */
+    public static final String LAZY_VARIABLES_PROPERTY = "org.jbpm.variables.lazy";
+
+    private static final boolean LAZY_VARIABLES = Boolean.parseBoolean( System.getProperty( LAZY_VARIABLES_PROPERTY, "false" ) );
+
+    private boolean lazyVariables = LAZY_VARIABLES;
+
+    /**
+     * Overrides the {@link #LAZY_VARIABLES_PROPERTY} setting, which is only read once, for this marshaller.
+     */
+    public void setLazyVariables(boolean lazyVariables) {
+        this.lazyVariables = lazyVariables;
+    }
+
+    public boolean isLazyVariables() {
+        return lazyVariables;
+    }
+
     // Output methods
     public JBPMMessages.ProcessInstance writeProcessInstance(MarshallerWriteContext context,
                                                              ProcessInstance processInstance) throws IOException {
@@ -124,20 +146,7 @@ public abstract class AbstractProtobufProcessInstanceMarshaller
         }
 
         VariableScopeInstance variableScopeInstance = (VariableScopeInstance) workFlow.getContextInstance( VariableScope.VARIABLE_SCOPE );
-        List<Map.Entry<String, Object>> variables = new ArrayList<Map.Entry<String, Object>>( variableScopeInstance.getVariables().entrySet() );
-        Collections.sort( variables,
-                          new Comparator<Map.Entry<String, Object>>() {
-                              public int compare(Map.Entry<String, Object> o1,
-                                                 Map.Entry<String, Object> o2) {
-                                  return o1.getKey().compareTo( o2.getKey() );
-                              }
-                          } );
-
-        for ( Map.Entry<String, Object> variable : variables ) {
-            if ( variable.getValue() != null ) {
-                _instance.addVariable( ProtobufProcessMarshaller.marshallVariable( context, variable.getKey(), variable.getValue() ) );
-            }
-        }
+        _instance.addAllVariable( writeVariables( context, variableScopeInstance, false ) );
         
         List<Map.Entry<String, Integer>> iterationlevels = new ArrayList<Map.Entry<String, Integer>>( workFlow.getIterationLevels().entrySet() );
         Collections.sort( iterationlevels,
@@ -316,18 +325,7 @@ public abstract class AbstractProtobufProcessInstanceMarshaller
             
             VariableScopeInstance variableScopeInstance = (VariableScopeInstance) forEachNodeInstance.getContextInstance( VariableScope.VARIABLE_SCOPE);
             if ( variableScopeInstance != null ) {
-                List<Map.Entry<String, Object>> variables = new ArrayList<Map.Entry<String, Object>>( variableScopeInstance.getVariables().entrySet() );
-                Collections.sort( variables,
-                                  new Comparator<Map.Entry<String, Object>>() {
-                                      public int compare(Map.Entry<String, Object> o1,
-                                                         Map.Entry<String, Object> o2) {
-                                          return o1.getKey().compareTo( o2.getKey() );
-                                      }
-                                  } );
-                for ( Map.Entry<String, Object> variable : variables ) {
-                    
-                    _foreach.addVariable( ProtobufProcessMarshaller.marshallVariable( context, variable.getKey(), variable.getValue() ) );
-                }
+                _foreach.addAllVariable( writeVariables( context, variableScopeInstance, true ) );
             }
             
             List<Map.Entry<String, Integer>> iterationlevels = new ArrayList<Map.Entry<String, Integer>>( forEachNodeInstance.getIterationLevels().entrySet() );
@@ -372,18 +370,7 @@ public abstract class AbstractProtobufProcessInstanceMarshaller
             }
             VariableScopeInstance variableScopeInstance = (VariableScopeInstance) compositeNodeInstance.getContextInstance( VariableScope.VARIABLE_SCOPE );
             if ( variableScopeInstance != null ) {
-                List<Map.Entry<String, Object>> variables = new ArrayList<Map.Entry<String, Object>>( variableScopeInstance.getVariables().entrySet() );
-                Collections.sort( variables,
-                                  new Comparator<Map.Entry<String, Object>>() {
-                                      public int compare(Map.Entry<String, Object> o1,
-                                                         Map.Entry<String, Object> o2) {
-                                          return o1.getKey().compareTo( o2.getKey() );
-                                      }
-                                  } );
-                for ( Map.Entry<String, Object> variable : variables ) {
-                    
-                    _composite.addVariable( ProtobufProcessMarshaller.marshallVariable( context, variable.getKey(), variable.getValue() ) );
-                }
+                _composite.addAllVariable( writeVariables( context, variableScopeInstance, true ) );
             }
             
             List<Map.Entry<String, Integer>> iterationlevels = new ArrayList<Map.Entry<String, Integer>>( compositeNodeInstance.getIterationLevels().entrySet() );
@@ -438,6 +425,26 @@ public abstract class AbstractProtobufProcessInstanceMarshaller
         return _content.build();
     }
 
+    private List<JBPMMessages.Variable> writeVariables(MarshallerWriteContext context,
+                                                       VariableScopeInstance variableScopeInstance,
+                                                       boolean includeNullValues) throws IOException {
+        List<String> names = new ArrayList<String>( variableScopeInstance.getVariableNames() );
+        Collections.sort( names );
+        List<JBPMMessages.Variable> _variables = new ArrayList<JBPMMessages.Variable>( names.size() );
+        for ( String name : names ) {
+            EncodedVariable encodedVariable = variableScopeInstance.getUnchangedEncodedVariable( name );
+            if ( encodedVariable instanceof ProtobufEncodedVariable ) {
+                _variables.add( ((ProtobufEncodedVariable) encodedVariable).write( context ) );
+                continue;
+            }
+            Object value = variableScopeInstance.getVariable( name );
+            if ( value != null || includeNullValues ) {
+                _variables.add( ProtobufProcessMarshaller.marshallVariable( context, name, value ) );
+            }
+        }
+        return _variables;
+    }
+
     // Input methods
     public ProcessInstance readProcessInstance(MarshallerReaderContext context) throws IOException {
         InternalKnowledgeBase ruleBase = context.kBase;
@@ -446,18 +453,7 @@ public abstract class AbstractProtobufProcessInstanceMarshaller
         JBPMMessages.ProcessInstance _instance = (org.jbpm.marshalling.impl.JBPMMessages.ProcessInstance) context.parameterObject;
         if( _instance == null ) {
             // try to parse from the stream
-            ExtensionRegistry registry = PersisterHelper.buildRegistry( context, null ); 
-            Header _header;
-            try {
-
-                _header = PersisterHelper.readFromStreamWithHeaderPreloaded(context, registry);
-            } catch ( ClassNotFoundException e ) {
-                // Java 5 does not accept [new IOException(String, Throwable)]
-                IOException ioe =  new IOException( "Error deserializing process instance." );
-                ioe.initCause(e);
-                throw ioe;
-            }
-            _instance = JBPMMessages.ProcessInstance.parseFrom( _header.getPayload(), registry );
+            _instance = parseProcessInstance( context );
         }
 
         WorkflowProcessInstanceImpl processInstance = createProcessInstance();
@@ -518,13 +514,7 @@ public abstract class AbstractProtobufProcessInstanceMarshaller
             VariableScopeInstance variableScopeInstance = (VariableScopeInstance) processInstance
                     .getContextInstance( variableScope );
             for ( JBPMMessages.Variable _variable : _instance.getVariableList() ) {
-                try {
-                    Object _value = ProtobufProcessMarshaller.unmarshallVariableValue( context, _variable );
-                    variableScopeInstance.internalSetVariable( _variable.getName(), 
-                                                               _value );
-                } catch ( ClassNotFoundException e ) {
-                    throw new IllegalArgumentException( "Could not reload variable " + _variable.getName() );
-                }
+                readVariable( context, variableScopeInstance, _variable );
             }
         }
         
@@ -539,6 +529,46 @@ public abstract class AbstractProtobufProcessInstanceMarshaller
         return processInstance;
     }
 
+    /**
+     * Parses the process instance message from the stream of the given context and stores it
+     * as the context's parameter object, where {@link #readProcessInstance(MarshallerReaderContext)}
+     * picks it up. This step does not need a working memory, so it can be executed ahead of 
+     * time and on a different thread than the one that will read the process instance.
+     */
+    public JBPMMessages.ProcessInstance preloadProcessInstance(MarshallerReaderContext context) throws IOException {
+        JBPMMessages.ProcessInstance _instance = parseProcessInstance( context );
+        context.parameterObject = _instance;
+        return _instance;
+    }
+
+    /**
+     * Same as {@link #preloadProcessInstance(MarshallerReaderContext)} for a process instance message
+     * that has already been parsed before: only the header is read from the stream (to register the
+     * marshalling strategies used by the variables) and the given message is used as is.
+     */
+    public void preloadProcessInstance(MarshallerReaderContext context, 
+                                       JBPMMessages.ProcessInstance _instance) throws IOException {
+        readHeader( context, PersisterHelper.buildRegistry( context, null ) );
+        context.parameterObject = _instance;
+    }
+
+    protected JBPMMessages.ProcessInstance parseProcessInstance(MarshallerReaderContext context) throws IOException {
+        ExtensionRegistry registry = PersisterHelper.buildRegistry( context, null ); 
+        Header _header = readHeader( context, registry );
+        return JBPMMessages.ProcessInstance.parseFrom( _header.getPayload(), registry );
+    }
+
+    private Header readHeader(MarshallerReaderContext context, ExtensionRegistry registry) throws IOException {
+        try {
+            return PersisterHelper.readFromStreamWithHeaderPreloaded(context, registry);
+        } catch ( ClassNotFoundException e ) {
+            // Java 5 does not accept [new IOException(String, Throwable)]
+            IOException ioe =  new IOException( "Error deserializing process instance." );
+            ioe.initCause(e);
+            throw ioe;
+        }
+    }
+
     protected abstract WorkflowProcessInstanceImpl createProcessInstance();
 
     public NodeInstance readNodeInstance(MarshallerReaderContext context,
@@ -564,12 +594,7 @@ public abstract class AbstractProtobufProcessInstanceMarshaller
                             processInstance).getProcess()).getDefaultContext( VariableScope.VARIABLE_SCOPE );
                     VariableScopeInstance variableScopeInstance = (VariableScopeInstance) ((CompositeContextNodeInstance) nodeInstance).getContextInstance( variableScope );
                     for ( JBPMMessages.Variable _variable : _node.getContent().getComposite().getVariableList() ) {
-                        try {
-                            Object _value = ProtobufProcessMarshaller.unmarshallVariableValue( context, _variable );
-                            variableScopeInstance.internalSetVariable( _variable.getName(), _value );
-                        } catch ( ClassNotFoundException e ) {
-                            throw new IllegalArgumentException( "Could not reload variable " + _variable.getName() );
-                        }
+                        readVariable( context, variableScopeInstance, _variable );
                     }
                 }
                 if ( _node.getContent().getComposite().getIterationLevelsCount() > 0 ) {
@@ -605,12 +630,7 @@ public abstract class AbstractProtobufProcessInstanceMarshaller
                                       processInstance );
                     VariableScopeInstance variableScopeInstance = (VariableScopeInstance) ((ForEachNodeInstance) nodeInstance).getContextInstance( VariableScope.VARIABLE_SCOPE );
                     for ( JBPMMessages.Variable _variable : _node.getContent().getForEach().getVariableList() ) {
-                        try {
-                            Object _value = ProtobufProcessMarshaller.unmarshallVariableValue( context, _variable );
-                            variableScopeInstance.internalSetVariable( _variable.getName(), _value );
-                        } catch ( ClassNotFoundException e ) {
-                            throw new IllegalArgumentException( "Could not reload variable " + _variable.getName() );
-                        }
+                        readVariable( context, variableScopeInstance, _variable );
                     }
                     if ( _node.getContent().getForEach().getIterationLevelsCount() > 0 ) {
                         
@@ -628,12 +648,7 @@ public abstract class AbstractProtobufProcessInstanceMarshaller
                                       processInstance );
                     VariableScopeInstance variableScopeInstance = (VariableScopeInstance) ((EventSubProcessNodeInstance) nodeInstance).getContextInstance( VariableScope.VARIABLE_SCOPE );
                     for ( JBPMMessages.Variable _variable : _node.getContent().getComposite().getVariableList() ) {
-                        try {
-                            Object _value = ProtobufProcessMarshaller.unmarshallVariableValue( context, _variable );
-                            variableScopeInstance.internalSetVariable( _variable.getName(), _value );
-                        } catch ( ClassNotFoundException e ) {
-                            throw new IllegalArgumentException( "Could not reload variable " + _variable.getName() );
-                        }
+                        readVariable( context, variableScopeInstance, _variable );
                     }
                 }
                 break;
@@ -783,4 +798,23 @@ public abstract class AbstractProtobufProcessInstanceMarshaller
         return nodeInstance;
 
     }
+
+    private void readVariable(MarshallerReaderContext context,
+                              VariableScopeInstance variableScopeInstance,
+                              JBPMMessages.Variable _variable) throws IOException {
+        if ( lazyVariables ) {
+            ProtobufEncodedVariable encodedVariable = ProtobufProcessMarshaller.unmarshallVariableLazily( context, _variable );
+            if ( encodedVariable != null ) {
+                variableScopeInstance.internalSetEncodedVariable( _variable.getName(), encodedVariable );
+                return;
+            }
+        }
+        try {
+            Object _value = ProtobufProcessMarshaller.unmarshallVariableValue( context, _variable );
+            variableScopeInstance.internalSetVariable( _variable.getName(), _value );
+        } catch ( ClassNotFoundException e ) {
+            throw new IllegalArgumentException( "Could not reload variable " + _variable.getName() );
+        }
+    }
+
 }
@@ -0,0 +1,67 @@
+/**
+ * Copyright 2010 JBoss Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.marshalling.impl;
+
+import java.io.IOException;
+
+import org.drools.core.marshalling.impl.MarshallerReaderContext;
+import org.drools.core.marshalling.impl.MarshallerWriteContext;
+import org.kie.api.marshalling.ObjectMarshallingStrategy;
+import org.jbpm.process.instance.context.variable.EncodedVariable;
+
+/**
+ * Variable message restored without unmarshalling its value, which is unmarshalled with the
+ * strategy it was written with when first accessed. Only used for marshalling strategies known not to
+ * use the object input stream nor any state of the marshalling context (see
+ * {@link ProtobufProcessMarshaller#unmarshallVariableLazily}), so the message can be unmarshalled on its own and also
+ * written again as is (with the strategy index of the new context). The reader context itself is not
+ * kept, as it is closed once the process instance is read.
+ */
+public class ProtobufEncodedVariable implements EncodedVariable {
+
+    private final ObjectMarshallingStrategy strategy;
+    private final ClassLoader classLoader;
+    private final JBPMMessages.Variable _variable;
+
+    public ProtobufEncodedVariable(MarshallerReaderContext context,
+                                   JBPMMessages.Variable _variable) {
+        this.strategy = context.usedStrategies.get( _variable.getStrategyIndex() );
+        this.classLoader = (context.kBase == null) ? null : context.kBase.getRootClassLoader();
+        this._variable = _variable;
+    }
+
+    public Object decode() {
+        try {
+            // the strategy keeps no context, it reads the value from its bytes only
+            return strategy.unmarshal( null,
+                                       null,
+                                       _variable.getValue().toByteArray(),
+                                       classLoader );
+        } catch ( IOException e ) {
+            throw new IllegalArgumentException( "Could not reload variable " + _variable.getName(), e );
+        } catch ( ClassNotFoundException e ) {
+            throw new IllegalArgumentException( "Could not reload variable " + _variable.getName(), e );
+        }
+    }
+
+    public JBPMMessages.Variable write(MarshallerWriteContext context) throws IOException {
+        return _variable.toBuilder()
+                .setStrategyIndex( context.getStrategyIndex( strategy ) )
+                .build();
+    }
+
+}
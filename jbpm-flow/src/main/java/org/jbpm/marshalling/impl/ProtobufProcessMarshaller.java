@@ -2,12 +2,15 @@ package org.jbpm.marshalling.impl;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.drools.core.common.InternalWorkingMemory;
 import org.drools.core.marshalling.impl.MarshallerReaderContext;
@@ -37,6 +40,16 @@ public class ProtobufProcessMarshaller
         implements
         ProcessMarshaller {
 
+    /**
+     * Marshalling strategies known to unmarshal a value from its bytes only, without the object input
+     * stream and context of the unmarshalling, so their variables can be decoded after the process
+     * instance was read. Subclasses are not included as they may override <code>unmarshal</code>.
+     */
+    private static final Set<String> STREAMLESS_STRATEGIES = new HashSet<String>( Arrays.asList(
+            "org.drools.core.marshalling.impl.SerializablePlaceholderResolverStrategy",
+            "org.drools.persistence.jpa.marshaller.JPAPlaceholderResolverStrategy",
+            "org.jbpm.document.marshalling.DocumentMarshallingStrategy" ) );
+
     public void writeProcessInstances(MarshallerWriteContext context) throws IOException {
         ProtobufMessages.ProcessData.Builder _pdata = (ProtobufMessages.ProcessData.Builder) context.parameterObject;
                                                   
@@ -303,6 +316,26 @@ public class ProtobufProcessMarshaller
         return value;
     }
     
+    /**
+     * Returns the variable in its encoded form, so its value is only unmarshalled when accessed, or
+     * <code>null</code> if it has to be unmarshalled right away: when it has no value or when its
+     * marshalling strategy is not known to unmarshal values without the stream and context of this
+     * unmarshalling, as custom strategies may read from them.
+     */
+    public static ProtobufEncodedVariable unmarshallVariableLazily(MarshallerReaderContext context,
+                                                                   JBPMMessages.Variable _variable) {
+        if(_variable.getValue() == null || _variable.getValue().isEmpty()){
+            return null;
+        }
+        ObjectMarshallingStrategy strategy = context.usedStrategies.get( _variable.getStrategyIndex() );
+        if ( !STREAMLESS_STRATEGIES.contains( strategy.getClass().getName() )
+                || context.strategyContexts.get( strategy ) != null ) {
+            return null;
+        }
+        return new ProtobufEncodedVariable( context,
+                                            _variable );
+    }
+    
 	public static Map<String, Object> unmarshallVariableContainerValue(MarshallerReaderContext context, JBPMMessages.VariableContainer _variableContiner)
 			throws IOException, ClassNotFoundException {
 		Map<String, Object> variables = new HashMap<String, Object>();
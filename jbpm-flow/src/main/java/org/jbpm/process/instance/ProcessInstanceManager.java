@@ -31,6 +31,13 @@ public interface ProcessInstanceManager {
     
     Collection<ProcessInstance> getProcessInstances();
 
+    /**
+     * Returns the process instances with the given ids, loading all of them at once where
+     * the implementation supports it. Ids of process instances that cannot be found are
+     * ignored, so the result may be smaller than the given collection.
+     */
+    Collection<ProcessInstance> getProcessInstances(Collection<Long> ids);
+
     void addProcessInstance(ProcessInstance processInstance, CorrelationKey correlationKey);
     
     void internalAddProcessInstance(ProcessInstance processInstance);
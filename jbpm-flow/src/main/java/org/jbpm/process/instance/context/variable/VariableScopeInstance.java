@@ -16,9 +16,16 @@
 
 package org.jbpm.process.instance.context.variable;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 import org.drools.core.event.ProcessEventSupport;
 import org.jbpm.process.core.context.variable.Variable;
@@ -27,6 +34,7 @@ import org.jbpm.process.instance.ContextInstanceContainer;
 import org.jbpm.process.instance.InternalProcessRuntime;
 import org.jbpm.process.instance.context.AbstractContextInstance;
 import org.jbpm.workflow.core.Node;
+import org.jbpm.workflow.instance.impl.WorkflowProcessInstanceImpl;
 import org.jbpm.workflow.instance.node.CompositeContextNodeInstance;
 
 /**
@@ -36,8 +44,15 @@ import org.jbpm.workflow.instance.node.CompositeContextNodeInstance;
 public class VariableScopeInstance extends AbstractContextInstance {
 
     private static final long serialVersionUID = 510l;
+
+    private static final Set<Class<?>> IMMUTABLE_TYPES = new HashSet<Class<?>>(Arrays.<Class<?>>asList(
+        String.class, Boolean.class, Character.class, Byte.class, Short.class, Integer.class, Long.class,
+        Float.class, Double.class, BigInteger.class, BigDecimal.class));
     
     private Map<String, Object> variables = new HashMap<String, Object>();
+    // variables restored in their encoded form whose value was not set since,
+    // the ones not present in variables have not been decoded yet
+    private transient Map<String, EncodedVariable> encodedVariables = null;
     private transient String variableIdPrefix = null;
     private transient String variableInstanceIdPrefix = null;
 
@@ -46,25 +61,49 @@ public class VariableScopeInstance extends AbstractContextInstance {
     }
 
     public Object getVariable(String name) {
+        if (encodedVariables != null && !variables.containsKey(name)) {
+            EncodedVariable encodedVariable = encodedVariables.get(name);
+            if (encodedVariable != null) {
+                Object value = encodedVariable.decode();
+                variables.put(name, value);
+                return value;
+            }
+        }
         return variables.get(name);
     }
 
     public Map<String, Object> getVariables() {
+        decodeVariables();
         return Collections.unmodifiableMap(variables);
     }
 
+    /**
+     * @return names of all variables, without decoding the ones that were not accessed yet
+     */
+    public Set<String> getVariableNames() {
+        if (encodedVariables == null) {
+            return Collections.unmodifiableSet(variables.keySet());
+        }
+        Set<String> names = new HashSet<String>(variables.keySet());
+        names.addAll(encodedVariables.keySet());
+        return names;
+    }
+
     public void setVariable(String name, Object value) {
         if (name == null) {
             throw new IllegalArgumentException(
                 "The name of a variable may not be null!");
         }
-        Object oldValue = variables.get(name);
+        // decodes the old value if it was not accessed yet, listeners get the actual old value
+        Object oldValue = getVariable(name);
         if (oldValue == null) {
         	if (value == null) {
+        		dropEncodedVariable(name);
         		return;
         	}
         } else {
         	if (oldValue.equals(value)) {
+        		dropEncodedVariable(name);
         		return;
         	}
         }
@@ -85,6 +124,67 @@ public class VariableScopeInstance extends AbstractContextInstance {
     
     public void internalSetVariable(String name, Object value) {
     	variables.put(name, value);
+    	dropEncodedVariable(name);
+    	if (getProcessInstance() instanceof WorkflowProcessInstanceImpl) {
+    		((WorkflowProcessInstanceImpl) getProcessInstance()).setDirty(true);
+    	}
+    }
+    
+    /**
+     * Restores a variable without decoding it, it is decoded when it is accessed for the first time.
+     */
+    public void internalSetEncodedVariable(String name, EncodedVariable encodedVariable) {
+    	if (encodedVariables == null) {
+    		encodedVariables = new HashMap<String, EncodedVariable>();
+    	}
+    	encodedVariables.put(name, encodedVariable);
+    	variables.remove(name);
+    }
+
+    /**
+     * Returns the encoded form a variable was restored from, if it still represents the current value:
+     * the variable was not set since and either was not accessed at all or has an immutable value.
+     * Values that were accessed may have been modified in place, so they have to be encoded again.
+     * @return the encoded variable or <code>null</code> if the variable has to be encoded
+     */
+    public EncodedVariable getUnchangedEncodedVariable(String name) {
+    	if (encodedVariables == null) {
+    		return null;
+    	}
+    	EncodedVariable encodedVariable = encodedVariables.get(name);
+    	if (encodedVariable == null || !variables.containsKey(name)) {
+    		return encodedVariable;
+    	}
+    	Object value = variables.get(name);
+    	if (value == null || IMMUTABLE_TYPES.contains(value.getClass()) || value instanceof Enum) {
+    		return encodedVariable;
+    	}
+    	return null;
+    }
+
+    /**
+     * Forgets the encoded form of a variable that was set, so its current value is encoded when written.
+     */
+    private void dropEncodedVariable(String name) {
+    	if (encodedVariables != null) {
+    		encodedVariables.remove(name);
+    	}
+    }
+
+    private void decodeVariables() {
+    	if (encodedVariables != null) {
+    		for (Map.Entry<String, EncodedVariable> entry : encodedVariables.entrySet()) {
+    			if (!variables.containsKey(entry.getKey())) {
+    				variables.put(entry.getKey(), entry.getValue().decode());
+    			}
+    		}
+    	}
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+    	// encoded variables are transient
+    	decodeVariables();
+    	out.defaultWriteObject();
     }
     
     public VariableScope getVariableScope() {
@@ -0,0 +1,232 @@
+/**
+ * Copyright 2010 JBoss Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.process.instance.impl;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.kie.api.runtime.process.WorkItem;
+import org.kie.api.runtime.process.WorkItemHandler;
+import org.kie.api.runtime.process.WorkItemManager;
+
+/**
+ * Work item handler that executes a synchronous work item handler on a bounded thread pool
+ * while a parallel multi-instance (for each node with <code>parallel</code> set) triggers its branches.
+ * <br/>
+ * The branches are triggered as usual, but work items handled by this handler are only dispatched
+ * to the pool. Once all branches have been triggered, the for each node waits for the dispatched
+ * work items, closes the batch and then applies their completions (or aborts) one by one on the
+ * calling thread, in the order they were dispatched, so the process instance itself is never accessed
+ * concurrently. Work items created while applying these completions (e.g. the next task of a branch
+ * or a work item after the for each node) are executed on the calling thread as usual. Handler
+ * failures are given back to the for each node, which handles them like a failure of a work item
+ * executed on the calling thread. The number of threads limits how many work items run at the same time.
+ * <br/>
+ * Outside of a parallel multi-instance, work items are executed by the delegate on the calling thread.
+ */
+public class ConcurrentWorkItemHandler implements WorkItemHandler {
+
+    private static final ThreadLocal<Batch> currentBatch = new ThreadLocal<Batch>();
+
+    private final WorkItemHandler delegate;
+    private final ExecutorService executorService;
+    private final boolean ownsExecutorService;
+
+    public ConcurrentWorkItemHandler(WorkItemHandler delegate) {
+        this(delegate, Integer.parseInt(System.getProperty("jbpm.workitem.concurrent.threads", "10")));
+    }
+
+    public ConcurrentWorkItemHandler(WorkItemHandler delegate, int threads) {
+        this.delegate = delegate;
+        this.executorService = Executors.newFixedThreadPool(threads, new WorkItemThreadFactory());
+        this.ownsExecutorService = true;
+    }
+
+    public ConcurrentWorkItemHandler(WorkItemHandler delegate, ExecutorService executorService) {
+        this.delegate = delegate;
+        this.executorService = executorService;
+        this.ownsExecutorService = false;
+    }
+
+    public void executeWorkItem(final WorkItem workItem, WorkItemManager manager) {
+        Batch batch = currentBatch.get();
+        if (batch == null) {
+            delegate.executeWorkItem(workItem, manager);
+            return;
+        }
+        final CollectingWorkItemManager collectingManager = new CollectingWorkItemManager();
+        Future<?> future = executorService.submit(new Runnable() {
+            public void run() {
+                delegate.executeWorkItem(workItem, collectingManager);
+            }
+        });
+        batch.pending.add(new PendingWorkItem(workItem, manager, collectingManager, future));
+    }
+
+    public void abortWorkItem(WorkItem workItem, WorkItemManager manager) {
+        delegate.abortWorkItem(workItem, manager);
+    }
+
+    /**
+     * Shuts down the thread pool, unless it was given to this handler.
+     */
+    public void dispose() {
+        if (ownsExecutorService) {
+            executorService.shutdown();
+        }
+    }
+
+    /**
+     * Starts dispatching work items of the current thread to the thread pool.
+     * @return the new batch, or <code>null</code> if a batch is already open on this thread,
+     * in which case work items become part of that batch
+     */
+    public static Batch openBatch() {
+        if (currentBatch.get() != null) {
+            return null;
+        }
+        Batch batch = new Batch();
+        currentBatch.set(batch);
+        return batch;
+    }
+
+    /**
+     * Handles the failure of a work item handler that was executed on the thread pool.
+     */
+    public interface FailureHandler {
+
+        void handleFailure(WorkItem workItem, Exception e);
+
+    }
+
+    public static class Batch {
+
+        private final LinkedList<PendingWorkItem> pending = new LinkedList<PendingWorkItem>();
+
+        private Batch() {
+        }
+
+        /**
+         * Waits for all dispatched work items, closes this batch and then applies their results
+         * on the calling thread. Failed work items are given to the failure handler instead,
+         * if it throws the remaining results are not applied.
+         */
+        public void join(FailureHandler failureHandler) {
+            List<PendingWorkItem> finished = new ArrayList<PendingWorkItem>(pending);
+            for (PendingWorkItem pendingWorkItem: finished) {
+                pendingWorkItem.await();
+            }
+            close();
+            for (PendingWorkItem pendingWorkItem: finished) {
+                if (pendingWorkItem.failure != null) {
+                    failureHandler.handleFailure(pendingWorkItem.workItem, pendingWorkItem.failure);
+                } else {
+                    pendingWorkItem.apply();
+                }
+            }
+        }
+
+        /**
+         * Stops dispatching work items of the current thread, work items that were not joined
+         * are left running but their results are not applied.
+         */
+        public void close() {
+            currentBatch.remove();
+            pending.clear();
+        }
+    }
+
+    private static class PendingWorkItem {
+
+        private final WorkItem workItem;
+        private final WorkItemManager manager;
+        private final CollectingWorkItemManager collectingManager;
+        private final Future<?> future;
+        private Exception failure;
+
+        private PendingWorkItem(WorkItem workItem, WorkItemManager manager,
+                                CollectingWorkItemManager collectingManager, Future<?> future) {
+            this.workItem = workItem;
+            this.manager = manager;
+            this.collectingManager = collectingManager;
+            this.future = future;
+        }
+
+        private void await() {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while waiting for work item " + workItem.getId(), e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                failure = (Exception) cause;
+            }
+        }
+
+        private void apply() {
+            if (collectingManager.aborted) {
+                manager.abortWorkItem(workItem.getId());
+            } else if (collectingManager.completed) {
+                manager.completeWorkItem(workItem.getId(), collectingManager.results);
+            }
+            // neither completed nor aborted, the handler completes the work item later on its own
+        }
+    }
+
+    private static class CollectingWorkItemManager implements WorkItemManager {
+
+        private volatile boolean completed;
+        private volatile boolean aborted;
+        private volatile Map<String, Object> results;
+
+        public void completeWorkItem(long id, Map<String, Object> results) {
+            this.results = results;
+            this.completed = true;
+        }
+
+        public void abortWorkItem(long id) {
+            this.aborted = true;
+        }
+
+        public void registerWorkItemHandler(String workItemName, WorkItemHandler handler) {
+            throw new UnsupportedOperationException("Work item handlers cannot be registered while executing a work item concurrently");
+        }
+    }
+
+    private static class WorkItemThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, "jbpm-workitem-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -16,8 +16,10 @@
 
 package org.jbpm.process.instance.impl;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
@@ -53,6 +55,17 @@ public class DefaultProcessInstanceManager implements ProcessInstanceManager {
         return Collections.unmodifiableCollection(processInstances.values());
     }
 
+    public Collection<ProcessInstance> getProcessInstances(Collection<Long> ids) {
+        List<ProcessInstance> result = new ArrayList<ProcessInstance>(ids.size());
+        for (Long id : ids) {
+            ProcessInstance processInstance = processInstances.get(id);
+            if (processInstance != null) {
+                result.add(processInstance);
+            }
+        }
+        return result;
+    }
+
     public ProcessInstance getProcessInstance(long id) {
         return (ProcessInstance) processInstances.get(id);
     }
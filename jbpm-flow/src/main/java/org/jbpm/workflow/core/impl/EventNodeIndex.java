@@ -0,0 +1,159 @@
+/**
+ * Copyright 2010 JBoss Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.workflow.core.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jbpm.process.core.event.EventFilter;
+import org.jbpm.process.core.event.EventTypeFilter;
+import org.jbpm.workflow.core.node.CompositeNode;
+import org.jbpm.workflow.core.node.DynamicNode;
+import org.jbpm.workflow.core.node.EventNode;
+import org.jbpm.workflow.core.node.EventNodeInterface;
+import org.jbpm.workflow.core.node.EventSubProcessNode;
+import org.kie.api.definition.process.Node;
+
+/**
+ * Index of the top level nodes of a process that can accept events, by event type, so signaling
+ * a process instance does not need to go over all the nodes of the process.
+ * <br/>
+ * Nodes that only accept events of exact types (event nodes and event sub processes with plain
+ * event type filters, and composite nodes containing only such nodes) are indexed under these
+ * types. Any other event node (e.g. with broadcast or custom filters) is returned for all types.
+ * Returned nodes are only candidates in definition order - <code>acceptsEvent</code> must still be
+ * checked for each of them.
+ */
+public class EventNodeIndex {
+
+    private static final Node[] EMPTY_NODES = new Node[0];
+
+    private final Map<String, Node[]> nodesByEventType = new HashMap<String, Node[]>();
+    private final Node[] nodesForAnyEventType;
+    private final Map<String, Node[]> nodesByName = new HashMap<String, Node[]>();
+
+    public EventNodeIndex(Node[] nodes) {
+        Map<String, List<Integer>> positionsByType = new HashMap<String, List<Integer>>();
+        List<Integer> anyTypePositions = new ArrayList<Integer>();
+        Map<String, List<Node>> byName = new HashMap<String, List<Node>>();
+        for (int i = 0; i < nodes.length; i++) {
+            Node node = nodes[i];
+            if (node.getName() != null) {
+                List<Node> named = byName.get(node.getName());
+                if (named == null) {
+                    named = new ArrayList<Node>();
+                    byName.put(node.getName(), named);
+                }
+                named.add(node);
+            }
+            if (!(node instanceof EventNodeInterface)) {
+                continue;
+            }
+            Set<String> types = new HashSet<String>();
+            if (collectEventTypes(node, types)) {
+                for (String type : types) {
+                    List<Integer> positions = positionsByType.get(type);
+                    if (positions == null) {
+                        positions = new ArrayList<Integer>();
+                        positionsByType.put(type, positions);
+                    }
+                    positions.add(i);
+                }
+            } else {
+                anyTypePositions.add(i);
+            }
+        }
+        this.nodesForAnyEventType = toNodes(nodes, anyTypePositions, null);
+        for (Map.Entry<String, List<Integer>> entry : positionsByType.entrySet()) {
+            nodesByEventType.put(entry.getKey(), toNodes(nodes, entry.getValue(), anyTypePositions));
+        }
+        for (Map.Entry<String, List<Node>> entry : byName.entrySet()) {
+            nodesByName.put(entry.getKey(), entry.getValue().toArray(new Node[entry.getValue().size()]));
+        }
+    }
+
+    /**
+     * Returns nodes that might accept events of given type, in the order of the process definition.
+     */
+    public Node[] getEventNodes(String type) {
+        Node[] result = nodesByEventType.get(type);
+        return result == null ? nodesForAnyEventType : result;
+    }
+
+    public Node[] getNodesByName(String name) {
+        Node[] result = nodesByName.get(name);
+        return result == null ? EMPTY_NODES : result;
+    }
+
+    /**
+     * Collects all event types the node can accept, returns false if these cannot be determined
+     * upfront.
+     */
+    private static boolean collectEventTypes(Node node, Set<String> types) {
+        if (node instanceof EventSubProcessNode) {
+            for (EventTypeFilter filter : ((EventSubProcessNode) node).getEventTypeFilters()) {
+                if (!isExactTypeFilter(filter)) {
+                    return false;
+                }
+                types.add(filter.getType());
+            }
+            return true;
+        } else if (node instanceof EventNode) {
+            // all filters must accept the event so any exact type filter is enough
+            for (EventFilter filter : ((EventNode) node).getEventFilters()) {
+                if (isExactTypeFilter(filter)) {
+                    types.add(((EventTypeFilter) filter).getType());
+                    return true;
+                }
+            }
+            return false;
+        } else if (node instanceof DynamicNode) {
+            return false;
+        } else if (node instanceof CompositeNode) {
+            for (Node child : ((CompositeNode) node).internalGetNodes()) {
+                if (child instanceof EventNodeInterface && !collectEventTypes(child, types)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private static boolean isExactTypeFilter(EventFilter filter) {
+        return filter != null && filter.getClass() == EventTypeFilter.class
+            && ((EventTypeFilter) filter).getType() != null;
+    }
+
+    private static Node[] toNodes(Node[] nodes, List<Integer> positions, List<Integer> otherPositions) {
+        List<Integer> all = new ArrayList<Integer>(positions);
+        if (otherPositions != null && !otherPositions.isEmpty()) {
+            all.addAll(otherPositions);
+            Collections.sort(all);
+        }
+        Node[] result = new Node[all.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = nodes[all.get(i)];
+        }
+        return result;
+    }
+}
@@ -22,6 +22,8 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicLong;
 
 import org.jbpm.process.core.Context;
@@ -31,6 +33,7 @@ import org.jbpm.workflow.core.Node;
 import org.jbpm.workflow.core.node.CompositeNode;
 import org.kie.api.definition.process.Connection;
 import org.kie.api.definition.process.NodeContainer;
+import org.mvel2.MVEL;
 
 /**
  * Default implementation of a node.
@@ -54,6 +57,12 @@ public abstract class NodeImpl implements Node, Serializable, ContextResolver {
     private Map<String, Object> metaData = new HashMap<String, Object>();
     
     protected Map<ConnectionRef, Constraint> constraints = new HashMap<ConnectionRef, Constraint>();
+    
+    // compiled forms of expressions of this node, built on first activation
+    private transient volatile ConcurrentMap<String, Serializable> compiledExpressions;
+    private transient volatile ConcurrentMap<String, ParameterTemplate> parameterTemplates;
+    // meta data and connection lookups used on every activation, resolved on first activation
+    private transient volatile RuntimeDefinition runtimeDefinition;
 
     public NodeImpl() {
         this.id = -1;
@@ -82,6 +91,7 @@ public abstract class NodeImpl implements Node, Serializable, ContextResolver {
         if( uniqueId == null ) { 
             setMetaData("UniqueId", "_jbpm-unique-" + uniqueIdGen.getAndIncrement() );
         }
+        this.runtimeDefinition = null;
     }
 
     public String getName() {
@@ -110,6 +120,7 @@ public abstract class NodeImpl implements Node, Serializable, ContextResolver {
             this.incomingConnections.put(type, connections);
         }
         connections.add(connection);
+        this.runtimeDefinition = null;
     }
 
     public void validateAddIncomingConnection(final String type, final Connection connection) {
@@ -137,6 +148,7 @@ public abstract class NodeImpl implements Node, Serializable, ContextResolver {
             this.outgoingConnections.put(type, connections);
         }
         connections.add(connection);
+        this.runtimeDefinition = null;
     }
 
     public void validateAddOutgoingConnection(final String type, final Connection connection) {
@@ -159,6 +171,7 @@ public abstract class NodeImpl implements Node, Serializable, ContextResolver {
     public void removeIncomingConnection(final String type, final Connection connection) {
         validateRemoveIncomingConnection(type, connection);
         this.incomingConnections.get(type).remove(connection);
+        this.runtimeDefinition = null;
     }
 
     public void validateRemoveIncomingConnection(final String type, final Connection connection) {
@@ -177,6 +190,7 @@ public abstract class NodeImpl implements Node, Serializable, ContextResolver {
     public void removeOutgoingConnection(final String type, final Connection connection) {
         validateRemoveOutgoingConnection(type, connection);
         this.outgoingConnections.get(type).remove(connection);
+        this.runtimeDefinition = null;
     }
 
     public void validateRemoveOutgoingConnection(final String type, final Connection connection) {
@@ -267,6 +281,7 @@ public abstract class NodeImpl implements Node, Serializable, ContextResolver {
     
     public void setMetaData(String name, Object value) {
         this.metaData.put(name, value);
+        this.runtimeDefinition = null;
     }
     
     public Object getMetaData(String name) {
@@ -279,6 +294,7 @@ public abstract class NodeImpl implements Node, Serializable, ContextResolver {
     
     public void setMetaData(Map<String, Object> metaData) {
     	this.metaData = metaData;
+    	this.runtimeDefinition = null;
     }
     
     public Constraint getConstraint(final Connection connection) {
@@ -322,4 +338,143 @@ public abstract class NodeImpl implements Node, Serializable, ContextResolver {
         return Collections.unmodifiableMap( this.constraints );
     }
     
+    /**
+     * Returns compiled MVEL expression, compiling it on first use. Compiled expressions are kept
+     * as long as the node, so only expressions that are part of the node definition (like data
+     * association sources) should be given, never runtime values.
+     */
+    public Serializable getCompiledExpression(String expression) {
+        ConcurrentMap<String, Serializable> expressions = compiledExpressions;
+        if (expressions == null) {
+            synchronized (this) {
+                if (compiledExpressions == null) {
+                    compiledExpressions = new ConcurrentHashMap<String, Serializable>();
+                }
+                expressions = compiledExpressions;
+            }
+        }
+        Serializable compiled = expressions.get(expression);
+        if (compiled == null) {
+            compiled = MVEL.compileExpression(expression);
+            expressions.put(expression, compiled);
+        }
+        return compiled;
+    }
+    
+    /**
+     * Returns parsed <code>#{...}</code> template, parsing it on first use. Same as for
+     * {@link #getCompiledExpression(String)}, only templates of the node definition should be given.
+     */
+    public ParameterTemplate getParameterTemplate(String template) {
+        ConcurrentMap<String, ParameterTemplate> templates = parameterTemplates;
+        if (templates == null) {
+            synchronized (this) {
+                if (parameterTemplates == null) {
+                    parameterTemplates = new ConcurrentHashMap<String, ParameterTemplate>();
+                }
+                templates = parameterTemplates;
+            }
+        }
+        ParameterTemplate parsed = templates.get(template);
+        if (parsed == null) {
+            parsed = ParameterTemplate.parse(template);
+            templates.put(template, parsed);
+        }
+        return parsed;
+    }
+    
+    /**
+     * Whether the <code>hidden</code> meta data is set, i.e. no events are fired for instances of this node.
+     */
+    public boolean isHidden() {
+        return getRuntimeDefinition().hidden;
+    }
+    
+    /**
+     * Returns the <code>UniqueId</code> meta data, or {@link #getUniqueId()} if not set,
+     * as recorded in the completed node ids of a process instance.
+     */
+    public String getMetaUniqueId() {
+        return getRuntimeDefinition().uniqueId;
+    }
+    
+    /**
+     * Whether outgoing connections are selected by their constraints (<code>jbpm.enable.multi.con</code>),
+     * as configured when this node was first activated.
+     */
+    public boolean isMultiConnectionEnabled() {
+        return getRuntimeDefinition().multiConnection;
+    }
+    
+    /**
+     * @return first incoming connection of given type coming from the node with given id, or <code>null</code>
+     */
+    public Connection getIncomingConnection(String type, long fromNodeId) {
+        RuntimeDefinition definition = getRuntimeDefinition();
+        return definition.getConnection(definition.incomingByFrom, type, fromNodeId);
+    }
+    
+    /**
+     * @return first outgoing connection of given type going to the node with given id, or <code>null</code>
+     */
+    public Connection getOutgoingConnection(String type, long toNodeId) {
+        RuntimeDefinition definition = getRuntimeDefinition();
+        return definition.getConnection(definition.outgoingByTo, type, toNodeId);
+    }
+    
+    /**
+     * Definition data is resolved once and dropped whenever meta data or connections are changed
+     * through this node. Changes made directly to the map returned by {@link #getMetaData()} after
+     * the node was activated are not picked up.
+     */
+    private RuntimeDefinition getRuntimeDefinition() {
+        RuntimeDefinition definition = runtimeDefinition;
+        if (definition == null) {
+            definition = new RuntimeDefinition(this);
+            runtimeDefinition = definition;
+        }
+        return definition;
+    }
+    
+    private static class RuntimeDefinition {
+        
+        private final boolean hidden;
+        private final String uniqueId;
+        private final boolean multiConnection;
+        private final Map<String, Map<Long, Connection>> incomingByFrom;
+        private final Map<String, Map<Long, Connection>> outgoingByTo;
+        
+        private RuntimeDefinition(NodeImpl node) {
+            this.hidden = node.metaData.get("hidden") != null;
+            String uniqueId = (String) node.metaData.get("UniqueId");
+            this.uniqueId = uniqueId == null ? node.getUniqueId() : uniqueId;
+            this.multiConnection = "true".equals(System.getProperty("jbpm.enable.multi.con"));
+            this.incomingByFrom = new HashMap<String, Map<Long, Connection>>();
+            for (Map.Entry<String, List<Connection>> entry: node.incomingConnections.entrySet()) {
+                Map<Long, Connection> byFrom = new HashMap<Long, Connection>();
+                for (Connection connection: entry.getValue()) {
+                    if (!byFrom.containsKey(connection.getFrom().getId())) {
+                        byFrom.put(connection.getFrom().getId(), connection);
+                    }
+                }
+                incomingByFrom.put(entry.getKey(), byFrom);
+            }
+            this.outgoingByTo = new HashMap<String, Map<Long, Connection>>();
+            for (Map.Entry<String, List<Connection>> entry: node.outgoingConnections.entrySet()) {
+                Map<Long, Connection> byTo = new HashMap<Long, Connection>();
+                for (Connection connection: entry.getValue()) {
+                    if (!byTo.containsKey(connection.getTo().getId())) {
+                        byTo.put(connection.getTo().getId(), connection);
+                    }
+                }
+                outgoingByTo.put(entry.getKey(), byTo);
+            }
+        }
+        
+        private Connection getConnection(Map<String, Map<Long, Connection>> connections, String type, long nodeId) {
+            Map<Long, Connection> byNode = connections.get(type);
+            return byNode == null ? null : byNode.get(nodeId);
+        }
+    }
+    
 }
@@ -0,0 +1,143 @@
+/**
+ * Copyright 2010 JBoss Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.workflow.core.impl;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.drools.core.util.MVELSafeHelper;
+import org.mvel2.MVEL;
+import org.mvel2.integration.VariableResolverFactory;
+
+/**
+ * Parsed form of a string with <code>#{expression}</code> parameters, e.g. a work item parameter,
+ * timer delay or sub process id. Literal parts and parameter expressions are split once, and
+ * each distinct expression is compiled on first evaluation, so resolving the template only
+ * evaluates the parameters and concatenates the parts. Templates are shared by all instances
+ * of a node and are safe to use from multiple threads.
+ */
+public class ParameterTemplate {
+
+    public static final Pattern PARAMETER_MATCHER = Pattern.compile("#\\{([\\S&&[^\\}]]+)\\}", Pattern.DOTALL);
+
+    private static final String[] NO_PARAMETERS = new String[0];
+
+    private final String template;
+    // literals[i] precedes occurrence i, last literal follows the last occurrence
+    private final String[] literals;
+    // index of the distinct parameter for each occurrence
+    private final int[] occurrences;
+    private final String[] parameterNames;
+    private final AtomicReferenceArray<Serializable> compiledExpressions;
+
+    private ParameterTemplate(String template, String[] literals, int[] occurrences, String[] parameterNames) {
+        this.template = template;
+        this.literals = literals;
+        this.occurrences = occurrences;
+        this.parameterNames = parameterNames;
+        this.compiledExpressions = new AtomicReferenceArray<Serializable>(parameterNames.length);
+    }
+
+    public static ParameterTemplate parse(String template) {
+        if (template.indexOf("#{") < 0) {
+            return new ParameterTemplate(template, new String[] { template }, new int[0], NO_PARAMETERS);
+        }
+        List<String> literals = new ArrayList<String>();
+        List<Integer> occurrences = new ArrayList<Integer>();
+        List<String> parameterNames = new ArrayList<String>();
+        Matcher matcher = PARAMETER_MATCHER.matcher(template);
+        int position = 0;
+        while (matcher.find()) {
+            String paramName = matcher.group(1);
+            int index = parameterNames.indexOf(paramName);
+            if (index < 0) {
+                index = parameterNames.size();
+                parameterNames.add(paramName);
+            }
+            literals.add(template.substring(position, matcher.start()));
+            occurrences.add(index);
+            position = matcher.end();
+        }
+        literals.add(template.substring(position));
+        int[] occurrenceIndexes = new int[occurrences.size()];
+        for (int i = 0; i < occurrenceIndexes.length; i++) {
+            occurrenceIndexes[i] = occurrences.get(i);
+        }
+        return new ParameterTemplate(template, literals.toArray(new String[literals.size()]),
+                occurrenceIndexes, parameterNames.toArray(new String[parameterNames.size()]));
+    }
+
+    public String getTemplate() {
+        return template;
+    }
+
+    public boolean hasParameters() {
+        return parameterNames.length > 0;
+    }
+
+    /**
+     * @return number of distinct parameters
+     */
+    public int getParameterCount() {
+        return parameterNames.length;
+    }
+
+    public String getParameterName(int index) {
+        return parameterNames[index];
+    }
+
+    /**
+     * Evaluates the parameter as MVEL expression, compiling it on first use.
+     */
+    public Object evaluateParameter(int index, VariableResolverFactory factory) {
+        Serializable compiled = compiledExpressions.get(index);
+        if (compiled == null) {
+            compiled = MVEL.compileExpression(parameterNames[index]);
+            if (!compiledExpressions.compareAndSet(index, null, compiled)) {
+                // compiled concurrently by another thread, use the published one
+                compiled = compiledExpressions.get(index);
+            }
+        }
+        return MVELSafeHelper.getEvaluator().executeExpression(compiled, null, factory);
+    }
+
+    /**
+     * Builds the resulting string.
+     * @param values values of the distinct parameters, parameters with <code>null</code> value are left as they are
+     */
+    public String resolve(String[] values) {
+        if (occurrences.length == 0) {
+            return template;
+        }
+        StringBuilder result = new StringBuilder(template.length());
+        for (int i = 0; i < occurrences.length; i++) {
+            result.append(literals[i]);
+            String value = values[occurrences[i]];
+            if (value == null) {
+                result.append("#{").append(parameterNames[occurrences[i]]).append('}');
+            } else {
+                result.append(value);
+            }
+        }
+        result.append(literals[occurrences.length]);
+        return result.toString();
+    }
+}
@@ -33,6 +33,7 @@ public class WorkflowProcessImpl extends ProcessImpl implements WorkflowProcess,
     private boolean autoComplete = false;
     private boolean dynamic = false;
     private org.jbpm.workflow.core.NodeContainer nodeContainer;
+    private transient volatile EventNodeIndex eventNodeIndex;
     
     public WorkflowProcessImpl() {
         nodeContainer = (org.jbpm.workflow.core.NodeContainer) createNodeContainer();
@@ -65,11 +66,26 @@ public class WorkflowProcessImpl extends ProcessImpl implements WorkflowProcess,
     public void removeNode(final Node node) {
         nodeContainer.removeNode(node);
         ((org.jbpm.workflow.core.Node) node).setNodeContainer(null);
+        eventNodeIndex = null;
     }
 
     public void addNode(final Node node) {
         nodeContainer.addNode(node);
         ((org.jbpm.workflow.core.Node) node).setNodeContainer(this);
+        eventNodeIndex = null;
+    }
+    
+    /**
+     * Returns index of the nodes of this process by accepted event type, built on first use
+     * once the process definition is complete.
+     */
+    public EventNodeIndex getEventNodeIndex() {
+        EventNodeIndex index = eventNodeIndex;
+        if (index == null) {
+            index = new EventNodeIndex(getNodes());
+            eventNodeIndex = index;
+        }
+        return index;
     }
     
     public boolean isAutoComplete() {
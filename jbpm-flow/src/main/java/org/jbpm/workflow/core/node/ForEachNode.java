@@ -46,6 +46,7 @@ public class ForEachNode extends CompositeContextNode {
     private String collectionExpression;
     private String outputCollectionExpression;
     private boolean waitForCompletion = true;
+    private boolean parallel = false;
 
     public ForEachNode() {
         // Split
@@ -242,6 +243,18 @@ public class ForEachNode extends CompositeContextNode {
         this.waitForCompletion = waitForCompletion;
     }
 
+    /**
+     * Whether work items of the branches are executed concurrently, see
+     * {@link org.jbpm.process.instance.impl.ConcurrentWorkItemHandler}.
+     */
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
+
    public class ForEachSplitNode extends ExtendedNodeImpl {
         private static final long serialVersionUID = 510l;
     }
@@ -16,7 +16,14 @@
 
 package org.jbpm.workflow.core.node;
 
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 import org.kie.api.definition.process.Connection;
+import org.kie.api.definition.process.Node;
 import org.jbpm.workflow.core.impl.NodeImpl;
 
 /**
@@ -56,6 +63,8 @@ public class Join extends NodeImpl {
 
     private int type;
     private String n;
+    // node id -> whether this (OR) join can be reached from that node, filled on first use
+    private transient volatile ConcurrentMap<Long, Boolean> directFlows;
 
     public Join() {
         this.type = TYPE_UNDEFINED;
@@ -77,6 +86,93 @@ public class Join extends NodeImpl {
     	return n;
     }
 
+    /**
+     * Returns whether this join can still be reached from the given node of the same node container
+     * without passing through that node again, i.e. whether an active instance of the node may
+     * still trigger this join. The result only depends on the process definition, so it is
+     * computed on first use per node and reused for all process instances.
+     */
+    public boolean hasDirectFlowFrom(Node node) {
+        ConcurrentMap<Long, Boolean> flows = directFlows;
+        if (flows == null) {
+            synchronized (this) {
+                if (directFlows == null) {
+                    directFlows = new ConcurrentHashMap<Long, Boolean>();
+                }
+                flows = directFlows;
+            }
+        }
+        Boolean result = flows.get(node.getId());
+        if (result == null) {
+            Set<Long> vistedNodes = new HashSet<Long>();
+            checkNodes(vistedNodes, node, node, this);
+            result = vistedNodes.contains(getId()) && !vistedNodes.contains(node.getId());
+            flows.put(node.getId(), result);
+        }
+        return result;
+    }
+
+    private boolean checkNodes(Set<Long> vistedNodes, Node startAt, Node currentNode, Node lookFor) {
+    	
+        List<Connection> connections = currentNode.getOutgoingConnections(org.jbpm.workflow.core.Node.CONNECTION_DEFAULT_TYPE);
+        // special handling for XOR split as it usually is used for arbitrary loops
+        if (currentNode instanceof Split && ((Split) currentNode).getType() == Split.TYPE_XOR) {
+        	if (vistedNodes.contains(startAt.getId())) {
+        		return false;
+        	}
+            for (Connection conn : connections) {
+                Set<Long> xorCopy = new HashSet<Long>(vistedNodes);
+                
+                Node nextNode = conn.getTo();
+                if (nextNode == null) {
+                    continue;
+                } else {
+                    xorCopy.add(nextNode.getId());
+                    if (nextNode.getId() != lookFor.getId()) {
+          
+                        checkNodes(xorCopy, currentNode, nextNode, lookFor);
+                    }
+                }  
+                
+                if (xorCopy.contains(lookFor.getId())) {
+                    vistedNodes.addAll(xorCopy);
+                    return true;
+                }
+                
+            }
+        } else {
+            for (Connection conn : connections) {
+                Node nextNode = conn.getTo();
+                if (nextNode == null) {
+                    continue;
+                } else {
+                    
+                    if (vistedNodes.contains(nextNode.getId())) {
+                        // we have already been here so let's continue
+                        continue;
+                    }
+                    if (nextNode.getId() == lookFor.getId()) {
+                        // we found the node that we are looking for, add it and continue to find out other parts
+                        // as it could be part of a loop
+                        vistedNodes.add(nextNode.getId());
+                        continue;
+                    }
+                    vistedNodes.add(nextNode.getId());
+                    if (startAt.getId() == nextNode.getId()) {
+                        return true;
+                    } else {
+                        boolean nestedCheck = checkNodes(vistedNodes, startAt, nextNode, lookFor);
+                        if (nestedCheck) {
+                            return true;
+                        }
+                    }
+                }
+            }
+        }
+        
+        return false;
+    }
+
     public void validateAddIncomingConnection(final String type, final Connection connection) {
         super.validateAddIncomingConnection(type, connection);
         if (!org.jbpm.workflow.core.Node.CONNECTION_DEFAULT_TYPE.equals(type)) {
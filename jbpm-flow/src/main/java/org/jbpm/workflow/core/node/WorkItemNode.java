@@ -21,6 +21,8 @@ import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.kie.api.definition.process.Connection;
 import org.drools.core.process.core.Work;
@@ -29,6 +31,7 @@ import org.jbpm.process.core.ContextContainer;
 import org.jbpm.process.core.context.AbstractContext;
 import org.jbpm.process.core.context.variable.Mappable;
 import org.jbpm.process.core.impl.ContextContainerImpl;
+import org.jbpm.workflow.core.impl.ParameterTemplate;
 
 /**
  * Default implementation of a task node.
@@ -46,6 +49,7 @@ public class WorkItemNode extends StateBasedNode implements Mappable, ContextCon
 	private List<DataAssociation> inMapping = new LinkedList<DataAssociation>();
 	private List<DataAssociation> outMapping = new LinkedList<DataAssociation>();
     private boolean waitForCompletion = true;
+    private transient volatile ConcurrentMap<String, ParameterTemplate> workParameterTemplates;
     // TODO boolean independent (cancel work item if node gets cancelled?)
 
 	public Work getWork() {
@@ -54,7 +58,35 @@ public class WorkItemNode extends StateBasedNode implements Mappable, ContextCon
 
 	public void setWork(Work work) {
 		this.work = work;
+		this.workParameterTemplates = null;
 	}
+
+    /**
+     * Returns parsed template of the given parameter of the work definition, parsing it on first use.
+     * @return <code>null</code> if the work definition has no string parameter of that name
+     */
+    public ParameterTemplate getWorkParameterTemplate(String parameterName) {
+        Object value = work == null ? null : work.getParameter(parameterName);
+        if (!(value instanceof String)) {
+            return null;
+        }
+        ConcurrentMap<String, ParameterTemplate> templates = workParameterTemplates;
+        if (templates == null) {
+            synchronized (this) {
+                if (workParameterTemplates == null) {
+                    workParameterTemplates = new ConcurrentHashMap<String, ParameterTemplate>();
+                }
+                templates = workParameterTemplates;
+            }
+        }
+        ParameterTemplate parsed = templates.get(parameterName);
+        // the parameter might have been changed on the work definition since it was parsed
+        if (parsed == null || !parsed.getTemplate().equals(value)) {
+            parsed = ParameterTemplate.parse((String) value);
+            templates.put(parameterName, parsed);
+        }
+        return parsed;
+    }
 	
 
     public void addInMapping(String parameterName, String variableName) {
@@ -18,7 +18,6 @@ package org.jbpm.workflow.instance.impl;
 
 import java.io.Serializable;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -26,6 +25,7 @@ import java.util.Map;
 
 import org.drools.core.common.InternalKnowledgeRuntime;
 import org.drools.core.spi.ProcessContext;
+import org.drools.core.util.MVELSafeHelper;
 import org.jbpm.process.core.Context;
 import org.jbpm.process.core.ContextContainer;
 import org.jbpm.process.core.context.exception.ExceptionScope;
@@ -41,6 +41,7 @@ import org.jbpm.process.instance.context.variable.VariableScopeInstance;
 import org.jbpm.process.instance.impl.Action;
 import org.jbpm.process.instance.impl.ConstraintEvaluator;
 import org.jbpm.workflow.core.impl.NodeImpl;
+import org.jbpm.workflow.core.impl.ParameterTemplate;
 import org.jbpm.workflow.instance.WorkflowProcessInstance;
 import org.jbpm.workflow.instance.WorkflowRuntimeException;
 import org.jbpm.workflow.instance.node.CompositeNodeInstance;
@@ -48,6 +49,7 @@ import org.kie.api.definition.process.Connection;
 import org.kie.api.definition.process.Node;
 import org.kie.api.runtime.process.NodeInstance;
 import org.kie.api.runtime.process.NodeInstanceContainer;
+import org.mvel2.integration.VariableResolverFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -69,7 +71,11 @@ public abstract class NodeInstanceImpl implements org.jbpm.workflow.instance.Nod
     private int level;
 
     public void setId(final long id) {
+        long oldId = this.id;
         this.id = id;
+        if (oldId != id && nodeInstanceContainer instanceof NodeInstanceIndex.Container) {
+            ((NodeInstanceIndex.Container) nodeInstanceContainer).getNodeInstanceIndex().idChanged(this, oldId);
+        }
     }
 
     public long getId() {
@@ -77,7 +83,11 @@ public abstract class NodeInstanceImpl implements org.jbpm.workflow.instance.Nod
     }
 
     public void setNodeId(final long nodeId) {
+        long oldNodeId = this.nodeId;
         this.nodeId = nodeId;
+        if (oldNodeId != nodeId && nodeInstanceContainer instanceof NodeInstanceIndex.Container) {
+            ((NodeInstanceIndex.Container) nodeInstanceContainer).getNodeInstanceIndex().nodeIdChanged(this, oldNodeId);
+        }
     }
 
     public long getNodeId() {
@@ -133,24 +143,21 @@ public abstract class NodeInstanceImpl implements org.jbpm.workflow.instance.Nod
     }
     
     public void cancel() {
+        markProcessInstanceDirty();
         nodeInstanceContainer.removeNodeInstance(this);
     }
     
     public final void trigger(NodeInstance from, String type) {
-    	boolean hidden = false;
-    	if (getNode().getMetaData().get("hidden") != null) {
-    		hidden = true;
-    	}
+    	markProcessInstanceDirty();
+    	NodeImpl node = (NodeImpl) getNode();
+    	boolean hidden = node.isHidden();
     	
     	if (from != null) {
     	    int level = ((org.jbpm.workflow.instance.NodeInstance)from).getLevel();
     	    ((org.jbpm.workflow.instance.NodeInstanceContainer)getNodeInstanceContainer()).setCurrentLevel(level);
-	    	Collection<Connection> incoming = getNode().getIncomingConnections(type);
-	    	for (Connection conn : incoming) {
-	    	    if (conn.getFrom().getId() == from.getNodeId()) {
-	    	        this.metaData.put("IncomingConnection", conn.getMetaData().get("UniqueId"));
-	    	        break;
-	    	    }
+	    	Connection incoming = node.getIncomingConnection(type, from.getNodeId());
+	    	if (incoming != null) {
+	    	    this.metaData.put("IncomingConnection", incoming.getMetaData().get("UniqueId"));
 	    	}
     	}
     	InternalKnowledgeRuntime kruntime = getProcessInstance().getKnowledgeRuntime();
@@ -199,13 +206,10 @@ public abstract class NodeInstanceImpl implements org.jbpm.workflow.instance.Nod
     }
     
     protected void triggerCompleted(String type, boolean remove) {
+        markProcessInstanceDirty();
         Node node = getNode();
         if (node != null) {
-	    	String uniqueId = (String) node.getMetaData().get("UniqueId");
-	    	if( uniqueId == null ) { 
-	    	    uniqueId = ((NodeImpl) node).getUniqueId();
-	    	}
-	    	((WorkflowProcessInstanceImpl) processInstance).addCompletedNodeId(uniqueId);
+	    	((WorkflowProcessInstanceImpl) processInstance).addCompletedNodeId(((NodeImpl) node).getMetaUniqueId());
         }
 
         // if node instance was cancelled, or containing container instance was cancelled
@@ -221,7 +225,7 @@ public abstract class NodeInstanceImpl implements org.jbpm.workflow.instance.Nod
 
         List<Connection> connections = null;
         if (node != null) {
-        	if ("true".equals(System.getProperty("jbpm.enable.multi.con")) && ((NodeImpl) node).getConstraints().size() > 0) {
+        	if (((NodeImpl) node).isMultiConnectionEnabled() && ((NodeImpl) node).getConstraints().size() > 0) {
         		int priority = Integer.MAX_VALUE;
         		connections = ((NodeImpl)node).getDefaultOutgoingConnections();
                 boolean found = false;
@@ -282,11 +286,7 @@ public abstract class NodeInstanceImpl implements org.jbpm.workflow.instance.Nod
         	}
         }
         if (connections == null || connections.isEmpty() ) {
-        	boolean hidden = false;
-        	Node currentNode = getNode();
-        	if (currentNode != null && currentNode.getMetaData().get("hidden") != null) {
-        		hidden = true;
-        	}
+        	boolean hidden = node != null && ((NodeImpl) node).isHidden();
         	InternalKnowledgeRuntime kruntime = getProcessInstance().getKnowledgeRuntime();
         	if (!hidden) {
         		((InternalProcessRuntime) kruntime.getProcessRuntime())
@@ -341,23 +341,22 @@ public abstract class NodeInstanceImpl implements org.jbpm.workflow.instance.Nod
     }
     
     protected void triggerNodeInstance(org.jbpm.workflow.instance.NodeInstance nodeInstance, String type) {
-    	boolean hidden = false;
-    	if (getNode().getMetaData().get("hidden") != null) {
-    		hidden = true;
-    	}
+    	NodeImpl node = (NodeImpl) getNode();
+    	boolean hidden = node.isHidden();
     	InternalKnowledgeRuntime kruntime = getProcessInstance().getKnowledgeRuntime();
     	if (!hidden) {
     		((InternalProcessRuntime) kruntime.getProcessRuntime())
     			.getProcessEventSupport().fireBeforeNodeLeft(this, kruntime);
     	}
     	// trigger next node
-        nodeInstance.trigger(this, type);
-        Collection<Connection> outgoing = getNode().getOutgoingConnections(type);
-        for (Connection conn : outgoing) {
-            if (conn.getTo().getId() == nodeInstance.getNodeId()) {
-                this.metaData.put("OutgoingConnection", conn.getMetaData().get("UniqueId"));
-                break;
-            }
+    	if (((WorkflowProcessInstanceImpl) getProcessInstance()).isQueueBasedExecution()) {
+    	    ((WorkflowProcessInstanceImpl) getProcessInstance()).queueTrigger(nodeInstance, this, type);
+    	} else {
+    	    nodeInstance.trigger(this, type);
+    	}
+        Connection outgoing = node.getOutgoingConnection(type, nodeInstance.getNodeId());
+        if (outgoing != null) {
+            this.metaData.put("OutgoingConnection", outgoing.getMetaData().get("UniqueId"));
         }
         if (!hidden) {
         	((InternalProcessRuntime) kruntime.getProcessRuntime())
@@ -387,6 +386,22 @@ public abstract class NodeInstanceImpl implements org.jbpm.workflow.instance.Nod
         return ((NodeImpl) getNode()).resolveContext(contextId, param);
     }
     
+    /**
+     * Evaluates MVEL expression that is part of the node definition using its compiled form,
+     * so it is not parsed again on every activation.
+     */
+    protected Object evaluateExpression(String expression, VariableResolverFactory factory) {
+        return MVELSafeHelper.getEvaluator().executeExpression(
+            ((NodeImpl) getNode()).getCompiledExpression(expression), null, factory);
+    }
+    
+    /**
+     * Returns parsed form of <code>#{...}</code> template that is part of the node definition.
+     */
+    protected ParameterTemplate getParameterTemplate(String template) {
+        return ((NodeImpl) getNode()).getParameterTemplate(template);
+    }
+    
     public ContextInstance resolveContextInstance(String contextId, Object param) {
         Context context = resolveContext(contextId, param);
         if (context == null) {
@@ -481,6 +496,17 @@ public abstract class NodeInstanceImpl implements org.jbpm.workflow.instance.Nod
 
     public void setMetaData(String name, Object data) {
         this.metaData.put(name, data);
+        markProcessInstanceDirty();
+    }
+    
+    /**
+     * Flags the owning process instance as modified, so that persistence does not
+     * skip it when change tracking is enabled.
+     */
+    protected void markProcessInstanceDirty() {
+        if (processInstance instanceof WorkflowProcessInstanceImpl) {
+            ((WorkflowProcessInstanceImpl) processInstance).setDirty(true);
+        }
     }
     
     protected class NodeInstanceTrigger {
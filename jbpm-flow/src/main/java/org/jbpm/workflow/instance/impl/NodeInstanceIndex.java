@@ -0,0 +1,182 @@
+/**
+ * Copyright 2010 JBoss Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.workflow.instance.impl;
+
+import java.io.Serializable;
+import java.util.AbstractCollection;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+
+import org.jbpm.workflow.instance.NodeInstance;
+
+/**
+ * Active node instances of a node instance container, kept in the order they were added
+ * (so marshalling writes them in the same order as before) and indexed by node instance id
+ * and by node id, so looking up or removing a node instance does not scan all of them.
+ * <br/>
+ * Node instances report changes of their id or node id (e.g. when unmarshalled or migrated)
+ * through {@link #idChanged(NodeInstance, long)} and {@link #nodeIdChanged(NodeInstance, long)}.
+ */
+public class NodeInstanceIndex extends AbstractCollection<NodeInstance> implements Serializable {
+
+    private static final long serialVersionUID = 510l;
+
+    /**
+     * Node instance container that keeps its node instances in a {@link NodeInstanceIndex}.
+     */
+    public interface Container {
+
+        NodeInstanceIndex getNodeInstanceIndex();
+
+    }
+
+    private final LinkedHashSet<NodeInstance> nodeInstances = new LinkedHashSet<NodeInstance>();
+    private final Map<Long, NodeInstance> byId = new HashMap<Long, NodeInstance>();
+    private final Map<Long, LinkedHashSet<NodeInstance>> byNodeId = new HashMap<Long, LinkedHashSet<NodeInstance>>();
+
+    @Override
+    public boolean add(NodeInstance nodeInstance) {
+        if (!nodeInstances.add(nodeInstance)) {
+            return false;
+        }
+        // while unmarshalling, node instances get a temporary id before their own one is restored,
+        // so never let a new node instance hide an existing one with the same id
+        if (!byId.containsKey(nodeInstance.getId())) {
+            byId.put(nodeInstance.getId(), nodeInstance);
+        }
+        addByNodeId(nodeInstance, nodeInstance.getNodeId());
+        return true;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (!nodeInstances.remove(o)) {
+            return false;
+        }
+        NodeInstance nodeInstance = (NodeInstance) o;
+        if (byId.get(nodeInstance.getId()) == nodeInstance) {
+            byId.remove(nodeInstance.getId());
+        }
+        removeByNodeId(nodeInstance, nodeInstance.getNodeId());
+        return true;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return nodeInstances.contains(o);
+    }
+
+    @Override
+    public Iterator<NodeInstance> iterator() {
+        final Iterator<NodeInstance> iterator = nodeInstances.iterator();
+        return new Iterator<NodeInstance>() {
+            private NodeInstance current;
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+            public NodeInstance next() {
+                current = iterator.next();
+                return current;
+            }
+            public void remove() {
+                iterator.remove();
+                if (byId.get(current.getId()) == current) {
+                    byId.remove(current.getId());
+                }
+                removeByNodeId(current, current.getNodeId());
+            }
+        };
+    }
+
+    @Override
+    public int size() {
+        return nodeInstances.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return nodeInstances.isEmpty();
+    }
+
+    /**
+     * @return the first node instance that was added and is still active, or <code>null</code>
+     */
+    public NodeInstance getFirst() {
+        return nodeInstances.isEmpty() ? null : nodeInstances.iterator().next();
+    }
+
+    public NodeInstance getById(long nodeInstanceId) {
+        NodeInstance nodeInstance = byId.get(nodeInstanceId);
+        if (nodeInstance != null && nodeInstance.getId() == nodeInstanceId) {
+            return nodeInstance;
+        }
+        return null;
+    }
+
+    /**
+     * @return node instances of the given node in the order they were added, never <code>null</code>
+     */
+    public Collection<NodeInstance> getByNodeId(long nodeId) {
+        Collection<NodeInstance> result = byNodeId.get(nodeId);
+        if (result == null) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableCollection(result);
+    }
+
+    public void idChanged(NodeInstance nodeInstance, long oldId) {
+        if (!nodeInstances.contains(nodeInstance)) {
+            return;
+        }
+        if (byId.get(oldId) == nodeInstance) {
+            byId.remove(oldId);
+        }
+        byId.put(nodeInstance.getId(), nodeInstance);
+    }
+
+    public void nodeIdChanged(NodeInstance nodeInstance, long oldNodeId) {
+        if (!nodeInstances.contains(nodeInstance)) {
+            return;
+        }
+        removeByNodeId(nodeInstance, oldNodeId);
+        addByNodeId(nodeInstance, nodeInstance.getNodeId());
+    }
+
+    private void addByNodeId(NodeInstance nodeInstance, long nodeId) {
+        LinkedHashSet<NodeInstance> forNode = byNodeId.get(nodeId);
+        if (forNode == null) {
+            forNode = new LinkedHashSet<NodeInstance>();
+            byNodeId.put(nodeId, forNode);
+        }
+        forNode.add(nodeInstance);
+    }
+
+    private void removeByNodeId(NodeInstance nodeInstance, long nodeId) {
+        LinkedHashSet<NodeInstance> forNode = byNodeId.get(nodeId);
+        if (forNode != null) {
+            forNode.remove(nodeInstance);
+            if (forNode.isEmpty()) {
+                byNodeId.remove(nodeId);
+            }
+        }
+    }
+
+}
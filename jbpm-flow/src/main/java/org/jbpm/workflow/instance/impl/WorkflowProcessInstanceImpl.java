@@ -17,9 +17,11 @@
 package org.jbpm.workflow.instance.impl;
 
 import java.io.Serializable;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -35,7 +37,9 @@ import org.jbpm.process.instance.ProcessInstance;
 import org.jbpm.process.instance.context.variable.VariableScopeInstance;
 import org.jbpm.process.instance.impl.ProcessInstanceImpl;
 import org.jbpm.workflow.core.DroolsAction;
+import org.jbpm.workflow.core.impl.EventNodeIndex;
 import org.jbpm.workflow.core.impl.NodeImpl;
+import org.jbpm.workflow.core.impl.WorkflowProcessImpl;
 import org.jbpm.workflow.core.node.EventNode;
 import org.jbpm.workflow.core.node.EventNodeInterface;
 import org.jbpm.workflow.core.node.EventSubProcessNode;
@@ -64,11 +68,11 @@ import org.kie.internal.runtime.manager.context.ProcessInstanceIdContext;
  */
 public abstract class WorkflowProcessInstanceImpl extends ProcessInstanceImpl
 		implements WorkflowProcessInstance,
-		org.jbpm.workflow.instance.NodeInstanceContainer {
+		org.jbpm.workflow.instance.NodeInstanceContainer, NodeInstanceIndex.Container {
 
 	private static final long serialVersionUID = 510l;
 
-	private final List<NodeInstance> nodeInstances = new ArrayList<NodeInstance>();;
+	private final NodeInstanceIndex nodeInstances = new NodeInstanceIndex();
 	private long nodeInstanceCounter = 0;
 	private Map<String, List<EventListener>> eventListeners = new HashMap<String, List<EventListener>>();
 	private Map<String, List<EventListener>> externalEventListeners = new HashMap<String, List<EventListener>>();
@@ -77,14 +81,61 @@ public abstract class WorkflowProcessInstanceImpl extends ProcessInstanceImpl
 	private Map<String, Integer> iterationLevels = new HashMap<String, Integer>();
 	private int currentLevel;
 	private boolean persisted = false;
+	private transient boolean dirty = true;
+	// when enabled, node triggers are queued and executed in a loop instead of recursively
+	private transient boolean queueBasedExecution = "true".equalsIgnoreCase(System.getProperty("jbpm.queue.based.execution"));
+	private transient List<QueuedTrigger> queuedTriggers;
 
 	public NodeContainer getNodeContainer() {
 		return getWorkflowProcess();
 	}
+	
+	public boolean isQueueBasedExecution() {
+		return queueBasedExecution;
+	}
+	
+	public void setQueueBasedExecution(boolean queueBasedExecution) {
+		this.queueBasedExecution = queueBasedExecution;
+	}
+	
+	/**
+	 * Triggers given node instance in queue based execution mode. Triggers requested while another
+	 * node instance is being triggered are queued and executed once it returns, by the outermost
+	 * call, so the stack depth does not grow with the number of nodes executed in a row.
+	 * Queued triggers are executed depth first, in the same order as with recursive execution.
+	 */
+	public void queueTrigger(NodeInstance nodeInstance, NodeInstance from, String type) {
+		QueuedTrigger trigger = new QueuedTrigger(nodeInstance, from, type);
+		if (queuedTriggers != null) {
+			queuedTriggers.add(trigger);
+			return;
+		}
+		Deque<QueuedTrigger> pending = new ArrayDeque<QueuedTrigger>();
+		pending.push(trigger);
+		try {
+			while (!pending.isEmpty()) {
+				QueuedTrigger next = pending.pop();
+				// stop if this process instance or the container has been aborted / completed
+				if (((org.jbpm.workflow.instance.NodeInstanceContainer) next.from.getNodeInstanceContainer())
+						.getState() != ProcessInstance.STATE_ACTIVE) {
+					continue;
+				}
+				queuedTriggers = new ArrayList<QueuedTrigger>();
+				next.nodeInstance.trigger(next.from, next.type);
+				for (int i = queuedTriggers.size() - 1; i >= 0; i--) {
+					pending.push(queuedTriggers.get(i));
+				}
+				queuedTriggers = null;
+			}
+		} finally {
+			queuedTriggers = null;
+		}
+	}
 
 	public void addNodeInstance(final NodeInstance nodeInstance) {
 		((NodeInstanceImpl) nodeInstance).setId(nodeInstanceCounter++);
 		this.nodeInstances.add(nodeInstance);
+		this.dirty = true;
 	}
 	
     @Override
@@ -112,6 +163,11 @@ public abstract class WorkflowProcessInstanceImpl extends ProcessInstanceImpl
 					getKnowledgeRuntime().getFactHandle(nodeInstance));
 		}
 		this.nodeInstances.remove(nodeInstance);
+		this.dirty = true;
+	}
+
+	public NodeInstanceIndex getNodeInstanceIndex() {
+		return nodeInstances;
 	}
 
 	public Collection<org.kie.api.runtime.process.NodeInstance> getNodeInstances() {
@@ -136,12 +192,7 @@ public abstract class WorkflowProcessInstanceImpl extends ProcessInstanceImpl
 	}
 	
 	public NodeInstance getNodeInstance(long nodeInstanceId) {
-		for (NodeInstance nodeInstance: nodeInstances) {
-			if (nodeInstance.getId() == nodeInstanceId) {
-				return nodeInstance;
-			}
-		}
-		return null;
+		return nodeInstances.getById(nodeInstanceId);
 	}
 
 	public List<String> getActiveNodeIds() {
@@ -161,9 +212,9 @@ public abstract class WorkflowProcessInstanceImpl extends ProcessInstanceImpl
 
 	public NodeInstance getFirstNodeInstance(final long nodeId) {
 		for (final Iterator<NodeInstance> iterator = this.nodeInstances
-				.iterator(); iterator.hasNext();) {
+				.getByNodeId(nodeId).iterator(); iterator.hasNext();) {
 			final NodeInstance nodeInstance = iterator.next();
-			if (nodeInstance.getNodeId() == nodeId && nodeInstance.getLevel() == getCurrentLevel()) {
+			if (nodeInstance.getLevel() == getCurrentLevel()) {
 				return nodeInstance;
 			}
 		}
@@ -171,15 +222,7 @@ public abstract class WorkflowProcessInstanceImpl extends ProcessInstanceImpl
 	}
 
 	public List<NodeInstance> getNodeInstances(final long nodeId) {
-		List<NodeInstance> result = new ArrayList<NodeInstance>();
-		for (final Iterator<NodeInstance> iterator = this.nodeInstances
-				.iterator(); iterator.hasNext();) {
-			final NodeInstance nodeInstance = iterator.next();
-			if (nodeInstance.getNodeId() == nodeId) {
-				result.add(nodeInstance);
-			}
-		}
-		return result;
+		return new ArrayList<NodeInstance>(this.nodeInstances.getByNodeId(nodeId));
 	}
 
 	public NodeInstance getNodeInstance(final Node node) {
@@ -275,6 +318,16 @@ public abstract class WorkflowProcessInstanceImpl extends ProcessInstanceImpl
 		variableScopeInstance.setVariable(name, value);
 	}
 	
+	public void internalSetState(final int state) {
+		super.internalSetState(state);
+		this.dirty = true;
+	}
+
+	public void setMetaData(String name, Object data) {
+		super.setMetaData(name, data);
+		this.dirty = true;
+	}
+
 	public void setState(final int state, String outcome) {
 	    super.setState(state, outcome);
         // TODO move most of this to ProcessInstanceImpl
@@ -285,7 +338,7 @@ public abstract class WorkflowProcessInstanceImpl extends ProcessInstanceImpl
             processRuntime.getProcessEventSupport().fireBeforeProcessCompleted(this, kruntime);
             // deactivate all node instances of this process instance
             while (!nodeInstances.isEmpty()) {
-                NodeInstance nodeInstance = nodeInstances.get(0);
+                NodeInstance nodeInstance = nodeInstances.getFirst();
                 ((org.jbpm.workflow.instance.NodeInstance) nodeInstance)
                         .cancel();
             }
@@ -394,11 +447,19 @@ public abstract class WorkflowProcessInstanceImpl extends ProcessInstanceImpl
 		}
 	}
 
+	private EventNodeIndex getEventNodeIndex() {
+	    if (getWorkflowProcess() instanceof WorkflowProcessImpl) {
+	        return ((WorkflowProcessImpl) getWorkflowProcess()).getEventNodeIndex();
+	    }
+	    return null;
+	}
+	
 	public void signalEvent(String type, Object event) {
 	    synchronized (this) {
 			if (getState() != ProcessInstance.STATE_ACTIVE) {
 				return;
 			}
+			this.dirty = true;
 			try {
 				this.activatingNodeIds = new ArrayList<String>(); 
 				List<EventListener> listeners = eventListeners.get(type);
@@ -413,7 +474,9 @@ public abstract class WorkflowProcessInstanceImpl extends ProcessInstanceImpl
 						listener.signalEvent(type, event);
 					}
 				}
-				for (Node node : getWorkflowProcess().getNodes()) {
+				EventNodeIndex eventNodeIndex = getEventNodeIndex();
+				Node[] eventNodes = eventNodeIndex == null ? getWorkflowProcess().getNodes() : eventNodeIndex.getEventNodes(type);
+				for (Node node : eventNodes) {
 			        if (node instanceof EventNodeInterface) {
 			            if (((EventNodeInterface) node).acceptsEvent(type, event)) {
 			                if (node instanceof EventNode && ((EventNode) node).getFrom() == null) {
@@ -434,7 +497,8 @@ public abstract class WorkflowProcessInstanceImpl extends ProcessInstanceImpl
 			        }
 				}
 				if (((org.jbpm.workflow.core.WorkflowProcess) getWorkflowProcess()).isDynamic()) {
-					for (Node node : getWorkflowProcess().getNodes()) {
+					Node[] namedNodes = eventNodeIndex == null ? getWorkflowProcess().getNodes() : eventNodeIndex.getNodesByName(type);
+					for (Node node : namedNodes) {
 						if (type.equals(node.getName()) && node.getIncomingConnections().isEmpty()) {
 			    			NodeInstance nodeInstance = getNodeInstance(node);
 			                ((org.jbpm.workflow.instance.NodeInstance) nodeInstance)
@@ -552,6 +616,7 @@ public abstract class WorkflowProcessInstanceImpl extends ProcessInstanceImpl
 	
 	public void addCompletedNodeId(String uniqueId) { 
 	    this.completedNodeIds.add(uniqueId.intern());
+	    this.dirty = true;
 	}
 	
 	public List<String> getCompletedNodeIds() { 
@@ -577,6 +642,19 @@ public abstract class WorkflowProcessInstanceImpl extends ProcessInstanceImpl
 	public void setPersisted(boolean persisted) {
 		this.persisted = persisted;
 	}
+
+	/**
+	 * Returns whether the state of this process instance (node instances, variables,
+	 * state, meta data) might have changed since it was last marshalled or unmarshalled.
+	 * Newly created process instances are always dirty.
+	 */
+	public boolean isDirty() {
+		return dirty;
+	}
+
+	public void setDirty(boolean dirty) {
+		this.dirty = dirty;
+	}
 	
 	public void addActivatingNodeId(String uniqueId) { 
 		if (this.activatingNodeIds == null) {
@@ -591,5 +669,17 @@ public abstract class WorkflowProcessInstanceImpl extends ProcessInstanceImpl
 		}
 	    return new ArrayList<String>(this.activatingNodeIds);
 	}
-    
+
+	private static class QueuedTrigger {
+		
+		private final NodeInstance nodeInstance;
+		private final NodeInstance from;
+		private final String type;
+		
+		QueuedTrigger(NodeInstance nodeInstance, NodeInstance from, String type) {
+			this.nodeInstance = nodeInstance;
+			this.from = from;
+			this.type = type;
+		}
+	}
 }
@@ -38,6 +38,7 @@ import org.jbpm.workflow.instance.WorkflowProcessInstance;
 import org.jbpm.workflow.instance.impl.NodeInstanceFactory;
 import org.jbpm.workflow.instance.impl.NodeInstanceFactoryRegistry;
 import org.jbpm.workflow.instance.impl.NodeInstanceImpl;
+import org.jbpm.workflow.instance.impl.NodeInstanceIndex;
 import org.kie.api.definition.process.Connection;
 import org.kie.api.definition.process.Node;
 import org.kie.api.definition.process.NodeContainer;
@@ -48,11 +49,11 @@ import org.kie.api.runtime.process.EventListener;
  * 
  * @author <a href="mailto:kris_verlaenen@hotmail.com">Kris Verlaenen</a>
  */
-public class CompositeNodeInstance extends StateBasedNodeInstance implements NodeInstanceContainer, EventNodeInstanceInterface, EventBasedNodeInstanceInterface {
+public class CompositeNodeInstance extends StateBasedNodeInstance implements NodeInstanceContainer, NodeInstanceIndex.Container, EventNodeInstanceInterface, EventBasedNodeInstanceInterface {
 
     private static final long serialVersionUID = 510l;
     
-    private final List<NodeInstance> nodeInstances = new ArrayList<NodeInstance>();;
+    private final NodeInstanceIndex nodeInstances = new NodeInstanceIndex();
     private long nodeInstanceCounter = 0;
     private int state = ProcessInstance.STATE_ACTIVE;
     private Map<String, Integer> iterationLevels = new HashMap<String, Integer>();
@@ -162,7 +163,7 @@ public class CompositeNodeInstance extends StateBasedNodeInstance implements Nod
         triggerCompleted(outType, cancelRemainingInstances);
         if (cancelRemainingInstances) {
 	        while (!nodeInstances.isEmpty()) {
-	            NodeInstance nodeInstance = (NodeInstance) nodeInstances.get(0);
+	            NodeInstance nodeInstance = nodeInstances.getFirst();
 	            ((org.jbpm.workflow.instance.NodeInstance) nodeInstance).cancel();
 	        }
         }
@@ -170,7 +171,7 @@ public class CompositeNodeInstance extends StateBasedNodeInstance implements Nod
 
     public void cancel() {
         while (!nodeInstances.isEmpty()) {
-            NodeInstance nodeInstance = (NodeInstance) nodeInstances.get(0);
+            NodeInstance nodeInstance = nodeInstances.getFirst();
             ((org.jbpm.workflow.instance.NodeInstance) nodeInstance).cancel();
         }
         super.cancel();
@@ -185,6 +186,10 @@ public class CompositeNodeInstance extends StateBasedNodeInstance implements Nod
         this.nodeInstances.remove(nodeInstance);
     }
 
+    public NodeInstanceIndex getNodeInstanceIndex() {
+        return nodeInstances;
+    }
+
     public Collection<org.kie.api.runtime.process.NodeInstance> getNodeInstances() {
         return new ArrayList<org.kie.api.runtime.process.NodeInstance>(getNodeInstances(false));
     }
@@ -205,18 +210,13 @@ public class CompositeNodeInstance extends StateBasedNodeInstance implements Nod
     }
 
 	public NodeInstance getNodeInstance(long nodeInstanceId) {
-		for (NodeInstance nodeInstance: nodeInstances) {
-			if (nodeInstance.getId() == nodeInstanceId) {
-				return nodeInstance;
-			}
-		}
-		return null;
+		return nodeInstances.getById(nodeInstanceId);
 	}
 
     public NodeInstance getFirstNodeInstance(final long nodeId) {
-        for ( final Iterator<NodeInstance> iterator = this.nodeInstances.iterator(); iterator.hasNext(); ) {
+        for ( final Iterator<NodeInstance> iterator = this.nodeInstances.getByNodeId(nodeId).iterator(); iterator.hasNext(); ) {
             final NodeInstance nodeInstance = iterator.next();
-            if ( nodeInstance.getNodeId() == nodeId && nodeInstance.getLevel() == getCurrentLevel()) {
+            if ( nodeInstance.getLevel() == getCurrentLevel()) {
                 return nodeInstance;
             }
         }
@@ -276,15 +276,7 @@ public class CompositeNodeInstance extends StateBasedNodeInstance implements Nod
 	}
 
 	public List<NodeInstance> getNodeInstances(final long nodeId) {
-		List<NodeInstance> result = new ArrayList<NodeInstance>();
-		for (final Iterator<NodeInstance> iterator = this.nodeInstances
-				.iterator(); iterator.hasNext();) {
-			final NodeInstance nodeInstance = iterator.next();
-			if (nodeInstance.getNodeId() == nodeId) {
-				result.add(nodeInstance);
-			}
-		}
-		return result;
+		return new ArrayList<NodeInstance>(this.nodeInstances.getByNodeId(nodeId));
 	}
 
     public class CompositeNodeStartInstance extends NodeInstanceImpl {
@@ -26,15 +26,18 @@ import org.jbpm.process.core.ContextContainer;
 import org.jbpm.process.core.context.variable.VariableScope;
 import org.jbpm.process.instance.ContextInstance;
 import org.jbpm.process.instance.context.variable.VariableScopeInstance;
+import org.jbpm.process.instance.impl.ConcurrentWorkItemHandler;
 import org.jbpm.workflow.core.node.ForEachNode;
 import org.jbpm.workflow.core.node.ForEachNode.ForEachJoinNode;
 import org.jbpm.workflow.core.node.ForEachNode.ForEachSplitNode;
 import org.jbpm.workflow.instance.NodeInstance;
 import org.jbpm.workflow.instance.NodeInstanceContainer;
+import org.jbpm.workflow.instance.WorkflowRuntimeException;
 import org.jbpm.workflow.instance.impl.NodeInstanceImpl;
 import org.jbpm.workflow.instance.impl.NodeInstanceResolverFactory;
 import org.kie.api.definition.process.Connection;
 import org.kie.api.definition.process.Node;
+import org.kie.api.runtime.process.WorkItem;
 
 /**
  * Runtime counterpart of a for each node.
@@ -150,8 +153,19 @@ public class ForEachNodeInstance extends CompositeContextNodeInstance {
             		variableScopeInstance.setVariable(variableName, o);
             		nodeInstances.add(nodeInstance);
             	}
-            	for (NodeInstance nodeInstance: nodeInstances) {
-            		((org.jbpm.workflow.instance.NodeInstance) nodeInstance).trigger(this, getForEachSplitNode().getTo().getToType());
+            	// in parallel mode work items of the branches are dispatched concurrently and joined back here
+            	ConcurrentWorkItemHandler.Batch batch = getForEachNode().isParallel() ? ConcurrentWorkItemHandler.openBatch() : null;
+            	try {
+	            	for (NodeInstance nodeInstance: nodeInstances) {
+	            		((org.jbpm.workflow.instance.NodeInstance) nodeInstance).trigger(this, getForEachSplitNode().getTo().getToType());
+	            	}
+	            	if (batch != null) {
+	            		batch.join(new BranchFailureHandler());
+	            	}
+            	} finally {
+            		if (batch != null) {
+            			batch.close();
+            		}
             	}
 	            if (!getForEachNode().isWaitForCompletion()) {
 	            	ForEachNodeInstance.this.triggerCompleted(org.jbpm.workflow.core.Node.CONNECTION_DEFAULT_TYPE, false);
@@ -162,6 +176,29 @@ public class ForEachNodeInstance extends CompositeContextNodeInstance {
 
     }
     
+    /**
+     * Gives failures of work items executed concurrently back to the work item node instance
+     * that created them, as if the work item handler had failed on the calling thread.
+     */
+    private class BranchFailureHandler implements ConcurrentWorkItemHandler.FailureHandler {
+
+        public void handleFailure(WorkItem workItem, Exception e) {
+            if (getNodeInstanceContainer().getNodeInstance(getId()) == null) {
+                // the for each node was cancelled by a previous failure
+                return;
+            }
+            long nodeInstanceId = ((org.drools.core.process.instance.WorkItem) workItem).getNodeInstanceId();
+            for (NodeInstance nodeInstance: getNodeInstances(true)) {
+                if (nodeInstance.getId() == nodeInstanceId && nodeInstance instanceof WorkItemNodeInstance) {
+                    ((WorkItemNodeInstance) nodeInstance).handleWorkItemException(e);
+                    return;
+                }
+            }
+            throw new WorkflowRuntimeException(ForEachNodeInstance.this, getProcessInstance(),
+                "Unable to execute Action: " + e.getMessage(), e);
+        }
+    }
+
     public class ForEachJoinNodeInstance extends NodeInstanceImpl {
 
         private static final long serialVersionUID = 510l;
@@ -207,7 +244,7 @@ public class ForEachNodeInstance extends CompositeContextNodeInstance {
             	((NodeInstanceContainer) getNodeInstanceContainer()).removeNodeInstance(this);
                 if (getForEachNode().isWaitForCompletion()) {
                 	
-                	if (!"true".equals(System.getProperty("jbpm.enable.multi.con"))) {
+                	if (!getForEachJoinNode().isMultiConnectionEnabled()) {
                 		
                 		triggerConnection(getForEachJoinNode().getTo());
                 	} else {
@@ -17,11 +17,9 @@
 package org.jbpm.workflow.instance.node;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.drools.core.common.InternalAgenda;
@@ -30,7 +28,6 @@ import org.drools.core.impl.StatefulKnowledgeSessionImpl;
 import org.drools.core.rule.Declaration;
 import org.drools.core.spi.Activation;
 import org.drools.core.time.TimeUtils;
-import org.drools.core.util.MVELSafeHelper;
 import org.jbpm.process.core.context.variable.VariableScope;
 import org.jbpm.process.core.timer.BusinessCalendar;
 import org.jbpm.process.core.timer.DateTimeUtils;
@@ -42,6 +39,7 @@ import org.jbpm.process.instance.impl.Action;
 import org.jbpm.process.instance.timer.TimerInstance;
 import org.jbpm.process.instance.timer.TimerManager;
 import org.jbpm.workflow.core.DroolsAction;
+import org.jbpm.workflow.core.impl.ParameterTemplate;
 import org.jbpm.workflow.core.node.StateBasedNode;
 import org.jbpm.workflow.instance.WorkflowProcessInstance;
 import org.jbpm.workflow.instance.impl.ExtendedNodeInstanceImpl;
@@ -57,7 +55,7 @@ import org.slf4j.LoggerFactory;
 public abstract class StateBasedNodeInstance extends ExtendedNodeInstanceImpl implements EventBasedNodeInstanceInterface, EventListener {
 	
 	private static final long serialVersionUID = 510l;
-    protected static final Pattern PARAMETER_MATCHER = Pattern.compile("#\\{([\\S&&[^\\}]]+)\\}", Pattern.DOTALL);
+    protected static final Pattern PARAMETER_MATCHER = ParameterTemplate.PARAMETER_MATCHER;
     
     private static final Logger logger = LoggerFactory.getLogger(StateBasedNodeInstance.class);
 
@@ -243,33 +241,27 @@ public abstract class StateBasedNodeInstance extends ExtendedNodeInstanceImpl im
     		return null;
     	}
     	// cannot parse delay, trying to interpret it
-		Map<String, String> replacements = new HashMap<String, String>();
-		Matcher matcher = PARAMETER_MATCHER.matcher(s);
-        while (matcher.find()) {
-        	String paramName = matcher.group(1);
-        	if (replacements.get(paramName) == null) {
-            	VariableScopeInstance variableScopeInstance = (VariableScopeInstance)
-                	resolveContextInstance(VariableScope.VARIABLE_SCOPE, paramName);
-                if (variableScopeInstance != null) {
-                    Object variableValue = variableScopeInstance.getVariable(paramName);
-                	String variableValueString = variableValue == null ? "" : variableValue.toString(); 
-	                replacements.put(paramName, variableValueString);
-                } else {
-                	try {
-                		Object variableValue = MVELSafeHelper.getEvaluator().eval(paramName, new NodeInstanceResolverFactory(this));
-	                	String variableValueString = variableValue == null ? "" : variableValue.toString();
-	                	replacements.put(paramName, variableValueString);
-                	} catch (Throwable t) {
-                	    logger.error("Could not find variable scope for variable {}", paramName);
-                	    logger.error("when trying to replace variable in processId for sub process {}", getNodeName());
-                	    logger.error("Continuing without setting process id.");
-                	}
-                }
-        	}
-        }
-        for (Map.Entry<String, String> replacement: replacements.entrySet()) {
-        	s = s.replace("#{" + replacement.getKey() + "}", replacement.getValue());
+    	ParameterTemplate template = getParameterTemplate(s);
+    	String[] replacements = new String[template.getParameterCount()];
+    	for (int i = 0; i < replacements.length; i++) {
+        	String paramName = template.getParameterName(i);
+        	VariableScopeInstance variableScopeInstance = (VariableScopeInstance)
+            	resolveContextInstance(VariableScope.VARIABLE_SCOPE, paramName);
+            if (variableScopeInstance != null) {
+                Object variableValue = variableScopeInstance.getVariable(paramName);
+                replacements[i] = variableValue == null ? "" : variableValue.toString(); 
+            } else {
+            	try {
+            		Object variableValue = template.evaluateParameter(i, new NodeInstanceResolverFactory(this));
+                	replacements[i] = variableValue == null ? "" : variableValue.toString();
+            	} catch (Throwable t) {
+            	    logger.error("Could not find variable scope for variable {}", paramName);
+            	    logger.error("when trying to replace variable in processId for sub process {}", getNodeName());
+            	    logger.error("Continuing without setting process id.");
+            	}
+            }
         }
+        s = template.resolve(replacements);
         
         return s;
     }
@@ -21,10 +21,8 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Matcher;
 
 import org.drools.core.common.InternalKnowledgeRuntime;
-import org.drools.core.util.MVELSafeHelper;
 import org.jbpm.process.core.Context;
 import org.jbpm.process.core.ContextContainer;
 import org.jbpm.process.core.context.exception.ExceptionScope;
@@ -38,6 +36,7 @@ import org.jbpm.process.instance.context.variable.VariableScopeInstance;
 import org.jbpm.process.instance.impl.ContextInstanceFactory;
 import org.jbpm.process.instance.impl.ContextInstanceFactoryRegistry;
 import org.jbpm.process.instance.impl.ProcessInstanceImpl;
+import org.jbpm.workflow.core.impl.ParameterTemplate;
 import org.jbpm.workflow.core.node.DataAssociation;
 import org.jbpm.workflow.core.node.SubProcessNode;
 import org.jbpm.workflow.instance.impl.NodeInstanceResolverFactory;
@@ -94,7 +93,7 @@ public class SubProcessNodeInstance extends StateBasedNodeInstance implements Ev
                 parameterValue = variableScopeInstance.getVariable(mapping.getSources().get(0));
             } else {
             	try {
-            		parameterValue = MVELSafeHelper.getEvaluator().eval(mapping.getSources().get(0), new NodeInstanceResolverFactory(this));
+            		parameterValue = evaluateExpression(mapping.getSources().get(0), new NodeInstanceResolverFactory(this));
             	} catch (Throwable t) {
             	    logger.error("Could not find variable scope for variable {}", mapping.getSources().get(0));
             	    logger.error("when trying to execute SubProcess node {}", getSubProcessNode().getName());
@@ -111,33 +110,27 @@ public class SubProcessNodeInstance extends StateBasedNodeInstance implements Ev
             processId = getSubProcessNode().getProcessName();
         }
         // resolve processId if necessary
-        Map<String, String> replacements = new HashMap<String, String>();
-		Matcher matcher = PARAMETER_MATCHER.matcher(processId);
-        while (matcher.find()) {
-        	String paramName = matcher.group(1);
-        	if (replacements.get(paramName) == null) {
-            	VariableScopeInstance variableScopeInstance = (VariableScopeInstance)
-                	resolveContextInstance(VariableScope.VARIABLE_SCOPE, paramName);
-                if (variableScopeInstance != null) {
-                    Object variableValue = variableScopeInstance.getVariable(paramName);
-                	String variableValueString = variableValue == null ? "" : variableValue.toString(); 
-	                replacements.put(paramName, variableValueString);
-                } else {
-                	try {
-                		Object variableValue = MVELSafeHelper.getEvaluator().eval(paramName, new NodeInstanceResolverFactory(this));
-	                	String variableValueString = variableValue == null ? "" : variableValue.toString();
-	                	replacements.put(paramName, variableValueString);
-                	} catch (Throwable t) {
-                	    logger.error("Could not find variable scope for variable {}", paramName);
-                	    logger.error("when trying to replace variable in processId for sub process {}", getNodeName());
-                	    logger.error("Continuing without setting process id.");
-                	}
-                }
-        	}
-        }
-        for (Map.Entry<String, String> replacement: replacements.entrySet()) {
-        	processId = processId.replace("#{" + replacement.getKey() + "}", replacement.getValue());
+        ParameterTemplate template = getParameterTemplate(processId);
+        String[] replacements = new String[template.getParameterCount()];
+        for (int i = 0; i < replacements.length; i++) {
+        	String paramName = template.getParameterName(i);
+        	VariableScopeInstance variableScopeInstance = (VariableScopeInstance)
+            	resolveContextInstance(VariableScope.VARIABLE_SCOPE, paramName);
+            if (variableScopeInstance != null) {
+                Object variableValue = variableScopeInstance.getVariable(paramName);
+                replacements[i] = variableValue == null ? "" : variableValue.toString(); 
+            } else {
+            	try {
+            		Object variableValue = template.evaluateParameter(i, new NodeInstanceResolverFactory(this));
+                	replacements[i] = variableValue == null ? "" : variableValue.toString();
+            	} catch (Throwable t) {
+            	    logger.error("Could not find variable scope for variable {}", paramName);
+            	    logger.error("when trying to replace variable in processId for sub process {}", getNodeName());
+            	    logger.error("Continuing without setting process id.");
+            	}
+            }
         }
+        processId = template.resolve(replacements);
         KieBase kbase = ((ProcessInstance) getProcessInstance()).getKnowledgeRuntime().getKieBase();
         // start process instance
         Process process = kbase.getProcess(processId);
@@ -273,7 +266,7 @@ public class SubProcessNodeInstance extends StateBasedNodeInstance implements Ev
 		        	Object value = subProcessVariableScopeInstance.getVariable(mapping.getSources().get(0));
 		        	if (value == null) {
 		        		try {
-		            		value = MVELSafeHelper.getEvaluator().eval(mapping.getSources().get(0), new VariableScopeResolverFactory(subProcessVariableScopeInstance));
+		            		value = evaluateExpression(mapping.getSources().get(0), new VariableScopeResolverFactory(subProcessVariableScopeInstance));
 		            	} catch (Throwable t) {
 		            		// do nothing
 		            	}
@@ -21,7 +21,6 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Matcher;
 
 import org.drools.core.WorkItemHandlerNotFoundException;
 import org.drools.core.process.core.Work;
@@ -30,7 +29,6 @@ import org.drools.core.process.instance.WorkItem;
 import org.drools.core.process.instance.WorkItemManager;
 import org.drools.core.process.instance.impl.WorkItemImpl;
 import org.drools.core.spi.ProcessContext;
-import org.drools.core.util.MVELSafeHelper;
 import org.jbpm.process.core.Context;
 import org.jbpm.process.core.ContextContainer;
 import org.jbpm.process.core.context.exception.ExceptionScope;
@@ -45,6 +43,7 @@ import org.jbpm.process.instance.context.variable.VariableScopeInstance;
 import org.jbpm.process.instance.impl.AssignmentAction;
 import org.jbpm.process.instance.impl.ContextInstanceFactory;
 import org.jbpm.process.instance.impl.ContextInstanceFactoryRegistry;
+import org.jbpm.workflow.core.impl.ParameterTemplate;
 import org.jbpm.workflow.core.node.Assignment;
 import org.jbpm.workflow.core.node.DataAssociation;
 import org.jbpm.workflow.core.node.Transformation;
@@ -137,15 +136,7 @@ public class WorkItemNodeInstance extends StateBasedNodeInstance implements Even
                 getProcessInstance().setState( ProcessInstance.STATE_ABORTED );
                 throw wihnfe;
             } catch (Exception e) {
-                String exceptionName = e.getClass().getName();
-                ExceptionScopeInstance exceptionScopeInstance = (ExceptionScopeInstance)
-                    resolveContextInstance(ExceptionScope.EXCEPTION_SCOPE, exceptionName);
-                if (exceptionScopeInstance == null) {
-                    throw new WorkflowRuntimeException(this, getProcessInstance(), "Unable to execute Action: " + e.getMessage(), e);
-                }
-                // workItemId must be set otherwise cancel activity will not find the right work item
-                this.workItemId = workItem.getId();
-                exceptionScopeInstance.handleException(exceptionName, e);
+                handleWorkItemException(e);
             }
         }
         if (!workItemNode.isWaitForCompletion()) {
@@ -154,6 +145,23 @@ public class WorkItemNodeInstance extends StateBasedNodeInstance implements Even
         this.workItemId = workItem.getId();
     }    
 
+    /**
+     * Handles an exception thrown by the work item handler of this node instance, using the matching
+     * exception scope (e.g. a boundary error event) if there is one.
+     * @throws WorkflowRuntimeException if no exception scope handles the exception
+     */
+    public void handleWorkItemException(Exception e) {
+        String exceptionName = e.getClass().getName();
+        ExceptionScopeInstance exceptionScopeInstance = (ExceptionScopeInstance)
+            resolveContextInstance(ExceptionScope.EXCEPTION_SCOPE, exceptionName);
+        if (exceptionScopeInstance == null) {
+            throw new WorkflowRuntimeException(this, getProcessInstance(), "Unable to execute Action: " + e.getMessage(), e);
+        }
+        // workItemId must be set otherwise cancel activity will not find the right work item
+        this.workItemId = workItem.getId();
+        exceptionScopeInstance.handleException(exceptionName, e);
+    }
+
     protected WorkItem createWorkItem(WorkItemNode workItemNode) {
         Work work = workItemNode.getWork();
         workItem = new WorkItemImpl();
@@ -179,7 +187,7 @@ public class WorkItemNodeInstance extends StateBasedNodeInstance implements Even
                     parameterValue = variableScopeInstance.getVariable(association.getSources().get(0));
                 } else {
                     try {
-                        parameterValue = MVELSafeHelper.getEvaluator().eval(association.getSources().get(0), new NodeInstanceResolverFactory(this));
+                        parameterValue = evaluateExpression(association.getSources().get(0), new NodeInstanceResolverFactory(this));
                     } catch (Throwable t) {
                         logger.error("Could not find variable scope for variable {}", association.getSources().get(0));
                         logger.error("when trying to execute Work Item {}", work.getName());
@@ -199,34 +207,35 @@ public class WorkItemNodeInstance extends StateBasedNodeInstance implements Even
         for (Map.Entry<String, Object> entry: workItem.getParameters().entrySet()) {
             if (entry.getValue() instanceof String) {
                 String s = (String) entry.getValue();
-                Map<String, String> replacements = new HashMap<String, String>();
-                Matcher matcher = PARAMETER_MATCHER.matcher(s);
-                while (matcher.find()) {
-                    String paramName = matcher.group(1);
-                    if (replacements.get(paramName) == null) {
-                        VariableScopeInstance variableScopeInstance = (VariableScopeInstance)
-                            resolveContextInstance(VariableScope.VARIABLE_SCOPE, paramName);
-                        if (variableScopeInstance != null) {
-                            Object variableValue = variableScopeInstance.getVariable(paramName);
-                            String variableValueString = variableValue == null ? "" : variableValue.toString(); 
-                            replacements.put(paramName, variableValueString);
-                        } else {
-                            try {
-                                Object variableValue = MVELSafeHelper.getEvaluator().eval(paramName, new NodeInstanceResolverFactory(this));
-                                String variableValueString = variableValue == null ? "" : variableValue.toString();
-                                replacements.put(paramName, variableValueString);
-                            } catch (Throwable t) {
-                                logger.error("Could not find variable scope for variable {}", paramName);
-                                logger.error("when trying to replace variable in string for Work Item {}", work.getName());
-                                logger.error("Continuing without setting parameter.");
-                            }
+                // parameters of the work definition are parsed once per node, values
+                // that came from data associations are parsed as they come
+                ParameterTemplate template = workItemNode.getWorkParameterTemplate(entry.getKey());
+                if (template == null || !s.equals(template.getTemplate())) {
+                    template = ParameterTemplate.parse(s);
+                }
+                if (!template.hasParameters()) {
+                    continue;
+                }
+                String[] replacements = new String[template.getParameterCount()];
+                for (int i = 0; i < replacements.length; i++) {
+                    String paramName = template.getParameterName(i);
+                    VariableScopeInstance variableScopeInstance = (VariableScopeInstance)
+                        resolveContextInstance(VariableScope.VARIABLE_SCOPE, paramName);
+                    if (variableScopeInstance != null) {
+                        Object variableValue = variableScopeInstance.getVariable(paramName);
+                        replacements[i] = variableValue == null ? "" : variableValue.toString(); 
+                    } else {
+                        try {
+                            Object variableValue = template.evaluateParameter(i, new NodeInstanceResolverFactory(this));
+                            replacements[i] = variableValue == null ? "" : variableValue.toString();
+                        } catch (Throwable t) {
+                            logger.error("Could not find variable scope for variable {}", paramName);
+                            logger.error("when trying to replace variable in string for Work Item {}", work.getName());
+                            logger.error("Continuing without setting parameter.");
                         }
                     }
                 }
-                for (Map.Entry<String, String> replacement: replacements.entrySet()) {
-                    s = s.replace("#{" + replacement.getKey() + "}", replacement.getValue());
-                }
-                ((WorkItem) workItem).setParameter(entry.getKey(), s);
+                ((WorkItem) workItem).setParameter(entry.getKey(), template.resolve(replacements));
             }
         }
         return workItem;
@@ -275,7 +284,7 @@ public class WorkItemNodeInstance extends StateBasedNodeInstance implements Even
                         Object value = workItem.getResult(association.getSources().get(0));
                         if (value == null) {
                             try {
-                                value = MVELSafeHelper.getEvaluator().eval(association.getSources().get(0), new WorkItemResolverFactory(workItem));
+                                value = evaluateExpression(association.getSources().get(0), new WorkItemResolverFactory(workItem));
                             } catch (Throwable t) {
                                 // do nothing
                             }
@@ -452,7 +461,7 @@ public class WorkItemNodeInstance extends StateBasedNodeInstance implements Even
 	            parameterValue = variableScopeInstance.getVariable(sourceParam);
 	        } else {
 	            try {
-	                parameterValue = MVELSafeHelper.getEvaluator().eval(sourceParam, new NodeInstanceResolverFactory(this));
+	                parameterValue = evaluateExpression(sourceParam, new NodeInstanceResolverFactory(this));
 	            } catch (Throwable t) {
 	                logger.warn("Could not find variable scope for variable {}", sourceParam);
 	            }
@@ -17,16 +17,21 @@
 package org.jbpm.process;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
 
 import org.drools.core.process.core.datatype.impl.type.ListDataType;
 import org.drools.core.process.core.datatype.impl.type.ObjectDataType;
 import org.jbpm.process.core.context.variable.Variable;
+import org.jbpm.process.core.impl.WorkImpl;
 import org.jbpm.process.instance.impl.Action;
+import org.jbpm.process.instance.impl.ConcurrentWorkItemHandler;
 import org.jbpm.process.test.Person;
 import org.jbpm.process.test.TestProcessEventListener;
 import org.jbpm.ruleflow.core.RuleFlowProcess;
@@ -39,9 +44,14 @@ import org.jbpm.workflow.core.node.ActionNode;
 import org.jbpm.workflow.core.node.EndNode;
 import org.jbpm.workflow.core.node.ForEachNode;
 import org.jbpm.workflow.core.node.StartNode;
+import org.jbpm.workflow.core.node.WorkItemNode;
 import org.junit.Test;
 import org.kie.api.runtime.KieSession;
 import org.kie.api.runtime.process.ProcessContext;
+import org.kie.api.runtime.process.ProcessInstance;
+import org.kie.api.runtime.process.WorkItem;
+import org.kie.api.runtime.process.WorkItemHandler;
+import org.kie.api.runtime.process.WorkItemManager;
 import org.slf4j.LoggerFactory;
 
 public class ForEachTest extends AbstractBaseTest {
@@ -150,4 +160,97 @@ public class ForEachTest extends AbstractBaseTest {
         verifyEventHistory(eventOrder, procEventListener.getEventHistory());
     }
 
+    @Test
+    public void testParallelForEach() throws Exception {
+        RuleFlowProcess process = new RuleFlowProcess();
+        process.setId("org.drools.core.process.foreach.parallel");
+        process.setName("Parallel ForEach Process");
+        
+        List<Variable> variables = new ArrayList<Variable>();
+        Variable variable = new Variable();
+        variable.setName("persons");
+        ListDataType listDataType = new ListDataType();
+        ObjectDataType personDataType = new ObjectDataType();
+        personDataType.setClassName("org.drools.Person");
+        listDataType.setType(personDataType);
+        variable.setType(listDataType);
+        variables.add(variable);
+        process.getVariableScope().setVariables(variables);
+        
+        StartNode startNode = new StartNode();
+        startNode.setName("Start");
+        startNode.setId(1);
+        process.addNode(startNode);
+        EndNode endNode = new EndNode();
+        endNode.setName("EndNode");
+        endNode.setId(2);
+        process.addNode(endNode);
+        ForEachNode forEachNode = new ForEachNode();
+        forEachNode.setName("ForEach");
+        forEachNode.setId(3);
+        forEachNode.setCollectionExpression("persons");
+        forEachNode.setParallel(true);
+        process.addNode(forEachNode);
+        new ConnectionImpl(
+            startNode, Node.CONNECTION_DEFAULT_TYPE,
+            forEachNode, Node.CONNECTION_DEFAULT_TYPE
+        );
+        new ConnectionImpl(
+            forEachNode, Node.CONNECTION_DEFAULT_TYPE,
+            endNode, Node.CONNECTION_DEFAULT_TYPE
+        );
+        
+        WorkItemNode workItemNode = new WorkItemNode();
+        workItemNode.setName("Service");
+        WorkImpl work = new WorkImpl();
+        work.setName("Service");
+        workItemNode.setWork(work);
+        forEachNode.addNode(workItemNode);
+        forEachNode.linkIncomingConnections(
+            Node.CONNECTION_DEFAULT_TYPE,
+            workItemNode.getId(), Node.CONNECTION_DEFAULT_TYPE);
+        forEachNode.linkOutgoingConnections(
+            workItemNode.getId(), Node.CONNECTION_DEFAULT_TYPE,
+            Node.CONNECTION_DEFAULT_TYPE);
+        forEachNode.setVariable("child", personDataType);
+        
+        // every work item waits until all three are running, so this only completes when executed concurrently
+        final CyclicBarrier barrier = new CyclicBarrier(3);
+        final List<String> threads = new ArrayList<String>();
+        ConcurrentWorkItemHandler handler = new ConcurrentWorkItemHandler(new WorkItemHandler() {
+            public void executeWorkItem(WorkItem workItem, WorkItemManager manager) {
+                try {
+                    barrier.await(10, TimeUnit.SECONDS);
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+                synchronized (threads) {
+                    threads.add(Thread.currentThread().getName());
+                }
+                manager.completeWorkItem(workItem.getId(), null);
+            }
+            public void abortWorkItem(WorkItem workItem, WorkItemManager manager) {
+            }
+        }, 3);
+        
+        KieSession ksession = createKieSession(process);
+        ksession.getWorkItemManager().registerWorkItemHandler("Service", handler);
+        
+        Map<String, Object> parameters = new HashMap<String, Object>();
+        List<Person> persons = new ArrayList<Person>();
+        persons.add(new Person("John Doe"));
+        persons.add(new Person("Jane Doe"));
+        persons.add(new Person("Jack"));
+        parameters.put("persons", persons);
+        
+        try {
+            ProcessInstance processInstance = ksession.startProcess("org.drools.core.process.foreach.parallel", parameters);
+            assertEquals(ProcessInstance.STATE_COMPLETED, processInstance.getState());
+            assertEquals(3, threads.size());
+            assertFalse(threads.contains(Thread.currentThread().getName()));
+        } finally {
+            handler.dispose();
+        }
+    }
+
 }
@@ -0,0 +1,154 @@
+/**
+ * Copyright 2010 JBoss Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.process;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jbpm.process.instance.impl.Action;
+import org.jbpm.ruleflow.core.RuleFlowProcess;
+import org.jbpm.test.util.AbstractBaseTest;
+import org.jbpm.workflow.core.DroolsAction;
+import org.jbpm.workflow.core.Node;
+import org.jbpm.workflow.core.impl.ConnectionImpl;
+import org.jbpm.workflow.core.impl.DroolsConsequenceAction;
+import org.jbpm.workflow.core.node.ActionNode;
+import org.jbpm.workflow.core.node.EndNode;
+import org.jbpm.workflow.core.node.Split;
+import org.jbpm.workflow.core.node.StartNode;
+import org.junit.After;
+import org.junit.Test;
+import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.process.ProcessContext;
+import org.kie.api.runtime.process.ProcessInstance;
+import org.slf4j.LoggerFactory;
+
+public class QueueBasedExecutionTest extends AbstractBaseTest {
+
+    public void addLogger() { 
+        logger = LoggerFactory.getLogger(this.getClass());
+    }
+    
+    @After
+    public void clearProperty() {
+        System.clearProperty("jbpm.queue.based.execution");
+    }
+    
+    @Test
+    public void testLongSequence() {
+        System.setProperty("jbpm.queue.based.execution", "true");
+        final List<String> executed = new ArrayList<String>();
+        int length = 5000;
+        
+        RuleFlowProcess process = new RuleFlowProcess();
+        process.setId("org.jbpm.process.sequence");
+        process.setName("Sequence Process");
+        
+        StartNode startNode = new StartNode();
+        startNode.setName("Start");
+        startNode.setId(1);
+        process.addNode(startNode);
+        Node previous = startNode;
+        for (int i = 0; i < length; i++) {
+            ActionNode actionNode = createActionNode(i + 2, "action" + i, executed);
+            process.addNode(actionNode);
+            connect(previous, actionNode);
+            previous = actionNode;
+        }
+        EndNode endNode = new EndNode();
+        endNode.setName("End");
+        endNode.setId(length + 2);
+        process.addNode(endNode);
+        connect(previous, endNode);
+        
+        KieSession ksession = createKieSession(process);
+        ProcessInstance processInstance = ksession.startProcess("org.jbpm.process.sequence");
+        assertEquals(ProcessInstance.STATE_COMPLETED, processInstance.getState());
+        assertEquals(length, executed.size());
+    }
+    
+    @Test
+    public void testSameOrderAsRecursiveExecution() {
+        List<String> recursive = executeParallelBranches();
+        System.setProperty("jbpm.queue.based.execution", "true");
+        List<String> queued = executeParallelBranches();
+        assertEquals(4, recursive.size());
+        assertEquals(recursive, queued);
+    }
+    
+    private List<String> executeParallelBranches() {
+        final List<String> executed = new ArrayList<String>();
+        
+        RuleFlowProcess process = new RuleFlowProcess();
+        process.setId("org.jbpm.process.parallel");
+        process.setName("Parallel Process");
+        
+        StartNode startNode = new StartNode();
+        startNode.setName("Start");
+        startNode.setId(1);
+        process.addNode(startNode);
+        Split split = new Split();
+        split.setName("Split");
+        split.setType(Split.TYPE_AND);
+        split.setId(2);
+        process.addNode(split);
+        connect(startNode, split);
+        
+        long id = 3;
+        for (String branch : new String[] { "a", "b" }) {
+            ActionNode first = createActionNode(id++, branch + "1", executed);
+            process.addNode(first);
+            connect(split, first);
+            ActionNode second = createActionNode(id++, branch + "2", executed);
+            process.addNode(second);
+            connect(first, second);
+            EndNode endNode = new EndNode();
+            endNode.setName("End " + branch);
+            endNode.setTerminate(false);
+            endNode.setId(id++);
+            process.addNode(endNode);
+            connect(second, endNode);
+        }
+        
+        KieSession ksession = createKieSession(process);
+        ksession.startProcess("org.jbpm.process.parallel");
+        return executed;
+    }
+    
+    private ActionNode createActionNode(long id, final String name, final List<String> executed) {
+        ActionNode actionNode = new ActionNode();
+        actionNode.setName(name);
+        actionNode.setId(id);
+        DroolsAction action = new DroolsConsequenceAction("java", null);
+        action.setMetaData("Action", new Action() {
+            public void execute(ProcessContext context) throws Exception {
+                executed.add(name);
+            }
+        });
+        actionNode.setAction(action);
+        return actionNode;
+    }
+    
+    private void connect(Node from, Node to) {
+        new ConnectionImpl(
+            from, Node.CONNECTION_DEFAULT_TYPE,
+            to, Node.CONNECTION_DEFAULT_TYPE
+        );
+    }
+}
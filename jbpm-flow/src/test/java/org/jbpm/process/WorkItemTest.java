@@ -25,6 +25,7 @@ import org.jbpm.workflow.core.impl.ConnectionImpl;
 import org.jbpm.workflow.core.node.EndNode;
 import org.jbpm.workflow.core.node.StartNode;
 import org.jbpm.workflow.core.node.WorkItemNode;
+import org.jbpm.workflow.instance.impl.WorkflowProcessInstanceImpl;
 import org.junit.Assert;
 import org.junit.Test;
 import org.kie.api.runtime.KieSession;
@@ -98,6 +99,40 @@ public class WorkItemTest extends AbstractBaseTest {
                              processInstance.getState() );
     }
 
+    @Test
+    public void testDirtyTracking() {
+        String workName = "Dirty Task";
+        RuleFlowProcess process = getWorkItemProcess( "org.drools.actions",
+                                                      workName );
+        KieSession ksession = createKieSession(process);
+        ksession.getWorkItemManager().registerWorkItemHandler( workName,
+                                                               new DoNothingWorkItemHandler() );
+
+        Map<String, Object> parameters = new HashMap<String, Object>();
+        parameters.put( "UserName",
+                        "John Doe" );
+        parameters.put( "Person",
+                        new Person( "John Doe" ) );
+        WorkflowProcessInstanceImpl processInstance = (WorkflowProcessInstanceImpl)
+            ksession.startProcess( "org.drools.actions",
+                                   parameters );
+        Assert.assertTrue( processInstance.isDirty() );
+
+        processInstance.setDirty( false );
+        processInstance.getVariable( "UserName" );
+        processInstance.getNodeInstances();
+        Assert.assertFalse( processInstance.isDirty() );
+
+        processInstance.setVariable( "UserName",
+                                     "Jane Doe" );
+        Assert.assertTrue( processInstance.isDirty() );
+
+        processInstance.setDirty( false );
+        processInstance.signalEvent( "someEvent",
+                                     null );
+        Assert.assertTrue( processInstance.isDirty() );
+    }
+
     private RuleFlowProcess getWorkItemProcess(String processId,
                                                String workName) {
         RuleFlowProcess process = new RuleFlowProcess();
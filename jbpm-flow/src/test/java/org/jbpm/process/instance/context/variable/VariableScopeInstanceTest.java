@@ -0,0 +1,75 @@
+package org.jbpm.process.instance.context.variable;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jbpm.test.util.AbstractBaseTest;
+import org.junit.Test;
+import org.slf4j.LoggerFactory;
+
+public class VariableScopeInstanceTest extends AbstractBaseTest {
+
+    public void addLogger() { 
+        logger = LoggerFactory.getLogger(this.getClass());
+    }
+    
+    @Test
+    public void testEncodedVariableDecodedOnFirstAccess() {
+        VariableScopeInstance variableScopeInstance = new VariableScopeInstance();
+        CountingEncodedVariable encoded = new CountingEncodedVariable("value");
+        variableScopeInstance.internalSetEncodedVariable("name", encoded);
+        variableScopeInstance.internalSetVariable("other", "otherValue");
+        
+        assertEquals(2, variableScopeInstance.getVariableNames().size());
+        assertTrue(variableScopeInstance.getVariableNames().contains("name"));
+        assertEquals(0, encoded.decoded);
+        
+        assertEquals("value", variableScopeInstance.getVariable("name"));
+        assertEquals("value", variableScopeInstance.getVariable("name"));
+        assertEquals(1, encoded.decoded);
+        // immutable value that was not set since, can be written as it was read
+        assertSame(encoded, variableScopeInstance.getUnchangedEncodedVariable("name"));
+        assertNull(variableScopeInstance.getUnchangedEncodedVariable("other"));
+        
+        variableScopeInstance.internalSetVariable("name", "newValue");
+        assertNull(variableScopeInstance.getUnchangedEncodedVariable("name"));
+        assertEquals("newValue", variableScopeInstance.getVariable("name"));
+        assertEquals(1, encoded.decoded);
+    }
+    
+    @Test
+    public void testAccessedMutableVariableIsNotUnchanged() {
+        VariableScopeInstance variableScopeInstance = new VariableScopeInstance();
+        CountingEncodedVariable encoded = new CountingEncodedVariable(new ArrayList<String>());
+        variableScopeInstance.internalSetEncodedVariable("list", encoded);
+        assertSame(encoded, variableScopeInstance.getUnchangedEncodedVariable("list"));
+        
+        // the value might be modified in place once it was handed out
+        @SuppressWarnings("unchecked")
+        List<String> list = (List<String>) variableScopeInstance.getVariables().get("list");
+        list.add("item");
+        assertEquals(1, encoded.decoded);
+        assertNull(variableScopeInstance.getUnchangedEncodedVariable("list"));
+    }
+    
+    private static class CountingEncodedVariable implements EncodedVariable {
+        
+        private final Object value;
+        private int decoded;
+        
+        private CountingEncodedVariable(Object value) {
+            this.value = value;
+        }
+        
+        public Object decode() {
+            decoded++;
+            return value;
+        }
+    }
+    
+}
@@ -0,0 +1,65 @@
+package org.jbpm.workflow.core.impl;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import org.jbpm.process.core.event.BroadcastEventTypeFilter;
+import org.jbpm.process.core.event.EventTypeFilter;
+import org.jbpm.ruleflow.core.RuleFlowProcess;
+import org.jbpm.test.util.AbstractBaseTest;
+import org.jbpm.workflow.core.node.ActionNode;
+import org.jbpm.workflow.core.node.EventNode;
+import org.junit.Test;
+import org.kie.api.definition.process.Node;
+import org.slf4j.LoggerFactory;
+
+public class EventNodeIndexTest extends AbstractBaseTest {
+
+    public void addLogger() { 
+        logger = LoggerFactory.getLogger(this.getClass());
+    }
+    
+    @Test
+    public void testEventNodesByType() {
+        RuleFlowProcess process = new RuleFlowProcess();
+        EventNode signalA = createEventNode(1, "signalA", new EventTypeFilter());
+        EventNode broadcast = createEventNode(2, "broadcast", new BroadcastEventTypeFilter());
+        ActionNode action = new ActionNode();
+        action.setId(3);
+        action.setName("signalA");
+        EventNode signalB = createEventNode(4, "signalB", new EventTypeFilter());
+        process.addNode(signalA);
+        process.addNode(broadcast);
+        process.addNode(action);
+        process.addNode(signalB);
+        
+        EventNodeIndex index = process.getEventNodeIndex();
+        assertArrayEquals(new Node[] { signalA, broadcast }, index.getEventNodes("signalA"));
+        assertArrayEquals(new Node[] { broadcast, signalB }, index.getEventNodes("signalB"));
+        // broadcast filter accepts by prefix so it is a candidate for any type
+        assertArrayEquals(new Node[] { broadcast }, index.getEventNodes("unknown"));
+        assertArrayEquals(new Node[] { action }, index.getNodesByName("signalA"));
+        assertEquals(0, index.getNodesByName("unknown").length);
+    }
+    
+    @Test
+    public void testIndexRebuiltWhenNodeAdded() {
+        RuleFlowProcess process = new RuleFlowProcess();
+        EventNode signalA = createEventNode(1, "signalA", new EventTypeFilter());
+        process.addNode(signalA);
+        assertEquals(1, process.getEventNodeIndex().getEventNodes("signalA").length);
+        
+        EventNode another = createEventNode(2, "signalA", new EventTypeFilter());
+        process.addNode(another);
+        assertArrayEquals(new Node[] { signalA, another }, process.getEventNodeIndex().getEventNodes("signalA"));
+    }
+    
+    private EventNode createEventNode(long id, String type, EventTypeFilter filter) {
+        EventNode eventNode = new EventNode();
+        eventNode.setId(id);
+        eventNode.setName("event " + id);
+        filter.setType(type);
+        eventNode.addEventFilter(filter);
+        return eventNode;
+    }
+}
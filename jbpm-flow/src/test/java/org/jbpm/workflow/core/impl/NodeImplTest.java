@@ -0,0 +1,57 @@
+package org.jbpm.workflow.core.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.jbpm.test.util.AbstractBaseTest;
+import org.jbpm.workflow.core.Node;
+import org.jbpm.workflow.core.node.ActionNode;
+import org.jbpm.workflow.core.node.Join;
+import org.junit.Test;
+import org.slf4j.LoggerFactory;
+
+public class NodeImplTest extends AbstractBaseTest {
+
+    public void addLogger() { 
+        logger = LoggerFactory.getLogger(this.getClass());
+    }
+    
+    @Test
+    public void testConnectionLookup() {
+        ActionNode first = createNode(1);
+        ActionNode second = createNode(2);
+        Join join = new Join();
+        join.setId(3);
+        ConnectionImpl fromFirst = new ConnectionImpl(first, Node.CONNECTION_DEFAULT_TYPE, join, Node.CONNECTION_DEFAULT_TYPE);
+        
+        assertSame(fromFirst, join.getIncomingConnection(Node.CONNECTION_DEFAULT_TYPE, 1));
+        assertNull(join.getIncomingConnection(Node.CONNECTION_DEFAULT_TYPE, 2));
+        assertSame(fromFirst, first.getOutgoingConnection(Node.CONNECTION_DEFAULT_TYPE, 3));
+        assertNull(first.getOutgoingConnection("other", 3));
+        
+        // adding a connection after the first lookup is picked up
+        ConnectionImpl fromSecond = new ConnectionImpl(second, Node.CONNECTION_DEFAULT_TYPE, join, Node.CONNECTION_DEFAULT_TYPE);
+        assertSame(fromSecond, join.getIncomingConnection(Node.CONNECTION_DEFAULT_TYPE, 2));
+    }
+    
+    @Test
+    public void testMetaData() {
+        ActionNode node = createNode(1);
+        assertFalse(node.isHidden());
+        assertEquals(node.getMetaData("UniqueId"), node.getMetaUniqueId());
+        
+        node.setMetaData("hidden", true);
+        node.setMetaData("UniqueId", "_1");
+        assertTrue(node.isHidden());
+        assertEquals("_1", node.getMetaUniqueId());
+    }
+    
+    private ActionNode createNode(long id) {
+        ActionNode node = new ActionNode();
+        node.setId(id);
+        return node;
+    }
+}
@@ -0,0 +1,86 @@
+package org.jbpm.workflow.core.node;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.jbpm.test.util.AbstractBaseTest;
+import org.jbpm.workflow.core.Node;
+import org.jbpm.workflow.core.impl.ConnectionImpl;
+import org.junit.Test;
+import org.slf4j.LoggerFactory;
+
+public class JoinTest extends AbstractBaseTest {
+
+    public void addLogger() {
+        logger = LoggerFactory.getLogger(this.getClass());
+    }
+
+    @Test
+    public void testCachedDirectFlow() {
+        ActionNode first = createNode(1);
+        ActionNode second = createNode(2);
+        Join join = createJoin(3);
+        connect(first, second);
+        ConnectionImpl toJoin = connect(second, join);
+
+        assertTrue(join.hasDirectFlowFrom(first));
+
+        // result depends on the definition only, it is not computed again
+        toJoin.terminate();
+        assertTrue(join.hasDirectFlowFrom(first));
+        // first lookup for this node, so computed on the changed definition
+        assertFalse(join.hasDirectFlowFrom(second));
+    }
+
+    @Test
+    public void testCachedNoDirectFlow() {
+        ActionNode first = createNode(1);
+        ActionNode unconnected = createNode(2);
+        Join join = createJoin(3);
+        connect(first, join);
+
+        assertFalse(join.hasDirectFlowFrom(unconnected));
+
+        connect(unconnected, join);
+        assertFalse(join.hasDirectFlowFrom(unconnected));
+        assertTrue(join.hasDirectFlowFrom(first));
+    }
+
+    @Test
+    public void testDirectFlowWithLoop() {
+        // before -> first -> second -> join, with second looping back to first
+        ActionNode before = createNode(1);
+        ActionNode first = createNode(2);
+        ActionNode second = createNode(3);
+        Join join = createJoin(4);
+        connect(before, first);
+        connect(first, second);
+        connect(second, first);
+        connect(second, join);
+
+        // nodes of the loop can reach the join only by passing through themselves again
+        assertFalse(join.hasDirectFlowFrom(first));
+        assertFalse(join.hasDirectFlowFrom(second));
+        assertTrue(join.hasDirectFlowFrom(before));
+        // lookups are answered the same from the cache
+        assertFalse(join.hasDirectFlowFrom(first));
+        assertTrue(join.hasDirectFlowFrom(before));
+    }
+
+    private ActionNode createNode(long id) {
+        ActionNode node = new ActionNode();
+        node.setId(id);
+        return node;
+    }
+
+    private Join createJoin(long id) {
+        Join join = new Join();
+        join.setId(id);
+        join.setType(Join.TYPE_OR);
+        return join;
+    }
+
+    private ConnectionImpl connect(org.jbpm.workflow.core.Node from, org.jbpm.workflow.core.Node to) {
+        return new ConnectionImpl(from, Node.CONNECTION_DEFAULT_TYPE, to, Node.CONNECTION_DEFAULT_TYPE);
+    }
+}
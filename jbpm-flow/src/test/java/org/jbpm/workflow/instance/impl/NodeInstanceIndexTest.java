@@ -0,0 +1,79 @@
+package org.jbpm.workflow.instance.impl;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.jbpm.ruleflow.instance.RuleFlowProcessInstance;
+import org.jbpm.test.util.AbstractBaseTest;
+import org.jbpm.workflow.instance.NodeInstance;
+import org.jbpm.workflow.instance.node.ActionNodeInstance;
+import org.junit.Test;
+import org.slf4j.LoggerFactory;
+
+public class NodeInstanceIndexTest extends AbstractBaseTest {
+
+    public void addLogger() { 
+        logger = LoggerFactory.getLogger(this.getClass());
+    }
+    
+    @Test
+    public void testLookupAndRemove() {
+        NodeInstanceIndex index = new NodeInstanceIndex();
+        NodeInstance first = createNodeInstance(1, 10);
+        NodeInstance second = createNodeInstance(2, 20);
+        NodeInstance third = createNodeInstance(3, 10);
+        index.add(first);
+        index.add(second);
+        index.add(third);
+        
+        assertSame(second, index.getById(2));
+        assertNull(index.getById(4));
+        assertArrayEquals(new Object[] { first, third }, index.getByNodeId(10).toArray());
+        assertTrue(index.getByNodeId(30).isEmpty());
+        
+        index.remove(first);
+        assertNull(index.getById(1));
+        assertArrayEquals(new Object[] { third }, index.getByNodeId(10).toArray());
+        // insertion order is kept
+        assertArrayEquals(new Object[] { second, third }, index.toArray());
+        assertSame(second, index.getFirst());
+    }
+    
+    @Test
+    public void testIdChangedAfterAdd() {
+        RuleFlowProcessInstance processInstance = new RuleFlowProcessInstance();
+        // as when unmarshalling, the ids are restored after the node instances were added
+        ActionNodeInstance first = new ActionNodeInstance();
+        first.setNodeId(10);
+        first.setNodeInstanceContainer(processInstance);
+        first.setId(1);
+        ActionNodeInstance second = new ActionNodeInstance();
+        second.setNodeId(10);
+        second.setNodeInstanceContainer(processInstance);
+        second.setId(0);
+        ActionNodeInstance third = new ActionNodeInstance();
+        third.setNodeId(20);
+        third.setNodeInstanceContainer(processInstance);
+        third.setId(2);
+        
+        assertSame(second, processInstance.getNodeInstance(0));
+        assertSame(first, processInstance.getNodeInstance(1));
+        assertSame(third, processInstance.getNodeInstance(2));
+        assertEquals(2, processInstance.getNodeInstances(10).size());
+        
+        third.setNodeId(30);
+        assertTrue(processInstance.getNodeInstances(20).isEmpty());
+        assertSame(third, processInstance.getNodeInstances(30).get(0));
+        assertArrayEquals(new Object[] { first, second, third }, processInstance.getNodeInstances().toArray());
+    }
+    
+    private NodeInstance createNodeInstance(long id, long nodeId) {
+        ActionNodeInstance nodeInstance = new ActionNodeInstance();
+        nodeInstance.setId(id);
+        nodeInstance.setNodeId(nodeId);
+        return nodeInstance;
+    }
+}
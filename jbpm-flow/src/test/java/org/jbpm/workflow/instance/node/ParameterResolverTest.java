@@ -1,13 +1,20 @@
 package org.jbpm.workflow.instance.node;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.regex.Matcher;
 
+import org.drools.core.process.core.impl.WorkImpl;
 import org.jbpm.test.util.AbstractBaseTest;
+import org.jbpm.workflow.core.impl.ParameterTemplate;
+import org.jbpm.workflow.core.node.WorkItemNode;
 import org.junit.Test;
 import org.slf4j.LoggerFactory;
 
@@ -130,4 +137,53 @@ public class ParameterResolverTest extends AbstractBaseTest {
         assertEquals(2, foundVariables.size());
         assertEquals(Arrays.asList(expected), foundVariables);
     }
+    
+    @Test
+    public void testTemplateWithoutVariables() {
+        
+        ParameterTemplate template = ParameterTemplate.parse("no variables here");
+        
+        assertFalse(template.hasParameters());
+        assertEquals("no variables here", template.resolve(new String[0]));
+    }
+    
+    @Test
+    public void testTemplateRepeatedVariable() {
+        
+        ParameterTemplate template = ParameterTemplate.parse("#{var1} and #{var2}, again #{var1}");
+        
+        assertEquals(2, template.getParameterCount());
+        assertEquals("var1", template.getParameterName(0));
+        assertEquals("var2", template.getParameterName(1));
+        assertEquals("one and two, again one", template.resolve(new String[]{"one", "two"}));
+    }
+    
+    @Test
+    public void testTemplateUnresolvedVariable() {
+        
+        ParameterTemplate template = ParameterTemplate.parse("#{var1}#{var2} text");
+        
+        assertEquals("one#{var2} text", template.resolve(new String[]{"one", null}));
+    }
+    
+    @Test
+    public void testWorkParameterTemplateByName() {
+        
+        WorkImpl work = new WorkImpl();
+        work.setParameter("Subject", "Hello #{name}");
+        work.setParameter("Priority", 1);
+        WorkItemNode node = new WorkItemNode();
+        node.setWork(work);
+        
+        ParameterTemplate template = node.getWorkParameterTemplate("Subject");
+        assertEquals("Hello #{name}", template.getTemplate());
+        assertSame(template, node.getWorkParameterTemplate("Subject"));
+        assertNull(node.getWorkParameterTemplate("Priority"));
+        assertNull(node.getWorkParameterTemplate("Unknown"));
+        
+        work.setParameter("Subject", "Bye #{name}");
+        ParameterTemplate changed = node.getWorkParameterTemplate("Subject");
+        assertNotSame(template, changed);
+        assertEquals("Bye #{name}", changed.getTemplate());
+    }
 }
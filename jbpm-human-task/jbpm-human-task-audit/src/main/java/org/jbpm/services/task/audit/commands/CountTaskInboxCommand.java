@@ -0,0 +1,56 @@
+package org.jbpm.services.task.audit.commands;
+
+import java.util.List;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+
+import org.jbpm.services.task.commands.TaskContext;
+import org.jbpm.services.task.commands.UserGroupCallbackTaskCommand;
+import org.jbpm.services.task.utils.ClassUtil;
+import org.kie.api.task.model.Status;
+import org.kie.internal.command.Context;
+import org.kie.internal.task.api.TaskPersistenceContext;
+
+/**
+ * Counts tasks of the user (or its groups) with given statuses in the task inbox maintained
+ * by <code>TaskInboxEventListener</code>.
+ */
+@XmlRootElement(name="count-task-inbox-command")
+@XmlAccessorType(XmlAccessType.NONE)
+public class CountTaskInboxCommand extends UserGroupCallbackTaskCommand<Long> {
+
+    private static final long serialVersionUID = 5829406937826162357L;
+
+    @XmlElement
+    private List<Status> status;
+
+    public CountTaskInboxCommand() {
+    }
+
+    public CountTaskInboxCommand(String userId, List<Status> status) {
+        this.userId = userId;
+        this.status = status;
+    }
+
+    public List<Status> getStatus() {
+        return status;
+    }
+
+    public void setStatus(List<Status> status) {
+        this.status = status;
+    }
+
+    public Long execute(Context cntxt) {
+        TaskContext context = (TaskContext) cntxt;
+        doCallbackUserOperation(userId, context);
+        List<String> entityIds = GetTaskInboxCommand.getEntityIds(userId, doUserGroupCallbackOperation(userId, null, context));
+        TaskPersistenceContext persistenceContext = context.getPersistenceContext();
+        return persistenceContext.queryWithParametersInTransaction("CountTaskInboxByEntityIds", true,
+                persistenceContext.addParametersToMap("entityIds", entityIds, "status", status),
+                ClassUtil.<Long>castClass(Long.class));
+    }
+
+}
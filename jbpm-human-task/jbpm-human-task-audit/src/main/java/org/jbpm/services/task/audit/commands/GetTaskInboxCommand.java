@@ -0,0 +1,74 @@
+package org.jbpm.services.task.audit.commands;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+
+import org.jbpm.services.task.commands.TaskContext;
+import org.jbpm.services.task.commands.UserGroupCallbackTaskCommand;
+import org.jbpm.services.task.query.QueryFilterImpl;
+import org.jbpm.services.task.utils.ClassUtil;
+import org.kie.api.task.model.Status;
+import org.kie.api.task.model.TaskSummary;
+import org.kie.internal.command.Context;
+import org.kie.internal.query.QueryFilter;
+import org.kie.internal.task.api.TaskPersistenceContext;
+
+/**
+ * Returns tasks of the user (or its groups) with given statuses from the task inbox maintained
+ * by <code>TaskInboxEventListener</code>.
+ */
+@XmlRootElement(name="get-task-inbox-command")
+@XmlAccessorType(XmlAccessType.NONE)
+public class GetTaskInboxCommand extends UserGroupCallbackTaskCommand<List<TaskSummary>> {
+
+    private static final long serialVersionUID = -3218429717373421579L;
+
+    @XmlElement
+    private List<Status> status;
+
+    private QueryFilter filter;
+
+    public GetTaskInboxCommand() {
+        this.filter = new QueryFilterImpl(0, 0);
+    }
+
+    public GetTaskInboxCommand(String userId, List<Status> status, QueryFilter filter) {
+        this.userId = userId;
+        this.status = status;
+        this.filter = filter;
+    }
+
+    public List<Status> getStatus() {
+        return status;
+    }
+
+    public void setStatus(List<Status> status) {
+        this.status = status;
+    }
+
+    public List<TaskSummary> execute(Context cntxt) {
+        TaskContext context = (TaskContext) cntxt;
+        doCallbackUserOperation(userId, context);
+        List<String> entityIds = getEntityIds(userId, doUserGroupCallbackOperation(userId, null, context));
+        TaskPersistenceContext persistenceContext = context.getPersistenceContext();
+        return persistenceContext.queryWithParametersInTransaction("TaskInboxByEntityIds",
+                persistenceContext.addParametersToMap("entityIds", entityIds, "status", status,
+                        "firstResult", filter.getOffset(), "maxResults", filter.getCount()),
+                ClassUtil.<List<TaskSummary>>castClass(List.class));
+    }
+
+    static List<String> getEntityIds(String userId, List<String> groupIds) {
+        List<String> entityIds = new ArrayList<String>();
+        entityIds.add(userId);
+        if (groupIds != null) {
+            entityIds.addAll(groupIds);
+        }
+        return entityIds;
+    }
+
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2014 JBoss by Red Hat.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.services.task.audit.impl.model;
+
+import java.io.Serializable;
+import java.util.Date;
+
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.SequenceGenerator;
+import javax.persistence.Table;
+import javax.persistence.Temporal;
+
+import org.kie.api.task.model.Status;
+import org.kie.api.task.model.Task;
+
+/**
+ * Row of the task inbox, one for every potential owner (user or group) of an active task,
+ * holding the columns of task summary so inbox can be listed without joining task tables.
+ *
+ * @see org.jbpm.services.task.lifecycle.listeners.TaskInboxEventListener
+ */
+@Entity
+@Table(name = "TaskInbox")
+@SequenceGenerator(name = "taskInboxIdSeq", sequenceName = "TASK_INBOX_ID_SEQ", allocationSize = 1)
+public class TaskInboxEntryImpl implements Serializable {
+
+    private static final long serialVersionUID = 2416712347851046513L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO, generator = "taskInboxIdSeq")
+    private Long id;
+
+    private String entityId;
+
+    private long taskId;
+
+    private String name;
+
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    private Status status;
+
+    private int priority;
+
+    private String actualOwner;
+
+    private String createdBy;
+
+    @Temporal(javax.persistence.TemporalType.TIMESTAMP)
+    private Date createdOn;
+
+    @Temporal(javax.persistence.TemporalType.TIMESTAMP)
+    private Date activationTime;
+
+    @Temporal(javax.persistence.TemporalType.TIMESTAMP)
+    private Date expirationTime;
+
+    private String processId;
+
+    private long processInstanceId;
+
+    private long parentId;
+
+    private String deploymentId;
+
+    public TaskInboxEntryImpl() {
+    }
+
+    public TaskInboxEntryImpl(String entityId, Task task) {
+        this.entityId = entityId;
+        this.taskId = task.getId();
+        update(task);
+    }
+
+    /**
+     * Copies current state of the task.
+     */
+    public void update(Task task) {
+        this.name = task.getName();
+        this.description = task.getDescription();
+        this.status = task.getTaskData().getStatus();
+        this.priority = task.getPriority();
+        this.actualOwner = task.getTaskData().getActualOwner() != null ? task.getTaskData().getActualOwner().getId() : null;
+        this.createdBy = task.getTaskData().getCreatedBy() != null ? task.getTaskData().getCreatedBy().getId() : null;
+        this.createdOn = task.getTaskData().getCreatedOn();
+        this.activationTime = task.getTaskData().getActivationTime();
+        this.expirationTime = task.getTaskData().getExpirationTime();
+        this.processId = task.getTaskData().getProcessId();
+        this.processInstanceId = task.getTaskData().getProcessInstanceId();
+        this.parentId = task.getTaskData().getParentId();
+        this.deploymentId = task.getTaskData().getDeploymentId();
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getEntityId() {
+        return entityId;
+    }
+
+    public long getTaskId() {
+        return taskId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public int getPriority() {
+        return priority;
+    }
+
+    public String getActualOwner() {
+        return actualOwner;
+    }
+
+    public String getCreatedBy() {
+        return createdBy;
+    }
+
+    public Date getCreatedOn() {
+        return createdOn;
+    }
+
+    public Date getActivationTime() {
+        return activationTime;
+    }
+
+    public Date getExpirationTime() {
+        return expirationTime;
+    }
+
+    public String getProcessId() {
+        return processId;
+    }
+
+    public long getProcessInstanceId() {
+        return processInstanceId;
+    }
+
+    public long getParentId() {
+        return parentId;
+    }
+
+    public String getDeploymentId() {
+        return deploymentId;
+    }
+}
@@ -20,6 +20,8 @@ import java.util.List;
 
 import org.jbpm.services.task.audit.impl.model.api.AuditTask;
 import org.kie.api.task.TaskService;
+import org.kie.api.task.model.Status;
+import org.kie.api.task.model.TaskSummary;
 import org.kie.internal.query.QueryFilter;
 import org.kie.internal.task.api.model.TaskEvent;
 
@@ -36,6 +38,10 @@ public interface TaskAuditService {
     
     List<AuditTask> getAllAuditTasksByUser(String userId, QueryFilter filter);
     
+    List<TaskSummary> getTaskInbox(String userId, List<Status> status, QueryFilter filter);
+    
+    long countTaskInbox(String userId, List<Status> status);
+    
     
       
 }
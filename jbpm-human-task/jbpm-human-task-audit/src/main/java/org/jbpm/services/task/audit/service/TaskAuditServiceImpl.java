@@ -18,12 +18,16 @@ package org.jbpm.services.task.audit.service;
 
 import java.util.List;
 
+import org.jbpm.services.task.audit.commands.CountTaskInboxCommand;
 import org.jbpm.services.task.audit.commands.GetAllHistoryAuditTasksByUserCommand;
 import org.jbpm.services.task.audit.commands.GetAllHistoryAuditTasksCommand;
 import org.jbpm.services.task.audit.commands.GetAuditEventsByProcessInstanceIdCommand;
 import org.jbpm.services.task.audit.commands.GetAuditEventsCommand;
+import org.jbpm.services.task.audit.commands.GetTaskInboxCommand;
 import org.jbpm.services.task.audit.impl.model.api.AuditTask;
 import org.kie.api.task.TaskService;
+import org.kie.api.task.model.Status;
+import org.kie.api.task.model.TaskSummary;
 import org.kie.internal.query.QueryFilter;
 import org.kie.internal.task.api.InternalTaskService;
 import org.kie.internal.task.api.model.TaskEvent;
@@ -57,6 +61,16 @@ import org.kie.internal.task.api.model.TaskEvent;
     public List<AuditTask> getAllAuditTasksByUser(String userId, QueryFilter filter) {
         return taskService.execute(new GetAllHistoryAuditTasksByUserCommand(userId, filter));
     }
+
+    @Override
+    public List<TaskSummary> getTaskInbox(String userId, List<Status> status, QueryFilter filter) {
+        return taskService.execute(new GetTaskInboxCommand(userId, status, filter));
+    }
+
+    @Override
+    public long countTaskInbox(String userId, List<Status> status) {
+        return taskService.execute(new CountTaskInboxCommand(userId, status));
+    }
     
     @Override
     public void setTaskService(TaskService taskService) {
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2014 JBoss by Red Hat.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jbpm.services.task.lifecycle.listeners;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jbpm.services.task.audit.impl.model.TaskInboxEntryImpl;
+import org.jbpm.services.task.utils.ClassUtil;
+import org.kie.api.task.TaskEvent;
+import org.kie.api.task.model.OrganizationalEntity;
+import org.kie.api.task.model.Status;
+import org.kie.api.task.model.Task;
+import org.kie.internal.task.api.TaskContext;
+import org.kie.internal.task.api.TaskPersistenceContext;
+
+/**
+ * Maintains the task inbox, a table with one row for every potential owner (user or group) of every active
+ * task, holding the columns of task summary. Inbox of a user can then be listed and counted by a single
+ * scan of the table by entity ids (the user and its groups), see <code>GetTaskInboxCommand</code>
+ * and <code>CountTaskInboxCommand</code>.
+ * <br/>
+ * Rows are added, updated and removed after every life cycle operation of a task, rows of tasks that
+ * are no longer active (completed, failed, exited, ...) are removed. Tasks removed by administration
+ * operations (e.g. <code>removeAllTasks</code>) are not tracked. Neither are changes made by the task
+ * instance service setters (<code>setPriority</code>, <code>setName</code>, <code>setTaskNames</code>,
+ * <code>setDescription</code>, <code>setDescriptions</code>, <code>setExpirationDate</code>) as they
+ * do not fire any event - the inbox shows the previous values until the next life cycle operation
+ * of the task. The listener is optional, it needs to be registered
+ * (e.g. with <code>HumanTaskConfigurator.listener</code>) when the inbox is to be used.
+ */
+public class TaskInboxEventListener implements TaskLifeCycleEventListener {
+
+    private static final List<Status> ACTIVE_STATUSES = Arrays.asList(
+            Status.Created, Status.Ready, Status.Reserved, Status.InProgress, Status.Suspended);
+
+    public TaskInboxEventListener() {
+    }
+
+    protected void updateInbox(TaskEvent event) {
+        Task task = event.getTask();
+        if (task == null) {
+            return;
+        }
+        TaskPersistenceContext persistenceContext = ((TaskContext) event.getTaskContext()).getPersistenceContext();
+
+        List<TaskInboxEntryImpl> entries = persistenceContext.queryWithParametersInTransaction("TaskInboxEntriesByTaskId",
+                persistenceContext.addParametersToMap("taskId", task.getId()),
+                ClassUtil.<List<TaskInboxEntryImpl>>castClass(List.class));
+        Map<String, TaskInboxEntryImpl> entriesByEntity = new HashMap<String, TaskInboxEntryImpl>();
+        for (TaskInboxEntryImpl entry : entries) {
+            entriesByEntity.put(entry.getEntityId(), entry);
+        }
+
+        if (ACTIVE_STATUSES.contains(task.getTaskData().getStatus()) && task.getPeopleAssignments() != null) {
+            for (OrganizationalEntity potentialOwner : task.getPeopleAssignments().getPotentialOwners()) {
+                TaskInboxEntryImpl entry = entriesByEntity.remove(potentialOwner.getId());
+                if (entry == null) {
+                    persistenceContext.persist(new TaskInboxEntryImpl(potentialOwner.getId(), task));
+                } else {
+                    entry.update(task);
+                    persistenceContext.merge(entry);
+                }
+            }
+        }
+        // entities that are no longer potential owners or task that is no longer active
+        for (TaskInboxEntryImpl entry : entriesByEntity.values()) {
+            persistenceContext.remove(entry);
+        }
+    }
+
+    public void afterTaskActivatedEvent(TaskEvent event) {
+        updateInbox(event);
+    }
+
+    public void afterTaskClaimedEvent(TaskEvent event) {
+        updateInbox(event);
+    }
+
+    public void afterTaskSkippedEvent(TaskEvent event) {
+        updateInbox(event);
+    }
+
+    public void afterTaskStartedEvent(TaskEvent event) {
+        updateInbox(event);
+    }
+
+    public void afterTaskStoppedEvent(TaskEvent event) {
+        updateInbox(event);
+    }
+
+    public void afterTaskCompletedEvent(TaskEvent event) {
+        updateInbox(event);
+    }
+
+    public void afterTaskFailedEvent(TaskEvent event) {
+        updateInbox(event);
+    }
+
+    public void afterTaskAddedEvent(TaskEvent event) {
+        updateInbox(event);
+    }
+
+    public void afterTaskExitedEvent(TaskEvent event) {
+        updateInbox(event);
+    }
+
+    public void afterTaskReleasedEvent(TaskEvent event) {
+        updateInbox(event);
+    }
+
+    public void afterTaskResumedEvent(TaskEvent event) {
+        updateInbox(event);
+    }
+
+    public void afterTaskSuspendedEvent(TaskEvent event) {
+        updateInbox(event);
+    }
+
+    public void afterTaskForwardedEvent(TaskEvent event) {
+        updateInbox(event);
+    }
+
+    public void afterTaskDelegatedEvent(TaskEvent event) {
+        updateInbox(event);
+    }
+
+    public void afterTaskNominatedEvent(TaskEvent event) {
+        updateInbox(event);
+    }
+
+    public void beforeTaskActivatedEvent(TaskEvent event) {
+    }
+
+    public void beforeTaskClaimedEvent(TaskEvent event) {
+    }
+
+    public void beforeTaskSkippedEvent(TaskEvent event) {
+    }
+
+    public void beforeTaskStartedEvent(TaskEvent event) {
+    }
+
+    public void beforeTaskStoppedEvent(TaskEvent event) {
+    }
+
+    public void beforeTaskCompletedEvent(TaskEvent event) {
+    }
+
+    public void beforeTaskFailedEvent(TaskEvent event) {
+    }
+
+    public void beforeTaskAddedEvent(TaskEvent event) {
+    }
+
+    public void beforeTaskExitedEvent(TaskEvent event) {
+    }
+
+    public void beforeTaskReleasedEvent(TaskEvent event) {
+    }
+
+    public void beforeTaskResumedEvent(TaskEvent event) {
+    }
+
+    public void beforeTaskSuspendedEvent(TaskEvent event) {
+    }
+
+    public void beforeTaskForwardedEvent(TaskEvent event) {
+    }
+
+    public void beforeTaskDelegatedEvent(TaskEvent event) {
+    }
+
+    public void beforeTaskNominatedEvent(TaskEvent event) {
+    }
+}
@@ -21,6 +21,7 @@ import javax.persistence.Persistence;
 import org.jbpm.services.task.HumanTaskServiceFactory;
 import org.jbpm.services.task.audit.JPATaskLifeCycleEventListener;
 import org.jbpm.services.task.lifecycle.listeners.BAMTaskEventListener;
+import org.jbpm.services.task.lifecycle.listeners.TaskInboxEventListener;
 import org.junit.After;
 import org.junit.Before;
 import org.kie.internal.task.api.InternalTaskService;
@@ -47,6 +48,7 @@ public class LocalTaskAuditTest extends TaskAuditBaseTest {
 												.entityManagerFactory(emf)
 												.listener(new JPATaskLifeCycleEventListener(true))
 												.listener(new BAMTaskEventListener(true))
+												.listener(new TaskInboxEventListener())
 												.getTaskService();
                 
                 this.taskAuditService = TaskAuditServiceFactory.newTaskAuditServiceConfigurator().setTaskService(taskService).getTaskAuditService();
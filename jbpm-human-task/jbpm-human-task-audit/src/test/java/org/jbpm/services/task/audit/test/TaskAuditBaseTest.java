@@ -15,6 +15,7 @@
  */
 package org.jbpm.services.task.audit.test;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 
@@ -219,8 +220,36 @@ public abstract class TaskAuditBaseTest extends HumanTaskServicesBaseTest {
         
         
     }
+    
+    @Test
+    public void testTaskInbox() {
+        Task task = new TaskFluent().setName("This is my task name 3")
+                                    .addPotentialGroup("Knights Templer")
+                                    .setAdminUser("Administrator")
+                                    .getTask();
+        taskService.addTask(task, new HashMap<String, Object>());
+        long taskId = task.getId();
+
+        List<Status> status = Arrays.asList(Status.Ready, Status.Reserved, Status.InProgress);
+        List<TaskSummary> inbox = taskAuditService.getTaskInbox("salaboy", status, new QueryFilterImpl(0, 0));
+        assertEquals(1, inbox.size());
+        assertEquals(taskId, inbox.get(0).getId().longValue());
+        assertEquals(Status.Ready, inbox.get(0).getStatus());
+        assertEquals(1, taskAuditService.countTaskInbox("salaboy", status));
+
+        taskService.claim(taskId, "salaboy");
+        inbox = taskAuditService.getTaskInbox("salaboy", status, new QueryFilterImpl(0, 0));
+        assertEquals(1, inbox.size());
+        assertEquals(Status.Reserved, inbox.get(0).getStatus());
+        assertEquals("salaboy", inbox.get(0).getActualOwnerId());
+        assertEquals(0, taskAuditService.countTaskInbox("salaboy", Arrays.asList(Status.Ready)));
+
+        taskService.start(taskId, "salaboy");
+        taskService.complete(taskId, "salaboy", null);
+        assertEquals(0, taskAuditService.countTaskInbox("salaboy", status));
+    }
   
     
 
    
-}
\ No newline at end of file
+}
@@ -15,6 +15,8 @@
  */
 package org.jbpm.services.task.commands;
 
+import java.util.List;
+
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlRootElement;
@@ -38,10 +40,19 @@ public class ClaimNextAvailableTaskCommand extends UserGroupCallbackTaskCommand<
 
     }
 
+    public ClaimNextAvailableTaskCommand(String userId, List<String> groupIds) {
+        this.userId = userId;
+        this.groupIds = groupIds;
+    }
+
     public Void execute(Context cntxt) {
         TaskContext context = (TaskContext) cntxt;
         doCallbackUserOperation(userId, context);
-        context.getTaskInstanceService().claimNextAvailable(userId);
+        List<String> potentialOwnerGroupIds = groupIds;
+        if (potentialOwnerGroupIds == null) {
+            potentialOwnerGroupIds = doUserGroupCallbackOperation(userId, null, context);
+        }
+        context.getTaskInstanceService().claimNextAvailable(userId, potentialOwnerGroupIds);
         return null;
 
     }
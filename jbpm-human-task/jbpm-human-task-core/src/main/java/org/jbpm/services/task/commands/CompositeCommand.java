@@ -67,7 +67,11 @@ public class CompositeCommand<T> extends TaskCommand<T> {
 	            @XmlElement(name="get-task-assigned-as-potential-owner-by-exp-date", type=GetTaskAssignedAsPotentialOwnerByExpDateCommand.class),
 	            @XmlElement(name="get-task-assigned-as-potential-owner", type=GetTaskAssignedAsPotentialOwnerCommand.class),
 	            @XmlElement(name="get-task-assigned-as-potential-owner-paging", type=GetTaskAssignedAsPotentialOwnerPagingCommand.class),
+	            @XmlElement(name="get-task-assigned-as-potential-owner-page", type=GetTaskAssignedAsPotentialOwnerPageCommand.class),
 	            @XmlElement(name="get-task-assigned-as-recipient", type=GetTaskAssignedAsRecipientCommand.class),
+	            @XmlElement(name="get-task-counts-by-status", type=GetTaskCountsByStatusCommand.class),
+	            @XmlElement(name="get-task-counts-by-group", type=GetTaskCountsByGroupCommand.class),
+	            @XmlElement(name="get-task-counts-by-due-window", type=GetTaskCountsByDueWindowCommand.class),
 	            @XmlElement(name="get-task-assigned-as-stakeholeder", type=GetTaskAssignedAsStakeholderCommand.class),
 	            @XmlElement(name="get-task-assigned-by-groups", type=GetTaskAssignedByGroupsCommand.class),
 	            @XmlElement(name="get-task-by-work-item-id", type=GetTaskByWorkItemIdCommand.class),
@@ -0,0 +1,87 @@
+package org.jbpm.services.task.commands;
+
+import java.util.List;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+
+import org.jbpm.services.task.impl.TaskQueryServiceImpl;
+import org.jbpm.services.task.query.TaskPage;
+import org.jbpm.services.task.query.TaskPageOrder;
+import org.kie.internal.command.Context;
+
+/**
+ * Returns page of tasks assigned to the user (or its groups) as potential owner, next pages are selected
+ * with continuation token of the previous page.
+ *
+ * @see TaskQueryServiceImpl#getTasksAssignedAsPotentialOwner(String, List, TaskPageOrder, String, int)
+ */
+@XmlRootElement(name = "get-task-assigned-as-potential-owner-page-command")
+@XmlAccessorType(XmlAccessType.NONE)
+public class GetTaskAssignedAsPotentialOwnerPageCommand extends UserGroupCallbackTaskCommand<TaskPage> {
+
+    private static final long serialVersionUID = -1927311625913458413L;
+
+    @XmlElement
+    private TaskPageOrder order;
+
+    @XmlElement
+    private String continuationToken;
+
+    @XmlElement
+    private Integer pageSize;
+
+    public GetTaskAssignedAsPotentialOwnerPageCommand() {
+    }
+
+    public GetTaskAssignedAsPotentialOwnerPageCommand(String userId, List<String> groupIds,
+            TaskPageOrder order, String continuationToken, int pageSize) {
+        this.userId = userId;
+        this.groupIds = groupIds;
+        this.order = order;
+        this.continuationToken = continuationToken;
+        this.pageSize = pageSize;
+    }
+
+    public TaskPageOrder getOrder() {
+        return order;
+    }
+
+    public void setOrder(TaskPageOrder order) {
+        this.order = order;
+    }
+
+    public String getContinuationToken() {
+        return continuationToken;
+    }
+
+    public void setContinuationToken(String continuationToken) {
+        this.continuationToken = continuationToken;
+    }
+
+    public Integer getPageSize() {
+        return pageSize;
+    }
+
+    public void setPageSize(Integer pageSize) {
+        this.pageSize = pageSize;
+    }
+
+    public TaskPage execute(Context cntxt) {
+        if (pageSize == null) {
+            throw new IllegalArgumentException("Page size must be given");
+        }
+        TaskContext context = (TaskContext) cntxt;
+        doCallbackUserOperation(userId, context);
+        List<String> potentialOwnerGroupIds = groupIds;
+        if (potentialOwnerGroupIds == null) {
+            potentialOwnerGroupIds = doUserGroupCallbackOperation(userId, null, context);
+        }
+        TaskQueryServiceImpl taskQueryService = new TaskQueryServiceImpl(context.getPersistenceContext());
+        return taskQueryService.getTasksAssignedAsPotentialOwner(userId, potentialOwnerGroupIds,
+                order == null ? TaskPageOrder.ID_DESC : order, continuationToken, pageSize);
+    }
+
+}
@@ -0,0 +1,74 @@
+package org.jbpm.services.task.commands;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+
+import org.jbpm.services.task.impl.TaskQueryServiceImpl;
+import org.jbpm.services.task.query.TaskDueWindow;
+import org.kie.api.task.model.Status;
+import org.kie.internal.command.Context;
+
+/**
+ * Counts tasks the user (or its groups) is potential owner of by their expiration time, without loading the tasks.
+ * Tasks expiring within <code>dueSoonMillis</code> from now are counted as due soon.
+ *
+ * @see TaskQueryServiceImpl#getTaskCountsByDueWindowAsPotentialOwner(String, List, List, Date, Date)
+ */
+@XmlRootElement(name = "get-task-counts-by-due-window-command")
+@XmlAccessorType(XmlAccessType.NONE)
+public class GetTaskCountsByDueWindowCommand extends UserGroupCallbackTaskCommand<Map<TaskDueWindow, Long>> {
+
+    private static final long serialVersionUID = -8850134227061734526L;
+
+    @XmlElement
+    private List<Status> statuses;
+
+    @XmlElement
+    private Long dueSoonMillis;
+
+    public GetTaskCountsByDueWindowCommand() {
+    }
+
+    public GetTaskCountsByDueWindowCommand(String userId, List<String> groupIds, List<Status> statuses, long dueSoonMillis) {
+        this.userId = userId;
+        this.groupIds = groupIds;
+        this.statuses = statuses;
+        this.dueSoonMillis = dueSoonMillis;
+    }
+
+    public List<Status> getStatuses() {
+        return statuses;
+    }
+
+    public void setStatuses(List<Status> statuses) {
+        this.statuses = statuses;
+    }
+
+    public Long getDueSoonMillis() {
+        return dueSoonMillis;
+    }
+
+    public void setDueSoonMillis(Long dueSoonMillis) {
+        this.dueSoonMillis = dueSoonMillis;
+    }
+
+    public Map<TaskDueWindow, Long> execute(Context cntxt) {
+        TaskContext context = (TaskContext) cntxt;
+        doCallbackUserOperation(userId, context);
+        List<String> potentialOwnerGroupIds = groupIds;
+        if (potentialOwnerGroupIds == null) {
+            potentialOwnerGroupIds = doUserGroupCallbackOperation(userId, null, context);
+        }
+        Date now = new Date();
+        Date dueSoon = new Date(now.getTime() + (dueSoonMillis == null ? 0 : dueSoonMillis));
+        TaskQueryServiceImpl taskQueryService = new TaskQueryServiceImpl(context.getPersistenceContext());
+        return taskQueryService.getTaskCountsByDueWindowAsPotentialOwner(userId, potentialOwnerGroupIds, statuses, now, dueSoon);
+    }
+
+}
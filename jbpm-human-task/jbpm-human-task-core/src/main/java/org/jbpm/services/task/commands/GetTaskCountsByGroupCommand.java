@@ -0,0 +1,58 @@
+package org.jbpm.services.task.commands;
+
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+
+import org.jbpm.services.task.impl.TaskQueryServiceImpl;
+import org.kie.api.task.model.Status;
+import org.kie.internal.command.Context;
+
+/**
+ * Counts tasks every group of the user is potential owner of, without loading the tasks.
+ * When no group ids are given, groups of the user are resolved by the user group callback.
+ *
+ * @see TaskQueryServiceImpl#getTaskCountsByGroupAsPotentialOwner(List, List)
+ */
+@XmlRootElement(name = "get-task-counts-by-group-command")
+@XmlAccessorType(XmlAccessType.NONE)
+public class GetTaskCountsByGroupCommand extends UserGroupCallbackTaskCommand<Map<String, Long>> {
+
+    private static final long serialVersionUID = 3126908551624319872L;
+
+    @XmlElement
+    private List<Status> statuses;
+
+    public GetTaskCountsByGroupCommand() {
+    }
+
+    public GetTaskCountsByGroupCommand(String userId, List<String> groupIds, List<Status> statuses) {
+        this.userId = userId;
+        this.groupIds = groupIds;
+        this.statuses = statuses;
+    }
+
+    public List<Status> getStatuses() {
+        return statuses;
+    }
+
+    public void setStatuses(List<Status> statuses) {
+        this.statuses = statuses;
+    }
+
+    public Map<String, Long> execute(Context cntxt) {
+        TaskContext context = (TaskContext) cntxt;
+        doCallbackUserOperation(userId, context);
+        List<String> potentialOwnerGroupIds = groupIds;
+        if (potentialOwnerGroupIds == null) {
+            potentialOwnerGroupIds = doUserGroupCallbackOperation(userId, null, context);
+        }
+        TaskQueryServiceImpl taskQueryService = new TaskQueryServiceImpl(context.getPersistenceContext());
+        return taskQueryService.getTaskCountsByGroupAsPotentialOwner(potentialOwnerGroupIds, statuses);
+    }
+
+}
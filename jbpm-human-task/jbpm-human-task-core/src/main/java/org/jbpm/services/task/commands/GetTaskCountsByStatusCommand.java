@@ -0,0 +1,57 @@
+package org.jbpm.services.task.commands;
+
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+
+import org.jbpm.services.task.impl.TaskQueryServiceImpl;
+import org.kie.api.task.model.Status;
+import org.kie.internal.command.Context;
+
+/**
+ * Counts tasks the user (or its groups) is potential owner of by their status, without loading the tasks.
+ *
+ * @see TaskQueryServiceImpl#getTaskCountsByStatusAsPotentialOwner(String, List, List)
+ */
+@XmlRootElement(name = "get-task-counts-by-status-command")
+@XmlAccessorType(XmlAccessType.NONE)
+public class GetTaskCountsByStatusCommand extends UserGroupCallbackTaskCommand<Map<Status, Long>> {
+
+    private static final long serialVersionUID = -4716281952806624737L;
+
+    @XmlElement
+    private List<Status> statuses;
+
+    public GetTaskCountsByStatusCommand() {
+    }
+
+    public GetTaskCountsByStatusCommand(String userId, List<String> groupIds, List<Status> statuses) {
+        this.userId = userId;
+        this.groupIds = groupIds;
+        this.statuses = statuses;
+    }
+
+    public List<Status> getStatuses() {
+        return statuses;
+    }
+
+    public void setStatuses(List<Status> statuses) {
+        this.statuses = statuses;
+    }
+
+    public Map<Status, Long> execute(Context cntxt) {
+        TaskContext context = (TaskContext) cntxt;
+        doCallbackUserOperation(userId, context);
+        List<String> potentialOwnerGroupIds = groupIds;
+        if (potentialOwnerGroupIds == null) {
+            potentialOwnerGroupIds = doUserGroupCallbackOperation(userId, null, context);
+        }
+        TaskQueryServiceImpl taskQueryService = new TaskQueryServiceImpl(context.getPersistenceContext());
+        return taskQueryService.getTaskCountsByStatusAsPotentialOwner(userId, potentialOwnerGroupIds, statuses);
+    }
+
+}
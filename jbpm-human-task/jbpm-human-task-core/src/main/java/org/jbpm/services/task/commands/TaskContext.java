@@ -16,6 +16,7 @@
 package org.jbpm.services.task.commands;
 
 import org.jbpm.services.task.events.TaskEventSupport;
+import org.jbpm.services.task.identity.KnownOrganizationalEntities;
 import org.jbpm.services.task.identity.UserGroupLifeCycleManagerDecorator;
 import org.jbpm.services.task.impl.TaskAdminServiceImpl;
 import org.jbpm.services.task.impl.TaskAttachmentServiceImpl;
@@ -97,7 +98,8 @@ public class TaskContext implements org.kie.internal.task.api.TaskContext {
     }
 
     public TaskIdentityService getTaskIdentityService() {
-        return new TaskIdentityServiceImpl(persistenceContext);
+        return new TaskIdentityServiceImpl(persistenceContext,
+        		KnownOrganizationalEntities.getInstance(get(EnvironmentName.ENTITY_MANAGER_FACTORY)));
     }
     
     public TaskAdminService getTaskAdminService() {
@@ -127,6 +129,9 @@ public class TaskContext implements org.kie.internal.task.api.TaskContext {
     	if (string.startsWith("local:")) {
     		return delegate.get(string);
     	}
+    	if (this.environment == null) {
+    		return null;
+    	}
         return this.environment.get(string);
     }
 
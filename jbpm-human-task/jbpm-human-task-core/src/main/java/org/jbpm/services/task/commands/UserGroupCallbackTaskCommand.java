@@ -16,6 +16,8 @@ import javax.xml.bind.annotation.XmlTransient;
 
 import org.drools.core.util.StringUtils;
 import org.jbpm.services.task.exception.CannotAddTaskException;
+import org.jbpm.services.task.identity.KnownOrganizationalEntities;
+import org.kie.api.runtime.EnvironmentName;
 import org.kie.api.task.model.Attachment;
 import org.kie.api.task.model.Comment;
 import org.kie.api.task.model.Group;
@@ -95,9 +97,23 @@ public class UserGroupCallbackTaskCommand<T> extends TaskCommand<T> {
 
     }
 
+    /**
+     * Known users and groups are kept per task data base, i.e. per entity manager factory.
+     */
+    protected KnownOrganizationalEntities getKnownEntities(TaskContext context) {
+        return KnownOrganizationalEntities.getInstance(context.get(EnvironmentName.ENTITY_MANAGER_FACTORY));
+    }
+
     protected void addUserFromCallbackOperation(String userId, TaskContext context) {
+        KnownOrganizationalEntities knownEntities = getKnownEntities(context);
+        if (knownEntities.isKnownUser(userId)) {
+            return;
+        }
     	User user = context.getPersistenceContext().findUser(userId);
         boolean userExists = user != null;
+        if (userExists) {
+            knownEntities.userFound(userId);
+        }
         if (!StringUtils.isEmpty(userId) && !userExists) {
             user = TaskModelProvider.getFactory().newUser();
             ((InternalOrganizationalEntity) user).setId(userId);
@@ -145,8 +161,15 @@ public class UserGroupCallbackTaskCommand<T> extends TaskCommand<T> {
     }
 
     protected void addGroupFromCallbackOperation(String groupId, TaskContext context) {
+        KnownOrganizationalEntities knownEntities = getKnownEntities(context);
+        if (knownEntities.isKnownGroup(groupId)) {
+            return;
+        }
     	Group group = context.getPersistenceContext().findGroup(groupId);
     	boolean groupExists = group != null;
+    	if (groupExists) {
+    	    knownEntities.groupFound(groupId);
+    	}
         if (!StringUtils.isEmpty(groupId) && !groupExists) {
         	group = TaskModelProvider.getFactory().newGroup();
             ((InternalOrganizationalEntity) group).setId(groupId);
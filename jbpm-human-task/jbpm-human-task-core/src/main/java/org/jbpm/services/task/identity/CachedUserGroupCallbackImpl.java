@@ -0,0 +1,156 @@
+/*
+ * Copyright 2014 JBoss by Red Hat.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jbpm.services.task.identity;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.kie.api.task.UserGroupCallback;
+
+/**
+ * User group callback decorator that caches results of the delegate callback (e.g. LDAP or data base one),
+ * so the directory is not asked again for the same user or group while the cached answer is valid.
+ * <br/>
+ * Cached answers expire after their time to live and the number of cached users and groups is bounded,
+ * least recently used ones are evicted first. Both can be given explicitly or configured with system properties:
+ * <ul>
+ * 	<li>org.jbpm.ht.callback.cache.ttl - time to live of cached answers in milliseconds - 60000 by default</li>
+ * 	<li>org.jbpm.ht.callback.cache.size - maximum number of cached users and groups (each) - 10000 by default</li>
+ * </ul>
+ * Groups of a user are cached only when they are not narrowed by given group ids. Changes made in the directory
+ * can be applied before cached answers expire with {@link #invalidateUser(String)}, {@link #invalidateGroup(String)}
+ * and {@link #invalidateAll()}.
+ * <br/>
+ * Should not be used with callbacks whose answers depend on the calling thread (e.g. <code>JAASUserGroupCallbackImpl</code>).
+ */
+public class CachedUserGroupCallbackImpl implements UserGroupCallback {
+
+    public static final String TTL_PROPERTY = "org.jbpm.ht.callback.cache.ttl";
+    public static final String SIZE_PROPERTY = "org.jbpm.ht.callback.cache.size";
+
+    private final UserGroupCallback delegate;
+
+    private final ExpiringCache<String, Boolean> users;
+    private final ExpiringCache<String, Boolean> groups;
+    private final ExpiringCache<String, List<String>> groupsForUser;
+
+    public CachedUserGroupCallbackImpl(UserGroupCallback delegate) {
+        this(delegate, Long.parseLong(System.getProperty(TTL_PROPERTY, "60000")),
+                Integer.parseInt(System.getProperty(SIZE_PROPERTY, "10000")));
+    }
+
+    /**
+     * @param delegate callback that answers questions not found in cache
+     * @param timeToLive time to live of cached answers in milliseconds, zero or less means they never expire
+     * @param maxSize maximum number of cached users and groups
+     */
+    public CachedUserGroupCallbackImpl(UserGroupCallback delegate, long timeToLive, int maxSize) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("Delegate user group callback cannot be null");
+        }
+        this.delegate = delegate;
+        this.users = new ExpiringCache<String, Boolean>(timeToLive, maxSize);
+        this.groups = new ExpiringCache<String, Boolean>(timeToLive, maxSize);
+        this.groupsForUser = new ExpiringCache<String, List<String>>(timeToLive, maxSize);
+    }
+
+    public UserGroupCallback getDelegate() {
+        return delegate;
+    }
+
+    public boolean existsUser(String userId) {
+        if (userId == null) {
+            return delegate.existsUser(userId);
+        }
+        Boolean exists = users.get(userId);
+        if (exists == null) {
+            exists = delegate.existsUser(userId);
+            users.put(userId, exists);
+        }
+        return exists;
+    }
+
+    public boolean existsGroup(String groupId) {
+        if (groupId == null) {
+            return delegate.existsGroup(groupId);
+        }
+        Boolean exists = groups.get(groupId);
+        if (exists == null) {
+            exists = delegate.existsGroup(groupId);
+            groups.put(groupId, exists);
+        }
+        return exists;
+    }
+
+    public List<String> getGroupsForUser(String userId, List<String> groupIds, List<String> allExistingGroupIds) {
+        if (userId == null || !isEmpty(groupIds) || !isEmpty(allExistingGroupIds)) {
+            return delegate.getGroupsForUser(userId, groupIds, allExistingGroupIds);
+        }
+        List<String> userGroups = groupsForUser.get(userId);
+        if (userGroups == null) {
+            List<String> loaded = delegate.getGroupsForUser(userId, groupIds, allExistingGroupIds);
+            if (loaded == null) {
+                return null;
+            }
+            userGroups = Collections.unmodifiableList(new ArrayList<String>(loaded));
+            groupsForUser.put(userId, userGroups);
+        }
+        // callers are free to modify returned list
+        return new ArrayList<String>(userGroups);
+    }
+
+    /**
+     * Removes cached answers about given user, including its groups.
+     */
+    public void invalidateUser(String userId) {
+        users.remove(userId);
+        groupsForUser.remove(userId);
+    }
+
+    /**
+     * Removes cached answers about given group. As the group could be among cached groups of any user,
+     * groups of all users are removed as well.
+     */
+    public void invalidateGroup(String groupId) {
+        groups.remove(groupId);
+        groupsForUser.clear();
+    }
+
+    public void invalidateAll() {
+        users.clear();
+        groups.clear();
+        groupsForUser.clear();
+    }
+
+    public long getHits() {
+        return users.getHits() + groups.getHits() + groupsForUser.getHits();
+    }
+
+    public long getMisses() {
+        return users.getMisses() + groups.getMisses() + groupsForUser.getMisses();
+    }
+
+    public void resetStatistics() {
+        users.resetStatistics();
+        groups.resetStatistics();
+        groupsForUser.resetStatistics();
+    }
+
+    private static boolean isEmpty(List<String> list) {
+        return list == null || list.isEmpty();
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2014 JBoss by Red Hat.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jbpm.services.task.identity;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Ids of users and groups known to be stored in the task data base, shared by all task commands so
+ * that users and groups coming from the user group callback are not looked up in the data base
+ * every time they are referenced by a task.
+ * <br/>
+ * There is one instance per task data base, i.e. per entity manager factory given as scope to
+ * {@link #getInstance(Object)}, so task services of different data bases in the same JVM do not
+ * share known entities. The instance of a scope goes away with its entity manager factory.
+ * <br/>
+ * Only users and groups found by a look up are registered, not the ones a command has just persisted,
+ * as those are lost if its transaction is rolled back. Disabled by default, can be enabled
+ * and configured with system properties:
+ * <ul>
+ * 	<li>org.jbpm.ht.orgentity.cache - enables the cache - false by default</li>
+ * 	<li>org.jbpm.ht.orgentity.cache.ttl - time in milliseconds an entity is considered known - 600000 by default</li>
+ * 	<li>org.jbpm.ht.orgentity.cache.size - maximum number of known users and groups (each) - 10000 by default</li>
+ * </ul>
+ * Users and groups removed from the data base must be invalidated, which task identity service does
+ * for users and groups removed through it.
+ */
+public class KnownOrganizationalEntities {
+
+    public static final String ENABLED_PROPERTY = "org.jbpm.ht.orgentity.cache";
+    public static final String TTL_PROPERTY = "org.jbpm.ht.orgentity.cache.ttl";
+    public static final String SIZE_PROPERTY = "org.jbpm.ht.orgentity.cache.size";
+
+    private static final Map<Object, KnownOrganizationalEntities> INSTANCES = new WeakHashMap<Object, KnownOrganizationalEntities>();
+    // used when no scope is available, e.g. task context without environment
+    private static final KnownOrganizationalEntities UNSCOPED = newConfiguredInstance();
+
+    private volatile boolean enabled;
+
+    private final ExpiringCache<String, Boolean> users;
+    private final ExpiringCache<String, Boolean> groups;
+
+    public KnownOrganizationalEntities(boolean enabled, long timeToLive, int maxSize) {
+        this.enabled = enabled;
+        this.users = new ExpiringCache<String, Boolean>(timeToLive, maxSize);
+        this.groups = new ExpiringCache<String, Boolean>(timeToLive, maxSize);
+    }
+
+    /**
+     * @param scope - entity manager factory of the task data base, <code>null</code> if not known
+     */
+    public static KnownOrganizationalEntities getInstance(Object scope) {
+        if (scope == null) {
+            return UNSCOPED;
+        }
+        synchronized (INSTANCES) {
+            KnownOrganizationalEntities instance = INSTANCES.get(scope);
+            if (instance == null) {
+                instance = newConfiguredInstance();
+                INSTANCES.put(scope, instance);
+            }
+            return instance;
+        }
+    }
+
+    private static KnownOrganizationalEntities newConfiguredInstance() {
+        return new KnownOrganizationalEntities(
+                Boolean.parseBoolean(System.getProperty(ENABLED_PROPERTY, "false")),
+                Long.parseLong(System.getProperty(TTL_PROPERTY, "600000")),
+                Integer.parseInt(System.getProperty(SIZE_PROPERTY, "10000")));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        if (!enabled) {
+            invalidateAll();
+        }
+    }
+
+    public boolean isKnownUser(String userId) {
+        return enabled && users.get(userId) != null;
+    }
+
+    public boolean isKnownGroup(String groupId) {
+        return enabled && groups.get(groupId) != null;
+    }
+
+    public void userFound(String userId) {
+        if (enabled) {
+            users.put(userId, Boolean.TRUE);
+        }
+    }
+
+    public void groupFound(String groupId) {
+        if (enabled) {
+            groups.put(groupId, Boolean.TRUE);
+        }
+    }
+
+    public void invalidateUser(String userId) {
+        users.remove(userId);
+    }
+
+    public void invalidateGroup(String groupId) {
+        groups.remove(groupId);
+    }
+
+    public void invalidateAll() {
+        users.clear();
+        groups.clear();
+    }
+
+    public long getHits() {
+        return users.getHits() + groups.getHits();
+    }
+
+    public long getMisses() {
+        return users.getMisses() + groups.getMisses();
+    }
+
+    public void resetStatistics() {
+        users.resetStatistics();
+        groups.resetStatistics();
+    }
+}
@@ -6,6 +6,7 @@ package org.jbpm.services.task.impl;
 
 import java.util.List;
 
+import org.jbpm.services.task.identity.KnownOrganizationalEntities;
 import org.jbpm.services.task.utils.ClassUtil;
 import org.kie.api.task.model.Group;
 import org.kie.api.task.model.OrganizationalEntity;
@@ -20,6 +21,7 @@ import org.kie.internal.task.api.TaskPersistenceContext;
 public class TaskIdentityServiceImpl implements TaskIdentityService {
 
     private TaskPersistenceContext persistenceContext;
+    private KnownOrganizationalEntities knownEntities = KnownOrganizationalEntities.getInstance(null);
 
     public TaskIdentityServiceImpl() {
     }
@@ -27,6 +29,11 @@ public class TaskIdentityServiceImpl implements TaskIdentityService {
     public TaskIdentityServiceImpl(TaskPersistenceContext persistenceContext) {
     	this.persistenceContext = persistenceContext;
     }
+    
+    public TaskIdentityServiceImpl(TaskPersistenceContext persistenceContext, KnownOrganizationalEntities knownEntities) {
+    	this.persistenceContext = persistenceContext;
+    	this.knownEntities = knownEntities;
+    }
 
     public void setPersistenceContext(TaskPersistenceContext persistenceContext) {
         this.persistenceContext = persistenceContext;
@@ -44,11 +51,13 @@ public class TaskIdentityServiceImpl implements TaskIdentityService {
     public void removeGroup(String groupId) {
         Group group = persistenceContext.findGroup(groupId);
         persistenceContext.remove(group);
+        knownEntities.invalidateGroup(groupId);
     }
     
     public void removeUser(String userId) {
         User user = persistenceContext.findUser(userId);
         persistenceContext.remove(user);
+        knownEntities.invalidateUser(userId);
     }
 
     public List<User> getUsers() {
@@ -5,6 +5,7 @@
 package org.jbpm.services.task.impl;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -42,6 +43,10 @@ import org.slf4j.LoggerFactory;
 public class TaskInstanceServiceImpl implements TaskInstanceService {
     
     private static final Logger logger = LoggerFactory.getLogger(TaskInstanceServiceImpl.class);
+
+    private static final int CLAIM_NEXT_AVAILABLE_ATTEMPTS = 5;
+    // lock timeout that skips locked rows
+    private static final int SKIP_LOCKED = -2;
     
     private LifeCycleManager lifeCycleManager;
     
@@ -122,20 +127,60 @@ public class TaskInstanceServiceImpl implements TaskInstanceService {
     }
 
     public void claimNextAvailable(String userId) {
+        claimNextAvailable(userId, null);
+    }
+
+    /**
+     * Claims the first Ready task the user or any of given groups is potential owner of, tasks are taken
+     * by priority (0 being the highest) and then in the order they were created. The task is selected
+     * and locked by a single query, so concurrent users get distinct tasks.
+     * <br/>
+     * Tasks locked by other users claiming at the same time are skipped only where the Hibernate dialect
+     * translates the skip locked lock timeout (e.g. the <code>readpast</code> hint of SQL Server). On other
+     * data bases, including H2, PostgreSQL and MySQL, the query waits for the lock and, once the other user
+     * commits, returns either the task that is no longer Ready or no task at all. In both cases the next
+     * task is looked for again, a task that is not Ready anymore is excluded from the following attempts.
+     */
+    public void claimNextAvailable(String userId, List<String> groupIds) {
         List<Status> status = new ArrayList<Status>();
         status.add(Status.Ready);
-        List<TaskSummary> queryTasks = persistenceContext.queryWithParametersInTransaction("TasksAssignedAsPotentialOwnerByStatus", 
-                persistenceContext.addParametersToMap("userId", userId, "status", status),
-                ClassUtil.<List<TaskSummary>>castClass(List.class));;
-        if (queryTasks.size() > 0) {
-            lifeCycleManager.taskOperation(Operation.Claim, queryTasks.get(0).getId(), userId, null, null, null);
-        } else {
-            //log.log(Level.SEVERE, " No Task Available to Assign");
+        List<String> potentialOwnerGroupIds = groupIds;
+        if (potentialOwnerGroupIds == null || potentialOwnerGroupIds.isEmpty()) {
+            // avoid empty in clause, user id never matches a group
+            potentialOwnerGroupIds = Collections.singletonList(userId);
+        }
+        // avoid empty in clause, no task has negative id
+        List<Long> excludedIds = new ArrayList<Long>();
+        excludedIds.add(-1L);
+        for (int attempt = 0; attempt < CLAIM_NEXT_AVAILABLE_ATTEMPTS; attempt++) {
+            Task task = persistenceContext.queryWithParametersInTransaction("TaskToClaimAsPotentialOwner", true,
+                    persistenceContext.addParametersToMap("userId", userId, "groupIds", potentialOwnerGroupIds, "status", status,
+                            "excludedIds", excludedIds, "maxResults", 1, "lockMode", "PESSIMISTIC_WRITE", "lockTimeout", SKIP_LOCKED),
+                    Task.class);
+            if (task == null) {
+                // the locked task might have been claimed by others while waiting for the lock
+                if (!isTaskToClaimAvailable(userId, potentialOwnerGroupIds, status, excludedIds)) {
+                    logger.debug("No task available to be claimed by {}", userId);
+                    return;
+                }
+                continue;
+            }
+            // task claimed by others while waiting for the lock is not ready anymore
+            if (task.getTaskData().getStatus() == Status.Ready) {
+                lifeCycleManager.taskOperation(Operation.Claim, task.getId(), userId, null, null, groupIds);
+                return;
+            }
+            excludedIds.add(task.getId());
         }
+        logger.debug("No task could be claimed by {} in {} attempts", userId, CLAIM_NEXT_AVAILABLE_ATTEMPTS);
     }
 
-    public void claimNextAvailable(String userId, List<String> groupIds) {
-        throw new UnsupportedOperationException("Not supported yet.");
+    private boolean isTaskToClaimAvailable(String userId, List<String> groupIds, List<Status> status, List<Long> excludedIds) {
+        Task task = persistenceContext.queryWithParametersInTransaction("TaskToClaimAsPotentialOwner", true,
+                persistenceContext.addParametersToMap("userId", userId, "groupIds", groupIds, "status", status,
+                        "excludedIds", excludedIds, "maxResults", 1),
+                Task.class);
+        return task != null;
     }
 
     public void complete(long taskId, String userId, Map<String, Object> data) {
@@ -20,6 +20,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -27,6 +28,9 @@ import java.util.Map;
 import java.util.Set;
 
 import org.jbpm.services.task.query.QueryFilterImpl;
+import org.jbpm.services.task.query.TaskDueWindow;
+import org.jbpm.services.task.query.TaskPage;
+import org.jbpm.services.task.query.TaskPageOrder;
 import org.jbpm.services.task.utils.ClassUtil;
 import org.kie.api.task.model.OrganizationalEntity;
 import org.kie.api.task.model.Status;
@@ -245,6 +249,113 @@ public class TaskQueryServiceImpl implements TaskQueryService {
                                                     ClassUtil.<List<TaskSummary>>castClass(List.class));
     }
 
+    /**
+     * Returns page of active tasks the user or any of given groups is potential owner of. Unlike offset based
+     * paging, next page is selected by seeking past the last task of the previous page, so the cost of
+     * a page does not depend on how deep it is.
+     * @param continuationToken token of the previous page, <code>null</code> for the first page
+     * @param pageSize maximum number of tasks in the page
+     */
+    public TaskPage getTasksAssignedAsPotentialOwner(String userId, List<String> groupIds, TaskPageOrder order,
+            String continuationToken, int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("Page size must be positive: " + pageSize);
+        }
+        Map<String, Object> params = new HashMap<String, Object>();
+        params.put("userId", userId);
+        String queryName = "TasksAssignedAsPotentialOwner";
+        if (groupIds != null && !groupIds.isEmpty()) {
+            params.put("groupIds", groupIds);
+            queryName = "TasksAssignedAsPotentialOwnerWithGroups";
+        }
+        params.put("orderby", order.getOrderBy());
+        params.put(order.isAscending() ? "asc" : "desc", "true");
+        String filter = order.filter(continuationToken, params);
+        if (filter != null) {
+            params.put("filter", filter);
+        }
+        // one more task tells whether there is next page
+        params.put("maxResults", pageSize + 1);
+        List<TaskSummary> tasks = persistenceContext.queryWithParametersInTransaction(queryName, params,
+                ClassUtil.<List<TaskSummary>>castClass(List.class));
+        if (tasks.size() <= pageSize) {
+            return new TaskPage(tasks, null);
+        }
+        tasks = new ArrayList<TaskSummary>(tasks.subList(0, pageSize));
+        return new TaskPage(tasks, order.createToken(tasks.get(pageSize - 1)));
+    }
+
+    /**
+     * Counts tasks the user (or its groups) is potential owner of by their status, with a single aggregate query.
+     * Statuses without tasks are not included.
+     */
+    public Map<Status, Long> getTaskCountsByStatusAsPotentialOwner(String userId, List<String> groupIds, List<Status> status) {
+        List<Object[]> rows = persistenceContext.queryWithParametersInTransaction("TaskCountsByStatusAsPotentialOwner",
+                persistenceContext.addParametersToMap("userId", userId, "groupIds", potentialOwnerGroupIds(userId, groupIds),
+                        "status", status == null || status.isEmpty() ? allActiveStatus : status),
+                ClassUtil.<List<Object[]>>castClass(List.class));
+        Map<Status, Long> counts = new HashMap<Status, Long>();
+        for (Object[] row : rows) {
+            counts.put((Status) row[0], toLong(row[1]));
+        }
+        return counts;
+    }
+
+    /**
+     * Counts tasks every given group is potential owner of, with a single aggregate query. A task assigned
+     * to several of the groups is counted for each of them.
+     */
+    public Map<String, Long> getTaskCountsByGroupAsPotentialOwner(List<String> groupIds, List<Status> status) {
+        Map<String, Long> counts = new HashMap<String, Long>();
+        if (groupIds == null || groupIds.isEmpty()) {
+            return counts;
+        }
+        for (String groupId : groupIds) {
+            counts.put(groupId, 0L);
+        }
+        List<Object[]> rows = persistenceContext.queryWithParametersInTransaction("TaskCountsByGroupAsPotentialOwner",
+                persistenceContext.addParametersToMap("groupIds", groupIds,
+                        "status", status == null || status.isEmpty() ? allActiveStatus : status),
+                ClassUtil.<List<Object[]>>castClass(List.class));
+        for (Object[] row : rows) {
+            counts.put((String) row[0], toLong(row[1]));
+        }
+        return counts;
+    }
+
+    /**
+     * Counts tasks the user (or its groups) is potential owner of by their expiration time, with a single
+     * aggregate query: tasks without expiration time, overdue tasks, tasks expiring before <code>dueSoon</code>
+     * and tasks expiring later.
+     */
+    public Map<TaskDueWindow, Long> getTaskCountsByDueWindowAsPotentialOwner(String userId, List<String> groupIds,
+            List<Status> status, Date now, Date dueSoon) {
+        Object[] row = persistenceContext.queryWithParametersInTransaction("TaskCountsByDueWindowAsPotentialOwner", true,
+                persistenceContext.addParametersToMap("userId", userId, "groupIds", potentialOwnerGroupIds(userId, groupIds),
+                        "status", status == null || status.isEmpty() ? allActiveStatus : status,
+                        "now", now, "dueSoon", dueSoon),
+                ClassUtil.<Object[]>castClass(Object[].class));
+        Map<TaskDueWindow, Long> counts = new EnumMap<TaskDueWindow, Long>(TaskDueWindow.class);
+        TaskDueWindow[] windows = TaskDueWindow.values();
+        for (int i = 0; i < windows.length; i++) {
+            // sums are null when there is no task at all
+            counts.put(windows[i], row == null ? 0L : toLong(row[i]));
+        }
+        return counts;
+    }
+
+    private static List<String> potentialOwnerGroupIds(String userId, List<String> groupIds) {
+        // empty in clause is not valid on all data bases, user id never matches a group
+        if (groupIds == null || groupIds.isEmpty()) {
+            return Collections.singletonList(userId);
+        }
+        return groupIds;
+    }
+
+    private static long toLong(Object count) {
+        return count == null ? 0L : ((Number) count).longValue();
+    }
+
     public List<TaskSummary> getTasksAssignedAsRecipient(String userId) {
         return (List<TaskSummary>) persistenceContext.queryWithParametersInTransaction("TasksAssignedAsRecipient", 
                 persistenceContext.addParametersToMap("userId", userId),
@@ -613,15 +724,17 @@ public class TaskQueryServiceImpl implements TaskQueryService {
     }
     
     public int getCompletedTaskByUserId(String userId) {
-        List<Status> statuses = new ArrayList<Status>();
-        statuses.add(Status.Completed);
-        List<TaskSummary> tasksCompleted = getTasksAssignedAsPotentialOwnerByStatus(userId, statuses);
-        return tasksCompleted.size();
+        Long completed = getTaskCountsByStatusAsPotentialOwner(userId, null, Arrays.asList(Status.Completed))
+                .get(Status.Completed);
+        return completed == null ? 0 : completed.intValue();
     }
 
     public int getPendingTaskByUserId(String userId) {
-        List<TaskSummary> tasksAssigned = getTasksAssignedAsPotentialOwner(userId, null, null, null);
-        return tasksAssigned.size();
+        int pending = 0;
+        for (Long count : getTaskCountsByStatusAsPotentialOwner(userId, null, allActiveStatus).values()) {
+            pending += count;
+        }
+        return pending;
     }
     
     
@@ -335,7 +335,7 @@ public class CommandBasedTaskService implements InternalTaskService, EventServic
 
 	@Override
 	public void claimNextAvailable(String userId, List<String> groupIds) {
-		executor.execute(new ClaimNextAvailableTaskCommand(userId));
+		executor.execute(new ClaimNextAvailableTaskCommand(userId, groupIds));
 	}
 
 	@Override
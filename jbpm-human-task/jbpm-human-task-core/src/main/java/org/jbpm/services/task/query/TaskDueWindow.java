@@ -0,0 +1,41 @@
+/*
+ * Copyright 2014 JBoss by Red Hat.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.services.task.query;
+
+/**
+ * Windows tasks are counted in by their expiration time, relative to the current time
+ * and the end of the "due soon" window given to the query.
+ */
+public enum TaskDueWindow {
+
+    /**
+     * Tasks without expiration time.
+     */
+    NO_DEADLINE,
+    /**
+     * Tasks that expired before the current time.
+     */
+    OVERDUE,
+    /**
+     * Tasks that expire between the current time and the end of the window.
+     */
+    DUE_SOON,
+    /**
+     * Tasks that expire after the end of the window.
+     */
+    DUE_LATER
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2014 JBoss by Red Hat.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.services.task.query;
+
+import java.io.Serializable;
+import java.util.List;
+
+import org.kie.api.task.model.TaskSummary;
+
+/**
+ * Page of tasks selected with keyset paging, see {@link TaskPageOrder}.
+ */
+public class TaskPage implements Serializable {
+
+    private static final long serialVersionUID = 5370145382373126522L;
+
+    private final List<TaskSummary> tasks;
+    private final String continuationToken;
+
+    public TaskPage(List<TaskSummary> tasks, String continuationToken) {
+        this.tasks = tasks;
+        this.continuationToken = continuationToken;
+    }
+
+    public List<TaskSummary> getTasks() {
+        return tasks;
+    }
+
+    /**
+     * @return token that selects the next page, <code>null</code> if this is the last page
+     */
+    public String getContinuationToken() {
+        return continuationToken;
+    }
+
+    public boolean hasNext() {
+        return continuationToken != null;
+    }
+}
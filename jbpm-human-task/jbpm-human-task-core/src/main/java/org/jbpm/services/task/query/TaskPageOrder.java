@@ -0,0 +1,201 @@
+/*
+ * Copyright 2014 JBoss by Red Hat.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.services.task.query;
+
+import java.io.UnsupportedEncodingException;
+import java.util.Date;
+import java.util.Map;
+
+import javax.xml.bind.DatatypeConverter;
+
+import org.kie.api.task.model.TaskSummary;
+
+/**
+ * Orders supported by keyset (continuation token based) paging of tasks. Every order ends with
+ * the task id, so it is total and the next page can be selected by seeking past the last task of
+ * the previous one, instead of skipping all preceding tasks.
+ * <br/>
+ * Keys must not be null for the seek condition to work, orders by creation date therefore only
+ * include tasks that have their creation date set (which task service does when a task is added).
+ */
+public enum TaskPageOrder {
+
+    /**
+     * Newest tasks first, the order of inbox queries.
+     */
+    ID_DESC(false, Key.ID),
+    /**
+     * Most recently created tasks first.
+     */
+    CREATED_ON_DESC(false, Key.CREATED_ON, Key.ID),
+    /**
+     * Tasks by priority (0 being the highest) and then in the order they were created.
+     */
+    PRIORITY_CREATED_ON(true, Key.PRIORITY, Key.CREATED_ON, Key.ID);
+
+    private static final String SEPARATOR = ";";
+    private static final String SEEK_PARAMETER = "seek";
+
+    private final boolean ascending;
+    private final Key[] keys;
+
+    private TaskPageOrder(boolean ascending, Key... keys) {
+        this.ascending = ascending;
+        this.keys = keys;
+    }
+
+    public boolean isAscending() {
+        return ascending;
+    }
+
+    /**
+     * @return order by clause without the direction, which is the same for all keys
+     */
+    public String getOrderBy() {
+        StringBuilder orderBy = new StringBuilder();
+        for (int i = 0; i < keys.length; i++) {
+            if (i > 0) {
+                // direction of the last key is appended to the whole clause
+                orderBy.append(ascending ? " ASC, " : " DESC, ");
+            }
+            orderBy.append(keys[i].path);
+        }
+        return orderBy.toString();
+    }
+
+    /**
+     * Creates continuation token that selects tasks following given task.
+     */
+    public String createToken(TaskSummary last) {
+        StringBuilder token = new StringBuilder(name());
+        for (Key key : keys) {
+            token.append(SEPARATOR).append(key.format(last));
+        }
+        try {
+            return DatatypeConverter.printBase64Binary(token.toString().getBytes("UTF-8"));
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Builds the condition the paged query is restricted by - tasks with null keys are excluded and
+     * if a continuation token is given, only tasks following the task it was created for are selected.
+     * @return <code>null</code> if there is no restriction
+     * @throws IllegalArgumentException if the token is malformed or was created for another order
+     */
+    public String filter(String token, Map<String, Object> params) {
+        StringBuilder condition = new StringBuilder();
+        for (Key key : keys) {
+            if (key.nullable) {
+                if (condition.length() > 0) {
+                    condition.append(" and ");
+                }
+                condition.append(key.path).append(" is not null");
+            }
+        }
+        if (token != null) {
+            if (condition.length() > 0) {
+                condition.append(" and ");
+            }
+            condition.append(seek(token, params));
+        }
+        return condition.length() == 0 ? null : condition.toString();
+    }
+
+    /**
+     * Builds the condition that selects tasks following the task the token was created for
+     * and puts values of its parameters into given parameters.
+     * @throws IllegalArgumentException if the token is malformed or was created for another order
+     */
+    public String seek(String token, Map<String, Object> params) {
+        String[] values;
+        try {
+            values = new String(DatatypeConverter.parseBase64Binary(token), "UTF-8").split(SEPARATOR, -1);
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+        if (values.length != keys.length + 1 || !name().equals(values[0])) {
+            throw new IllegalArgumentException("Continuation token " + token + " does not belong to order " + name());
+        }
+        String operator = ascending ? " > " : " < ";
+        StringBuilder condition = new StringBuilder();
+        for (int i = 0; i < keys.length; i++) {
+            String param = SEEK_PARAMETER + i;
+            try {
+                params.put(param, keys[i].parse(values[i + 1]));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Continuation token " + token + " is malformed", e);
+            }
+            if (i < keys.length - 1) {
+                // k1 > :seek0 or (k1 = :seek0 and (...))
+                condition.append("(").append(keys[i].path).append(operator).append(":").append(param)
+                    .append(" or (").append(keys[i].path).append(" = :").append(param).append(" and ");
+            } else {
+                condition.append(keys[i].path).append(operator).append(":").append(param);
+            }
+        }
+        for (int i = 0; i < keys.length - 1; i++) {
+            condition.append("))");
+        }
+        return condition.toString();
+    }
+
+    private enum Key {
+
+        ID("t.id", false) {
+            String format(TaskSummary task) {
+                return String.valueOf(task.getId());
+            }
+            Object parse(String value) {
+                return Long.valueOf(value);
+            }
+        },
+        PRIORITY("t.priority", false) {
+            String format(TaskSummary task) {
+                return String.valueOf(task.getPriority());
+            }
+            Object parse(String value) {
+                return Integer.valueOf(value);
+            }
+        },
+        CREATED_ON("t.taskData.createdOn", true) {
+            String format(TaskSummary task) {
+                if (task.getCreatedOn() == null) {
+                    // excluded by the filter of the order, so it cannot be the last task of a page
+                    throw new IllegalStateException("Task " + task.getId() + " has no creation date");
+                }
+                return String.valueOf(task.getCreatedOn().getTime());
+            }
+            Object parse(String value) {
+                return new Date(Long.parseLong(value));
+            }
+        };
+
+        private final String path;
+        private final boolean nullable;
+
+        private Key(String path, boolean nullable) {
+            this.path = path;
+            this.nullable = nullable;
+        }
+
+        abstract String format(TaskSummary task);
+
+        abstract Object parse(String value);
+    }
+}
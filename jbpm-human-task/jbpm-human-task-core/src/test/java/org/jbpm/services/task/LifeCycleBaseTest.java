@@ -24,10 +24,12 @@ import static org.junit.Assert.fail;
 
 import java.io.StringReader;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
 
 import org.jbpm.services.task.exception.PermissionDeniedException;
 import org.jbpm.services.task.impl.factories.TaskFactory;
@@ -2204,6 +2206,88 @@ public abstract class LifeCycleBaseTest extends HumanTaskServicesBaseTest {
 
     }
     
+    @Test
+    public void testClaimNextAvailableWithGroups() {
+
+        String str = "(with (new Task()) { priority = 5, taskData = (with( new TaskData()) { } ), ";
+        str += "peopleAssignments = (with ( new PeopleAssignments() ) { potentialOwners = [new Group('Knights Templer') ],businessAdministrators = [ new User('Administrator') ], }),";
+        str += "name =  'Lower priority task' })";
+        Task lowerPriorityTask = (Task) TaskFactory.evalTask(new StringReader(str));
+        taskService.addTask(lowerPriorityTask, new HashMap<String, Object>());
+
+        str = "(with (new Task()) { priority = 1, taskData = (with( new TaskData()) { } ), ";
+        str += "peopleAssignments = (with ( new PeopleAssignments() ) { potentialOwners = [new Group('Knights Templer') ],businessAdministrators = [ new User('Administrator') ], }),";
+        str += "name =  'Higher priority task' })";
+        Task higherPriorityTask = (Task) TaskFactory.evalTask(new StringReader(str));
+        taskService.addTask(higherPriorityTask, new HashMap<String, Object>());
+
+        // tasks are claimed by priority, each by a different user
+        taskService.claimNextAvailable("Bobba Fet", "en-UK");
+        taskService.claimNextAvailable("Jabba Hutt", "en-UK");
+        // nothing left to claim
+        taskService.claimNextAvailable("Dalai Lama", "en-UK");
+
+        Task task = taskService.getTaskById(higherPriorityTask.getId());
+        assertEquals(Status.Reserved, task.getTaskData().getStatus());
+        assertEquals("Bobba Fet", task.getTaskData().getActualOwner().getId());
+
+        task = taskService.getTaskById(lowerPriorityTask.getId());
+        assertEquals(Status.Reserved, task.getTaskData().getStatus());
+        assertEquals("Jabba Hutt", task.getTaskData().getActualOwner().getId());
+    }
+
+    @Test
+    public void testClaimNextAvailableConcurrently() throws Exception {
+        final int tasksPerClaimer = 3;
+        final String[] claimers = new String[] { "Bobba Fet", "Jabba Hutt" };
+        List<Long> taskIds = new ArrayList<Long>();
+        for (int i = 0; i < tasksPerClaimer * claimers.length; i++) {
+            String str = "(with (new Task()) { priority = 5, taskData = (with( new TaskData()) { } ), ";
+            str += "peopleAssignments = (with ( new PeopleAssignments() ) { potentialOwners = [new Group('Crusaders') ],businessAdministrators = [ new User('Administrator') ], }),";
+            str += "name =  'Task " + i + "' })";
+            Task task = (Task) TaskFactory.evalTask(new StringReader(str));
+            taskService.addTask(task, new HashMap<String, Object>());
+            taskIds.add(task.getId());
+        }
+
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Throwable> failures = Collections.synchronizedList(new ArrayList<Throwable>());
+        List<Thread> threads = new ArrayList<Thread>();
+        for (final String claimer : claimers) {
+            Thread thread = new Thread(new Runnable() {
+                public void run() {
+                    try {
+                        start.await();
+                        // every call has to claim a task, as many as there are tasks left for the claimer
+                        for (int i = 0; i < tasksPerClaimer; i++) {
+                            taskService.claimNextAvailable(claimer, "en-UK");
+                        }
+                    } catch (Throwable t) {
+                        failures.add(t);
+                    }
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join(30000);
+        }
+        assertTrue(failures.toString(), failures.isEmpty());
+
+        Map<String, Integer> claimed = new HashMap<String, Integer>();
+        for (Long taskId : taskIds) {
+            Task task = taskService.getTaskById(taskId);
+            assertEquals(Status.Reserved, task.getTaskData().getStatus());
+            String owner = task.getTaskData().getActualOwner().getId();
+            claimed.put(owner, claimed.containsKey(owner) ? claimed.get(owner) + 1 : 1);
+        }
+        for (String claimer : claimers) {
+            assertEquals(tasksPerClaimer, claimed.get(claimer).intValue());
+        }
+    }
+
     @Test
     public void testCompleteWithRestrictedGroups() {
         
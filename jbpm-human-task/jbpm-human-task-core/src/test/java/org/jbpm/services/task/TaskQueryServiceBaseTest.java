@@ -32,8 +32,15 @@ import java.util.Map;
 import javax.naming.InitialContext;
 import javax.transaction.UserTransaction;
 
+import org.jbpm.services.task.commands.GetTaskAssignedAsPotentialOwnerPageCommand;
+import org.jbpm.services.task.commands.GetTaskCountsByDueWindowCommand;
+import org.jbpm.services.task.commands.GetTaskCountsByGroupCommand;
+import org.jbpm.services.task.commands.GetTaskCountsByStatusCommand;
 import org.jbpm.services.task.commands.GetTasksByVariousFieldsCommand;
 import org.jbpm.services.task.impl.factories.TaskFactory;
+import org.jbpm.services.task.query.TaskDueWindow;
+import org.jbpm.services.task.query.TaskPage;
+import org.jbpm.services.task.query.TaskPageOrder;
 import org.junit.Ignore;
 import org.junit.Test;
 import org.kie.api.task.model.I18NText;
@@ -228,6 +235,126 @@ public abstract class TaskQueryServiceBaseTest extends HumanTaskServicesBaseTest
         // assertEquals("Second task", tasks.get(1).getName());
     }
     
+    @Test
+    public void testGetTasksAssignedAsPotentialOwnerKeysetPaging() {
+        int[] priorities = new int[] { 3, 1, 2, 1, 3 };
+        for (int priority : priorities) {
+            String str = "(with (new Task()) { priority = " + priority + ", taskData = (with( new TaskData()) { } ), ";
+            str += "peopleAssignments = (with ( new PeopleAssignments() ) { potentialOwners = [new User('Bobba Fet') ],businessAdministrators = [ new User('Administrator') ], }),";
+            str += "name = 'Task with priority " + priority + "' })";
+            taskService.addTask(TaskFactory.evalTask(new StringReader(str)), new HashMap<String, Object>());
+        }
+        List<String> groupIds = new ArrayList<String>();
+        groupIds.add("Crusaders");
+
+        List<TaskSummary> tasks = new ArrayList<TaskSummary>();
+        String token = null;
+        int pages = 0;
+        do {
+            TaskPage page = ((InternalTaskService) taskService).execute(
+                    new GetTaskAssignedAsPotentialOwnerPageCommand("Bobba Fet", groupIds, TaskPageOrder.PRIORITY_CREATED_ON, token, 2));
+            tasks.addAll(page.getTasks());
+            token = page.getContinuationToken();
+            pages++;
+        } while (token != null);
+        assertEquals(3, pages);
+        assertEquals(5, tasks.size());
+        for (int i = 1; i < tasks.size(); i++) {
+            TaskSummary previous = tasks.get(i - 1);
+            TaskSummary current = tasks.get(i);
+            assertTrue(previous.getPriority() < current.getPriority()
+                    || (previous.getPriority().equals(current.getPriority()) && previous.getId() < current.getId()));
+        }
+
+        tasks.clear();
+        token = null;
+        do {
+            TaskPage page = ((InternalTaskService) taskService).execute(
+                    new GetTaskAssignedAsPotentialOwnerPageCommand("Bobba Fet", null, TaskPageOrder.ID_DESC, token, 3));
+            tasks.addAll(page.getTasks());
+            token = page.getContinuationToken();
+        } while (token != null);
+        assertEquals(5, tasks.size());
+        for (int i = 1; i < tasks.size(); i++) {
+            assertTrue(tasks.get(i - 1).getId() > tasks.get(i).getId());
+        }
+    }
+
+    @Test
+    public void testGetTaskAssignedAsPotentialOwnerPageByCreationDate() {
+        for (int i = 0; i < 3; i++) {
+            String str = "(with (new Task()) { priority = 55, taskData = (with( new TaskData()) { } ), ";
+            str += "peopleAssignments = (with ( new PeopleAssignments() ) { potentialOwners = [new User('Bobba Fet') ],businessAdministrators = [ new User('Administrator') ], }),";
+            str += "name = 'Task " + i + "' })";
+            // creation date is set by the task service
+            taskService.addTask(TaskFactory.evalTask(new StringReader(str)), new HashMap<String, Object>());
+        }
+
+        List<TaskSummary> tasks = new ArrayList<TaskSummary>();
+        String token = null;
+        do {
+            TaskPage page = ((InternalTaskService) taskService).execute(
+                    new GetTaskAssignedAsPotentialOwnerPageCommand("Bobba Fet", null, TaskPageOrder.CREATED_ON_DESC, token, 2));
+            tasks.addAll(page.getTasks());
+            token = page.getContinuationToken();
+        } while (token != null);
+        assertEquals(3, tasks.size());
+        for (TaskSummary task : tasks) {
+            assertNotNull(task.getCreatedOn());
+        }
+
+        Map<String, Object> params = new HashMap<String, Object>();
+        assertEquals("t.taskData.createdOn is not null", TaskPageOrder.CREATED_ON_DESC.filter(null, params));
+        assertNull(TaskPageOrder.ID_DESC.filter(null, params));
+        assertTrue(params.isEmpty());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testGetTaskAssignedAsPotentialOwnerPageWithoutPageSize() {
+        GetTaskAssignedAsPotentialOwnerPageCommand command = new GetTaskAssignedAsPotentialOwnerPageCommand();
+        command.setUserId("Bobba Fet");
+        ((InternalTaskService) taskService).execute(command);
+    }
+
+    @Test
+    public void testGetTaskCounts() {
+        // One potential owner, should go straight to state Reserved
+        String str = "(with (new Task()) { priority = 55, taskData = (with( new TaskData()) { expirationTime = new Date( 10000000 ), } ), ";
+        str += "peopleAssignments = (with ( new PeopleAssignments() ) { potentialOwners = [new User('Bobba Fet') ],businessAdministrators = [ new User('Administrator') ], }),";
+        str += "name = 'Overdue task' })";
+        taskService.addTask(TaskFactory.evalTask(new StringReader(str)), new HashMap<String, Object>());
+        str = "(with (new Task()) { priority = 55, taskData = (with( new TaskData()) { } ), ";
+        str += "peopleAssignments = (with ( new PeopleAssignments() ) { potentialOwners = [new Group('Crusaders'), new Group('Knights Templer') ],businessAdministrators = [ new User('Administrator') ], }),";
+        str += "name = 'Task without deadline' })";
+        taskService.addTask(TaskFactory.evalTask(new StringReader(str)), new HashMap<String, Object>());
+        str = "(with (new Task()) { priority = 55, taskData = (with( new TaskData()) { expirationTime = new Date( 4102444800000L ), } ), ";
+        str += "peopleAssignments = (with ( new PeopleAssignments() ) { potentialOwners = [new Group('Knights Templer') ],businessAdministrators = [ new User('Administrator') ], }),";
+        str += "name = 'Task due later' })";
+        taskService.addTask(TaskFactory.evalTask(new StringReader(str)), new HashMap<String, Object>());
+
+        Map<Status, Long> byStatus = ((InternalTaskService) taskService).execute(
+                new GetTaskCountsByStatusCommand("Bobba Fet", null, null));
+        assertEquals(2, byStatus.size());
+        assertEquals(1, byStatus.get(Status.Reserved).longValue());
+        assertEquals(2, byStatus.get(Status.Ready).longValue());
+
+        Map<String, Long> byGroup = ((InternalTaskService) taskService).execute(
+                new GetTaskCountsByGroupCommand("Bobba Fet", null, null));
+        assertEquals(1, byGroup.get("Crusaders").longValue());
+        assertEquals(2, byGroup.get("Knights Templer").longValue());
+
+        Map<TaskDueWindow, Long> byDueWindow = ((InternalTaskService) taskService).execute(
+                new GetTaskCountsByDueWindowCommand("Bobba Fet", null, null, 24 * 60 * 60 * 1000L));
+        assertEquals(1, byDueWindow.get(TaskDueWindow.NO_DEADLINE).longValue());
+        assertEquals(1, byDueWindow.get(TaskDueWindow.OVERDUE).longValue());
+        assertEquals(0, byDueWindow.get(TaskDueWindow.DUE_SOON).longValue());
+        assertEquals(1, byDueWindow.get(TaskDueWindow.DUE_LATER).longValue());
+
+        // without groups only the task assigned to the user itself is counted
+        assertEquals(1, taskService.getPendingTaskByUserId("Bobba Fet"));
+        assertEquals(0, taskService.getCompletedTaskByUserId("Bobba Fet"));
+    }
+
     @Test
     public void testGetTasksAssignedAsPotentialOwnerWithUserGroupsLangOffsetCountTwoTasksOneOffsetOneMaxResult() {
         // One potential owner, should go straight to state Reserved
@@ -0,0 +1,136 @@
+package org.jbpm.services.task.identity;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+import org.kie.api.task.UserGroupCallback;
+
+public class CachedUserGroupCallbackImplTest {
+
+    @Test
+    public void testAnswersAreCached() {
+        CountingCallback delegate = new CountingCallback();
+        CachedUserGroupCallbackImpl callback = new CachedUserGroupCallbackImpl(delegate, 60000, 100);
+
+        assertTrue(callback.existsUser("john"));
+        assertTrue(callback.existsUser("john"));
+        assertFalse(callback.existsUser("unknown"));
+        assertFalse(callback.existsUser("unknown"));
+        assertTrue(callback.existsGroup("HR"));
+        assertTrue(callback.existsGroup("HR"));
+
+        List<String> groups = callback.getGroupsForUser("john", null, null);
+        assertEquals(Arrays.asList("HR", "PM"), groups);
+        // returned list is a copy
+        groups.clear();
+        assertEquals(Arrays.asList("HR", "PM"), callback.getGroupsForUser("john", null, null));
+
+        assertEquals(4, delegate.calls);
+        assertEquals(4, callback.getHits());
+        assertEquals(4, callback.getMisses());
+    }
+
+    @Test
+    public void testGroupsNarrowedByGroupIdsAreNotCached() {
+        CountingCallback delegate = new CountingCallback();
+        CachedUserGroupCallbackImpl callback = new CachedUserGroupCallbackImpl(delegate, 60000, 100);
+
+        callback.getGroupsForUser("john", Arrays.asList("HR"), null);
+        callback.getGroupsForUser("john", Arrays.asList("HR"), null);
+
+        assertEquals(2, delegate.calls);
+    }
+
+    @Test
+    public void testInvalidation() {
+        CountingCallback delegate = new CountingCallback();
+        CachedUserGroupCallbackImpl callback = new CachedUserGroupCallbackImpl(delegate, 60000, 100);
+
+        callback.existsUser("john");
+        callback.getGroupsForUser("john", null, null);
+        callback.existsGroup("HR");
+        assertEquals(3, delegate.calls);
+
+        callback.invalidateUser("john");
+        callback.existsUser("john");
+        callback.getGroupsForUser("john", null, null);
+        callback.existsGroup("HR");
+        assertEquals(5, delegate.calls);
+
+        callback.invalidateGroup("HR");
+        callback.existsUser("john");
+        callback.getGroupsForUser("john", null, null);
+        callback.existsGroup("HR");
+        assertEquals(7, delegate.calls);
+
+        callback.invalidateAll();
+        callback.existsUser("john");
+        assertEquals(8, delegate.calls);
+    }
+
+    @Test
+    public void testExpirationAndEviction() throws Exception {
+        CountingCallback delegate = new CountingCallback();
+        CachedUserGroupCallbackImpl callback = new CachedUserGroupCallbackImpl(delegate, 50, 2);
+
+        callback.existsUser("john");
+        Thread.sleep(100);
+        callback.existsUser("john");
+        assertEquals(2, delegate.calls);
+
+        callback.existsUser("mary");
+        callback.existsUser("peter");
+        // john was evicted as least recently used
+        callback.existsUser("john");
+        assertEquals(5, delegate.calls);
+    }
+
+    @Test
+    public void testKnownOrganizationalEntities() {
+        KnownOrganizationalEntities knownEntities = new KnownOrganizationalEntities(true, 60000, 100);
+
+        assertFalse(knownEntities.isKnownUser("john"));
+        knownEntities.userFound("john");
+        knownEntities.groupFound("HR");
+        assertTrue(knownEntities.isKnownUser("john"));
+        assertTrue(knownEntities.isKnownGroup("HR"));
+        assertFalse(knownEntities.isKnownUser("HR"));
+        assertEquals(2, knownEntities.getHits());
+        assertEquals(2, knownEntities.getMisses());
+
+        knownEntities.invalidateUser("john");
+        assertFalse(knownEntities.isKnownUser("john"));
+
+        knownEntities.setEnabled(false);
+        assertFalse(knownEntities.isKnownGroup("HR"));
+        knownEntities.userFound("john");
+        knownEntities.setEnabled(true);
+        assertFalse(knownEntities.isKnownUser("john"));
+    }
+
+    private static class CountingCallback implements UserGroupCallback {
+
+        private int calls;
+
+        public boolean existsUser(String userId) {
+            calls++;
+            return "john".equals(userId) || "mary".equals(userId) || "peter".equals(userId);
+        }
+
+        public boolean existsGroup(String groupId) {
+            calls++;
+            return "HR".equals(groupId) || "PM".equals(groupId);
+        }
+
+        public List<String> getGroupsForUser(String userId, List<String> groupIds, List<String> allExistingGroupIds) {
+            calls++;
+            return new ArrayList<String>(Arrays.asList("HR", "PM"));
+        }
+    }
+}
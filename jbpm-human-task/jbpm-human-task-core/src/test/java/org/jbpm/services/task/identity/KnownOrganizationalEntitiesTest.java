@@ -0,0 +1,60 @@
+package org.jbpm.services.task.identity;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class KnownOrganizationalEntitiesTest {
+
+    @Test
+    public void testInstancePerScope() {
+        Object emf1 = new Object();
+        Object emf2 = new Object();
+
+        KnownOrganizationalEntities knownEntities1 = KnownOrganizationalEntities.getInstance(emf1);
+        KnownOrganizationalEntities knownEntities2 = KnownOrganizationalEntities.getInstance(emf2);
+        assertSame(knownEntities1, KnownOrganizationalEntities.getInstance(emf1));
+        assertNotSame(knownEntities1, knownEntities2);
+        assertNotSame(knownEntities1, KnownOrganizationalEntities.getInstance(null));
+        assertSame(KnownOrganizationalEntities.getInstance(null), KnownOrganizationalEntities.getInstance(null));
+
+        knownEntities1.setEnabled(true);
+        knownEntities2.setEnabled(true);
+        try {
+            // user stored in one data base is not known to be stored in the other one
+            knownEntities1.userFound("john");
+            assertTrue(knownEntities1.isKnownUser("john"));
+            assertFalse(knownEntities2.isKnownUser("john"));
+
+            knownEntities2.groupFound("HR");
+            knownEntities1.invalidateAll();
+            assertFalse(knownEntities1.isKnownUser("john"));
+            assertTrue(knownEntities2.isKnownGroup("HR"));
+        } finally {
+            knownEntities1.setEnabled(false);
+            knownEntities2.setEnabled(false);
+        }
+    }
+
+    @Test
+    public void testDisabledByDefault() {
+        KnownOrganizationalEntities knownEntities = KnownOrganizationalEntities.getInstance(new Object());
+
+        assertFalse(knownEntities.isEnabled());
+        knownEntities.userFound("john");
+        assertFalse(knownEntities.isKnownUser("john"));
+    }
+
+    @Test
+    public void testKnownEntityExpires() throws Exception {
+        KnownOrganizationalEntities knownEntities = new KnownOrganizationalEntities(true, 50, 100);
+
+        knownEntities.userFound("john");
+        assertTrue(knownEntities.isKnownUser("john"));
+        Thread.sleep(100);
+        assertFalse(knownEntities.isKnownUser("john"));
+    }
+}
@@ -40,6 +40,8 @@ public class JPATaskPersistenceContext implements TaskPersistenceContext {
 	public final static String FIRST_RESULT = "firstResult";
     public final static String MAX_RESULTS = "maxResults";
     public final static String FLUSH_MODE = "flushMode";
+    public final static String LOCK_MODE = "lockMode";
+    public final static String LOCK_TIMEOUT = "lockTimeout";
     
     protected EntityManager em;
     protected final boolean isJTA;
@@ -485,6 +487,15 @@ public class JPATaskPersistenceContext implements TaskPersistenceContext {
 				if (FLUSH_MODE.equals(name)) {
 					query.setFlushMode(FlushModeType.valueOf((String) params.get(name)));
 					continue;
+				}
+				if (LOCK_MODE.equals(name)) {
+					query.setLockMode(LockModeType.valueOf((String) params.get(name)));
+					continue;
+				}
+				if (LOCK_TIMEOUT.equals(name)) {
+					// -2 makes hibernate skip rows locked by others on data bases that support it
+					query.setHint("javax.persistence.lock.timeout", params.get(name));
+					continue;
 				}// skip control parameters
 				else if (TaskQueryManager.ASCENDING_KEY.equals(name) 
 						|| TaskQueryManager.DESCENDING_KEY.equals(name)
@@ -343,6 +343,26 @@
         primary key (id)
     );
 
+    create table TaskInbox (
+        id bigint generated by default as identity,
+        activationTime timestamp,
+        actualOwner varchar(255),
+        createdBy varchar(255),
+        createdOn timestamp,
+        deploymentId varchar(255),
+        description varchar(255),
+        entityId varchar(255),
+        expirationTime timestamp,
+        name varchar(255),
+        parentId bigint not null,
+        priority integer not null,
+        processId varchar(255),
+        processInstanceId bigint not null,
+        status varchar(255),
+        taskId bigint not null,
+        primary key (id)
+    );
+
     create table VariableInstanceLog (
         id bigint generated by default as identity,
         log_date timestamp,
@@ -444,6 +464,18 @@
         foreign key (InstanceId) 
         references ProcessInstanceInfo;
 
+    create index IDX_EventTypes_element on EventTypes (element);
+
+    create index IDX_PInstLog_end_date on ProcessInstanceLog (end_date);
+
+    create index IDX_NInstLog_pInstId on NodeInstanceLog (processInstanceId);
+
+    create index IDX_VInstLog_pInstId on VariableInstanceLog (processInstanceId);
+
+    create index IDX_TaskInbox_entity_status on TaskInbox (entityId, status);
+
+    create index IDX_TaskInbox_taskId on TaskInbox (taskId);
+
     alter table I18NText 
         add constraint FK2349686BF4ACCD69 
         foreign key (Task_Subjects_Id) 
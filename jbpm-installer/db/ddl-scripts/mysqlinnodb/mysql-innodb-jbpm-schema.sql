@@ -343,6 +343,26 @@
         primary key (id)
     ) ENGINE=InnoDB;
 
+    create table TaskInbox (
+        id bigint not null auto_increment,
+        activationTime datetime,
+        actualOwner varchar(255),
+        createdBy varchar(255),
+        createdOn datetime,
+        deploymentId varchar(255),
+        description varchar(255),
+        entityId varchar(255),
+        expirationTime datetime,
+        name varchar(255),
+        parentId bigint not null,
+        priority integer not null,
+        processId varchar(255),
+        processInstanceId bigint not null,
+        status varchar(255),
+        taskId bigint not null,
+        primary key (id)
+    ) ENGINE=InnoDB;
+
     create table VariableInstanceLog (
         id bigint not null auto_increment,
         log_date datetime,
@@ -455,6 +475,18 @@
         foreign key (InstanceId) 
         references ProcessInstanceInfo (InstanceId);
 
+    create index IDX_EventTypes_element on EventTypes (element);
+
+    create index IDX_PInstLog_end_date on ProcessInstanceLog (end_date);
+
+    create index IDX_NInstLog_pInstId on NodeInstanceLog (processInstanceId);
+
+    create index IDX_VInstLog_pInstId on VariableInstanceLog (processInstanceId);
+
+    create index IDX_TaskInbox_entity_status on TaskInbox (entityId, status);
+
+    create index IDX_TaskInbox_taskId on TaskInbox (taskId);
+
     alter table I18NText 
         add index FK2349686BF4ACCD69 (Task_Subjects_Id), 
         add constraint FK2349686BF4ACCD69 
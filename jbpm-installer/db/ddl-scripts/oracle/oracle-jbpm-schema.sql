@@ -343,6 +343,26 @@
         primary key (id)
     );
 
+    create table TaskInbox (
+        id number(19,0) not null,
+        activationTime timestamp,
+        actualOwner varchar2(255 char),
+        createdBy varchar2(255 char),
+        createdOn timestamp,
+        deploymentId varchar2(255 char),
+        description varchar2(255 char),
+        entityId varchar2(255 char),
+        expirationTime timestamp,
+        name varchar2(255 char),
+        parentId number(19,0) not null,
+        priority number(10,0) not null,
+        processId varchar2(255 char),
+        processInstanceId number(19,0) not null,
+        status varchar2(255 char),
+        taskId number(19,0) not null,
+        primary key (id)
+    );
+
     create table VariableInstanceLog (
         id number(19,0) not null,
         log_date timestamp,
@@ -444,6 +464,18 @@
         foreign key (InstanceId) 
         references ProcessInstanceInfo;
 
+    create index IDX_EventTypes_element on EventTypes (element);
+
+    create index IDX_PInstLog_end_date on ProcessInstanceLog (end_date);
+
+    create index IDX_NInstLog_pInstId on NodeInstanceLog (processInstanceId);
+
+    create index IDX_VInstLog_pInstId on VariableInstanceLog (processInstanceId);
+
+    create index IDX_TaskInbox_entity_status on TaskInbox (entityId, status);
+
+    create index IDX_TaskInbox_taskId on TaskInbox (taskId);
+
     alter table I18NText 
         add constraint FK2349686BF4ACCD69 
         foreign key (Task_Subjects_Id) 
@@ -665,6 +697,8 @@
 
     create sequence TASK_EVENT_ID_SEQ;
 
+    create sequence TASK_INBOX_ID_SEQ;
+
     create sequence TASK_ID_SEQ;
 
     create sequence VAR_INST_LOG_ID_SEQ;
@@ -343,6 +343,26 @@
         primary key (id)
     );
 
+    create table TaskInbox (
+        id int8 not null,
+        activationTime timestamp,
+        actualOwner varchar(255),
+        createdBy varchar(255),
+        createdOn timestamp,
+        deploymentId varchar(255),
+        description varchar(255),
+        entityId varchar(255),
+        expirationTime timestamp,
+        name varchar(255),
+        parentId int8 not null,
+        priority int4 not null,
+        processId varchar(255),
+        processInstanceId int8 not null,
+        status varchar(255),
+        taskId int8 not null,
+        primary key (id)
+    );
+
     create table VariableInstanceLog (
         id int8 not null,
         log_date timestamp,
@@ -444,6 +464,18 @@
         foreign key (InstanceId) 
         references ProcessInstanceInfo;
 
+    create index IDX_EventTypes_element on EventTypes (element);
+
+    create index IDX_PInstLog_end_date on ProcessInstanceLog (end_date);
+
+    create index IDX_NInstLog_pInstId on NodeInstanceLog (processInstanceId);
+
+    create index IDX_VInstLog_pInstId on VariableInstanceLog (processInstanceId);
+
+    create index IDX_TaskInbox_entity_status on TaskInbox (entityId, status);
+
+    create index IDX_TaskInbox_taskId on TaskInbox (taskId);
+
     alter table I18NText 
         add constraint FK2349686BF4ACCD69 
         foreign key (Task_Subjects_Id) 
@@ -665,6 +697,8 @@
 
     create sequence TASK_EVENT_ID_SEQ;
 
+    create sequence TASK_INBOX_ID_SEQ;
+
     create sequence TASK_ID_SEQ;
 
     create sequence VAR_INST_LOG_ID_SEQ;
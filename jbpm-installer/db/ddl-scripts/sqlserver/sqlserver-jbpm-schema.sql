@@ -343,6 +343,26 @@
         primary key (id)
     );
 
+    create table TaskInbox (
+        id numeric(19,0) identity not null,
+        activationTime datetime,
+        actualOwner varchar(255),
+        createdBy varchar(255),
+        createdOn datetime,
+        deploymentId varchar(255),
+        description varchar(255),
+        entityId varchar(255),
+        expirationTime datetime,
+        name varchar(255),
+        parentId numeric(19,0) not null,
+        priority int not null,
+        processId varchar(255),
+        processInstanceId numeric(19,0) not null,
+        status varchar(255),
+        taskId numeric(19,0) not null,
+        primary key (id)
+    );
+
     create table VariableInstanceLog (
         id numeric(19,0) identity not null,
         log_date datetime,
@@ -444,6 +464,18 @@
         foreign key (InstanceId) 
         references ProcessInstanceInfo;
 
+    create index IDX_EventTypes_element on EventTypes (element);
+
+    create index IDX_PInstLog_end_date on ProcessInstanceLog (end_date);
+
+    create index IDX_NInstLog_pInstId on NodeInstanceLog (processInstanceId);
+
+    create index IDX_VInstLog_pInstId on VariableInstanceLog (processInstanceId);
+
+    create index IDX_TaskInbox_entity_status on TaskInbox (entityId, status);
+
+    create index IDX_TaskInbox_taskId on TaskInbox (taskId);
+
     alter table I18NText 
         add constraint FK2349686BF4ACCD69 
         foreign key (Task_Subjects_Id) 
@@ -1,6 +1,7 @@
 package org.jbpm.persistence;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 import javax.persistence.EntityManager;
@@ -24,6 +25,8 @@ public class JpaProcessPersistenceContext extends JpaPersistenceContext
     implements
     ProcessPersistenceContext {
     
+    private static final int MAX_IN_LIST_SIZE = 500;
+    
     public JpaProcessPersistenceContext(EntityManager em) {
         super( em );
     }
@@ -48,6 +51,21 @@ public class JpaProcessPersistenceContext extends JpaPersistenceContext
         return getEntityManager().find( ProcessInstanceInfo.class, processId );
     }
 
+    public List<ProcessInstanceInfo> findProcessInstanceInfos(Collection<Long> processIds) {
+        List<ProcessInstanceInfo> result = new ArrayList<ProcessInstanceInfo>(processIds.size());
+        List<Long> ids = new ArrayList<Long>(processIds);
+        // keep the IN list below the limits imposed by some databases
+        for (int i = 0; i < ids.size(); i += MAX_IN_LIST_SIZE) {
+            Query query = getEntityManager().createNamedQuery( "GetProcessInstanceInfosByIds" );
+            query.setParameter( "ids", ids.subList( i, Math.min( i + MAX_IN_LIST_SIZE, ids.size() ) ) );
+            if( this.pessimisticLocking ) { 
+                query.setLockMode( LockModeType.PESSIMISTIC_FORCE_INCREMENT );
+            }
+            result.addAll( (List<ProcessInstanceInfo>) query.getResultList() );
+        }
+        return result;
+    }
+
     public void remove(ProcessInstanceInfo processInstanceInfo) {
         getEntityManager().remove( processInstanceInfo );
         List<CorrelationKeyInfo> correlations = getEntityManager().createNamedQuery("GetCorrelationKeysByProcessInstanceId")
@@ -59,6 +77,22 @@ public class JpaProcessPersistenceContext extends JpaPersistenceContext
         }
     }
 
+    public boolean releaseProcessInstanceInfos(Collection<Long> processIds) {
+        EntityManager em = getEntityManager();
+        if (em == null) {
+            return false;
+        }
+        // no flush: it would write every managed process instance, including the ones still executing
+        for (Long processId : processIds) {
+            ProcessInstanceInfo processInstanceInfo = em.find( ProcessInstanceInfo.class, processId );
+            if (processInstanceInfo != null) {
+                processInstanceInfo.update();
+                processInstanceInfo.clearProcessInstance();
+            }
+        }
+        return true;
+    }
+
     /**
      * This method is used by the {@link JPASignalManager} in order to load {@link ProcessInstance} instances
      * into the {@link ProcessInstanceManager} cache so that they can then be signalled. 
@@ -92,6 +126,26 @@ public class JpaProcessPersistenceContext extends JpaPersistenceContext
     	}
     }
 
+    /**
+     * Keyset paged variant of {@link #getProcessInstancesWaitingForEvent(String)}: the same 
+     * locking considerations apply.
+     */
+    public List<Long> getProcessInstancesWaitingForEvent(String type, long lastProcessInstanceId, int maxResults) {
+        EntityManager entityManager = getEntityManager();
+        if (entityManager != null) {
+            Query processInstancesForEvent = entityManager.createNamedQuery( "ProcessInstancesWaitingForEventAfterId" );
+            processInstancesForEvent.setFlushMode(FlushModeType.COMMIT);
+            processInstancesForEvent.setParameter( "type",
+                                                   type );
+            processInstancesForEvent.setParameter( "lastId",
+                                                   lastProcessInstanceId );
+            processInstancesForEvent.setMaxResults( maxResults );
+            return (List<Long>) processInstancesForEvent.getResultList();
+        } else {
+            return new ArrayList<Long>();
+        }
+    }
+
     public CorrelationKeyInfo persist(CorrelationKeyInfo correlationKeyInfo) {
         Long processInstanceId = getProcessInstanceByCorrelationKey(correlationKeyInfo);
         if (processInstanceId != null) {
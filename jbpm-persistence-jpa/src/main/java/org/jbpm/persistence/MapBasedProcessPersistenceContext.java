@@ -1,6 +1,7 @@
 package org.jbpm.persistence;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -45,6 +46,17 @@ public class MapBasedProcessPersistenceContext extends MapBasedPersistenceContex
         return processInstanceInfo;
     }
 
+    public List<ProcessInstanceInfo> findProcessInstanceInfos(Collection<Long> processIds) {
+        List<ProcessInstanceInfo> result = new ArrayList<ProcessInstanceInfo>();
+        for ( Long processId : processIds ) {
+            ProcessInstanceInfo processInstanceInfo = findProcessInstanceInfo( processId );
+            if ( processInstanceInfo != null ) {
+                result.add( processInstanceInfo );
+            }
+        }
+        return result;
+    }
+
     public List<ProcessInstanceInfo> getStoredProcessInstances() {
         return Collections.unmodifiableList( new ArrayList<ProcessInstanceInfo>(processes.values()));
     }
@@ -60,10 +72,30 @@ public class MapBasedProcessPersistenceContext extends MapBasedPersistenceContex
         
     }
 
+    public boolean releaseProcessInstanceInfos(Collection<Long> processIds) {
+        // process instances are only written to the storage when the transaction completes
+        return false;
+    }
+
     public List<Long> getProcessInstancesWaitingForEvent(String type) {
         return storage.getProcessInstancesWaitingForEvent( type );
     }
 
+    public List<Long> getProcessInstancesWaitingForEvent(String type, long lastProcessInstanceId, int maxResults) {
+        List<Long> ids = new ArrayList<Long>( storage.getProcessInstancesWaitingForEvent( type ) );
+        Collections.sort( ids );
+        List<Long> result = new ArrayList<Long>();
+        for ( Long id : ids ) {
+            if ( id > lastProcessInstanceId ) {
+                result.add( id );
+                if ( result.size() == maxResults ) {
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
     public void clearStoredProcessInstances() {
         processes.clear();
     }
@@ -1,5 +1,6 @@
 package org.jbpm.persistence;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.drools.persistence.PersistenceContext;
@@ -17,9 +18,32 @@ public interface ProcessPersistenceContext
     
     ProcessInstanceInfo findProcessInstanceInfo(Long processId);
     
+    /**
+     * Finds the process instance infos with the given ids using as few round trips as possible. 
+     * Ids that do not match any process instance info are ignored.
+     */
+    List<ProcessInstanceInfo> findProcessInstanceInfos(Collection<Long> processIds);
+    
     void remove(ProcessInstanceInfo processInstanceInfo);
 
+    /**
+     * Stores the current state of the process instances of the process instance infos with the 
+     * given ids in the infos themselves and drops the references to them, so the process instances 
+     * can be garbage collected before the transaction completes. The infos are only written when 
+     * the transaction completes, other process instance infos are not affected.
+     * @return <code>false</code> if this context cannot release them, in which case their process 
+     * instances must stay connected
+     */
+    boolean releaseProcessInstanceInfos(Collection<Long> processIds);
+
     List<Long> getProcessInstancesWaitingForEvent(String type);
+
+    /**
+     * Returns at most <code>maxResults</code> ids of process instances waiting for the given
+     * event type, in ascending order and strictly greater than <code>lastProcessInstanceId</code>,
+     * so that callers can page through large numbers of subscribers.
+     */
+    List<Long> getProcessInstancesWaitingForEvent(String type, long lastProcessInstanceId, int maxResults);
     
     Long getProcessInstanceByCorrelationKey(CorrelationKey correlationKey);
 }
@@ -6,9 +6,17 @@ import java.util.Collections;
 import java.util.ConcurrentModificationException;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.drools.core.common.InternalKnowledgeRuntime;
+import org.drools.core.impl.InternalKnowledgeBase;
 import org.jbpm.persistence.ProcessPersistenceContext;
 import org.jbpm.persistence.ProcessPersistenceContextManager;
 import org.jbpm.persistence.correlation.CorrelationKeyInfo;
@@ -20,13 +28,18 @@ import org.jbpm.workflow.instance.impl.WorkflowProcessInstanceImpl;
 import org.jbpm.workflow.instance.node.StateBasedNodeInstance;
 import org.jbpm.workflow.instance.node.TimerNodeInstance;
 import org.kie.api.definition.process.Process;
+import org.kie.api.runtime.Environment;
 import org.kie.api.runtime.EnvironmentName;
 import org.kie.api.runtime.KieSession;
 import org.kie.api.runtime.process.ProcessInstance;
 import org.kie.api.runtime.process.WorkflowProcessInstance;
 import org.kie.internal.process.CorrelationKey;
 import org.kie.internal.runtime.manager.InternalRuntimeManager;
+import org.kie.internal.runtime.manager.Mapper;
+import org.kie.internal.runtime.manager.RuntimeEnvironment;
 import org.kie.internal.runtime.manager.context.ProcessInstanceIdContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * This is an implementation of the {@link ProcessInstanceManager} that uses JPA.
@@ -40,6 +53,11 @@ public class JPAProcessInstanceManager
     implements
     ProcessInstanceManager {
 
+    private static final Logger logger = LoggerFactory.getLogger(JPAProcessInstanceManager.class);
+    
+    private static final int PRELOAD_THREADS = Integer.parseInt(System.getProperty("org.jbpm.pim.preload.threads",
+            String.valueOf(Runtime.getRuntime().availableProcessors())));
+
     private InternalKnowledgeRuntime kruntime;
     // In a scenario in which 1000's of processes are running daily,
     //   lazy initialization is more costly than eager initialization
@@ -118,7 +136,102 @@ public class JPAProcessInstanceManager
         if ( processInstanceInfo == null ) {
             return null;
         }
-        processInstance = (org.jbpm.process.instance.ProcessInstance)
+        return connectProcessInstance(processInstanceInfo, readOnly);
+    }
+
+    /**
+     * Loads the process instances that are not yet known to this manager with a single query
+     * (per chunk of ids) and parses their serialized state on a bounded pool before they are 
+     * reconnected to the knowledge runtime one by one. Process instances that belong to
+     * another session of the runtime manager are left out.
+     */
+    public Collection<ProcessInstance> getProcessInstances(Collection<Long> ids) {
+        InternalRuntimeManager manager = (InternalRuntimeManager) kruntime.getEnvironment().get("RuntimeManager");
+        List<ProcessInstance> result = new ArrayList<ProcessInstance>(ids.size());
+        List<Long> idsToLoad = new ArrayList<Long>();
+        Mapper mapper = getContextMapper(manager);
+        for (Long id : ids) {
+            if (mapper != null && !this.processInstances.containsKey(id)) {
+                Integer ksessionId = mapper.findMapping(ProcessInstanceIdContext.get(id), manager.getIdentifier());
+                if (ksessionId == null || ksessionId.intValue() != ((KieSession) kruntime).getId()) {
+                    // bound to another session (or to none), it cannot be loaded by this one
+                    continue;
+                }
+            }
+            if (this.processInstances.containsKey(id)) {
+                ProcessInstance processInstance = getProcessInstance(id);
+                if (processInstance != null) {
+                    result.add(processInstance);
+                }
+            } else {
+                if (manager != null) {
+                    manager.validate((KieSession) kruntime, ProcessInstanceIdContext.get(id));
+                }
+                idsToLoad.add(id);
+            }
+        }
+        if (idsToLoad.isEmpty()) {
+            return result;
+        }
+        ProcessPersistenceContextManager ppcm 
+            = (ProcessPersistenceContextManager) this.kruntime.getEnvironment().get( EnvironmentName.PERSISTENCE_CONTEXT_MANAGER );
+        ppcm.beginCommandScopedEntityManager();
+        ProcessPersistenceContext context = ppcm.getProcessPersistenceContext();
+        List<ProcessInstanceInfo> processInstanceInfos = context.findProcessInstanceInfos( idsToLoad );
+        preloadProcessInstances(processInstanceInfos);
+        for (ProcessInstanceInfo processInstanceInfo : processInstanceInfos) {
+            result.add(connectProcessInstance(processInstanceInfo, false));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the mapper of the runtime manager if this session is bound to a context
+     * (e.g. per process instance strategy), <code>null</code> otherwise.
+     */
+    private Mapper getContextMapper(InternalRuntimeManager manager) {
+        if (manager == null || !(manager.getEnvironment() instanceof RuntimeEnvironment)) {
+            return null;
+        }
+        Mapper mapper = ((RuntimeEnvironment) manager.getEnvironment()).getMapper();
+        if (mapper == null || mapper.findContextId(((KieSession) kruntime).getId(), manager.getIdentifier()) == null) {
+            return null;
+        }
+        return mapper;
+    }
+
+    private void preloadProcessInstances(List<ProcessInstanceInfo> processInstanceInfos) {
+        if (processInstanceInfos.size() < 2 || PRELOAD_THREADS < 2) {
+            // nothing to gain from parsing in parallel
+            return;
+        }
+        final InternalKnowledgeBase kbase = (InternalKnowledgeBase) kruntime.getKieBase();
+        final Environment environment = kruntime.getEnvironment();
+        List<Callable<Void>> tasks = new ArrayList<Callable<Void>>(processInstanceInfos.size());
+        for (final ProcessInstanceInfo processInstanceInfo : processInstanceInfos) {
+            tasks.add(new Callable<Void>() {
+                public Void call() throws Exception {
+                    processInstanceInfo.preloadProcessInstance(kbase, environment);
+                    return null;
+                }
+            });
+        }
+        try {
+            for (Future<Void> future : PreloadExecutorHolder.EXECUTOR.invokeAll(tasks)) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    // the process instance will be parsed again (and fail) when it is read
+                    logger.debug("Unable to preload process instance", e.getCause());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private ProcessInstance connectProcessInstance(ProcessInstanceInfo processInstanceInfo, boolean readOnly) {
+        org.jbpm.process.instance.ProcessInstance processInstance = (org.jbpm.process.instance.ProcessInstance)
         	processInstanceInfo.getProcessInstance(kruntime, this.kruntime.getEnvironment(), readOnly);
         if (!readOnly) {
             processInstanceInfo.updateLastReadDate();
@@ -152,6 +265,7 @@ public class JPAProcessInstanceManager
         if ( processInstanceInfo != null ) {
             context.remove( processInstanceInfo );
         }
+        ProcessInstanceCache.getInstance( this.kruntime.getEnvironment().get( EnvironmentName.ENTITY_MANAGER_FACTORY ) ).remove( processInstance.getId() );
         internalRemoveProcessInstance(processInstance);
     }
 
@@ -196,6 +310,22 @@ public class JPAProcessInstanceManager
         }
     }
 
+    /**
+     * Lazily created pool shared by all managers, used to parse process instances loaded in bulk.
+     */
+    private static class PreloadExecutorHolder {
+        
+        private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(PRELOAD_THREADS, new ThreadFactory() {
+            private final AtomicInteger counter = new AtomicInteger();
+            
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "jbpm-process-instance-preload-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+    }
+
     @Override
     public ProcessInstance getProcessInstance(CorrelationKey correlationKey) {
         ProcessPersistenceContext context = ((ProcessPersistenceContextManager) this.kruntime.getEnvironment()
@@ -1,31 +1,104 @@
 package org.jbpm.persistence.processinstance;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.drools.core.common.InternalKnowledgeRuntime;
 import org.jbpm.persistence.ProcessPersistenceContext;
 import org.jbpm.persistence.ProcessPersistenceContextManager;
+import org.jbpm.process.instance.InternalProcessRuntime;
+import org.jbpm.process.instance.ProcessInstanceManager;
 import org.jbpm.process.instance.event.DefaultSignalManager;
+import org.jbpm.process.instance.impl.ProcessInstanceImpl;
 import org.kie.api.runtime.EnvironmentName;
+import org.kie.api.runtime.process.ProcessInstance;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public class JPASignalManager extends DefaultSignalManager {
     
     private static final Logger logger = LoggerFactory.getLogger(JPASignalManager.class);
+    
+    public static final String PAGE_SIZE_PROPERTY = "org.jbpm.signal.page.size";
 
     public JPASignalManager(InternalKnowledgeRuntime kruntime) {
         super(kruntime);
     }
     
+    /**
+     * Signals the listeners known to this session (process instances that are already loaded, 
+     * event based start nodes, ...) and then pages through the other subscribers by id: each 
+     * page is loaded, signaled and its state is stored in the process instance infos before the 
+     * next page is read, so that broadcast signals never keep the complete subscriber list in memory.
+     * Process instances that were loaded before the signal, or while it was delivered to the
+     * listeners, are signaled only once and are not released.
+     * The page size can be set with the <code>org.jbpm.signal.page.size</code> system property.
+     */
     public void signalEvent(String type, Object event) {
         ProcessPersistenceContextManager contextManager 
             = (ProcessPersistenceContextManager) getKnowledgeRuntime().getEnvironment().get( EnvironmentName.PERSISTENCE_CONTEXT_MANAGER );
         ProcessPersistenceContext context = contextManager.getProcessPersistenceContext();
-        List<Long> processInstancesToSignalList = context.getProcessInstancesWaitingForEvent(type);
-        for ( long id : processInstancesToSignalList ) {
+        Set<Long> signaled = getLoadedProcessInstanceIds();
+        super.signalEvent( type,
+                           event );
+        // instances loaded while signaling the listeners already got the signal as well
+        signaled.addAll( getLoadedProcessInstanceIds() );
+        int pageSize = getPageSize();
+        long lastId = -1;
+        List<Long> processInstancesToSignalList = context.getProcessInstancesWaitingForEvent(type, lastId, pageSize);
+        while ( !processInstancesToSignalList.isEmpty() ) {
+            signalProcessInstances( context, processInstancesToSignalList, signaled, type, event );
+            if ( processInstancesToSignalList.size() < pageSize ) {
+                break;
+            }
+            lastId = processInstancesToSignalList.get( processInstancesToSignalList.size() - 1 );
+            processInstancesToSignalList = context.getProcessInstancesWaitingForEvent(type, lastId, pageSize);
+        }
+    }
+
+    protected void signalProcessInstances(ProcessPersistenceContext context, List<Long> processInstanceIds, 
+                                          Set<Long> signaled, String type, Object event) {
+        Set<Long> loaded = getLoadedProcessInstanceIds();
+        List<Long> toSignal = new ArrayList<Long>();
+        List<Long> toRelease = new ArrayList<Long>();
+        for ( Long id : processInstanceIds ) {
+            if ( signaled.add( id ) ) {
+                toSignal.add( id );
+                if ( !loaded.contains( id ) ) {
+                    // only release what was loaded for this page, other instances are in use
+                    toRelease.add( id );
+                }
+            }
+        }
+        if ( toSignal.isEmpty() ) {
+            return;
+        }
+        for ( ProcessInstance processInstance : loadProcessInstances( toSignal ) ) {
+            processInstance.signalEvent( type, event );
+        }
+        getKnowledgeRuntime().executeQueuedActions();
+        releaseProcessInstances( context, toRelease );
+    }
+
+    protected Collection<ProcessInstance> loadProcessInstances(List<Long> processInstanceIds) {
+        ProcessInstanceManager processInstanceManager = getProcessInstanceManager();
+        try {
+            return processInstanceManager.getProcessInstances( processInstanceIds );
+        } catch (RuntimeException e) {
+            // fall back to loading one by one so that a single instance that cannot
+            // be loaded does not prevent the others from being signaled
+            logger.debug("Unable to load process instances for signal in bulk: {}", e.getMessage());
+        }
+        List<ProcessInstance> result = new ArrayList<ProcessInstance>();
+        for ( long id : processInstanceIds ) {
             try {
-                getKnowledgeRuntime().getProcessInstance( id );
+                ProcessInstance processInstance = getKnowledgeRuntime().getProcessInstance( id );
+                if ( processInstance != null ) {
+                    result.add( processInstance );
+                }
             } catch (IllegalStateException e) {
                 // IllegalStateException can be thrown when using RuntimeManager
                 // and invalid ksession was used for given context
@@ -34,8 +107,38 @@ public class JPASignalManager extends DefaultSignalManager {
                         e.getMessage(), id);
             }
         }
-        super.signalEvent( type,
-                           event );
+        return result;
+    }
+
+    /**
+     * Stores the state of the given process instances in their process instance infos and disconnects 
+     * them, unless the persistence context cannot release them before the transaction completes.
+     */
+    protected void releaseProcessInstances(ProcessPersistenceContext context, List<Long> processInstanceIds) {
+        if ( processInstanceIds.isEmpty() || !context.releaseProcessInstanceInfos( processInstanceIds ) ) {
+            return;
+        }
+        for ( ProcessInstance processInstance : new ArrayList<ProcessInstance>( getProcessInstanceManager().getProcessInstances() ) ) {
+            if ( processInstanceIds.contains( processInstance.getId() ) ) {
+                ((ProcessInstanceImpl) processInstance).disconnect();
+            }
+        }
+    }
+
+    private Set<Long> getLoadedProcessInstanceIds() {
+        Set<Long> result = new HashSet<Long>();
+        for ( ProcessInstance processInstance : getProcessInstanceManager().getProcessInstances() ) {
+            result.add( processInstance.getId() );
+        }
+        return result;
+    }
+
+    private ProcessInstanceManager getProcessInstanceManager() {
+        return ((InternalProcessRuntime) getKnowledgeRuntime().getProcessRuntime()).getProcessInstanceManager();
+    }
+
+    private static int getPageSize() {
+        return Integer.parseInt(System.getProperty(PAGE_SIZE_PROPERTY, "1000"));
     }
 
 }
@@ -0,0 +1,165 @@
+package org.jbpm.persistence.processinstance;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import org.jbpm.marshalling.impl.JBPMMessages;
+
+/**
+ * Bounded, least recently used cache of parsed process instance messages, shared by all
+ * sessions of the same data base. There is one cache per entity manager factory given as scope 
+ * to {@link #getInstance(Object)}, as process instance ids and versions are only unique within
+ * a data base; the cache of a scope goes away with its entity manager factory. 
+ * Entries are keyed by process instance id and only returned when the
+ * version (OPTLOCK) they were parsed from matches the version of the {@link ProcessInstanceInfo}
+ * being loaded, so concurrent modifications are never hidden by the cache.
+ * </p>
+ * Only the immutable protobuf representation is cached: variable values are still unmarshalled
+ * for every load, so that no mutable state is shared between sessions.
+ * </p>
+ * Entries are put when a process instance is parsed and, once the transaction has committed, 
+ * when it is written, keyed by the version it was written with, so the next transaction that 
+ * loads the process instance does not have to parse it again.
+ * </p>
+ * The cache is disabled by default and can be enabled by setting the
+ * <code>org.jbpm.persistence.pi.cache.entries</code> system property to the maximum number
+ * of entries. The <code>org.jbpm.persistence.pi.cache.bytes</code> property bounds the total
+ * serialized size of the cached messages (64MB by default). Both limits apply to each cache.
+ */
+public class ProcessInstanceCache {
+
+    private static final Map<Object, ProcessInstanceCache> INSTANCES = new WeakHashMap<Object, ProcessInstanceCache>();
+    // used when no scope is available, e.g. process instance info without environment
+    private static final ProcessInstanceCache UNSCOPED = newConfiguredInstance();
+
+    private volatile int maxEntries;
+    private final long maxBytes;
+    private final Map<Long, CacheEntry> entries;
+    private long size = 0;
+    private long hitCount = 0;
+
+    public ProcessInstanceCache(int maxEntries, long maxBytes) {
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+        this.entries = new LinkedHashMap<Long, CacheEntry>(16, 0.75f, true);
+    }
+
+    /**
+     * @param scope - entity manager factory of the process instances, <code>null</code> if not known
+     */
+    public static ProcessInstanceCache getInstance(Object scope) {
+        if (scope == null) {
+            return UNSCOPED;
+        }
+        synchronized (INSTANCES) {
+            ProcessInstanceCache instance = INSTANCES.get(scope);
+            if (instance == null) {
+                instance = newConfiguredInstance();
+                INSTANCES.put(scope, instance);
+            }
+            return instance;
+        }
+    }
+
+    private static ProcessInstanceCache newConfiguredInstance() {
+        return new ProcessInstanceCache(
+                Integer.parseInt(System.getProperty("org.jbpm.persistence.pi.cache.entries", "0")),
+                Long.parseLong(System.getProperty("org.jbpm.persistence.pi.cache.bytes", String.valueOf(64 * 1024 * 1024))));
+    }
+
+    public boolean isEnabled() {
+        return maxEntries > 0;
+    }
+
+    /**
+     * Changes the maximum number of entries, <code>0</code> disables the cache.
+     */
+    public synchronized void setMaxEntries(int maxEntries) {
+        this.maxEntries = maxEntries;
+        evict();
+    }
+
+    /**
+     * Returns the cached message of the given process instance, or <code>null</code> if there
+     * is none or if it was parsed from a different version of the process instance.
+     */
+    public synchronized JBPMMessages.ProcessInstance get(Long processInstanceId, int version) {
+        if (!isEnabled() || processInstanceId == null) {
+            return null;
+        }
+        CacheEntry entry = entries.get(processInstanceId);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.version != version) {
+            remove(processInstanceId);
+            return null;
+        }
+        hitCount++;
+        return entry.processInstance;
+    }
+
+    public synchronized void put(Long processInstanceId, int version, JBPMMessages.ProcessInstance processInstance) {
+        if (!isEnabled() || processInstanceId == null) {
+            return;
+        }
+        int entrySize = processInstance.getSerializedSize();
+        if (entrySize > maxBytes) {
+            remove(processInstanceId);
+            return;
+        }
+        CacheEntry old = entries.put(processInstanceId, new CacheEntry(version, processInstance, entrySize));
+        if (old != null) {
+            size -= old.size;
+        }
+        size += entrySize;
+        evict();
+    }
+
+    public synchronized void remove(Long processInstanceId) {
+        CacheEntry old = entries.remove(processInstanceId);
+        if (old != null) {
+            size -= old.size;
+        }
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        size = 0;
+    }
+
+    public synchronized int getEntryCount() {
+        return entries.size();
+    }
+
+    public synchronized long getSize() {
+        return size;
+    }
+
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    private void evict() {
+        Iterator<CacheEntry> iterator = entries.values().iterator();
+        while ((entries.size() > maxEntries || size > maxBytes) && iterator.hasNext()) {
+            size -= iterator.next().size;
+            iterator.remove();
+        }
+    }
+
+    private static class CacheEntry {
+
+        private final int version;
+        private final JBPMMessages.ProcessInstance processInstance;
+        private final int size;
+
+        private CacheEntry(int version, JBPMMessages.ProcessInstance processInstance, int size) {
+            this.version = version;
+            this.processInstance = processInstance;
+            this.size = size;
+        }
+    }
+}
@@ -20,6 +20,10 @@ import org.drools.core.marshalling.impl.MarshallerReaderContext;
 import org.drools.core.marshalling.impl.MarshallerWriteContext;
 import org.drools.core.marshalling.impl.PersisterHelper;
 import org.drools.core.marshalling.impl.ProtobufMarshaller;
+import org.drools.persistence.OrderedTransactionSynchronization;
+import org.drools.persistence.TransactionManager;
+import org.drools.persistence.TransactionManagerHelper;
+import org.jbpm.marshalling.impl.AbstractProtobufProcessInstanceMarshaller;
 import org.jbpm.marshalling.impl.JBPMMessages;
 import org.jbpm.marshalling.impl.ProcessInstanceMarshaller;
 import org.jbpm.marshalling.impl.ProcessMarshallerRegistry;
@@ -28,12 +32,22 @@ import org.jbpm.process.instance.context.variable.VariableScopeInstance;
 import org.jbpm.process.instance.impl.ProcessInstanceImpl;
 import org.jbpm.workflow.instance.impl.WorkflowProcessInstanceImpl;
 import org.kie.api.runtime.Environment;
+import org.kie.api.runtime.EnvironmentName;
 import org.kie.api.runtime.process.ProcessInstance;
 
 @Entity
 @SequenceGenerator(name="processInstanceInfoIdSeq", sequenceName="PROCESS_INSTANCE_INFO_ID_SEQ")
 public class ProcessInstanceInfo{
 
+    /**
+     * When set to <code>true</code>, process instances that have not been modified since they
+     * were loaded (see {@link WorkflowProcessInstanceImpl#isDirty()}) are not marshalled again
+     * when the entity is updated.
+     */
+    public static final String DIRTY_TRACKING_PROPERTY = "org.jbpm.persistence.dirty.tracking";
+
+    private static final boolean DIRTY_TRACKING = Boolean.parseBoolean(System.getProperty(DIRTY_TRACKING_PROPERTY, "false"));
+
     @Id
     @GeneratedValue(strategy = GenerationType.AUTO, generator="processInstanceInfoIdSeq")
     @Column(name = "InstanceId")
@@ -63,6 +77,18 @@ public class ProcessInstanceInfo{
     
     @Transient
     Environment                               env;
+    
+    @Transient
+    MarshallerReaderContext                   preloadedContext;
+    
+    @Transient
+    ProcessInstanceMarshaller                 preloadedMarshaller;
+
+    @Transient
+    JBPMMessages.ProcessInstance              writtenMessage;
+
+    @Transient
+    boolean                                   cacheSynchronizationRegistered;
 
     protected ProcessInstanceInfo() {
     }
@@ -146,18 +172,26 @@ public class ProcessInstanceInfo{
         this.env = env;
         if ( processInstance == null ) {
             try {
-                ByteArrayInputStream bais = new ByteArrayInputStream( processInstanceByteArray );
-                MarshallerReaderContext context = new MarshallerReaderContext( bais,
-                                                                               (InternalKnowledgeBase) kruntime.getKieBase(),
-                                                                               null,
-                                                                               null,
-                                                                               ProtobufMarshaller.TIMER_READERS,
-                                                                               this.env
-                                                                              );
-                ProcessInstanceMarshaller marshaller = getMarshallerFromContext( context );
+                preloadProcessInstance( (InternalKnowledgeBase) kruntime.getKieBase(), env );
+                MarshallerReaderContext context = preloadedContext;
+                ProcessInstanceMarshaller marshaller = preloadedMarshaller;
+                preloadedContext = null;
+                preloadedMarshaller = null;
+                if ( context == null ) {
+                    ByteArrayInputStream bais = new ByteArrayInputStream( processInstanceByteArray );
+                    context = new MarshallerReaderContext( bais,
+                                                           (InternalKnowledgeBase) kruntime.getKieBase(),
+                                                           null,
+                                                           null,
+                                                           ProtobufMarshaller.TIMER_READERS,
+                                                           this.env
+                                                          );
+                    marshaller = getMarshallerFromContext( context );
+                }
             	context.wm = ((StatefulKnowledgeSessionImpl) kruntime).getInternalWorkingMemory();
                 processInstance = marshaller.readProcessInstance(context);
                 ((WorkflowProcessInstanceImpl) processInstance).setPersisted(false);
+                ((WorkflowProcessInstanceImpl) processInstance).setDirty(false);
                 if (readOnly) {
                     ((WorkflowProcessInstanceImpl) processInstance).disconnect();
                 }
@@ -171,6 +205,46 @@ public class ProcessInstanceInfo{
         return processInstance;
     }
    
+    /**
+     * Parses the stored byte array ahead of {@link #getProcessInstance(InternalKnowledgeRuntime, Environment, boolean)},
+     * which will then only have to build the process instance from the parsed message. As this does 
+     * not access the knowledge runtime, it can be called concurrently for different process instance infos.
+     */
+    public void preloadProcessInstance(InternalKnowledgeBase kbase,
+                                       Environment env) {
+        if ( processInstance != null || preloadedContext != null ) {
+            return;
+        }
+        try {
+            ByteArrayInputStream bais = new ByteArrayInputStream( processInstanceByteArray );
+            MarshallerReaderContext context = new MarshallerReaderContext( bais,
+                                                                           kbase,
+                                                                           null,
+                                                                           null,
+                                                                           ProtobufMarshaller.TIMER_READERS,
+                                                                           env
+                                                                          );
+            ProcessInstanceMarshaller marshaller = getMarshallerFromContext( context );
+            if ( marshaller instanceof AbstractProtobufProcessInstanceMarshaller ) {
+                AbstractProtobufProcessInstanceMarshaller protobufMarshaller = (AbstractProtobufProcessInstanceMarshaller) marshaller;
+                JBPMMessages.ProcessInstance _instance = getCache( env ).get( processInstanceId, version );
+                if ( _instance != null ) {
+                    protobufMarshaller.preloadProcessInstance( context, _instance );
+                } else {
+                    _instance = protobufMarshaller.preloadProcessInstance( context );
+                    getCache( env ).put( processInstanceId, version, _instance );
+                }
+                this.preloadedMarshaller = marshaller;
+                this.preloadedContext = context;
+            } else {
+                context.close();
+            }
+        } catch ( IOException e ) {
+            throw new IllegalArgumentException( "IOException while loading process instance: " + e.getMessage(),
+                                                e );
+        }
+    }
+   
     private ProcessInstanceMarshaller getMarshallerFromContext(MarshallerReaderContext context) throws IOException {
         ObjectInputStream stream = context.stream;
         String processInstanceType = stream.readUTF();
@@ -201,6 +275,18 @@ public class ProcessInstanceInfo{
      */
     @PreUpdate
     public void update() {
+        if (processInstance == null) {
+            // released before the transaction completed, its state was stored at that point
+            return;
+        }
+        if (DIRTY_TRACKING && processInstanceByteArray != null
+                && !((WorkflowProcessInstanceImpl) processInstance).isDirty()) {
+            // nothing changed since the last (un)marshalling, keep the stored byte array
+            ((WorkflowProcessInstanceImpl) processInstance).setPersisted(true);
+            writtenMessage = getCache( env ).get( processInstanceId, version );
+            return;
+        }
+        writtenMessage = null;
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
         boolean variablesChanged = false;
         try {
@@ -222,6 +308,7 @@ public class ProcessInstanceInfo{
                 JBPMMessages.ProcessInstance _instance = (JBPMMessages.ProcessInstance)result;
                 PersisterHelper.writeToStreamWithHeader( context, 
                                                          _instance );
+                writtenMessage = _instance;
             }
             context.close();
         } catch ( IOException e ) {
@@ -240,6 +327,30 @@ public class ProcessInstanceInfo{
             }
         }
         ((WorkflowProcessInstanceImpl) processInstance).setPersisted(true);
+        ((WorkflowProcessInstanceImpl) processInstance).setDirty(false);
+    }
+
+    /**
+     * The version is only incremented once the entity has been updated, so the written message
+     * is cached with the new version, and only once the transaction has committed.
+     */
+    @PostUpdate
+    public void cacheWrittenMessage() {
+        if ( writtenMessage == null || cacheSynchronizationRegistered || !getCache( env ).isEnabled() ) {
+            return;
+        }
+        TransactionManager tm = env == null ? null : (TransactionManager) env.get( EnvironmentName.TRANSACTION_MANAGER );
+        if ( tm == null || tm.getStatus() != TransactionManager.STATUS_ACTIVE ) {
+            return;
+        }
+        cacheSynchronizationRegistered = true;
+        TransactionManagerHelper.registerTransactionSyncInContainer( tm, new CacheTransactionSynchronization() );
+    }
+
+    @PreRemove
+    public void discardWrittenMessage() {
+        writtenMessage = null;
+        getCache( env ).remove( processInstanceId );
     }
 
 
@@ -323,6 +434,10 @@ public class ProcessInstanceInfo{
         processInstance = null;
     }
     
+    private static ProcessInstanceCache getCache(Environment env) {
+        return ProcessInstanceCache.getInstance( env == null ? null : env.get( EnvironmentName.ENTITY_MANAGER_FACTORY ) );
+    }
+
     public Environment getEnv() { 
         return env;
     }
@@ -330,4 +445,27 @@ public class ProcessInstanceInfo{
     public void setEnv(Environment env) { 
         this.env = env;
     }
+
+    private class CacheTransactionSynchronization extends OrderedTransactionSynchronization {
+
+        public CacheTransactionSynchronization() {
+            super(5, "ProcessInstanceInfo-" + processInstanceId);
+        }
+
+        @Override
+        public void beforeCompletion() {
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            // the entity can be flushed more than once, the last written message is the one committed
+            cacheSynchronizationRegistered = false;
+            if ( status == TransactionManager.STATUS_COMMITTED && writtenMessage != null ) {
+                getCache( env ).put( processInstanceId, version, writtenMessage );
+            } else {
+                getCache( env ).remove( processInstanceId );
+            }
+            writtenMessage = null;
+        }
+    }
 }
@@ -0,0 +1,197 @@
+package org.jbpm.persistence.processinstance;
+
+import static org.jbpm.persistence.util.PersistenceUtil.*;
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+
+import org.jbpm.test.util.AbstractBaseTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+import org.kie.api.event.process.DefaultProcessEventListener;
+import org.kie.api.event.process.ProcessNodeTriggeredEvent;
+import org.kie.api.io.ResourceType;
+import org.kie.api.runtime.Environment;
+import org.kie.api.runtime.EnvironmentName;
+import org.kie.api.runtime.process.ProcessInstance;
+import org.kie.api.runtime.process.WorkItem;
+import org.kie.api.runtime.process.WorkItemHandler;
+import org.kie.api.runtime.process.WorkItemManager;
+import org.kie.api.runtime.process.WorkflowProcessInstance;
+import org.kie.internal.KnowledgeBase;
+import org.kie.internal.builder.KnowledgeBuilder;
+import org.kie.internal.builder.KnowledgeBuilderFactory;
+import org.kie.internal.io.ResourceFactory;
+import org.kie.internal.persistence.jpa.JPAKnowledgeService;
+import org.kie.internal.runtime.StatefulKnowledgeSession;
+
+/**
+ * This test looks at how the {@link JPASignalManager} pages through the process instances
+ * waiting for a signal.
+ */
+@RunWith(Parameterized.class)
+public class JPASignalManagerTest extends AbstractBaseTest {
+
+    private HashMap<String, Object> context;
+
+    private Environment env;
+    private KnowledgeBase kbase;
+    private int sessionId;
+
+    private final List<Long> executedWorkItems = new ArrayList<Long>();
+    private final List<Long> throwWorkItems = new ArrayList<Long>();
+    private int maxLoadedProcessInstances;
+
+    public JPASignalManagerTest(boolean locking) {
+       this.useLocking = locking;
+    }
+
+    @Parameters
+    public static Collection<Object[]> persistence() {
+        Object[][] data = new Object[][] { { false }, { true } };
+        return Arrays.asList(data);
+    };
+
+    @Before
+    public void setUp() throws Exception {
+        context = setupWithPoolingDataSource(JBPM_PERSISTENCE_UNIT_NAME);
+        env = createEnvironment(context);
+
+        KnowledgeBuilder kbuilder = KnowledgeBuilderFactory.newKnowledgeBuilder();
+        kbuilder.add(ResourceFactory.newClassPathResource("processinstance/Signal.rf"), ResourceType.DRF);
+        kbuilder.add(ResourceFactory.newClassPathResource("processinstance/SignalThrow.rf"), ResourceType.DRF);
+        assertFalse(kbuilder.getErrors().toString(), kbuilder.hasErrors());
+        kbase = kbuilder.newKnowledgeBase();
+
+        StatefulKnowledgeSession ksession = JPAKnowledgeService.newStatefulKnowledgeSession(kbase, null, env);
+        sessionId = ksession.getId();
+        ksession.dispose();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        System.clearProperty(JPASignalManager.PAGE_SIZE_PROPERTY);
+        cleanUp(context);
+    }
+
+    @Test
+    public void signalMoreSubscribersThanPageSize() throws Exception {
+        System.setProperty(JPASignalManager.PAGE_SIZE_PROPERTY, "2");
+        List<Long> processInstanceIds = new ArrayList<Long>();
+
+        StatefulKnowledgeSession ksession = loadKnowledgeSession();
+        for (int i = 0; i < 5; i++) {
+            processInstanceIds.add(ksession.startProcess("org.jbpm.processinstance.signal").getId());
+        }
+        ksession.dispose();
+
+        ksession = loadKnowledgeSession();
+        ksession.signalEvent("MyEvent", null);
+        // every subscriber is signaled once, while at most one page is loaded at a time
+        assertEquals(5, executedWorkItems.size());
+        assertTrue("Loaded " + maxLoadedProcessInstances + " process instances at once", maxLoadedProcessInstances <= 2);
+        ksession.dispose();
+
+        // released process instances were written before they were disconnected
+        ksession = loadKnowledgeSession();
+        for (long id : processInstanceIds) {
+            ProcessInstance processInstance = ksession.getProcessInstance(id);
+            assertNotNull(processInstance);
+            assertEquals(ProcessInstance.STATE_ACTIVE, processInstance.getState());
+        }
+        ksession.signalEvent("MyEvent", null);
+        assertEquals(5, executedWorkItems.size());
+        ksession.dispose();
+    }
+
+    @Test
+    public void signalThrownByProcessInstance() throws Exception {
+        System.setProperty(JPASignalManager.PAGE_SIZE_PROPERTY, "2");
+        List<Long> processInstanceIds = new ArrayList<Long>();
+
+        StatefulKnowledgeSession ksession = loadKnowledgeSession();
+        for (int i = 0; i < 7; i++) {
+            processInstanceIds.add(ksession.startProcess("org.jbpm.processinstance.signal").getId());
+        }
+        long throwingProcessInstanceId = ksession.startProcess("org.jbpm.processinstance.signalthrow").getId();
+        assertEquals(1, throwWorkItems.size());
+        ksession.dispose();
+        int throwingVersion = getProcessInstanceInfoVersion(throwingProcessInstanceId);
+        int signaledVersion = getProcessInstanceInfoVersion(processInstanceIds.get(0));
+
+        // the throwing process instance wakes up all the others in the middle of its own command
+        ksession = loadKnowledgeSession();
+        ksession.getWorkItemManager().completeWorkItem(throwWorkItems.get(0), null);
+        assertEquals(7, executedWorkItems.size());
+        assertFalse(executedWorkItems.contains(throwingProcessInstanceId));
+        assertEquals(2, throwWorkItems.size());
+        ksession.dispose();
+
+        // the throwing process instance is written once, when its command completes, just like the signaled ones
+        assertEquals(getProcessInstanceInfoVersion(processInstanceIds.get(0)) - signaledVersion,
+                getProcessInstanceInfoVersion(throwingProcessInstanceId) - throwingVersion);
+
+        ksession = loadKnowledgeSession();
+        WorkflowProcessInstance throwingProcessInstance
+            = (WorkflowProcessInstance) ksession.getProcessInstance(throwingProcessInstanceId);
+        assertEquals(ProcessInstance.STATE_ACTIVE, throwingProcessInstance.getState());
+        assertEquals(1, throwingProcessInstance.getNodeInstances().size());
+        assertEquals("AfterThrow", throwingProcessInstance.getNodeInstances().iterator().next().getNodeName());
+        for (long id : processInstanceIds) {
+            ProcessInstance processInstance = ksession.getProcessInstance(id);
+            assertNotNull(processInstance);
+            assertEquals(ProcessInstance.STATE_ACTIVE, processInstance.getState());
+        }
+        // all of them were released after they had moved on from the event node
+        ksession.signalEvent("MyEvent", null);
+        assertEquals(7, executedWorkItems.size());
+        ksession.dispose();
+    }
+
+    private int getProcessInstanceInfoVersion(long processInstanceId) {
+        EntityManager em = ((EntityManagerFactory) env.get(EnvironmentName.ENTITY_MANAGER_FACTORY)).createEntityManager();
+        try {
+            return em.find(ProcessInstanceInfo.class, processInstanceId).getVersion();
+        } finally {
+            em.close();
+        }
+    }
+
+    private StatefulKnowledgeSession loadKnowledgeSession() {
+        StatefulKnowledgeSession ksession = JPAKnowledgeService.loadStatefulKnowledgeSession(sessionId, kbase, null, env);
+        ksession.getWorkItemManager().registerWorkItemHandler("MyWork", new WorkItemHandler() {
+            public void executeWorkItem(WorkItem workItem, WorkItemManager manager) {
+                executedWorkItems.add(workItem.getProcessInstanceId());
+            }
+            public void abortWorkItem(WorkItem workItem, WorkItemManager manager) {
+            }
+        });
+        ksession.getWorkItemManager().registerWorkItemHandler("ThrowWork", new WorkItemHandler() {
+            public void executeWorkItem(WorkItem workItem, WorkItemManager manager) {
+                throwWorkItems.add(workItem.getId());
+            }
+            public void abortWorkItem(WorkItem workItem, WorkItemManager manager) {
+            }
+        });
+        ksession.addEventListener(new DefaultProcessEventListener() {
+            public void beforeNodeTriggered(ProcessNodeTriggeredEvent event) {
+                if ("Work".equals(event.getNodeInstance().getNodeName())) {
+                    maxLoadedProcessInstances = Math.max(maxLoadedProcessInstances,
+                            event.getKieRuntime().getProcessInstances().size());
+                }
+            }
+        });
+        return ksession;
+    }
+}
@@ -0,0 +1,192 @@
+package org.jbpm.persistence.processinstance;
+
+import static org.jbpm.persistence.util.PersistenceUtil.*;
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Properties;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.Persistence;
+
+import org.jbpm.process.instance.impl.demo.DoNothingWorkItemHandler;
+import org.jbpm.test.util.AbstractBaseTest;
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+import org.kie.api.io.ResourceType;
+import org.kie.api.runtime.Environment;
+import org.kie.api.runtime.EnvironmentName;
+import org.kie.api.runtime.process.ProcessInstance;
+import org.kie.api.runtime.process.WorkflowProcessInstance;
+import org.kie.internal.KnowledgeBase;
+import org.kie.internal.builder.KnowledgeBuilder;
+import org.kie.internal.builder.KnowledgeBuilderFactory;
+import org.kie.internal.io.ResourceFactory;
+import org.kie.internal.persistence.jpa.JPAKnowledgeService;
+import org.kie.internal.runtime.StatefulKnowledgeSession;
+
+import bitronix.tm.resource.jdbc.PoolingDataSource;
+
+/**
+ * This test looks at how the {@link ProcessInstanceCache} is filled when process instances
+ * are written by a {@link ProcessInstanceInfo}.
+ */
+@RunWith(Parameterized.class)
+public class ProcessInstanceCachePersistenceTest extends AbstractBaseTest {
+
+    private HashMap<String, Object> context;
+    private HashMap<String, Object> secondContext;
+
+    private Environment env;
+    private KnowledgeBase kbase;
+    private int sessionId;
+    private ProcessInstanceCache cache;
+
+    public ProcessInstanceCachePersistenceTest(boolean locking) {
+       this.useLocking = locking;
+    }
+
+    @Parameters
+    public static Collection<Object[]> persistence() {
+        Object[][] data = new Object[][] { { false }, { true } };
+        return Arrays.asList(data);
+    };
+
+    @Before
+    public void setUp() throws Exception {
+        context = setupWithPoolingDataSource(JBPM_PERSISTENCE_UNIT_NAME);
+        env = createEnvironment(context);
+
+        KnowledgeBuilder kbuilder = KnowledgeBuilderFactory.newKnowledgeBuilder();
+        kbuilder.add(ResourceFactory.newClassPathResource("processinstance/Signal.rf"), ResourceType.DRF);
+        assertFalse(kbuilder.getErrors().toString(), kbuilder.hasErrors());
+        kbase = kbuilder.newKnowledgeBase();
+
+        StatefulKnowledgeSession ksession = JPAKnowledgeService.newStatefulKnowledgeSession(kbase, null, env);
+        sessionId = ksession.getId();
+        ksession.dispose();
+
+        cache = ProcessInstanceCache.getInstance(env.get(EnvironmentName.ENTITY_MANAGER_FACTORY));
+        cache.clear();
+        cache.setMaxEntries(10);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        cache.setMaxEntries(0);
+        cache.clear();
+        cleanUp(secondContext);
+        cleanUp(context);
+    }
+
+    @Test
+    public void secondSignalTransactionHitsCache() throws Exception {
+        StatefulKnowledgeSession ksession = loadKnowledgeSession();
+        long processInstanceId = ksession.startProcess("org.jbpm.processinstance.signal").getId();
+        ksession.dispose();
+
+        // the instance is loaded and written again by each signal, none of them moves it on
+        ksession = loadKnowledgeSession();
+        ksession.signalEvent("OtherEvent", null, processInstanceId);
+        long hitCount = cache.getHitCount();
+        ksession.signalEvent("OtherEvent", null, processInstanceId);
+        assertEquals(hitCount + 1, cache.getHitCount());
+
+        ProcessInstance processInstance = ksession.getProcessInstance(processInstanceId);
+        assertNotNull(processInstance);
+        assertEquals(ProcessInstance.STATE_ACTIVE, processInstance.getState());
+        ksession.dispose();
+    }
+
+    @Test
+    public void abortedProcessInstanceIsRemovedFromCache() throws Exception {
+        StatefulKnowledgeSession ksession = loadKnowledgeSession();
+        long processInstanceId = ksession.startProcess("org.jbpm.processinstance.signal").getId();
+        ksession.signalEvent("OtherEvent", null, processInstanceId);
+        assertEquals(1, cache.getEntryCount());
+
+        ksession.abortProcessInstance(processInstanceId);
+        assertEquals(0, cache.getEntryCount());
+        ksession.dispose();
+    }
+
+    @Test
+    public void dataBasesDoNotShareCache() throws Exception {
+        secondContext = setupSecondDataBase();
+        Environment secondEnv = createEnvironment(secondContext);
+        ProcessInstanceCache secondCache = ProcessInstanceCache.getInstance(secondEnv.get(EnvironmentName.ENTITY_MANAGER_FACTORY));
+        assertNotSame(cache, secondCache);
+        secondCache.setMaxEntries(10);
+
+        StatefulKnowledgeSession ksession = loadKnowledgeSession();
+        long processInstanceId = ksession.startProcess("org.jbpm.processinstance.signal").getId();
+        ksession.signalEvent("MyEvent", null, processInstanceId);
+        ksession.dispose();
+
+        // same process instance id in the second data base, but it does not move on
+        StatefulKnowledgeSession secondSession = JPAKnowledgeService.newStatefulKnowledgeSession(kbase, null, secondEnv);
+        int secondSessionId = secondSession.getId();
+        secondSession.getWorkItemManager().registerWorkItemHandler("MyWork", new DoNothingWorkItemHandler());
+        long secondProcessInstanceId;
+        do {
+            secondProcessInstanceId = secondSession.startProcess("org.jbpm.processinstance.signal").getId();
+        } while (secondProcessInstanceId < processInstanceId);
+        Assume.assumeTrue(secondProcessInstanceId == processInstanceId);
+        secondSession.signalEvent("OtherEvent", null, processInstanceId);
+        secondSession.dispose();
+        assertEquals(getProcessInstanceInfoVersion(env, processInstanceId),
+                getProcessInstanceInfoVersion(secondEnv, processInstanceId));
+
+        // each data base gets its own state of the process instance
+        secondSession = JPAKnowledgeService.loadStatefulKnowledgeSession(secondSessionId, kbase, null, secondEnv);
+        secondSession.getWorkItemManager().registerWorkItemHandler("MyWork", new DoNothingWorkItemHandler());
+        assertEquals("Event", getNodeName(secondSession.getProcessInstance(processInstanceId)));
+        secondSession.dispose();
+        ksession = loadKnowledgeSession();
+        assertEquals("Work", getNodeName(ksession.getProcessInstance(processInstanceId)));
+        ksession.dispose();
+        secondCache.setMaxEntries(0);
+    }
+
+    private HashMap<String, Object> setupSecondDataBase() {
+        Properties dsProps = getDatasourceProperties();
+        // a separate data base is only available with H2
+        Assume.assumeTrue(dsProps.getProperty("driverClassName").startsWith("org.h2"));
+        dsProps.setProperty("url", "jdbc:h2:mem:jbpm-second-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+        PoolingDataSource ds = setupPoolingDataSource(dsProps, "jdbc/testDS2", false);
+        ds.init();
+
+        HashMap<String, Object> secondContext = new HashMap<String, Object>();
+        secondContext.put(DATASOURCE, ds);
+        secondContext.put(EnvironmentName.ENTITY_MANAGER_FACTORY,
+                Persistence.createEntityManagerFactory("org.jbpm.persistence.jpa.second"));
+        return secondContext;
+    }
+
+    private int getProcessInstanceInfoVersion(Environment env, long processInstanceId) {
+        EntityManager em = ((EntityManagerFactory) env.get(EnvironmentName.ENTITY_MANAGER_FACTORY)).createEntityManager();
+        try {
+            return em.find(ProcessInstanceInfo.class, processInstanceId).getVersion();
+        } finally {
+            em.close();
+        }
+    }
+
+    private String getNodeName(ProcessInstance processInstance) {
+        return ((WorkflowProcessInstance) processInstance).getNodeInstances().iterator().next().getNodeName();
+    }
+
+    private StatefulKnowledgeSession loadKnowledgeSession() {
+        StatefulKnowledgeSession ksession = JPAKnowledgeService.loadStatefulKnowledgeSession(sessionId, kbase, null, env);
+        ksession.getWorkItemManager().registerWorkItemHandler("MyWork", new DoNothingWorkItemHandler());
+        return ksession;
+    }
+}
@@ -0,0 +1,66 @@
+package org.jbpm.persistence.processinstance;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.jbpm.marshalling.impl.JBPMMessages;
+import org.junit.Test;
+
+public class ProcessInstanceCacheTest {
+
+    @Test
+    public void testVersionMismatchIsMiss() {
+        ProcessInstanceCache cache = new ProcessInstanceCache(10, Long.MAX_VALUE);
+        JBPMMessages.ProcessInstance _instance = createMessage(1);
+        cache.put(1L, 3, _instance);
+
+        assertSame(_instance, cache.get(1L, 3));
+        assertNull(cache.get(1L, 4));
+        // stale entries are dropped on mismatch
+        assertNull(cache.get(1L, 3));
+        assertEquals(0, cache.getEntryCount());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEviction() {
+        ProcessInstanceCache cache = new ProcessInstanceCache(2, Long.MAX_VALUE);
+        cache.put(1L, 0, createMessage(1));
+        cache.put(2L, 0, createMessage(2));
+        cache.get(1L, 0);
+        cache.put(3L, 0, createMessage(3));
+
+        assertNotNull(cache.get(1L, 0));
+        assertNull(cache.get(2L, 0));
+        assertNotNull(cache.get(3L, 0));
+    }
+
+    @Test
+    public void testSizeBoundEviction() {
+        JBPMMessages.ProcessInstance _instance = createMessage(1);
+        int size = _instance.getSerializedSize();
+        ProcessInstanceCache cache = new ProcessInstanceCache(10, size);
+        cache.put(1L, 0, _instance);
+        cache.put(2L, 0, createMessage(2));
+
+        assertEquals(1, cache.getEntryCount());
+        assertNull(cache.get(1L, 0));
+        assertNotNull(cache.get(2L, 0));
+    }
+
+    @Test
+    public void testDisabledCache() {
+        ProcessInstanceCache cache = new ProcessInstanceCache(0, Long.MAX_VALUE);
+        cache.put(1L, 0, createMessage(1));
+        assertNull(cache.get(1L, 0));
+    }
+
+    private JBPMMessages.ProcessInstance createMessage(long id) {
+        return JBPMMessages.ProcessInstance.newBuilder()
+                .setId(id)
+                .setProcessId("org.jbpm.processinstance.helloworld")
+                .setState(1)
+                .build();
+    }
+}
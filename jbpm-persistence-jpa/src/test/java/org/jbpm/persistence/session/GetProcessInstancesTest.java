@@ -3,14 +3,20 @@ package org.jbpm.persistence.session;
 import static org.jbpm.persistence.util.PersistenceUtil.*;
 import static org.junit.Assert.*;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 
 import javax.naming.InitialContext;
 import javax.transaction.UserTransaction;
 
+import org.drools.core.command.impl.GenericCommand;
+import org.drools.core.command.impl.KnowledgeCommandContext;
+import org.drools.core.common.InternalKnowledgeRuntime;
 import org.jbpm.persistence.processinstance.JPAProcessInstanceManager;
+import org.jbpm.process.instance.InternalProcessRuntime;
 import org.jbpm.test.util.AbstractBaseTest;
 import org.junit.After;
 import org.junit.Before;
@@ -23,6 +29,7 @@ import org.kie.api.runtime.Environment;
 import org.kie.internal.KnowledgeBase;
 import org.kie.internal.builder.KnowledgeBuilder;
 import org.kie.internal.builder.KnowledgeBuilderFactory;
+import org.kie.internal.command.Context;
 import org.kie.internal.io.ResourceFactory;
 import org.kie.internal.persistence.jpa.JPAKnowledgeService;
 import org.kie.internal.runtime.StatefulKnowledgeSession;
@@ -155,7 +162,29 @@ public class GetProcessInstancesTest extends AbstractBaseTest {
         assertProcessInstancesNotExist(notProcess);
     }
 
-   
+    @Test
+    public void getProcessInstancesInBulk() throws Exception {
+        final List<Long> processIds = new ArrayList<Long>();
+
+        StatefulKnowledgeSession ksession = reloadKnowledgeSession();
+        for (int i = 0; i < 3; i++) {
+            processIds.add(ksession.createProcessInstance("org.jbpm.processinstance.helloworld", null).getId());
+        }
+        ksession = reloadKnowledgeSession(ksession);
+        // unknown ids are ignored
+        processIds.add(-1L);
+
+        int loaded = ksession.execute(new GenericCommand<Integer>() {
+            public Integer execute(Context context) {
+                InternalKnowledgeRuntime kruntime = (InternalKnowledgeRuntime) ((KnowledgeCommandContext) context).getKieSession();
+                return ((InternalProcessRuntime) kruntime.getProcessRuntime())
+                    .getProcessInstanceManager().getProcessInstances(processIds).size();
+            }
+        });
+        assertEquals(3, loaded);
+        ksession.dispose();
+    }
+
     /**
      * Helper functions
      */
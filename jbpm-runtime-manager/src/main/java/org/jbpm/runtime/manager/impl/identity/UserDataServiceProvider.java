@@ -16,6 +16,7 @@
 
 package org.jbpm.runtime.manager.impl.identity;
 
+import org.jbpm.services.task.identity.CachedUserGroupCallbackImpl;
 import org.jbpm.services.task.identity.DBUserGroupCallbackImpl;
 import org.jbpm.services.task.identity.DBUserInfoImpl;
 import org.jbpm.services.task.identity.DefaultUserInfo;
@@ -48,6 +49,10 @@ import org.kie.internal.task.api.UserInfo;
  * </ul>
  * </li>
  * 	<li>
+ * org.jbpm.ht.callback.cache - when set to true, answers of the selected user group callback (except jaas) are cached,
+ * see CachedUserGroupCallbackImpl for its configuration
+ * </li>
+ * 	<li>
  * org.jbpm.ht.userinfo - specify what implemenation of UserInfo shall be used, one of:
  * <ul>
  * 	<li>ldap - backed by ldap - requires configuration via jbpm-user.info.properties file</li>
@@ -63,6 +68,7 @@ public class UserDataServiceProvider {
 	
 	private static final String USER_CALLBACK_IMPL = System.getProperty("org.jbpm.ht.callback");
 	private static final String USER_INFO_IMPL = System.getProperty("org.jbpm.ht.userinfo");
+	private static final boolean CACHE_USER_CALLBACK = Boolean.parseBoolean(System.getProperty("org.jbpm.ht.callback.cache", "false"));
 	
 	private static final String CUSTOM_USER_CALLBACK_IMPL = System.getProperty("org.jbpm.ht.custom.callback");
 	private static final String CUSTOM_USER_INFO_IMPL = System.getProperty("org.jbpm.ht.custom.userinfo");
@@ -88,6 +94,9 @@ public class UserDataServiceProvider {
 				throw new RuntimeException("Unable to create instance of custom user group callback impl", e);
 			}
 		}
+		if (CACHE_USER_CALLBACK && !(callback instanceof JAASUserGroupCallbackImpl)) {
+			callback = new CachedUserGroupCallbackImpl(callback);
+		}
 		
 		return callback;
 	}
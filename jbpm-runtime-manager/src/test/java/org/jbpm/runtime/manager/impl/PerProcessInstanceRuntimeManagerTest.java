@@ -1024,4 +1024,42 @@ public class PerProcessInstanceRuntimeManagerTest extends AbstractBaseTest {
         assertNull(cachedRE2);
         manager.close();
     }
+
+    @Test
+    public void testSignalOnlyProcessInstancesOfOwnSession() {
+        RuntimeEnvironment environment = RuntimeEnvironmentBuilder.Factory.get()
+    			.newDefaultBuilder()
+                .userGroupCallback(userGroupCallback)
+                .addAsset(ResourceFactory.newClassPathResource("BPMN2-IntermediateCatchEventSignal.bpmn2"), ResourceType.BPMN2)
+                .get();
+        
+        manager = RuntimeManagerFactory.Factory.get().newPerProcessInstanceRuntimeManager(environment);        
+        assertNotNull(manager);
+        
+        RuntimeEngine runtime = manager.getRuntimeEngine(ProcessInstanceIdContext.get());
+        ProcessInstance pi1 = runtime.getKieSession().startProcess("IntermediateCatchEventSignal");
+        manager.disposeRuntimeEngine(runtime);
+        
+        RuntimeEngine runtime2 = manager.getRuntimeEngine(ProcessInstanceIdContext.get());
+        ProcessInstance pi2 = runtime2.getKieSession().startProcess("IntermediateCatchEventSignal");
+        manager.disposeRuntimeEngine(runtime2);
+        
+        // both instances wait for the signal, but only the one of the signaling session is signaled
+        runtime = manager.getRuntimeEngine(ProcessInstanceIdContext.get(pi1.getId()));
+        runtime.getKieSession().signalEvent("MyMessage", null);
+        manager.disposeRuntimeEngine(runtime);
+        
+        try {
+            manager.getRuntimeEngine(ProcessInstanceIdContext.get(pi1.getId()));
+            fail("Session for this (" + pi1.getId() + ") process instance is no more accessible");
+        } catch (RuntimeException e) {
+            
+        }
+        
+        runtime2 = manager.getRuntimeEngine(ProcessInstanceIdContext.get(pi2.getId()));
+        ProcessInstance processInstance = runtime2.getKieSession().getProcessInstance(pi2.getId());
+        assertNotNull(processInstance);
+        assertEquals(ProcessInstance.STATE_ACTIVE, processInstance.getState());
+        manager.disposeRuntimeEngine(runtime2);
+    }
 }
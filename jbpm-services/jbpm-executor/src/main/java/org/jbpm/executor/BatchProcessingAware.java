@@ -0,0 +1,17 @@
+package org.jbpm.executor;
+
+import java.util.List;
+
+import org.kie.internal.executor.api.RequestInfo;
+
+public interface BatchProcessingAware {
+
+	/**
+	 * Finds at most <code>maxRequests</code> requests that are due for execution and marks them as running
+	 * so they are not picked by other executors. Requests locked by other executors are skipped where
+	 * supported by the data base, elsewhere each request is claimed only if it is still pending.
+	 * @param maxRequests maximum number of requests to be returned
+	 * @return requests to be executed, empty list if there are none
+	 */
+	List<RequestInfo> getRequestsForProcessing(int maxRequests);
+}
@@ -0,0 +1,30 @@
+package org.jbpm.executor;
+
+/**
+ * Propagates information about requests that are ready to be executed right away so executors
+ * can pick them up without waiting for their next poll interval.
+ * <br/>
+ * <code>LocalExecutorNotifier</code> notifies executors running in the same JVM only. In clustered
+ * environments an implementation that broadcasts notifications to all nodes (e.g. over JMS topic)
+ * can be used instead - executors still poll regularly so notifications are only an optimization.
+ */
+public interface ExecutorNotifier {
+
+	/**
+	 * Registers callback that wakes up an executor whenever a request is ready to be executed
+	 * @param callback wake up callback, must not block
+	 */
+	void register(Runnable callback);
+	
+	/**
+	 * Removes previously registered callback
+	 * @param callback wake up callback
+	 */
+	void unregister(Runnable callback);
+	
+	/**
+	 * Notifies registered executors that request is ready to be executed
+	 * @param requestId request unique identifier
+	 */
+	void notifyRequestAvailable(Long requestId);
+}
@@ -0,0 +1,11 @@
+package org.jbpm.executor;
+
+public interface TransactionAware {
+
+	/**
+	 * Executes given action once the active transaction is committed, or right away when there is no
+	 * active transaction. Action is not executed when the transaction is rolled back.
+	 * @param action action to be executed
+	 */
+	void executeAfterCommit(Runnable action);
+}
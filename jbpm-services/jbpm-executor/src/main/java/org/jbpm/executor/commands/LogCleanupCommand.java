@@ -0,0 +1,89 @@
+/*
+ * Copyright 2013 JBoss by Red Hat.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jbpm.executor.commands;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.jbpm.process.audit.JPAAuditLogService;
+import org.jbpm.process.audit.strategy.PersistenceStrategyType;
+import org.jbpm.runtime.manager.impl.jpa.EntityManagerFactoryManager;
+import org.kie.internal.executor.api.Command;
+import org.kie.internal.executor.api.CommandContext;
+import org.kie.internal.executor.api.ExecutionResults;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Command that purges audit logs (process, node and variable instance logs) of process instances
+ * that ended more than given number of days ago. Logs are removed with bulk deletes in chunks,
+ * see <code>JPAAuditLogService.purgeProcessInstanceLogs</code>.
+ * Supported parameters:
+ * <ul>
+ *  <li>OlderThanDays - number of days since the process instance ended - required</li>
+ *  <li>Statuses - comma separated process instance states to purge (e.g. "3" for aborted only) - all by default</li>
+ *  <li>ChunkSize - number of process instances purged in a single transaction - 1000 by default</li>
+ *  <li>EmfName - name of the persistence unit of the audit logs - org.jbpm.domain by default</li>
+ * </ul>
+ * Number of process instances whose logs were purged is returned as <code>PurgedProcessInstances</code>.
+ */
+public class LogCleanupCommand implements Command {
+
+    private static final Logger logger = LoggerFactory.getLogger(LogCleanupCommand.class);
+
+    public ExecutionResults execute(CommandContext ctx) {
+        Object olderThanDays = ctx.getData("OlderThanDays");
+        if (olderThanDays == null) {
+            throw new IllegalArgumentException("OlderThanDays parameter is required");
+        }
+        Date endedBefore = new Date(System.currentTimeMillis() - TimeUnit.DAYS.toMillis(Long.parseLong(olderThanDays.toString())));
+
+        List<Integer> statuses = new ArrayList<Integer>();
+        Object statusesData = ctx.getData("Statuses");
+        if (statusesData != null) {
+            for (String status : statusesData.toString().split(",")) {
+                if (status.trim().length() > 0) {
+                    statuses.add(Integer.valueOf(status.trim()));
+                }
+            }
+        }
+
+        int chunkSize = 1000;
+        Object chunkSizeData = ctx.getData("ChunkSize");
+        if (chunkSizeData != null) {
+            chunkSize = Integer.parseInt(chunkSizeData.toString());
+        }
+
+        String emfName = (String) ctx.getData("EmfName");
+        if (emfName == null) {
+            emfName = "org.jbpm.domain";
+        }
+        EntityManagerFactory emf = EntityManagerFactoryManager.get().getOrCreate(emfName);
+
+        JPAAuditLogService auditLogService = new JPAAuditLogService(emf, PersistenceStrategyType.STANDALONE_JTA);
+        int purged = auditLogService.purgeProcessInstanceLogs(endedBefore, statuses, chunkSize);
+        logger.info("Purged audit logs of {} process instances that ended before {}", purged, endedBefore);
+
+        ExecutionResults executionResults = new ExecutionResults();
+        executionResults.setData("PurgedProcessInstances", purged);
+        return executionResults;
+    }
+
+}
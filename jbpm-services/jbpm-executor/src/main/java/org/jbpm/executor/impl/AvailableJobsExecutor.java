@@ -24,6 +24,9 @@ import java.io.ObjectOutputStream;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
 
 import javax.ejb.Asynchronous;
 import javax.ejb.Stateless;
@@ -33,6 +36,7 @@ import javax.inject.Inject;
 
 import org.apache.commons.io.input.ClassLoaderObjectInputStream;
 import org.apache.commons.lang.exception.ExceptionUtils;
+import org.jbpm.executor.BatchProcessingAware;
 import org.jbpm.executor.entities.ErrorInfo;
 import org.jbpm.executor.entities.RequestInfo;
 import org.kie.internal.executor.api.Command;
@@ -51,7 +55,12 @@ import org.slf4j.LoggerFactory;
  * Heart of the executor component - executes the actual tasks.
  * Handles retries and error management. Based on results of execution notifies
  * defined callbacks about the execution results.
- *
+ * <br/>
+ * When batch size is greater than one and the query service supports it, requests are fetched
+ * in batches and, if a dispatcher is given, executed in parallel on the dispatcher's threads.
+ * Fetching continues without waiting for next interval as long as full batches are returned.
+ * When requests are fetched one by one, the same can be enabled with <code>setDrainQueue</code>,
+ * which is what the executor does when it is woken up by a new request.
  */
 @Stateless
 @TransactionManagement(TransactionManagementType.BEAN)
@@ -67,6 +76,11 @@ public class AvailableJobsExecutor {
     private ClassCacheManager classCacheManager;
     @Inject
     private ExecutorStoreService executorStoreService;
+    
+    private int batchSize = 1;
+    private boolean drainQueue = false;
+    private ExecutorService dispatcher;
+    private Semaphore workers;
 
     public void setQueryService(ExecutorQueryService queryService) {
         this.queryService = queryService;
@@ -79,103 +93,241 @@ public class AvailableJobsExecutor {
 	public void setExecutorStoreService(ExecutorStoreService executorStoreService) {
 		this.executorStoreService = executorStoreService;
 	}
+	
+	public void setBatchSize(int batchSize) {
+	    this.batchSize = batchSize;
+	}
+	
+	/**
+	 * When set, requests fetched one by one are executed until no due request is returned
+	 * instead of one request per execution.
+	 */
+	public void setDrainQueue(boolean drainQueue) {
+	    this.drainQueue = drainQueue;
+	}
+	
+	/**
+	 * Sets thread pool used to execute fetched requests in parallel, at most <code>poolSize</code>
+	 * requests are executed (and fetched) at the same time.
+	 */
+	public void setDispatcher(ExecutorService dispatcher, int poolSize) {
+	    this.dispatcher = dispatcher;
+	    this.workers = dispatcher == null ? null : new Semaphore(poolSize);
+	}
 
 
-    @SuppressWarnings("unchecked")
     @Asynchronous    
     public void executeJob() {
         logger.debug("Executor Thread {} Waking Up!!!", this.toString());
         try {
-            RequestInfo request = (RequestInfo) queryService.getRequestForProcessing();
-            if (request != null) {
-                CommandContext ctx = null;
-                List<CommandCallback> callbacks = null;
+            if (batchSize <= 1 || !(queryService instanceof BatchProcessingAware)) {
+                RequestInfo request;
+                do {
+                    request = (RequestInfo) queryService.getRequestForProcessing();
+                    if (request != null) {
+                        executeRequest(request);
+                    }
+                } while (drainQueue && request != null && !Thread.currentThread().isInterrupted());
+                return;
+            }
+            // keep fetching as long as full batches are returned, so the backlog is processed
+            // right away instead of one batch per executor interval
+            int fetched;
+            int maxRequests;
+            do {
+                maxRequests = acquireWorkers();
+                List<org.kie.internal.executor.api.RequestInfo> requests;
+                try {
+                    requests = ((BatchProcessingAware) queryService).getRequestsForProcessing(maxRequests);
+                } catch (RuntimeException e) {
+                    releaseWorkers(maxRequests);
+                    throw e;
+                }
+                fetched = requests.size();
+                releaseWorkers(maxRequests - fetched);
+                logger.debug("Fetched {} requests for processing", fetched);
+                int dispatched = 0;
                 try {
+                    for (org.kie.internal.executor.api.RequestInfo request : requests) {
+                        dispatch((RequestInfo) request);
+                        dispatched++;
+                    }
+                } finally {
+                    if (dispatched < fetched) {
+                        // dispatch gave back the worker of the request it failed on, the others are still held
+                        releaseWorkers(fetched - dispatched - 1);
+                        requeue(requests.subList(dispatched, fetched));
+                    }
+                }
+            } while (fetched == maxRequests && !Thread.currentThread().isInterrupted());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            logger.warn("Unexpected error while processin executor's job {}", e.getMessage(), e);
+        }
+    }
     
-                    logger.debug("Processing Request Id: {}, status {} command {}", request.getId(), request.getStatus(), request.getCommandName());
-                    ClassLoader cl = getClassLoader(request.getDeploymentId());
-                    
-                    byte[] reqData = request.getRequestData();
-                    if (reqData != null) {
-                        ObjectInputStream in = null;
-                        try {
-                            in = new ClassLoaderObjectInputStream(cl, new ByteArrayInputStream(reqData));
-                            ctx = (CommandContext) in.readObject();
-                        } catch (IOException e) {                        
-                            logger.warn("Exception while serializing context data", e);
-                            return;
-                        } finally {
-                            if (in != null) {
-                                in.close();
-                            }
-                        }
+    /**
+     * Reserves workers for the next batch - waits for at least one to be available and
+     * takes as many of the others as are idle, up to the batch size.
+     */
+    private int acquireWorkers() throws InterruptedException {
+        if (workers == null) {
+            return batchSize;
+        }
+        workers.acquire();
+        int acquired = 1;
+        while (acquired < batchSize && workers.tryAcquire()) {
+            acquired++;
+        }
+        return acquired;
+    }
+    
+    private void releaseWorkers(int count) {
+        if (workers != null && count > 0) {
+            workers.release(count);
+        }
+    }
+    
+    /**
+     * Puts requests that were fetched (and so marked as running) but not dispatched back to the queue,
+     * so they are picked up again instead of staying in running status with nobody executing them.
+     */
+    private void requeue(List<org.kie.internal.executor.api.RequestInfo> requests) {
+        for (org.kie.internal.executor.api.RequestInfo request : requests) {
+            try {
+                ((RequestInfo) request).setStatus(STATUS.QUEUED);
+                executorStoreService.updateRequest((RequestInfo) request);
+            } catch (Exception e) {
+                logger.warn("Request {} could not be put back to the queue {}", request.getId(), e.getMessage(), e);
+            }
+        }
+    }
+    
+    /**
+     * Executes the request on the dispatcher, taking over the worker reserved for it. The worker is
+     * given back if the request is not handed over to the dispatcher, also when this method throws.
+     */
+    private void dispatch(final RequestInfo request) {
+        if (dispatcher == null) {
+            executeRequest(request);
+            return;
+        }
+        boolean handedOver = false;
+        try {
+            dispatcher.execute(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        executeRequest(request);
+                    } finally {
+                        workers.release();
                     }
-                    for (Map.Entry<String, Object> entry : contextData.entrySet()) {
-                    	ctx.setData(entry.getKey(), entry.getValue());
+                }
+            });
+            handedOver = true;
+        } catch (RejectedExecutionException e) {
+            logger.warn("Request {} could not be dispatched, executing it directly", request.getId());
+        } finally {
+            if (!handedOver) {
+                workers.release();
+            }
+        }
+        if (!handedOver) {
+            executeRequest(request);
+        }
+    }
+    
+    @SuppressWarnings("unchecked")
+    protected void executeRequest(RequestInfo request) {
+        try {
+            CommandContext ctx = null;
+            List<CommandCallback> callbacks = null;
+            try {
+
+                logger.debug("Processing Request Id: {}, status {} command {}", request.getId(), request.getStatus(), request.getCommandName());
+                ClassLoader cl = getClassLoader(request.getDeploymentId());
+                
+                byte[] reqData = request.getRequestData();
+                if (reqData != null) {
+                    ObjectInputStream in = null;
+                    try {
+                        in = new ClassLoaderObjectInputStream(cl, new ByteArrayInputStream(reqData));
+                        ctx = (CommandContext) in.readObject();
+                    } catch (IOException e) {                        
+                        logger.warn("Exception while serializing context data", e);
+                        return;
+                    } finally {
+                        if (in != null) {
+                            in.close();
+                        }
                     }
-                    // add class loader so internally classes can be created with valid (kjar) deployment
-                    ctx.setData("ClassLoader", cl);
-                    
-                    
-                    Command cmd = classCacheManager.findCommand(request.getCommandName(), cl);
-                    ExecutionResults results = cmd.execute(ctx);
-                    
-                    callbacks = classCacheManager.buildCommandCallback(ctx, cl);                
+                }
+                for (Map.Entry<String, Object> entry : contextData.entrySet()) {
+                	ctx.setData(entry.getKey(), entry.getValue());
+                }
+                // add class loader so internally classes can be created with valid (kjar) deployment
+                ctx.setData("ClassLoader", cl);
+                
+                
+                Command cmd = classCacheManager.findCommand(request.getCommandName(), cl);
+                ExecutionResults results = cmd.execute(ctx);
+                
+                callbacks = classCacheManager.buildCommandCallback(ctx, cl);                
+                
+                for (CommandCallback handler : callbacks) {
                     
-                    for (CommandCallback handler : callbacks) {
-                        
-                        handler.onCommandDone(ctx, results);
+                    handler.onCommandDone(ctx, results);
+                }
+                
+                if (results != null) {
+                    try {
+                        ByteArrayOutputStream bout = new ByteArrayOutputStream();
+                        ObjectOutputStream out = new ObjectOutputStream(bout);
+                        out.writeObject(results);
+                        byte[] respData = bout.toByteArray();
+                        request.setResponseData(respData);
+                    } catch (IOException e) {
+                        request.setResponseData(null);
                     }
+                }
+
+                request.setStatus(STATUS.DONE);
+                 
+                executorStoreService.updateRequest(request);
+                
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Throwable e) {
+                logger.warn("Error during command {} execution {}", request.getCommandName(), e.getMessage());
+
+                ErrorInfo errorInfo = new ErrorInfo(e.getMessage(), ExceptionUtils.getFullStackTrace(e.fillInStackTrace()));
+                errorInfo.setRequestInfo(request);
+
+                ((List<ErrorInfo>)request.getErrorInfo()).add(errorInfo);
+                logger.debug("Error Number: {}", request.getErrorInfo().size());
+                if (request.getRetries() > 0) {
+                    request.setStatus(STATUS.RETRYING);
+                    request.setRetries(request.getRetries() - 1);
+                    request.setExecutions(request.getExecutions() + 1);
+                    logger.debug("Retrying ({}) still available!", request.getRetries());
                     
-                    if (results != null) {
-                        try {
-                            ByteArrayOutputStream bout = new ByteArrayOutputStream();
-                            ObjectOutputStream out = new ObjectOutputStream(bout);
-                            out.writeObject(results);
-                            byte[] respData = bout.toByteArray();
-                            request.setResponseData(respData);
-                        } catch (IOException e) {
-                            request.setResponseData(null);
-                        }
-                    }
-    
-                    request.setStatus(STATUS.DONE);
-                     
                     executorStoreService.updateRequest(request);
+                } else {
+                    logger.debug("Error no retries left!");
+                    request.setStatus(STATUS.ERROR);
+                    request.setExecutions(request.getExecutions() + 1);
                     
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                } catch (Throwable e) {
-                    logger.warn("Error during command {} execution {}", request.getCommandName(), e.getMessage());
-    
-                    ErrorInfo errorInfo = new ErrorInfo(e.getMessage(), ExceptionUtils.getFullStackTrace(e.fillInStackTrace()));
-                    errorInfo.setRequestInfo(request);
-    
-                    ((List<ErrorInfo>)request.getErrorInfo()).add(errorInfo);
-                    logger.debug("Error Number: {}", request.getErrorInfo().size());
-                    if (request.getRetries() > 0) {
-                        request.setStatus(STATUS.RETRYING);
-                        request.setRetries(request.getRetries() - 1);
-                        request.setExecutions(request.getExecutions() + 1);
-                        logger.debug("Retrying ({}) still available!", request.getRetries());
-                        
-                        executorStoreService.updateRequest(request);
-                    } else {
-                        logger.debug("Error no retries left!");
-                        request.setStatus(STATUS.ERROR);
-                        request.setExecutions(request.getExecutions() + 1);
-                        
-                        executorStoreService.updateRequest(request);
-                        
-                        if (callbacks != null) {
-                            for (CommandCallback handler : callbacks) {                        
-                                handler.onCommandError(ctx, e);                        
-                            }
+                    executorStoreService.updateRequest(request);
+                    
+                    if (callbacks != null) {
+                        for (CommandCallback handler : callbacks) {                        
+                            handler.onCommandError(ctx, e);                        
                         }
-    
                     }
-    
-                } 
+
+                }
+
             }
         } catch (Exception e) {
             logger.warn("Unexpected error while processin executor's job {}", e.getMessage(), e);
@@ -22,12 +22,17 @@ import java.io.ObjectOutputStream;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import org.jbpm.executor.ExecutorNotifier;
+import org.jbpm.executor.TransactionAware;
 import org.jbpm.executor.entities.RequestInfo;
 import org.kie.internal.executor.api.CommandContext;
 import org.kie.internal.executor.api.Executor;
@@ -44,7 +49,14 @@ import org.slf4j.LoggerFactory;
  *  <li>thread pool size - default 1 - use system property org.kie.executor.pool.size</li>
  *  <li>retry count - default 3 retries - use system property org.kie.executor.retry.count</li>
  *  <li>execution interval - default 3 seconds - use system property org.kie.executor.interval</li>
+ *  <li>batch size - default 1 - use system property org.kie.executor.batch.size</li>
  * </ul>
+ * When batch size is greater than one, single poller fetches up to batch size of requests at once
+ * and dispatches them to a pool of thread pool size workers instead of each thread polling on its own.
+ * <br/>
+ * Requests scheduled to be executed right away do not wait for the next poll - once they are committed
+ * an idle executor thread is woken up by the <code>ExecutorNotifier</code> (in JVM only by default,
+ * custom implementation can be given as class name in system property org.kie.executor.notifier).
  * Additionally executor can be disable to not start at all when system property org.kie.executor.disabled is 
  * set to true
  */
@@ -59,7 +71,19 @@ public class ExecutorImpl implements Executor {
     private int retries = Integer.parseInt(System.getProperty("org.kie.executor.retry.count", "3"));
     private int interval = Integer.parseInt(System.getProperty("org.kie.executor.interval", "3"));
     private TimeUnit timeunit = TimeUnit.valueOf(System.getProperty("org.kie.executor.timeunit", "SECONDS"));
+    private int batchSize = Integer.parseInt(System.getProperty("org.kie.executor.batch.size", "1"));
     private ScheduledExecutorService scheduler;
+    private ExecutorService dispatcher;
+    private ExecutorNotifier notifier;
+    
+    private Runnable wakeUpJob;
+    private final AtomicBoolean wakeUpPending = new AtomicBoolean(false);
+    private final Runnable wakeUpCallback = new Runnable() {
+        @Override
+        public void run() {
+            wakeUp();
+        }
+    };
 
     public ExecutorImpl() {
     }
@@ -67,6 +91,14 @@ public class ExecutorImpl implements Executor {
     public void setExecutorStoreService(ExecutorStoreService executorStoreService) {
 		this.executorStoreService = executorStoreService;
 	}
+    
+    public ExecutorNotifier getNotifier() {
+        return notifier;
+    }
+
+    public void setNotifier(ExecutorNotifier notifier) {
+        this.notifier = notifier;
+    }
 
     /**
      * {@inheritDoc}
@@ -110,6 +142,14 @@ public class ExecutorImpl implements Executor {
         this.threadPoolSize = threadPoolSize;
     }
 
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -119,10 +159,19 @@ public class ExecutorImpl implements Executor {
                     + " \t - Interval: {}" + " Seconds\n" + " \t - Retries per Request: {}\n",
                     threadPoolSize, interval, retries);
             
-            scheduler = Executors.newScheduledThreadPool(threadPoolSize);
-            for (int i = 0; i < threadPoolSize; i++) {
-            	handle.add(scheduler.scheduleAtFixedRate(executorStoreService.buildExecutorRunnable(), 2, interval, timeunit));
+            if (batchSize > 1) {
+                scheduler = Executors.newScheduledThreadPool(1);
+                dispatcher = Executors.newFixedThreadPool(threadPoolSize);
+                wakeUpJob = buildBatchRunnable();
+                handle.add(scheduler.scheduleAtFixedRate(wakeUpJob, 2, interval, timeunit));
+            } else {
+                scheduler = Executors.newScheduledThreadPool(threadPoolSize);
+                for (int i = 0; i < threadPoolSize; i++) {
+                	handle.add(scheduler.scheduleAtFixedRate(executorStoreService.buildExecutorRunnable(), 2, interval, timeunit));
+                }
+                wakeUpJob = buildWakeUpRunnable();
             }
+            registerNotifier();
         }
     }
     
@@ -132,10 +181,19 @@ public class ExecutorImpl implements Executor {
                     + " \t - Interval: {}" + " Seconds\n" + " \t - Retries per Request: {}\n",
                     threadPoolSize, interval, retries);
             
-            scheduler = Executors.newScheduledThreadPool(threadPoolSize, threadFactory);
-            for (int i = 0; i < threadPoolSize; i++) {
-            	handle.add(scheduler.scheduleAtFixedRate(executorStoreService.buildExecutorRunnable(), 2, interval, timeunit));
+            if (batchSize > 1) {
+                scheduler = Executors.newScheduledThreadPool(1, threadFactory);
+                dispatcher = Executors.newFixedThreadPool(threadPoolSize, threadFactory);
+                wakeUpJob = buildBatchRunnable();
+                handle.add(scheduler.scheduleAtFixedRate(wakeUpJob, 2, interval, timeunit));
+            } else {
+                scheduler = Executors.newScheduledThreadPool(threadPoolSize, threadFactory);
+                for (int i = 0; i < threadPoolSize; i++) {
+                	handle.add(scheduler.scheduleAtFixedRate(executorStoreService.buildExecutorRunnable(), 2, interval, timeunit));
+                }
+                wakeUpJob = buildWakeUpRunnable();
             }
+            registerNotifier();
         }
     }
     
@@ -144,6 +202,9 @@ public class ExecutorImpl implements Executor {
      */
     public void destroy() {
         logger.info(" >>>>> Destroying Executor !!!");
+        if (notifier != null) {
+            notifier.unregister(wakeUpCallback);
+        }
         if (handle != null) {
         	for (ScheduledFuture<?> h : handle) {
         		h.cancel(true);
@@ -152,6 +213,87 @@ public class ExecutorImpl implements Executor {
         if (scheduler != null) {
             scheduler.shutdownNow();
         }
+        if (dispatcher != null) {
+            dispatcher.shutdownNow();
+        }
+    }
+    
+    protected void registerNotifier() {
+        if (notifier == null) {
+            String notifierClass = System.getProperty("org.kie.executor.notifier");
+            if (notifierClass == null) {
+                notifier = new LocalExecutorNotifier();
+            } else {
+                try {
+                    notifier = (ExecutorNotifier) Class.forName(notifierClass).newInstance();
+                } catch (Exception e) {
+                    throw new IllegalArgumentException("Unable to create executor notifier " + notifierClass, e);
+                }
+            }
+        }
+        notifier.register(wakeUpCallback);
+    }
+    
+    /**
+     * Runs the executor job on an idle scheduler thread right away; at most one wake up is
+     * queued at any time, notifications that come in the meantime are covered by it.
+     */
+    protected void wakeUp() {
+        if (scheduler == null || wakeUpJob == null || !wakeUpPending.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            scheduler.execute(new Runnable() {
+                @Override
+                public void run() {
+                    wakeUpPending.set(false);
+                    wakeUpJob.run();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            wakeUpPending.set(false);
+            logger.debug("Executor is shutting down, wake up ignored");
+        }
+    }
+    
+    protected void notifyRequestAvailable(final Long requestId) {
+        if (notifier == null) {
+            return;
+        }
+        Runnable notification = new Runnable() {
+            @Override
+            public void run() {
+                notifier.notifyRequestAvailable(requestId);
+            }
+        };
+        if (executorStoreService instanceof TransactionAware) {
+            // request is not visible to executor threads until the transaction is committed
+            ((TransactionAware) executorStoreService).executeAfterCommit(notification);
+        } else {
+            notification.run();
+        }
+    }
+    
+    /**
+     * Builds the job run on wake up, which executes all due requests one by one, as the notification
+     * might stand for more requests than the one that would be fetched otherwise.
+     */
+    protected Runnable buildWakeUpRunnable() {
+        Runnable runnable = executorStoreService.buildExecutorRunnable();
+        if (runnable instanceof ExecutorRunnable) {
+            ((ExecutorRunnable) runnable).getAvailableJobsExecutor().setDrainQueue(true);
+        }
+        return runnable;
+    }
+    
+    protected Runnable buildBatchRunnable() {
+        Runnable runnable = executorStoreService.buildExecutorRunnable();
+        if (runnable instanceof ExecutorRunnable) {
+            AvailableJobsExecutor jobExecutor = ((ExecutorRunnable) runnable).getAvailableJobsExecutor();
+            jobExecutor.setBatchSize(batchSize);
+            jobExecutor.setDispatcher(dispatcher, threadPoolSize);
+        }
+        return runnable;
     }
 
     /**
@@ -197,6 +339,9 @@ public class ExecutorImpl implements Executor {
         }
         
         executorStoreService.persistRequest(requestInfo);
+        if (!date.after(new Date())) {
+            notifyRequestAvailable(requestInfo.getId());
+        }
 
         logger.debug("Scheduling request for Command: {} - requestId: {} with {} retries", commandId, requestInfo.getId(), requestInfo.getRetries());
         return requestInfo.getId();
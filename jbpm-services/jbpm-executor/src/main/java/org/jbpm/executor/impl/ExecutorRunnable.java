@@ -34,6 +34,10 @@ public class ExecutorRunnable implements Runnable {
     public void setAvailableJobsExecutor(AvailableJobsExecutor availableJobsExecutor) {
 		this.availableJobsExecutor = availableJobsExecutor;
 	}
+    
+    public AvailableJobsExecutor getAvailableJobsExecutor() {
+        return availableJobsExecutor;
+    }
 
     public void run() {
     	try {
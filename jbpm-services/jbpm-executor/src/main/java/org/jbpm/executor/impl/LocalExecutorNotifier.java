@@ -0,0 +1,57 @@
+/*
+ * Copyright 2014 JBoss by Red Hat.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.executor.impl;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.jbpm.executor.ExecutorNotifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <code>ExecutorNotifier</code> that wakes up executors running in the same JVM.
+ */
+public class LocalExecutorNotifier implements ExecutorNotifier {
+
+	private static final Logger logger = LoggerFactory.getLogger(LocalExecutorNotifier.class);
+	
+	private List<Runnable> callbacks = new CopyOnWriteArrayList<Runnable>();
+	
+	@Override
+	public void register(Runnable callback) {
+		callbacks.add(callback);
+	}
+
+	@Override
+	public void unregister(Runnable callback) {
+		callbacks.remove(callback);
+	}
+
+	@Override
+	public void notifyRequestAvailable(Long requestId) {
+		logger.debug("Request {} available, waking up {} executor(s)", requestId, callbacks.size());
+		for (Runnable callback : callbacks) {
+			try {
+				callback.run();
+			} catch (Exception e) {
+				logger.warn("Error while waking up executor due to {}", e.getMessage());
+			}
+		}
+	}
+
+}
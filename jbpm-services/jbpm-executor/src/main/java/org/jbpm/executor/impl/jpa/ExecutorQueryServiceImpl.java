@@ -16,6 +16,7 @@
 
 package org.jbpm.executor.impl.jpa;
 
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -25,6 +26,7 @@ import javax.persistence.NoResultException;
 
 import org.drools.core.command.CommandService;
 import org.drools.core.command.impl.GenericCommand;
+import org.jbpm.executor.BatchProcessingAware;
 import org.kie.internal.command.Context;
 import org.kie.internal.executor.api.ErrorInfo;
 import org.kie.internal.executor.api.ExecutorQueryService;
@@ -37,7 +39,11 @@ import org.kie.internal.executor.api.STATUS;
  * IMPORTANT: please keep all classes from package org.jbpm.shared.services.impl as FQCN
  * inside method body to avoid exception logged by CDI when used with in memory mode
  */
-public class ExecutorQueryServiceImpl implements ExecutorQueryService {
+public class ExecutorQueryServiceImpl implements ExecutorQueryService, BatchProcessingAware {
+
+    // value of javax.persistence.lock.timeout that makes Hibernate skip locked rows (LockOptions.SKIP_LOCKED),
+    // honoured by few dialects only, see JpaPersistenceContext.isSkipLockedSupported()
+    private static final int SKIP_LOCKED = -2;
 
     
     private CommandService commandService;
@@ -198,6 +204,15 @@ public class ExecutorQueryServiceImpl implements ExecutorQueryService {
         return request;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<RequestInfo> getRequestsForProcessing(int maxRequests) {
+        
+        return commandService.execute(new LockAndUpdateRequestInfosCommand(maxRequests));
+    }
+
     private class LockAndUpdateRequestInfoCommand implements GenericCommand<RequestInfo> {
 
 		private static final long serialVersionUID = 8670412133363766161L;
@@ -227,4 +242,68 @@ public class ExecutorQueryServiceImpl implements ExecutorQueryService {
     	
     }
 
+    private class LockAndUpdateRequestInfosCommand implements GenericCommand<List<RequestInfo>> {
+
+		private static final long serialVersionUID = -4165455829768519862L;
+		
+		private int maxRequests;
+		
+		LockAndUpdateRequestInfosCommand(int maxRequests) {
+			this.maxRequests = maxRequests;
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public List<RequestInfo> execute(Context context) {
+			Map<String, Object> params = new HashMap<String, Object>();
+	    	params.put("now", new Date());
+	    	params.put("firstResult", 0);
+	    	params.put("maxResults", maxRequests);
+	    	
+    		org.jbpm.shared.services.impl.JpaPersistenceContext ctx = (org.jbpm.shared.services.impl.JpaPersistenceContext) context;
+    		if (!ctx.isSkipLockedSupported()) {
+    			return claimRequests(ctx, params);
+    		}
+	    	// skip requests locked by other executors instead of waiting for them
+	    	params.put(org.jbpm.shared.services.impl.JpaPersistenceContext.LOCK_TIMEOUT, SKIP_LOCKED);
+			List<RequestInfo> requests = ctx.queryAndLockWithParametersInTransaction("PendingRequestsForProcessing",params, false, List.class);
+			
+			Date now = new Date();
+			for (RequestInfo request : requests) {
+                request.setStatus(STATUS.RUNNING);
+                // update date on when it was started to be executed
+                ((org.jbpm.executor.entities.RequestInfo)request).setTime(now);
+                ctx.merge(request);
+			}
+			return requests;
+		}
+
+		/*
+		 * Locking the batch would make executors wait for each other on dialects that do not skip locked rows,
+		 * so pending requests are read without lock and each of them is claimed by an update that only succeeds
+		 * while it is still pending; requests claimed by other executors in the meantime are left out.
+		 */
+		@SuppressWarnings("unchecked")
+		private List<RequestInfo> claimRequests(org.jbpm.shared.services.impl.JpaPersistenceContext ctx, Map<String, Object> params) {
+			List<RequestInfo> candidates = ctx.queryWithParametersInTransaction("PendingRequestsForProcessing", params, List.class);
+			List<RequestInfo> requests = new ArrayList<RequestInfo>(candidates.size());
+			
+			Date now = new Date();
+			for (RequestInfo request : candidates) {
+				Map<String, Object> claimParams = new HashMap<String, Object>();
+				claimParams.put("id", request.getId());
+				claimParams.put("running", STATUS.RUNNING);
+				claimParams.put("now", now);
+				if (ctx.executeUpdateWithParametersInTransaction("ClaimPendingRequest", claimParams) == 1) {
+					// keep the loaded entity in line with the row
+					request.setStatus(STATUS.RUNNING);
+					((org.jbpm.executor.entities.RequestInfo)request).setTime(now);
+					requests.add(request);
+				}
+			}
+			return requests;
+		}
+    	
+    }
+
 }
@@ -25,6 +25,7 @@ import javax.persistence.NoResultException;
 import org.drools.core.command.CommandService;
 import org.drools.core.command.impl.GenericCommand;
 import org.jbpm.executor.ExecutorServiceFactory;
+import org.jbpm.executor.TransactionAware;
 import org.kie.internal.command.Context;
 import org.kie.internal.executor.api.ErrorInfo;
 import org.kie.internal.executor.api.ExecutorStoreService;
@@ -36,10 +37,13 @@ import org.kie.internal.executor.api.STATUS;
  * IMPORTANT: please keep all classes from package org.jbpm.shared.services.impl as FQCN
  * inside method body to avoid exception logged by CDI when used with in memory mode
  */
-public class JPAExecutorStoreService implements ExecutorStoreService{
+public class JPAExecutorStoreService implements ExecutorStoreService, TransactionAware {
 	
 	private EntityManagerFactory emf;
     private CommandService commandService;
+    private org.drools.persistence.TransactionManager txm;
+    // set once the lookup failed, so it is not repeated for every scheduled request
+    private volatile boolean txmUnavailable = false;
     
     public JPAExecutorStoreService(boolean active) {
     	
@@ -104,6 +108,42 @@ public class JPAExecutorStoreService implements ExecutorStoreService{
 		return ExecutorServiceFactory.buildRunable(emf);
 	}
 
+	@Override
+	public void executeAfterCommit(final Runnable action) {
+		org.drools.persistence.TransactionManager txm = getTransactionManager();
+		if (txm == null || txm.getStatus() != org.drools.persistence.TransactionManager.STATUS_ACTIVE) {
+			action.run();
+			return;
+		}
+		org.drools.persistence.TransactionManagerHelper.registerTransactionSyncInContainer(txm,
+				new org.drools.persistence.OrderedTransactionSynchronization(10, "ExecutorAfterCommit-" + System.identityHashCode(action)) {
+			
+			@Override
+			public void beforeCompletion() {
+			}
+			
+			@Override
+			public void afterCompletion(int status) {
+				if (status == org.drools.persistence.TransactionManager.STATUS_COMMITTED) {
+					action.run();
+				}
+			}
+		});
+	}
+	
+	protected org.drools.persistence.TransactionManager getTransactionManager() {
+		if (txm == null && !txmUnavailable) {
+			try {
+				txm = new org.drools.persistence.jta.JtaTransactionManager(null, null, null);
+			} catch (Exception e) {
+				// no JTA available, nothing to synchronize with
+				txmUnavailable = true;
+				return null;
+			}
+		}
+		return txm;
+	}
+
 
     private class LockAndCancelRequestInfoCommand implements GenericCommand<RequestInfo> {
 
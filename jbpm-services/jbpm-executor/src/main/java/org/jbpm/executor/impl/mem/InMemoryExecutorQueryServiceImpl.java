@@ -24,13 +24,14 @@ import java.util.Map;
 
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.collections.Predicate;
+import org.jbpm.executor.BatchProcessingAware;
 import org.kie.internal.executor.api.ErrorInfo;
 import org.kie.internal.executor.api.ExecutorQueryService;
 import org.kie.internal.executor.api.RequestInfo;
 import org.kie.internal.executor.api.STATUS;
 
 @SuppressWarnings("unchecked")
-public class InMemoryExecutorQueryServiceImpl implements ExecutorQueryService {
+public class InMemoryExecutorQueryServiceImpl implements ExecutorQueryService, BatchProcessingAware {
 
 	private InMemoryExecutorStoreService storeService;
 	
@@ -143,6 +144,16 @@ public class InMemoryExecutorQueryServiceImpl implements ExecutorQueryService {
 		return storeService.getAndLockFirst();
 	}
 	
+	@Override
+	public List<RequestInfo> getRequestsForProcessing(int maxRequests) {
+		List<RequestInfo> requests = new ArrayList<RequestInfo>();
+		RequestInfo request = null;
+		while (requests.size() < maxRequests && (request = storeService.getAndLockFirst()) != null) {
+			requests.add(request);
+		}
+		return requests;
+	}
+	
 	private class GetRequestsByStatus implements Predicate {
 		
 		private List<STATUS> statuses;
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2013 JBoss by Red Hat.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jbpm.executor;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.List;
+import java.util.UUID;
+
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.Persistence;
+
+import org.jbpm.test.util.TestUtil;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.internal.executor.api.CommandContext;
+import org.kie.internal.executor.api.RequestInfo;
+
+import bitronix.tm.resource.jdbc.PoolingDataSource;
+
+
+public class BatchNoCDISimpleExecutorTest extends BasicExecutorBaseTest{
+    
+	private PoolingDataSource pds;
+	private EntityManagerFactory emf = null;
+    
+    @Before
+    public void setUp() {
+        System.setProperty("org.kie.executor.batch.size", "5");
+        System.setProperty("org.kie.executor.pool.size", "3");
+        pds = TestUtil.setupPoolingDataSource();
+        emf = Persistence.createEntityManagerFactory("org.jbpm.executor");
+
+        executorService = ExecutorServiceFactory.newExecutorService(emf);
+        
+        executorService.init();
+        super.setUp();
+    }
+    
+    @After
+    public void tearDown() {
+        super.tearDown();
+        executorService.destroy();
+        if (emf != null) {
+        	emf.close();
+        }
+        pds.close();
+        System.clearProperty("org.kie.executor.batch.size");
+        System.clearProperty("org.kie.executor.pool.size");
+    }
+   
+    @Test
+    public void multipleRequestsBatchTest() throws InterruptedException {
+        for (int i = 0; i < 12; i++) {
+            CommandContext ctxCMD = new CommandContext();
+            ctxCMD.setData("businessKey", UUID.randomUUID().toString());
+            executorService.scheduleRequest("org.jbpm.executor.commands.PrintOutCommand", ctxCMD);
+        }
+
+        Thread.sleep(10000);
+
+        List<RequestInfo> inErrorRequests = executorService.getInErrorRequests();
+        assertEquals(0, inErrorRequests.size());
+        List<RequestInfo> queuedRequests = executorService.getQueuedRequests();
+        assertEquals(0, queuedRequests.size());
+        List<RequestInfo> executedRequests = executorService.getCompletedRequests();
+        assertEquals(12, executedRequests.size());
+    }
+}
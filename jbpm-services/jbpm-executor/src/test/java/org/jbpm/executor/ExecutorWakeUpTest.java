@@ -0,0 +1,114 @@
+/*
+ * Copyright 2014 JBoss by Red Hat.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jbpm.executor;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.Persistence;
+
+import org.jbpm.test.util.TestUtil;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.internal.executor.api.CommandContext;
+import org.kie.internal.executor.api.ExecutorService;
+import org.kie.internal.executor.api.RequestInfo;
+
+import bitronix.tm.resource.jdbc.PoolingDataSource;
+
+public class ExecutorWakeUpTest {
+
+	private PoolingDataSource pds;
+	private EntityManagerFactory emf = null;
+	private ExecutorService executorService;
+
+    @Before
+    public void setUp() {
+        // poll so rarely that only wake up can explain quick execution
+        System.setProperty("org.kie.executor.interval", "60");
+        pds = TestUtil.setupPoolingDataSource();
+        emf = Persistence.createEntityManagerFactory("org.jbpm.executor");
+
+        executorService = ExecutorServiceFactory.newExecutorService(emf);
+        executorService.init();
+    }
+
+    @After
+    public void tearDown() {
+        executorService.clearAllRequests();
+        executorService.clearAllErrors();
+        executorService.destroy();
+        if (emf != null) {
+        	emf.close();
+        }
+        pds.close();
+        System.clearProperty("org.kie.executor.interval");
+    }
+
+    @Test
+    public void immediateRequestWakesUpExecutorTest() throws InterruptedException {
+        // let the initial poll pass
+        Thread.sleep(3000);
+
+        CommandContext ctxCMD = new CommandContext();
+        ctxCMD.setData("businessKey", UUID.randomUUID().toString());
+        executorService.scheduleRequest("org.jbpm.executor.commands.PrintOutCommand", ctxCMD);
+
+        Thread.sleep(2000);
+
+        List<RequestInfo> executedRequests = executorService.getCompletedRequests();
+        assertEquals(1, executedRequests.size());
+    }
+
+    @Test
+    public void futureRequestDoesNotWakeUpExecutorTest() throws InterruptedException {
+        Thread.sleep(3000);
+
+        CommandContext ctxCMD = new CommandContext();
+        ctxCMD.setData("businessKey", UUID.randomUUID().toString());
+        executorService.scheduleRequest("org.jbpm.executor.commands.PrintOutCommand", new Date(System.currentTimeMillis() + 1000), ctxCMD);
+
+        Thread.sleep(2000);
+
+        List<RequestInfo> queuedRequests = executorService.getQueuedRequests();
+        assertEquals(1, queuedRequests.size());
+    }
+
+    @Test
+    public void wakeUpExecutesAllDueRequestsTest() throws InterruptedException {
+        Thread.sleep(3000);
+
+        CommandContext ctxCMD = new CommandContext();
+        ctxCMD.setData("businessKey", UUID.randomUUID().toString());
+        executorService.scheduleRequest("org.jbpm.executor.commands.PrintOutCommand", new Date(System.currentTimeMillis() + 500), ctxCMD);
+        Thread.sleep(1000);
+
+        // the earlier request became due in the meantime, single wake up executes both
+        ctxCMD = new CommandContext();
+        ctxCMD.setData("businessKey", UUID.randomUUID().toString());
+        executorService.scheduleRequest("org.jbpm.executor.commands.PrintOutCommand", ctxCMD);
+
+        Thread.sleep(2000);
+
+        List<RequestInfo> executedRequests = executorService.getCompletedRequests();
+        assertEquals(2, executedRequests.size());
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2014 JBoss by Red Hat.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.executor.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import javax.naming.InitialContext;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.transaction.UserTransaction;
+
+import org.jbpm.process.audit.JPAAuditLogService;
+import org.jbpm.process.audit.NodeInstanceLog;
+import org.jbpm.process.audit.ProcessInstanceLog;
+import org.jbpm.process.audit.VariableInstanceLog;
+import org.jbpm.process.audit.strategy.PersistenceStrategyType;
+import org.jbpm.runtime.manager.impl.jpa.EntityManagerFactoryManager;
+import org.jbpm.test.util.AbstractBaseTest;
+import org.jbpm.test.util.TestUtil;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.api.runtime.process.ProcessInstance;
+import org.kie.internal.executor.api.CommandContext;
+import org.kie.internal.executor.api.ExecutionResults;
+
+import bitronix.tm.resource.jdbc.PoolingDataSource;
+
+public class LogCleanupCommandTest extends AbstractBaseTest {
+
+    private static final String EMF_NAME = "org.jbpm.persistence.jpa";
+    private static final String PROCESS_ID = "org.jbpm.test";
+
+    private PoolingDataSource pds;
+    private JPAAuditLogService auditLogService;
+
+    @Before
+    public void setup() {
+        pds = TestUtil.setupPoolingDataSource();
+        EntityManagerFactory emf = EntityManagerFactoryManager.get().getOrCreate(EMF_NAME);
+        auditLogService = new JPAAuditLogService(emf, PersistenceStrategyType.STANDALONE_JTA);
+    }
+
+    @After
+    public void teardown() {
+        auditLogService.clear();
+        auditLogService.dispose();
+        pds.close();
+    }
+
+    @Test
+    public void testPurgeInChunks() throws Exception {
+        for (long id = 1; id <= 5; id++) {
+            storeLogs(id, 10, ProcessInstance.STATE_COMPLETED);
+        }
+        storeLogs(6, 1, ProcessInstance.STATE_COMPLETED);
+
+        CommandContext ctx = createContext("5");
+        ctx.setData("ChunkSize", "2");
+        ExecutionResults results = new LogCleanupCommand().execute(ctx);
+
+        // five instances in three chunks, the one ended a day ago is kept
+        assertEquals(5, results.getData("PurgedProcessInstances"));
+        for (long id = 1; id <= 5; id++) {
+            assertNull(auditLogService.findProcessInstance(id));
+            assertTrue(auditLogService.findNodeInstances(id).isEmpty());
+            assertTrue(auditLogService.findVariableInstances(id).isEmpty());
+        }
+        assertNotNull(auditLogService.findProcessInstance(6));
+        assertEquals(1, auditLogService.findNodeInstances(6).size());
+        assertEquals(1, auditLogService.findVariableInstances(6).size());
+    }
+
+    @Test
+    public void testPurgeByStatus() throws Exception {
+        storeLogs(1, 10, ProcessInstance.STATE_COMPLETED);
+        storeLogs(2, 10, ProcessInstance.STATE_ABORTED);
+        storeLogs(3, 10, ProcessInstance.STATE_ABORTED);
+        storeLogs(4, 1, ProcessInstance.STATE_ABORTED);
+
+        CommandContext ctx = createContext("5");
+        ctx.setData("Statuses", " " + ProcessInstance.STATE_ABORTED + ", ");
+        ExecutionResults results = new LogCleanupCommand().execute(ctx);
+
+        assertEquals(2, results.getData("PurgedProcessInstances"));
+        assertNotNull(auditLogService.findProcessInstance(1));
+        assertNull(auditLogService.findProcessInstance(2));
+        assertNull(auditLogService.findProcessInstance(3));
+        assertNotNull(auditLogService.findProcessInstance(4));
+
+        ctx.setData("Statuses", ProcessInstance.STATE_COMPLETED + "," + ProcessInstance.STATE_ABORTED);
+        ctx.setData("OlderThanDays", "0");
+        results = new LogCleanupCommand().execute(ctx);
+
+        assertEquals(2, results.getData("PurgedProcessInstances"));
+        assertTrue(auditLogService.findProcessInstances(PROCESS_ID).isEmpty());
+    }
+
+    @Test
+    public void testNothingToPurge() throws Exception {
+        storeLogs(1, 1, ProcessInstance.STATE_COMPLETED);
+
+        ExecutionResults results = new LogCleanupCommand().execute(createContext("5"));
+
+        assertEquals(0, results.getData("PurgedProcessInstances"));
+        assertNotNull(auditLogService.findProcessInstance(1));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void testOlderThanDaysRequired() throws Exception {
+        CommandContext ctx = new CommandContext();
+        ctx.setData("EmfName", EMF_NAME);
+        new LogCleanupCommand().execute(ctx);
+    }
+
+    private CommandContext createContext(String olderThanDays) {
+        CommandContext ctx = new CommandContext();
+        ctx.setData("OlderThanDays", olderThanDays);
+        ctx.setData("EmfName", EMF_NAME);
+        return ctx;
+    }
+
+    private void storeLogs(long processInstanceId, int endedDaysAgo, int status) throws Exception {
+        Date end = new Date(System.currentTimeMillis() - TimeUnit.DAYS.toMillis(endedDaysAgo));
+        ProcessInstanceLog processInstanceLog = new ProcessInstanceLog(processInstanceId, PROCESS_ID);
+        processInstanceLog.setStart(new Date(end.getTime() - 1000));
+        processInstanceLog.setEnd(end);
+        processInstanceLog.setStatus(status);
+
+        UserTransaction ut = InitialContext.doLookup("java:comp/UserTransaction");
+        ut.begin();
+        EntityManager em = EntityManagerFactoryManager.get().getOrCreate(EMF_NAME).createEntityManager();
+        em.persist(processInstanceLog);
+        em.persist(new NodeInstanceLog(NodeInstanceLog.TYPE_ENTER, processInstanceId, PROCESS_ID, "1", "1", "Start"));
+        em.persist(new VariableInstanceLog(processInstanceId, PROCESS_ID, "var", "var", "value", null));
+        ut.commit();
+        em.close();
+    }
+}
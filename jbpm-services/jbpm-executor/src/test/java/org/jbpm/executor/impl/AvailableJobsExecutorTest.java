@@ -0,0 +1,191 @@
+/*
+ * Copyright 2014 JBoss by Red Hat.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.executor.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jbpm.executor.entities.RequestInfo;
+import org.jbpm.executor.impl.mem.InMemoryExecutorQueryServiceImpl;
+import org.jbpm.executor.impl.mem.InMemoryExecutorStoreService;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.internal.executor.api.CommandContext;
+import org.kie.internal.executor.api.STATUS;
+
+public class AvailableJobsExecutorTest {
+
+    private InMemoryExecutorStoreService storeService;
+    private FailingQueryService queryService;
+    private FailingDispatcher dispatcher;
+    private AvailableJobsExecutor jobExecutor;
+
+    @Before
+    public void setUp() {
+        storeService = new InMemoryExecutorStoreService(true);
+        clearStore();
+        queryService = new FailingQueryService();
+        queryService.setStoreService(storeService);
+        dispatcher = new FailingDispatcher(2);
+
+        jobExecutor = new AvailableJobsExecutor();
+        jobExecutor.setClassCacheManager(new ClassCacheManager());
+        jobExecutor.setQueryService(queryService);
+        jobExecutor.setExecutorStoreService(storeService);
+        jobExecutor.setBatchSize(2);
+        jobExecutor.setDispatcher(dispatcher, 2);
+    }
+
+    @After
+    public void tearDown() {
+        dispatcher.shutdownNow();
+        clearStore();
+    }
+
+    @Test
+    public void testWorkersReleasedWhenQueryFails() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            storeService.persistRequest(createRequest());
+        }
+        // every failure would leak both workers if they were not given back
+        queryService.failures.set(3);
+        for (int i = 0; i < 3; i++) {
+            jobExecutor.executeJob();
+        }
+        assertEquals(3, storeService.getRequests().size());
+
+        executeJobWithTimeout();
+        awaitDispatcher();
+        assertEquals(0, storeService.getRequests().size());
+        assertEquals(3, countProcessed(STATUS.DONE));
+    }
+
+    @Test
+    public void testUndispatchedRequestsRequeuedWhenDispatchFails() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            storeService.persistRequest(createRequest());
+        }
+        // first request of the batch is dispatched, the second one fails to be
+        dispatcher.failAfter.set(1);
+        jobExecutor.executeJob();
+
+        List<org.kie.internal.executor.api.RequestInfo> queued = queryService.getQueuedRequests();
+        assertEquals(1, queued.size());
+
+        dispatcher.failAfter.set(-1);
+        executeJobWithTimeout();
+        awaitDispatcher();
+        assertEquals(0, storeService.getRequests().size());
+        assertEquals(2, countProcessed(STATUS.DONE));
+    }
+
+    private void executeJobWithTimeout() throws InterruptedException {
+        Thread poller = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                jobExecutor.executeJob();
+            }
+        });
+        poller.start();
+        poller.join(5000);
+        assertFalse("Executor is blocked waiting for workers", poller.isAlive());
+    }
+
+    private void awaitDispatcher() throws InterruptedException {
+        dispatcher.shutdown();
+        assertTrue(dispatcher.awaitTermination(5, TimeUnit.SECONDS));
+    }
+
+    private int countProcessed(STATUS status) {
+        int count = 0;
+        for (RequestInfo request : storeService.getProcessedRequests().values()) {
+            if (request.getStatus() == status) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private void clearStore() {
+        storeService.getRequests().clear();
+        storeService.getProcessedRequests().clear();
+        storeService.getErrors().clear();
+    }
+
+    private RequestInfo createRequest() throws IOException {
+        CommandContext ctx = new CommandContext();
+        ctx.setData("businessKey", "test");
+        ByteArrayOutputStream bout = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(bout);
+        out.writeObject(ctx);
+
+        RequestInfo request = new RequestInfo();
+        request.setCommandName("org.jbpm.executor.commands.PrintOutCommand");
+        request.setKey("test");
+        request.setStatus(STATUS.QUEUED);
+        request.setTime(new Date());
+        request.setMessage("Ready to execute");
+        request.setRequestData(bout.toByteArray());
+        return request;
+    }
+
+    private static class FailingQueryService extends InMemoryExecutorQueryServiceImpl {
+
+        private final AtomicInteger failures = new AtomicInteger();
+
+        FailingQueryService() {
+            super(true);
+        }
+
+        @Override
+        public List<org.kie.internal.executor.api.RequestInfo> getRequestsForProcessing(int maxRequests) {
+            if (failures.getAndDecrement() > 0) {
+                throw new IllegalStateException("Simulated query failure");
+            }
+            return super.getRequestsForProcessing(maxRequests);
+        }
+    }
+
+    private static class FailingDispatcher extends ThreadPoolExecutor {
+
+        private final AtomicInteger failAfter = new AtomicInteger(-1);
+
+        FailingDispatcher(int poolSize) {
+            super(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<Runnable>());
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            if (failAfter.getAndDecrement() == 0) {
+                throw new IllegalStateException("Simulated dispatch failure");
+            }
+            super.execute(command);
+        }
+    }
+}
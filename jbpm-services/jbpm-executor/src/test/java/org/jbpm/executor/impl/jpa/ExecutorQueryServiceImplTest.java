@@ -0,0 +1,111 @@
+/*
+ * Copyright 2014 JBoss by Red Hat.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.executor.impl.jpa;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.Persistence;
+
+import org.jbpm.executor.entities.RequestInfo;
+import org.jbpm.shared.services.impl.JpaPersistenceContext;
+import org.jbpm.shared.services.impl.TransactionalCommandService;
+import org.jbpm.test.util.TestUtil;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.internal.executor.api.STATUS;
+
+import bitronix.tm.resource.jdbc.PoolingDataSource;
+
+public class ExecutorQueryServiceImplTest {
+
+    private PoolingDataSource pds;
+    private EntityManagerFactory emf;
+    private JPAExecutorStoreService storeService;
+    private ExecutorQueryServiceImpl queryService;
+
+    @Before
+    public void setUp() {
+        pds = TestUtil.setupPoolingDataSource();
+        emf = Persistence.createEntityManagerFactory("org.jbpm.executor");
+
+        TransactionalCommandService commandService = new TransactionalCommandService(emf);
+        storeService = new JPAExecutorStoreService(true);
+        storeService.setCommandService(commandService);
+        storeService.setEmf(emf);
+        queryService = new ExecutorQueryServiceImpl(true);
+        queryService.setCommandService(commandService);
+    }
+
+    @After
+    public void tearDown() {
+        emf.close();
+        pds.close();
+    }
+
+    @Test
+    public void testSkipLockedNotSupportedByH2() {
+        JpaPersistenceContext ctx = new JpaPersistenceContext(emf.createEntityManager());
+        try {
+            // test data base does not skip locked rows, requests are claimed one by one instead
+            assertFalse(ctx.isSkipLockedSupported());
+        } finally {
+            ctx.close(true);
+        }
+    }
+
+    @Test
+    public void testRequestsClaimedOnlyOnce() {
+        for (int i = 0; i < 3; i++) {
+            storeService.persistRequest(createRequest());
+        }
+
+        Set<Long> claimed = new HashSet<Long>();
+        List<org.kie.internal.executor.api.RequestInfo> requests = queryService.getRequestsForProcessing(2);
+        assertEquals(2, requests.size());
+        for (org.kie.internal.executor.api.RequestInfo request : requests) {
+            assertEquals(STATUS.RUNNING, request.getStatus());
+            assertTrue(claimed.add(request.getId()));
+        }
+
+        requests = queryService.getRequestsForProcessing(2);
+        assertEquals(1, requests.size());
+        assertTrue(claimed.add(requests.get(0).getId()));
+
+        assertTrue(queryService.getRequestsForProcessing(2).isEmpty());
+        assertEquals(3, queryService.getRunningRequests().size());
+        assertTrue(queryService.getQueuedRequests().isEmpty());
+    }
+
+    private RequestInfo createRequest() {
+        RequestInfo request = new RequestInfo();
+        request.setCommandName("org.jbpm.executor.commands.PrintOutCommand");
+        request.setKey("test");
+        request.setStatus(STATUS.QUEUED);
+        request.setTime(new Date(System.currentTimeMillis() - 1000));
+        request.setMessage("Ready to execute");
+        return request;
+    }
+}
@@ -14,6 +14,19 @@ public class JpaPersistenceContext implements Context {
 
 	public final static String FIRST_RESULT = "firstResult";
     public final static String MAX_RESULTS = "maxResults";
+    public final static String LOCK_TIMEOUT = "lockTimeout";
+
+    /**
+     * Hibernate dialects (and their subclasses) that honour the skip locked lock timeout (<code>-2</code>,
+     * <code>LockOptions.SKIP_LOCKED</code>) and make a locking query skip rows locked by other transactions:
+     * Oracle from 10g on (<code>for update skip locked</code>) and PostgreSQL from 9.5 on, which needs a
+     * Hibernate version newer than 4. All other dialects, e.g. those of MySQL, SQL Server, DB2, Sybase, H2 or
+     * older PostgreSQL versions, silently ignore it and wait for the locks held by others instead.
+     */
+    private final static String[] SKIP_LOCKED_DIALECTS = {
+        "org.hibernate.dialect.Oracle10gDialect",
+        "org.hibernate.dialect.PostgreSQL95Dialect"
+    };
 	
 	private EntityManager em;
 	
@@ -93,6 +106,50 @@ public class JpaPersistenceContext implements Context {
 	}
 
 	
+	public int executeUpdateWithParametersInTransaction(String queryName, Map<String, Object> params) {
+		check();
+		Query query = getQueryByName(queryName, params);
+		for (Map.Entry<String, Object> param : params.entrySet()) {
+			query.setParameter(param.getKey(), param.getValue());
+		}
+		return query.executeUpdate();
+	}
+
+	/**
+	 * Returns true if the configured Hibernate dialect makes locking queries with the {@link #LOCK_TIMEOUT}
+	 * of <code>-2</code> skip rows locked by other transactions, see {@link #SKIP_LOCKED_DIALECTS}.
+	 * The dialect must be given as <code>hibernate.dialect</code> property to be recognized.
+	 */
+	public boolean isSkipLockedSupported() {
+		check();
+		Object dialect = this.em.getEntityManagerFactory().getProperties().get("hibernate.dialect");
+		if (dialect == null) {
+			return false;
+		}
+		String dialectName = (dialect instanceof Class) ? ((Class<?>) dialect).getName() : dialect.toString().trim();
+		ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+		if (classLoader == null) {
+			classLoader = JpaPersistenceContext.class.getClassLoader();
+		}
+		Class<?> dialectClass = null;
+		try {
+			dialectClass = Class.forName(dialectName, false, classLoader);
+		} catch (Exception e) {
+			// not visible from here, only the name itself is checked
+		}
+		do {
+			for (String skipLockedDialect : SKIP_LOCKED_DIALECTS) {
+				if (skipLockedDialect.equals(dialectName)) {
+					return true;
+				}
+			}
+			dialectClass = (dialectClass == null) ? null : dialectClass.getSuperclass();
+			dialectName = (dialectClass == null) ? null : dialectClass.getName();
+		} while (dialectName != null);
+		return false;
+	}
+
+	
 	public HashMap<String, Object> addParametersToMap(Object... parameterValues) {
 		HashMap<String, Object> parameters = new HashMap<String, Object>();
         
@@ -156,6 +213,10 @@ public class JpaPersistenceContext implements Context {
 				else if (MAX_RESULTS.equals(name)) {
 					query.setMaxResults((Integer) params.get(name));
 					continue;
+				}
+				else if (LOCK_TIMEOUT.equals(name)) {
+					query.setHint("javax.persistence.lock.timeout", params.get(name));
+					continue;
 				} 
 				// skip control parameters
 				else if (QueryManager.ASCENDING_KEY.equals(name) 